@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import org.apache.servicecomb.common.rest.locator.ServicePathManager;
+import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.bootstrap.SCBBootstrap;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.foundation.common.utils.ClassLoaderScopeContext;
+
+/**
+ * in-process producer engine for micro benchmarks<br>
+ * not depend on spring context, transports and service registry, only build the meta of {@link BenchmarkSchema}
+ */
+public final class BenchmarkEngine {
+  private BenchmarkEngine() {
+  }
+
+  public static SCBEngine start() {
+    ConfigUtil.installDynamicConfig();
+    return SCBBootstrap.createSCBEngineForTest()
+        .addProducerMeta(BenchmarkSchema.SCHEMA_ID, new BenchmarkSchema())
+        .run();
+  }
+
+  public static void stop(SCBEngine engine) {
+    engine.destroy();
+    ClassLoaderScopeContext.clearClassLoaderScopeProperty();
+  }
+
+  public static OperationMeta findOperation(SCBEngine engine, String operationName) {
+    return engine.getProducerMicroserviceMeta()
+        .ensureFindSchemaMeta(BenchmarkSchema.SCHEMA_ID)
+        .ensureFindOperation(operationName);
+  }
+
+  public static ServicePathManager getServicePathManager(SCBEngine engine) {
+    return ServicePathManager.getServicePathManager(engine.getProducerMicroserviceMeta());
+  }
+}
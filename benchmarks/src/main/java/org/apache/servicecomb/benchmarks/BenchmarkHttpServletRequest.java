@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.Map;
+
+import javax.servlet.ServletInputStream;
+import javax.ws.rs.core.MediaType;
+
+import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.foundation.vertx.http.AbstractHttpServletRequest;
+import org.apache.servicecomb.foundation.vertx.stream.BufferInputStream;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * minimal request for decoding benchmarks, only support what {@link org.apache.servicecomb.common.rest.codec.RestCodec}
+ * need: path variables, query parameters, headers and a json body which can be read repeatedly
+ */
+public class BenchmarkHttpServletRequest extends AbstractHttpServletRequest {
+  private final Map<String, String> queryParameters;
+
+  private final Map<String, String> headers;
+
+  private final byte[] body;
+
+  public BenchmarkHttpServletRequest(Map<String, String> pathVarMap, Map<String, String> queryParameters,
+      Map<String, String> headers, byte[] body) {
+    this.queryParameters = queryParameters;
+    this.headers = headers;
+    this.body = body;
+    setAttribute(RestConst.PATH_PARAMETERS, pathVarMap);
+  }
+
+  @Override
+  public String getParameter(String name) {
+    return queryParameters.get(name);
+  }
+
+  @Override
+  public String[] getParameterValues(String name) {
+    String value = queryParameters.get(name);
+    return value == null ? null : new String[] {value};
+  }
+
+  @Override
+  public String getHeader(String name) {
+    return headers.get(name);
+  }
+
+  @Override
+  public String getContentType() {
+    return MediaType.APPLICATION_JSON;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() {
+    return new BufferInputStream(Unpooled.wrappedBuffer(body));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import org.apache.servicecomb.foundation.vertx.http.AbstractHttpServletResponse;
+
+/**
+ * minimal response for encoding benchmarks, only keep what {@link org.apache.servicecomb.common.rest.filter.inner.RestServerCodecFilter}
+ * write: status, headers are ignored and body buffer is kept by {@link #getBodyBuffer()}
+ */
+public class BenchmarkHttpServletResponse extends AbstractHttpServletResponse {
+  private int status;
+
+  private String contentType;
+
+  @Override
+  @Deprecated
+  public void setStatus(int sc, String sm) {
+    this.status = sc;
+  }
+
+  @Override
+  public int getStatus() {
+    return status;
+  }
+
+  @Override
+  public void setContentType(String type) {
+    this.contentType = type;
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.apache.servicecomb.provider.rest.common.RestSchema;
+
+@RestSchema(schemaId = BenchmarkSchema.SCHEMA_ID)
+@Path("/benchmark")
+public class BenchmarkSchema {
+  public static final String SCHEMA_ID = "benchmark";
+
+  @GET
+  @Path("/ping")
+  public String ping() {
+    return "pong";
+  }
+
+  @POST
+  @Path("/echo/{id}")
+  @Consumes(MediaType.APPLICATION_JSON)
+  public BenchmarkModel echo(@PathParam("id") int id, @QueryParam("name") String name, BenchmarkModel body) {
+    body.setCount(id);
+    body.setName(name);
+    return body;
+  }
+}
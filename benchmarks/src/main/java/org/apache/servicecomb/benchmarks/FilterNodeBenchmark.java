@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.common.rest.HttpTransportContext;
+import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.filter.inner.RestServerCodecFilter;
+import org.apache.servicecomb.common.rest.locator.OperationLocator;
+import org.apache.servicecomb.core.Endpoint;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.filter.impl.ParameterValidatorFilter;
+import org.apache.servicecomb.core.filter.impl.ProducerOperationFilter;
+import org.apache.servicecomb.core.filter.impl.ScheduleFilter;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.transport.rest.vertx.VertxRestTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * run the default rest producer filter chain: rest-server-codec, validator, schedule, producer-operation<br>
+ * sync: operation executor run in the caller thread, like reactive mode<br>
+ * async: operation executor is a thread pool, like the default executor, include the thread switch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterNodeBenchmark {
+  @Param({"true", "false"})
+  public boolean sync;
+
+  private SCBEngine engine;
+
+  private ExecutorService executor;
+
+  private RestOperationMeta restOperationMeta;
+
+  private Map<String, String> pathVarMap;
+
+  private byte[] body;
+
+  private ProduceProcessor produceProcessor;
+
+  private Endpoint endpoint;
+
+  private FilterNode chain;
+
+  @Setup
+  public void setup() throws Exception {
+    engine = BenchmarkEngine.start();
+
+    OperationLocator locator = BenchmarkEngine.getServicePathManager(engine)
+        .producerLocateOperation("/benchmark/echo/10", "POST");
+    restOperationMeta = locator.getOperation();
+    pathVarMap = locator.getPathVarMap();
+    body = RestObjectMapperFactory.getRestObjectMapper().writeValueAsBytes(BenchmarkModel.create());
+    produceProcessor = restOperationMeta.ensureFindProduceProcessor(createRequest());
+
+    if (sync) {
+      restOperationMeta.getOperationMeta().setExecutor(Runnable::run);
+    } else {
+      executor = Executors.newFixedThreadPool(1);
+      restOperationMeta.getOperationMeta().setExecutor(executor);
+    }
+    endpoint = new Endpoint(new VertxRestTransport(), "rest://127.0.0.1:8080");
+
+    ParameterValidatorFilter validatorFilter = new ParameterValidatorFilter();
+    validatorFilter.afterPropertiesSet();
+    chain = FilterNode.buildChain(new RestServerCodecFilter(), validatorFilter, new ScheduleFilter(),
+        new ProducerOperationFilter());
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+    BenchmarkEngine.stop(engine);
+  }
+
+  private BenchmarkHttpServletRequest createRequest() {
+    return new BenchmarkHttpServletRequest(pathVarMap, Collections.singletonMap("name", "benchmark"),
+        Collections.emptyMap(), body);
+  }
+
+  @Benchmark
+  public Response onFilter() {
+    BenchmarkHttpServletRequest requestEx = createRequest();
+    Invocation invocation = new Invocation(endpoint, restOperationMeta.getOperationMeta(), null);
+    invocation.setTransportContext(
+        new HttpTransportContext(requestEx, new BenchmarkHttpServletResponse(), produceProcessor));
+    invocation.onStart(requestEx, System.nanoTime());
+    return chain.onFilter(invocation).join();
+  }
+}
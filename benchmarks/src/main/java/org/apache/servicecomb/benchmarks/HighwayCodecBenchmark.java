@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.codec.protobuf.definition.OperationProtobuf;
+import org.apache.servicecomb.codec.protobuf.definition.ProtobufManager;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.invocation.InvocationFactory;
+import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
+import org.apache.servicecomb.transport.highway.HighwayCodec;
+import org.apache.servicecomb.transport.highway.message.RequestHeader;
+import org.apache.servicecomb.transport.highway.message.ResponseHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HighwayCodecBenchmark {
+  // compare allocation with -prof gc
+  @Param({"true", "false"})
+  public boolean pooledBuffer;
+
+  private SCBEngine engine;
+
+  private Invocation invocation;
+
+  private OperationProtobuf operationProtobuf;
+
+  private RequestHeader requestHeader;
+
+  private ResponseHeader responseHeader;
+
+  private Buffer requestBody;
+
+  private BenchmarkModel result;
+
+  @Setup
+  public void setup() throws Exception {
+    System.setProperty("servicecomb.highway.pooled-buffer.enabled", String.valueOf(pooledBuffer));
+    engine = BenchmarkEngine.start();
+
+    OperationMeta operationMeta = BenchmarkEngine.findOperation(engine, "echo");
+    Map<String, Object> swaggerArguments = new HashMap<>();
+    swaggerArguments.put("id", 10);
+    swaggerArguments.put("name", "benchmark");
+    swaggerArguments.put("body", BenchmarkModel.create());
+    invocation = InvocationFactory.forProvider(null, operationMeta, swaggerArguments);
+    operationProtobuf = ProtobufManager.getOrCreateOperation(invocation);
+
+    requestHeader = new RequestHeader();
+    requestHeader.setDestMicroservice(invocation.getMicroserviceName());
+    requestHeader.setSchemaId(invocation.getSchemaId());
+    requestHeader.setOperationName(invocation.getOperationName());
+    requestBody = Buffer.buffer(operationProtobuf.getRequestRootSerializer().serialize(swaggerArguments));
+
+    responseHeader = new ResponseHeader();
+    responseHeader.setStatusCode(200);
+    result = BenchmarkModel.create();
+  }
+
+  @TearDown
+  public void tearDown() {
+    BenchmarkEngine.stop(engine);
+    System.clearProperty("servicecomb.highway.pooled-buffer.enabled");
+  }
+
+  @Benchmark
+  public int encodeRequest() throws Exception {
+    try (TcpOutputStream os = HighwayCodec.encodeRequest(1, invocation, operationProtobuf)) {
+      // simulate netty release the buffer after written
+      int length = os.getByteBuf().writerIndex();
+      os.getByteBuf().release();
+      return length;
+    }
+  }
+
+  @Benchmark
+  public Map<String, Object> decodeRequest() throws Exception {
+    HighwayCodec.decodeRequest(invocation, requestHeader, operationProtobuf, requestBody);
+    return invocation.getSwaggerArguments();
+  }
+
+  @Benchmark
+  public int encodeResponse() throws Exception {
+    ByteBuf byteBuf = HighwayCodec.encodeResponse(1, responseHeader, operationProtobuf.findResponseRootSerializer(200),
+        result);
+    int length = byteBuf.readableBytes();
+    byteBuf.release();
+    return length;
+  }
+}
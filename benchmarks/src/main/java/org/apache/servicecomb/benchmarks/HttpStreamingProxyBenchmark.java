@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.servicecomb.foundation.vertx.stream.HttpStreamingProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * proxy 100MB request and response body through {@link HttpStreamingProxy}<br>
+ * heap is limited to 64MB, so the benchmark fails with OutOfMemoryError if any side buffered the whole body
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class HttpStreamingProxyBenchmark {
+  private static final String HOST = "127.0.0.1";
+
+  private static final int TARGET_PORT = 18090;
+
+  private static final int PROXY_PORT = 18091;
+
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  private static final int CHUNK_COUNT = 100 * 1024 * 1024 / CHUNK_SIZE;
+
+  private static final long BODY_SIZE = (long) CHUNK_SIZE * CHUNK_COUNT;
+
+  private Vertx vertx;
+
+  private HttpClient client;
+
+  private Buffer chunk;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    chunk = Buffer.buffer(new byte[CHUNK_SIZE]);
+
+    HttpClient proxyClient = vertx.createHttpClient();
+    listen(TARGET_PORT, this::onTargetRequest);
+    listen(PROXY_PORT, request -> new HttpStreamingProxy(request)
+        .proxy(proxyClient, new RequestOptions().setHost(HOST).setPort(TARGET_PORT).setURI(request.uri())));
+
+    client = vertx.createHttpClient();
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private void listen(int port, Handler<HttpServerRequest> handler) throws Exception {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    vertx.createHttpServer().requestHandler(handler).listen(port, HOST, ar -> {
+      if (ar.failed()) {
+        future.completeExceptionally(ar.cause());
+        return;
+      }
+      future.complete(null);
+    });
+    future.get(10, TimeUnit.SECONDS);
+  }
+
+  private void onTargetRequest(HttpServerRequest request) {
+    HttpServerResponse response = request.response();
+    if (request.method() == HttpMethod.POST) {
+      // discard the uploaded body
+      AtomicLong size = new AtomicLong();
+      request.handler(data -> size.addAndGet(data.length()));
+      request.endHandler(v -> response.end(String.valueOf(size.get())));
+      return;
+    }
+
+    response.setChunked(true);
+    write(response, CHUNK_COUNT, response::end);
+  }
+
+  private void write(WriteStream<Buffer> writeStream, int count, Runnable endHandler) {
+    int remain = count;
+    while (remain > 0 && !writeStream.writeQueueFull()) {
+      writeStream.write(chunk.slice());
+      remain--;
+    }
+
+    if (remain == 0) {
+      endHandler.run();
+      return;
+    }
+
+    int next = remain;
+    writeStream.drainHandler(v -> write(writeStream, next, endHandler));
+  }
+
+  @SuppressWarnings("deprecation")
+  @Benchmark
+  public long upload() throws Exception {
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    HttpClientRequest request = client.request(HttpMethod.POST, PROXY_PORT, HOST, "/upload",
+        response -> response.bodyHandler(body -> future.complete(Long.parseLong(body.toString()))));
+    request.exceptionHandler(future::completeExceptionally);
+    request.setChunked(true);
+    write(request, CHUNK_COUNT, request::end);
+
+    return check(future.get(60, TimeUnit.SECONDS));
+  }
+
+  @SuppressWarnings("deprecation")
+  @Benchmark
+  public long download() throws Exception {
+    AtomicLong size = new AtomicLong();
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    HttpClientRequest request = client.request(HttpMethod.GET, PROXY_PORT, HOST, "/download",
+        response -> {
+          response.exceptionHandler(future::completeExceptionally);
+          response.handler(data -> size.addAndGet(data.length()));
+          response.endHandler(v -> future.complete(size.get()));
+        });
+    request.exceptionHandler(future::completeExceptionally);
+    request.end();
+
+    return check(future.get(60, TimeUnit.SECONDS));
+  }
+
+  private long check(long size) {
+    if (size != BODY_SIZE) {
+      throw new IllegalStateException(String.format("body size not match, expected=%d, actual=%d.", BODY_SIZE, size));
+    }
+    return size;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.foundation.common.utils.BeanUtils;
+import org.apache.servicecomb.provider.pojo.Invoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * end to end invocation in one process<br>
+ * start a full engine with spring context and local registry, the consumer invoke the producer of itself through
+ * loopback, so the result include consumer and producer filters, codec, transport and thread switch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class InvocationBenchmark {
+  // same as service_description.name in microservice.yaml
+  private static final String MICROSERVICE_NAME = "benchmark";
+
+  public interface BenchmarkSchemaIntf {
+    String ping();
+
+    BenchmarkModel echo(int id, String name, BenchmarkModel body);
+  }
+
+  @Param({"rest", "highway"})
+  public String transport;
+
+  private BenchmarkSchemaIntf client;
+
+  private BenchmarkModel model;
+
+  @Setup
+  public void setup() throws Exception {
+    System.setProperty("servicecomb.references.transport." + MICROSERVICE_NAME, transport);
+    BeanUtils.init();
+
+    client = Invoker.createProxy(MICROSERVICE_NAME, BenchmarkSchema.SCHEMA_ID, BenchmarkSchemaIntf.class);
+    model = BenchmarkModel.create();
+  }
+
+  @TearDown
+  public void tearDown() {
+    SCBEngine.getInstance().destroy();
+  }
+
+  @Benchmark
+  public String ping() {
+    return client.ping();
+  }
+
+  @Benchmark
+  public BenchmarkModel echo() {
+    return client.echo(10, "benchmark", model);
+  }
+}
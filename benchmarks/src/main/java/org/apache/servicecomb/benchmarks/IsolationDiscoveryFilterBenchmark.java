@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.loadbalance.ServiceCombLoadBalancerStats;
+import org.apache.servicecomb.loadbalance.ServiceCombServer;
+import org.apache.servicecomb.loadbalance.filter.IsolationDiscoveryFilter;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
+import org.apache.servicecomb.registry.cache.CacheEndpoint;
+import org.apache.servicecomb.registry.discovery.DiscoveryContext;
+import org.apache.servicecomb.registry.discovery.DiscoveryTreeNode;
+import org.apache.servicecomb.transport.rest.vertx.VertxRestTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class IsolationDiscoveryFilterBenchmark {
+  private static final String MICROSERVICE_NAME = "benchmark";
+
+  @Param({"50", "500"})
+  public int instanceCount;
+
+  // 0 means all instances are healthy, the result can be cached
+  // otherwise isolated instances must be checked for each invocation
+  @Param({"0", "1"})
+  public int isolatedCount;
+
+  private SCBEngine engine;
+
+  private final IsolationDiscoveryFilter filter = new IsolationDiscoveryFilter();
+
+  private final DiscoveryContext context = new DiscoveryContext();
+
+  private final DiscoveryTreeNode parent = new DiscoveryTreeNode();
+
+  @Setup
+  public void setup() {
+    engine = BenchmarkEngine.start();
+
+    VertxRestTransport transport = new VertxRestTransport();
+    Map<String, MicroserviceInstance> instances = new HashMap<>();
+    for (int idx = 0; idx < instanceCount; idx++) {
+      MicroserviceInstance instance = new MicroserviceInstance();
+      instance.setInstanceId("instance-" + idx);
+      instances.put(instance.getInstanceId(), instance);
+
+      String endpoint = "rest://127.0.0.1:" + (8080 + idx);
+      ServiceCombServer server = new ServiceCombServer(MICROSERVICE_NAME, transport,
+          new CacheEndpoint(endpoint, instance));
+      ServiceCombLoadBalancerStats.INSTANCE.markSuccess(server);
+      if (idx < isolatedCount) {
+        // keep isolated during the benchmark, not recover by threshold check
+        for (int failures = 0; failures < 5; failures++) {
+          ServiceCombLoadBalancerStats.INSTANCE.markFailure(server);
+        }
+        ServiceCombLoadBalancerStats.INSTANCE.markIsolated(server, true);
+      }
+    }
+    parent.data(instances);
+
+    context.setInputParameters(new Invocation() {
+      @Override
+      public String getMicroserviceName() {
+        return MICROSERVICE_NAME;
+      }
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    BenchmarkEngine.stop(engine);
+  }
+
+  @Benchmark
+  public DiscoveryTreeNode discovery() {
+    return filter.discovery(context, parent);
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.foundation.common.cache.VersionedCache;
+import org.apache.servicecomb.loadbalance.ExtensionsManager;
+import org.apache.servicecomb.loadbalance.LoadBalancer;
+import org.apache.servicecomb.loadbalance.LoadbalanceHandler;
+import org.apache.servicecomb.loadbalance.RandomRuleExt;
+import org.apache.servicecomb.loadbalance.RoundRobinRuleExt;
+import org.apache.servicecomb.loadbalance.RuleExt;
+import org.apache.servicecomb.loadbalance.RuleNameExtentionsFactory;
+import org.apache.servicecomb.loadbalance.ServiceCombServer;
+import org.apache.servicecomb.loadbalance.WeightedResponseTimeRuleExt;
+import org.apache.servicecomb.loadbalance.filter.ServerDiscoveryFilter;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
+import org.apache.servicecomb.registry.cache.CacheEndpoint;
+import org.apache.servicecomb.registry.discovery.DiscoveryContext;
+import org.apache.servicecomb.registry.discovery.DiscoveryFilter;
+import org.apache.servicecomb.registry.discovery.DiscoveryTree;
+import org.apache.servicecomb.registry.discovery.DiscoveryTreeNode;
+import org.apache.servicecomb.transport.rest.vertx.VertxRestTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.netflix.config.DynamicPropertyFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBalancerBenchmark {
+  private static final String MICROSERVICE_NAME = "benchmark";
+
+  static {
+    // registered by spring in a real deployment
+    ExtensionsManager.addExtentionsFactory(new RuleNameExtentionsFactory());
+  }
+
+  @Param({"RoundRobin", "Random", "WeightedResponse"})
+  public String rule;
+
+  @Param({"3", "30"})
+  public int serverCount;
+
+  private LoadBalancer loadBalancer;
+
+  private final Invocation invocation = new Invocation();
+
+  private SCBEngine engine;
+
+  private BenchmarkLoadbalanceHandler handler;
+
+  private Invocation handlerInvocation;
+
+  @Setup
+  public void setup() {
+    engine = BenchmarkEngine.start();
+    ((Configuration) DynamicPropertyFactory.getBackingConfigurationSource())
+        .setProperty("servicecomb.loadbalance.strategy.name", rule);
+
+    VertxRestTransport transport = new VertxRestTransport();
+    List<ServiceCombServer> servers = new ArrayList<>();
+    Map<String, MicroserviceInstance> instances = new HashMap<>();
+    for (int idx = 0; idx < serverCount; idx++) {
+      MicroserviceInstance instance = new MicroserviceInstance();
+      instance.setInstanceId("instance-" + idx);
+      String endpoint = "rest://127.0.0.1:" + (8080 + idx);
+      instance.setEndpoints(Collections.singletonList(endpoint));
+      instances.put(instance.getInstanceId(), instance);
+      servers.add(new ServiceCombServer(MICROSERVICE_NAME, transport, new CacheEndpoint(endpoint, instance)));
+    }
+    invocation.addLocalContext(LoadbalanceHandler.CONTEXT_KEY_SERVER_LIST, servers);
+
+    loadBalancer = new LoadBalancer(createRule(), MICROSERVICE_NAME);
+
+    VersionedCache instanceCache = new VersionedCache()
+        .name("0.0.0.0+")
+        .autoCacheVersion()
+        .data(instances);
+    handler = new BenchmarkLoadbalanceHandler(createDiscoveryTree(instanceCache, transport));
+    handlerInvocation = new Invocation() {
+      @Override
+      public String getAppId() {
+        return "default";
+      }
+
+      @Override
+      public String getMicroserviceName() {
+        return MICROSERVICE_NAME;
+      }
+
+      @Override
+      public String getMicroserviceVersionRule() {
+        return instanceCache.name();
+      }
+
+      @Override
+      public String getConfigTransportName() {
+        return "";
+      }
+    };
+  }
+
+  @TearDown
+  public void tearDown() {
+    BenchmarkEngine.stop(engine);
+  }
+
+  /**
+   * same filters as {@link LoadbalanceHandler#LoadbalanceHandler()}, but instances come from a fixed cache
+   * instead of the service registry, and servers are created without deployed transports
+   */
+  private DiscoveryTree createDiscoveryTree(VersionedCache instanceCache, VertxRestTransport transport) {
+    DiscoveryTree discoveryTree = new DiscoveryTree() {
+      @Override
+      public DiscoveryTreeNode discovery(DiscoveryContext context, String appId, String microserviceName,
+          String versionRule) {
+        return discovery(context, instanceCache);
+      }
+    };
+    discoveryTree.loadFromSPI(DiscoveryFilter.class);
+    discoveryTree.addFilter(new ServerDiscoveryFilter() {
+      @Override
+      protected Object createEndpoint(DiscoveryContext context, String transportName, String endpoint,
+          MicroserviceInstance instance) {
+        return new ServiceCombServer(MICROSERVICE_NAME, transport, new CacheEndpoint(endpoint, instance));
+      }
+    });
+    discoveryTree.sort();
+    return discoveryTree;
+  }
+
+  private RuleExt createRule() {
+    switch (rule) {
+      case "Random":
+        return new RandomRuleExt();
+      case "WeightedResponse":
+        return new WeightedResponseTimeRuleExt();
+      default:
+        return new RoundRobinRuleExt();
+    }
+  }
+
+  @Benchmark
+  public ServiceCombServer chooseServer() {
+    return loadBalancer.chooseServer(invocation);
+  }
+
+  /**
+   * discovery tree, discovery filters, server list filters and rule, as {@link LoadbalanceHandler} does before send
+   */
+  @Benchmark
+  public ServiceCombServer handlerChooseServer() {
+    return handler.chooseServer(handlerInvocation);
+  }
+
+  static class BenchmarkLoadbalanceHandler extends LoadbalanceHandler {
+    BenchmarkLoadbalanceHandler(DiscoveryTree discoveryTree) {
+      super(discoveryTree);
+    }
+
+    ServiceCombServer chooseServer(Invocation invocation) {
+      return getOrCreateLoadBalancer(invocation).chooseServer(invocation);
+    }
+  }
+}
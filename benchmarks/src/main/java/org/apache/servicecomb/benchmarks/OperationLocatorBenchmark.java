@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.locator.MicroservicePaths;
+import org.apache.servicecomb.common.rest.locator.OperationLocator;
+import org.apache.servicecomb.common.rest.locator.ServicePathManager;
+import org.apache.servicecomb.core.SCBEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationLocatorBenchmark {
+  private SCBEngine engine;
+
+  private ServicePathManager servicePathManager;
+
+  @Setup
+  public void setup() {
+    engine = BenchmarkEngine.start();
+    servicePathManager = BenchmarkEngine.getServicePathManager(engine);
+  }
+
+  @TearDown
+  public void tearDown() {
+    BenchmarkEngine.stop(engine);
+  }
+
+  @Benchmark
+  public OperationLocator locateStaticPath() {
+    return servicePathManager.producerLocateOperation("/benchmark/ping", "GET");
+  }
+
+  @Benchmark
+  public OperationLocator locateDynamicPath() {
+    return servicePathManager.producerLocateOperation("/benchmark/echo/10", "POST");
+  }
+
+  @Benchmark
+  public RestOperationMeta locateGeneratedPath(GeneratedPaths paths) {
+    return paths.locate();
+  }
+
+  /**
+   * templated operations generated without swagger: /generated/resource{r}/{id}/action{a}/<br>
+   * compare the segment trie with the previous linear regex scan of the sorted operation list
+   */
+  @State(Scope.Benchmark)
+  public static class GeneratedPaths {
+    private static final int RESOURCE_COUNT = 20;
+
+    @Param({"trie", "linear"})
+    public String locator;
+
+    @Param({"320"})
+    public int operationCount;
+
+    private MicroservicePaths microservicePaths;
+
+    private String[] requestPaths;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+      microservicePaths = new MicroservicePaths();
+      requestPaths = new String[operationCount];
+      for (int idx = 0; idx < operationCount; idx++) {
+        String prefix = "/generated/resource" + idx % RESOURCE_COUNT;
+        String suffix = "/action" + idx / RESOURCE_COUNT + "/";
+        microservicePaths.addResource(createOperation(prefix + "/{id}" + suffix));
+        requestPaths[idx] = prefix + "/v" + idx + suffix;
+      }
+      microservicePaths.sortPath();
+    }
+
+    private static RestOperationMeta createOperation(String path) {
+      RestOperationMeta operation = new RestOperationMeta() {
+        @Override
+        public String getHttpMethod() {
+          return "GET";
+        }
+      };
+      operation.setAbsolutePath(path);
+      return operation;
+    }
+
+    public RestOperationMeta locate() {
+      String path = requestPaths[index++ % requestPaths.length];
+      ComparableLocator operationLocator = new ComparableLocator();
+      if ("trie".equals(locator)) {
+        return operationLocator.locateByTrie(path, microservicePaths);
+      }
+      return operationLocator.locateByList(path, microservicePaths);
+    }
+  }
+
+  static class ComparableLocator extends OperationLocator {
+    RestOperationMeta locateByTrie(String path, MicroservicePaths microservicePaths) {
+      return locateDynamicPathOperation(path, microservicePaths.getDynamicPathTrie(), "GET");
+    }
+
+    RestOperationMeta locateByList(String path, MicroservicePaths microservicePaths) {
+      return locateDynamicPathOperation(path, microservicePaths.getDynamicPathOperationList(), "GET");
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.common.rest.codec.produce.ProduceJsonProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProduceJsonProcessorBenchmark {
+  private final ProduceJsonProcessor processor = new ProduceJsonProcessor();
+
+  private final JavaType modelType = TypeFactory.defaultInstance().constructType(BenchmarkModel.class);
+
+  private BenchmarkModel model;
+
+  private byte[] encoded;
+
+  @Setup
+  public void setup() throws Exception {
+    model = BenchmarkModel.create();
+    encoded = processor.encodeResponse(model).getBytes();
+  }
+
+  @Benchmark
+  public Buffer encode() throws Exception {
+    return processor.encodeResponse(model);
+  }
+
+  @Benchmark
+  public Object decode() throws Exception {
+    // decodeResponse releases the buffer, so wrap a new one for every call, wrap will not copy the content
+    return processor.decodeResponse(Buffer.buffer(Unpooled.wrappedBuffer(encoded)), modelType);
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+import org.apache.servicecomb.swagger.engine.ProducerMethodInvoker;
+import org.apache.servicecomb.swagger.engine.ProducerMethodInvokers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * invoke producer method by reflection or by generated direct invoker, with 0-8 parameters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProducerMethodInvokerBenchmark {
+  @Path("/producer")
+  public static class Producer {
+    // pojo
+    public String ping() {
+      return "pong";
+    }
+
+    // pojo
+    public BenchmarkModel echo(BenchmarkModel model) {
+      return model;
+    }
+
+    // jaxrs
+    @GET
+    @Path("/add")
+    public int add(@QueryParam("x") int x, @QueryParam("y") int y) {
+      return x + y;
+    }
+
+    // springmvc style, query parameters and a body
+    public String query(String name, int age, long id, BenchmarkModel model) {
+      return name;
+    }
+
+    public long eight(String name, int p1, long p2, boolean p3, double p4, String p5, BenchmarkModel p6,
+        Integer p7) {
+      return p2;
+    }
+  }
+
+  @Param({"0", "1", "2", "4", "8"})
+  public int parameterCount;
+
+  @Param({"reflect", "direct"})
+  public String mode;
+
+  private final Producer producer = new Producer();
+
+  private ProducerMethodInvoker invoker;
+
+  private Object[] args;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+    BenchmarkModel model = new BenchmarkModel();
+    Method method;
+    switch (parameterCount) {
+      case 0:
+        method = Producer.class.getMethod("ping");
+        args = new Object[0];
+        break;
+      case 1:
+        method = Producer.class.getMethod("echo", BenchmarkModel.class);
+        args = new Object[] {model};
+        break;
+      case 2:
+        method = Producer.class.getMethod("add", int.class, int.class);
+        args = new Object[] {1, 2};
+        break;
+      case 4:
+        method = Producer.class.getMethod("query", String.class, int.class, long.class, BenchmarkModel.class);
+        args = new Object[] {"name", 1, 2L, model};
+        break;
+      case 8:
+        method = Producer.class.getMethod("eight", String.class, int.class, long.class, boolean.class,
+            double.class, String.class, BenchmarkModel.class, Integer.class);
+        args = new Object[] {"name", 1, 2L, true, 1.0, "value", model, 3};
+        break;
+      default:
+        throw new IllegalStateException("not supported parameter count: " + parameterCount);
+    }
+
+    invoker = "direct".equals(mode) ? ProducerMethodInvokers.create(method) : method::invoke;
+  }
+
+  @Benchmark
+  public Object invoke() throws Exception {
+    return invoker.invoke(producer, args);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.common.rest.codec.RestCodec;
+import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.locator.OperationLocator;
+import org.apache.servicecomb.core.SCBEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestCodecBenchmark {
+  private SCBEngine engine;
+
+  private RestOperationMeta restOperationMeta;
+
+  private BenchmarkHttpServletRequest request;
+
+  @Setup
+  public void setup() throws Exception {
+    engine = BenchmarkEngine.start();
+
+    OperationLocator locator = BenchmarkEngine.getServicePathManager(engine)
+        .producerLocateOperation("/benchmark/echo/10", "POST");
+    restOperationMeta = locator.getOperation();
+
+    byte[] body = RestObjectMapperFactory.getRestObjectMapper().writeValueAsBytes(BenchmarkModel.create());
+    request = new BenchmarkHttpServletRequest(locator.getPathVarMap(),
+        Collections.singletonMap("name", "benchmark"), Collections.emptyMap(), body);
+  }
+
+  @TearDown
+  public void tearDown() {
+    BenchmarkEngine.stop(engine);
+  }
+
+  @Benchmark
+  public Map<String, Object> restToArgs() throws Exception {
+    return RestCodec.restToArgs(request, restOperationMeta);
+  }
+}
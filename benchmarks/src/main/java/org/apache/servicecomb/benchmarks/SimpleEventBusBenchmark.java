@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.foundation.common.event.SimpleEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.eventbus.Subscribe;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleEventBusBenchmark {
+  public static class BenchmarkEvent {
+  }
+
+  public static class OtherEvent {
+  }
+
+  public static class Subscriber {
+    private final Blackhole blackhole;
+
+    public Subscriber(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Subscribe
+    public void onBenchmarkEvent(BenchmarkEvent event) {
+      blackhole.consume(event);
+    }
+
+    @Subscribe
+    public void onOtherEvent(OtherEvent event) {
+      blackhole.consume(event);
+    }
+  }
+
+  @Param({"1", "10"})
+  public int subscriberCount;
+
+  private final SimpleEventBus eventBus = new SimpleEventBus();
+
+  private final BenchmarkEvent event = new BenchmarkEvent();
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    for (int idx = 0; idx < subscriberCount; idx++) {
+      eventBus.register(new Subscriber(blackhole));
+    }
+  }
+
+  @Benchmark
+  public void post() {
+    eventBus.post(event);
+  }
+}
@@ -17,10 +17,17 @@
 
 package org.apache.servicecomb.common.accessLog;
 
+import org.apache.servicecomb.common.accessLog.async.AccessLogOverflowPolicy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.netflix.config.DynamicPropertyFactory;
 
 public class AccessLogConfig {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogConfig.class);
+
     private static final String SERVER_BASE = "servicecomb.accesslog.";
 
     private static final String CLIENT_BASE = "servicecomb.accesslog.request.";
@@ -33,6 +40,18 @@ public class AccessLogConfig {
 
     private static final String CLIENT_LOG_PATTERN = CLIENT_BASE + "pattern";
 
+    private static final String SERVER_ASYNC_BASE = SERVER_BASE + "async.";
+
+    private static final String SERVER_ASYNC_ENABLED = SERVER_ASYNC_BASE + "enabled";
+
+    private static final String SERVER_ASYNC_QUEUE_SIZE = SERVER_ASYNC_BASE + "queueSize";
+
+    private static final String SERVER_ASYNC_BATCH_SIZE = SERVER_ASYNC_BASE + "batchSize";
+
+    private static final String SERVER_ASYNC_OVERFLOW_POLICY = SERVER_ASYNC_BASE + "overflowPolicy";
+
+    private static final String SERVER_ASYNC_SAMPLE_RATIO = SERVER_ASYNC_BASE + "sampleRatio";
+
     private static final String DEFAULT_SERVER_PATTERN = "%h - - %t %r %s %B %D";
 
     private static final String DEFAULT_CLIENT_PATTERN = "%h %SCB-transport - - %t %r %s %D";
@@ -47,6 +66,16 @@ public class AccessLogConfig {
 
     private String clientLogPattern;
 
+    private boolean serverLogAsync;
+
+    private int asyncQueueSize;
+
+    private int asyncBatchSize;
+
+    private AccessLogOverflowPolicy asyncOverflowPolicy;
+
+    private int asyncSampleRatio;
+
     private AccessLogConfig() {
         init();
     }
@@ -60,6 +89,26 @@ public class AccessLogConfig {
           .getInstance().getStringProperty(CLIENT_LOG_PATTERN, DEFAULT_CLIENT_PATTERN).get();
         serverLogPattern = DynamicPropertyFactory
             .getInstance().getStringProperty(SERVER_LOG_PATTERN, DEFAULT_SERVER_PATTERN).get();
+        serverLogAsync = DynamicPropertyFactory
+            .getInstance().getBooleanProperty(SERVER_ASYNC_ENABLED, false).get();
+        asyncQueueSize = DynamicPropertyFactory
+            .getInstance().getIntProperty(SERVER_ASYNC_QUEUE_SIZE, 8192).get();
+        asyncBatchSize = DynamicPropertyFactory
+            .getInstance().getIntProperty(SERVER_ASYNC_BATCH_SIZE, 256).get();
+        asyncOverflowPolicy = parseOverflowPolicy(DynamicPropertyFactory
+            .getInstance().getStringProperty(SERVER_ASYNC_OVERFLOW_POLICY, AccessLogOverflowPolicy.DROP.name()).get());
+        asyncSampleRatio = DynamicPropertyFactory
+            .getInstance().getIntProperty(SERVER_ASYNC_SAMPLE_RATIO, 10).get();
+    }
+
+    private static AccessLogOverflowPolicy parseOverflowPolicy(String value) {
+        try {
+            return AccessLogOverflowPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("invalid {}: {}, use {} instead.", SERVER_ASYNC_OVERFLOW_POLICY, value,
+                AccessLogOverflowPolicy.DROP);
+            return AccessLogOverflowPolicy.DROP;
+        }
     }
 
     public boolean isServerLogEnabled() {
@@ -77,4 +126,24 @@ public class AccessLogConfig {
     public String getClientLogPattern() {
         return clientLogPattern;
     }
+
+    public boolean isServerLogAsync() {
+        return serverLogAsync;
+    }
+
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    public int getAsyncBatchSize() {
+        return asyncBatchSize;
+    }
+
+    public AccessLogOverflowPolicy getAsyncOverflowPolicy() {
+        return asyncOverflowPolicy;
+    }
+
+    public int getAsyncSampleRatio() {
+        return asyncSampleRatio;
+    }
 }
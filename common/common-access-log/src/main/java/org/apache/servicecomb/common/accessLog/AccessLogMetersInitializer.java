@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.accessLog;
+
+import org.apache.servicecomb.common.accessLog.async.AsyncAccessLogWriter;
+import org.apache.servicecomb.common.accessLog.server.ServerDefaultInitializer;
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+
+/**
+ * meters of async access log, always 0 when not in async mode
+ */
+public class AccessLogMetersInitializer implements MetricsInitializer {
+  public static final String QUEUE_SIZE = "servicecomb.accesslog.queueSize";
+
+  public static final String DROPPED_COUNT = "servicecomb.accesslog.droppedCount";
+
+  public static final String TAG_TYPE = "type";
+
+  public static final String TYPE_SERVER = "server";
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    Registry registry = globalRegistry.getDefaultRegistry();
+
+    PolledMeter.using(registry)
+        .withName(QUEUE_SIZE)
+        .withTag(TAG_TYPE, TYPE_SERVER)
+        .monitorValue(this, AccessLogMetersInitializer::getServerQueueSize);
+    PolledMeter.using(registry)
+        .withName(DROPPED_COUNT)
+        .withTag(TAG_TYPE, TYPE_SERVER)
+        .monitorMonotonicCounter(this, AccessLogMetersInitializer::getServerDroppedCount);
+  }
+
+  protected double getServerQueueSize() {
+    AsyncAccessLogWriter<?> writer = ServerDefaultInitializer.getAsyncWriter();
+    return writer == null ? 0 : writer.getQueueSize();
+  }
+
+  protected long getServerDroppedCount() {
+    AsyncAccessLogWriter<?> writer = ServerDefaultInitializer.getAsyncWriter();
+    return writer == null ? 0 : writer.getDroppedCount();
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.accessLog.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * move access log writing out of the thread which posted the event, usually an eventLoop
+ *   1. producers only put a record into a lock free ring buffer
+ *   2. a dedicated thread drain the buffer in batches, format and write them
+ * the record must not reference mutable request state, formatter runs after the request finished
+ * when the buffer is full, process by {@link AccessLogOverflowPolicy}, producers never wait
+ * </pre>
+ */
+public class AsyncAccessLogWriter<T> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncAccessLogWriter.class);
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final MpscRingBuffer<T> ringBuffer;
+
+  private final int batchSize;
+
+  private final AccessLogOverflowPolicy overflowPolicy;
+
+  private final int sampleRatio;
+
+  private final Function<T, String> formatter;
+
+  private final Consumer<String> writer;
+
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  private final AtomicLong sampleCounter = new AtomicLong();
+
+  private final Thread thread;
+
+  private volatile boolean running = true;
+
+  public AsyncAccessLogWriter(String name, int queueSize, int batchSize, AccessLogOverflowPolicy overflowPolicy,
+      int sampleRatio, Function<T, String> formatter, Consumer<String> writer) {
+    this.ringBuffer = new MpscRingBuffer<>(queueSize);
+    this.batchSize = Math.max(batchSize, 1);
+    this.overflowPolicy = overflowPolicy;
+    this.sampleRatio = Math.max(sampleRatio, 1);
+    this.formatter = formatter;
+    this.writer = writer;
+
+    this.thread = new Thread(this::run, name);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  public int getQueueSize() {
+    return ringBuffer.size();
+  }
+
+  public int getQueueCapacity() {
+    return ringBuffer.capacity();
+  }
+
+  public void write(T event) {
+    switch (overflowPolicy) {
+      case SAMPLE:
+        if (ringBuffer.size() >= ringBuffer.capacity() / 2 && sampleCounter.getAndIncrement() % sampleRatio != 0) {
+          droppedCount.incrementAndGet();
+          return;
+        }
+        offerOrDrop(event);
+        return;
+      default:
+        offerOrDrop(event);
+    }
+  }
+
+  private void offerOrDrop(T event) {
+    if (!ringBuffer.offer(event)) {
+      droppedCount.incrementAndGet();
+    }
+  }
+
+  private void run() {
+    while (running) {
+      if (drainBatch() == 0) {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+
+    // write all remained logs before exit
+    while (drainBatch() != 0) {
+      // just drain
+    }
+  }
+
+  private int drainBatch() {
+    return ringBuffer.drain(this::writeLog, batchSize);
+  }
+
+  private void writeLog(T event) {
+    try {
+      writer.accept(formatter.apply(event));
+    } catch (Throwable e) {
+      LOGGER.error("failed to write access log.", e);
+    }
+  }
+
+  public void shutdown() {
+    running = false;
+    LockSupport.unpark(thread);
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
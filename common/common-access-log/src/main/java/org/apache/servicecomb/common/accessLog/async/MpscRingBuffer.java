@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.accessLog.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * bounded lock free queue, for multiple producers and only one consumer
+ *
+ * every slot has a sequence:
+ *   sequence == producerIndex     : slot is free for the producer
+ *   sequence == consumerIndex + 1 : slot is published and can be consumed
+ * producers compete for producerIndex by CAS, consumer never compete with others
+ * </pre>
+ */
+public class MpscRingBuffer<T> {
+  private final int capacity;
+
+  private final int mask;
+
+  private final AtomicReferenceArray<T> buffer;
+
+  private final AtomicLongArray sequences;
+
+  private final AtomicLong producerIndex = new AtomicLong();
+
+  // only changed by consumer thread
+  private volatile long consumerIndex;
+
+  /**
+   * @param requestedCapacity will be rounded up to power of 2
+   */
+  public MpscRingBuffer(int requestedCapacity) {
+    if (requestedCapacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive, but is " + requestedCapacity);
+    }
+
+    this.capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+    this.mask = capacity - 1;
+    this.buffer = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int idx = 0; idx < capacity; idx++) {
+      sequences.set(idx, idx);
+    }
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public int size() {
+    long size = producerIndex.get() - consumerIndex;
+    if (size < 0) {
+      return 0;
+    }
+    return (int) Math.min(size, capacity);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return false if queue is full
+   */
+  public boolean offer(T value) {
+    for (; ; ) {
+      long index = producerIndex.get();
+      int offset = (int) (index & mask);
+      long sequence = sequences.get(offset);
+      if (sequence == index) {
+        if (producerIndex.compareAndSet(index, index + 1)) {
+          buffer.lazySet(offset, value);
+          sequences.set(offset, index + 1);
+          return true;
+        }
+        continue;
+      }
+
+      if (sequence < index) {
+        // consumer not release this slot yet
+        return false;
+      }
+      // other producer already take this slot, try again
+    }
+  }
+
+  /**
+   * only can be invoked by the consumer thread
+   * @return null if queue is empty
+   */
+  public T poll() {
+    long index = consumerIndex;
+    int offset = (int) (index & mask);
+    if (sequences.get(offset) != index + 1) {
+      // empty, or producer took the slot but not publish yet
+      return null;
+    }
+
+    T value = buffer.get(offset);
+    buffer.lazySet(offset, null);
+    sequences.set(offset, index + capacity);
+    consumerIndex = index + 1;
+    return value;
+  }
+
+  /**
+   * only can be invoked by the consumer thread
+   * @return count of drained values
+   */
+  public int drain(Consumer<T> consumer, int limit) {
+    int count = 0;
+    while (count < limit) {
+      T value = poll();
+      if (value == null) {
+        break;
+      }
+
+      consumer.accept(value);
+      count++;
+    }
+    return count;
+  }
+}
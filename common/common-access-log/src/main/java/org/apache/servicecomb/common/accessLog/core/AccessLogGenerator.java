@@ -56,6 +56,28 @@ public class AccessLogGenerator {
     return log.toString();
   }
 
+  /**
+   * invoked in the thread posting the event,
+   * the record is formatted later by {@link #generateServerLog(ServerAccessLogRecord)}
+   */
+  public ServerAccessLogRecord captureServerLog(ServerAccessLogEvent accessLogEvent) {
+    AccessLogItem<RoutingContext>[] items = getAccessLogItems();
+    Object[] values = new Object[items.length];
+    for (int idx = 0; idx < items.length; idx++) {
+      values[idx] = items[idx].captureServerItem(accessLogEvent);
+    }
+    return new ServerAccessLogRecord(values);
+  }
+
+  public String generateServerLog(ServerAccessLogRecord record) {
+    AccessLogItem<RoutingContext>[] items = getAccessLogItems();
+    StringBuilder log = new StringBuilder(128);
+    for (int idx = 0; idx < items.length; idx++) {
+      items[idx].appendCapturedServerItem(record.getValue(idx), log);
+    }
+    return log.toString();
+  }
+
   public String generateClientLog(InvocationFinishEvent finishEvent) {
     StringBuilder log = new StringBuilder(128);
     for (AccessLogItem<RoutingContext> accessLogItem : getAccessLogItems()) {
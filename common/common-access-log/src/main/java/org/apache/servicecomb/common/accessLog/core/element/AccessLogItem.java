@@ -28,6 +28,21 @@ public interface AccessLogItem<T> {
   default void appendServerFormattedItem(ServerAccessLogEvent accessLogEvent, StringBuilder builder) {
   }
 
+  /**
+   * copy what this item reads from the event, invoked in the thread posting the event<br>
+   * the result is appended by {@link #appendCapturedServerItem} later, maybe in another thread,
+   * so it must not reference the RoutingContext
+   */
+  default Object captureServerItem(ServerAccessLogEvent accessLogEvent) {
+    StringBuilder builder = new StringBuilder();
+    appendServerFormattedItem(accessLogEvent, builder);
+    return builder.toString();
+  }
+
+  default void appendCapturedServerItem(Object captured, StringBuilder builder) {
+    builder.append(captured);
+  }
+
   default void appendClientFormattedItem(InvocationFinishEvent clientLogEvent, StringBuilder builder) {
   }
 }
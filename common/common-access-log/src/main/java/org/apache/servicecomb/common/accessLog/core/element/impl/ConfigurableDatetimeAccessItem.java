@@ -89,6 +89,16 @@ public class ConfigurableDatetimeAccessItem implements AccessLogItem<RoutingCont
     doAppendFormattedItem(accessLogEvent.getMilliStartTime(), builder);
   }
 
+  @Override
+  public Object captureServerItem(ServerAccessLogEvent accessLogEvent) {
+    return accessLogEvent.getMilliStartTime();
+  }
+
+  @Override
+  public void appendCapturedServerItem(Object captured, StringBuilder builder) {
+    doAppendFormattedItem((long) captured, builder);
+  }
+
   @Override
   public void appendClientFormattedItem(InvocationFinishEvent finishEvent, StringBuilder builder) {
     long milliDuration = (finishEvent.getInvocation().getInvocationStageTrace().getStartSend() -
@@ -29,6 +29,11 @@ public class DurationMillisecondAccessItem implements AccessLogItem<RoutingConte
     builder.append(accessLogEvent.getMilliEndTime() - accessLogEvent.getMilliStartTime());
   }
 
+  @Override
+  public Object captureServerItem(ServerAccessLogEvent accessLogEvent) {
+    return accessLogEvent.getMilliEndTime() - accessLogEvent.getMilliStartTime();
+  }
+
   @Override
   public void appendClientFormattedItem(InvocationFinishEvent finishEvent, StringBuilder builder) {
     builder.append((finishEvent.getInvocation().getInvocationStageTrace().getFinish() -
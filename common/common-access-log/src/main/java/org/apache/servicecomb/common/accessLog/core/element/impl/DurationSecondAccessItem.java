@@ -31,6 +31,11 @@ public class DurationSecondAccessItem implements AccessLogItem<RoutingContext> {
     builder.append((accessLogEvent.getMilliEndTime() - accessLogEvent.getMilliStartTime()) / 1000);
   }
 
+  @Override
+  public Object captureServerItem(ServerAccessLogEvent accessLogEvent) {
+    return (accessLogEvent.getMilliEndTime() - accessLogEvent.getMilliStartTime()) / 1000;
+  }
+
   @Override
   public void appendClientFormattedItem(InvocationFinishEvent finishEvent, StringBuilder builder) {
     builder.append((finishEvent.getInvocation().getInvocationStageTrace().getFinish() -
@@ -39,6 +39,16 @@ public class PlainTextAccessItem implements AccessLogItem<RoutingContext> {
     builder.append(content);
   }
 
+  @Override
+  public Object captureServerItem(ServerAccessLogEvent accessLogEvent) {
+    return null;
+  }
+
+  @Override
+  public void appendCapturedServerItem(Object captured, StringBuilder builder) {
+    builder.append(content);
+  }
+
   @Override
   public void appendClientFormattedItem(InvocationFinishEvent finishEvent, StringBuilder builder) {
     builder.append(content);
@@ -19,7 +19,9 @@ package org.apache.servicecomb.common.accessLog.server;
 
 import org.apache.servicecomb.common.accessLog.AccessLogConfig;
 import org.apache.servicecomb.common.accessLog.AccessLogInitializer;
+import org.apache.servicecomb.common.accessLog.async.AsyncAccessLogWriter;
 import org.apache.servicecomb.common.accessLog.core.AccessLogGenerator;
+import org.apache.servicecomb.common.accessLog.core.ServerAccessLogRecord;
 import org.apache.servicecomb.core.event.ServerAccessLogEvent;
 
 import org.slf4j.Logger;
@@ -33,20 +35,52 @@ public class ServerDefaultInitializer implements AccessLogInitializer {
 
   private static Logger LOGGER = LoggerFactory.getLogger("accesslog");
 
+  // null if not in async mode
+  // queue captured records, RoutingContext must not be read after the event posting thread returned
+  private static volatile AsyncAccessLogWriter<ServerAccessLogRecord> asyncWriter;
+
   private AccessLogGenerator accessLogGenerator;
 
+  public static AsyncAccessLogWriter<ServerAccessLogRecord> getAsyncWriter() {
+    return asyncWriter;
+  }
+
   @Override
   public void init(EventBus eventBus, AccessLogConfig accessLogConfig) {
     if (!accessLogConfig.isServerLogEnabled()) {
       return;
     }
     accessLogGenerator = new AccessLogGenerator(accessLogConfig.getServerLogPattern());
+    if (accessLogConfig.isServerLogAsync()) {
+      asyncWriter = new AsyncAccessLogWriter<>("server-access-log",
+          accessLogConfig.getAsyncQueueSize(),
+          accessLogConfig.getAsyncBatchSize(),
+          accessLogConfig.getAsyncOverflowPolicy(),
+          accessLogConfig.getAsyncSampleRatio(),
+          accessLogGenerator::generateServerLog,
+          LOGGER::info);
+    }
     eventBus.register(this);
   }
 
   @Subscribe
   @AllowConcurrentEvents
   public void onRequestReceived(ServerAccessLogEvent accessLogEvent) {
+    AsyncAccessLogWriter<ServerAccessLogRecord> writer = asyncWriter;
+    if (writer != null) {
+      writer.write(accessLogGenerator.captureServerLog(accessLogEvent));
+      return;
+    }
+
     LOGGER.info(accessLogGenerator.generateServerLog(accessLogEvent));
   }
+
+  @Override
+  public void destroy() {
+    AsyncAccessLogWriter<ServerAccessLogRecord> writer = asyncWriter;
+    if (writer != null) {
+      asyncWriter = null;
+      writer.shutdown();
+    }
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.accessLog.async;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncAccessLogWriterTest {
+  List<String> logs = new Vector<>();
+
+  @Test
+  public void writeInOrder() {
+    AsyncAccessLogWriter<Integer> writer = new AsyncAccessLogWriter<>("test-access-log", 128, 4,
+        AccessLogOverflowPolicy.DROP, 1, String::valueOf, logs::add);
+    for (int idx = 0; idx < 100; idx++) {
+      writer.write(idx);
+    }
+    writer.shutdown();
+
+    Assert.assertEquals(100, logs.size());
+    Assert.assertEquals("0", logs.get(0));
+    Assert.assertEquals("99", logs.get(99));
+    Assert.assertEquals(0, writer.getDroppedCount());
+  }
+
+  @Test
+  public void dropWhenFull() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    AsyncAccessLogWriter<Integer> writer = new AsyncAccessLogWriter<>("test-access-log", 2, 1,
+        AccessLogOverflowPolicy.DROP, 1, value -> {
+      awaitQuietly(latch);
+      return String.valueOf(value);
+    }, logs::add);
+
+    // first one is taken by the writer thread and blocked in formatter
+    writer.write(0);
+    while (writer.getQueueSize() != 0) {
+      Thread.yield();
+    }
+    writer.write(1);
+    writer.write(2);
+    writer.write(3);
+    latch.countDown();
+    writer.shutdown();
+
+    Assert.assertEquals(1, writer.getDroppedCount());
+    Assert.assertEquals(3, logs.size());
+  }
+
+  @Test
+  public void sampleWhenHalfFull() {
+    CountDownLatch latch = new CountDownLatch(1);
+    AsyncAccessLogWriter<Integer> writer = new AsyncAccessLogWriter<>("test-access-log", 8, 1,
+        AccessLogOverflowPolicy.SAMPLE, 2, value -> {
+      awaitQuietly(latch);
+      return String.valueOf(value);
+    }, logs::add);
+
+    writer.write(0);
+    while (writer.getQueueSize() != 0) {
+      Thread.yield();
+    }
+    // 4 accepted directly, then only half of the others accepted
+    for (int idx = 1; idx <= 8; idx++) {
+      writer.write(idx);
+    }
+    latch.countDown();
+    writer.shutdown();
+
+    Assert.assertEquals(2, writer.getDroppedCount());
+    Assert.assertEquals(7, logs.size());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
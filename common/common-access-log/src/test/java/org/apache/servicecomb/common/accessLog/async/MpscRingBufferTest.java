@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.accessLog.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MpscRingBufferTest {
+  @Test
+  public void capacityRoundUpToPowerOf2() {
+    Assert.assertEquals(1, new MpscRingBuffer<>(1).capacity());
+    Assert.assertEquals(4, new MpscRingBuffer<>(3).capacity());
+    Assert.assertEquals(8, new MpscRingBuffer<>(8).capacity());
+  }
+
+  @Test
+  public void offerAndPoll() {
+    MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(2);
+    Assert.assertNull(ringBuffer.poll());
+
+    Assert.assertTrue(ringBuffer.offer(1));
+    Assert.assertTrue(ringBuffer.offer(2));
+    Assert.assertFalse(ringBuffer.offer(3));
+    Assert.assertEquals(2, ringBuffer.size());
+
+    Assert.assertEquals(1, (int) ringBuffer.poll());
+    Assert.assertTrue(ringBuffer.offer(3));
+    Assert.assertEquals(2, (int) ringBuffer.poll());
+    Assert.assertEquals(3, (int) ringBuffer.poll());
+    Assert.assertNull(ringBuffer.poll());
+    Assert.assertTrue(ringBuffer.isEmpty());
+  }
+
+  @Test
+  public void drainWithLimit() {
+    MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(8);
+    for (int idx = 0; idx < 5; idx++) {
+      ringBuffer.offer(idx);
+    }
+
+    List<Integer> values = new ArrayList<>();
+    Assert.assertEquals(3, ringBuffer.drain(values::add, 3));
+    Assert.assertEquals(2, ringBuffer.drain(values::add, 3));
+    Assert.assertEquals(0, ringBuffer.drain(values::add, 3));
+    Assert.assertEquals(5, values.size());
+  }
+
+  @Test
+  public void multipleProducers() throws InterruptedException {
+    int producerCount = 4;
+    int countPerProducer = 10000;
+    MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(64);
+    CountDownLatch latch = new CountDownLatch(producerCount);
+    for (int idx = 0; idx < producerCount; idx++) {
+      new Thread(() -> {
+        for (int count = 0; count < countPerProducer; ) {
+          if (ringBuffer.offer(count)) {
+            count++;
+            continue;
+          }
+          Thread.yield();
+        }
+        latch.countDown();
+      }).start();
+    }
+
+    long sum = 0;
+    int received = 0;
+    while (received < producerCount * countPerProducer) {
+      Integer value = ringBuffer.poll();
+      if (value == null) {
+        Thread.yield();
+        continue;
+      }
+      sum += value;
+      received++;
+    }
+    latch.await();
+
+    Assert.assertEquals((long) producerCount * countPerProducer * (countPerProducer - 1) / 2, sum);
+    Assert.assertNull(ringBuffer.poll());
+  }
+}
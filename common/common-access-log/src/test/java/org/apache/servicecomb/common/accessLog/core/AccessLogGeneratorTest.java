@@ -77,6 +77,29 @@ public class AccessLogGeneratorTest {
     Assert.assertEquals("DELETE" + " - " + simpleDateFormat.format(startMillisecond), log);
   }
 
+  @Test
+  public void testCapturedServerLog() {
+    RoutingContext context = Mockito.mock(RoutingContext.class);
+    HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+    long startMillisecond = 1416863450581L;
+    ServerAccessLogEvent serverAccessLogEvent = new ServerAccessLogEvent();
+    serverAccessLogEvent.setMilliStartTime(startMillisecond).setRoutingContext(context);
+    SimpleDateFormat simpleDateFormat = new SimpleDateFormat(ConfigurableDatetimeAccessItem.DEFAULT_DATETIME_PATTERN,
+        ConfigurableDatetimeAccessItem.DEFAULT_LOCALE);
+    simpleDateFormat.setTimeZone(TimeZone.getDefault());
+
+    when(context.request()).thenReturn(request);
+    when(request.method()).thenReturn(HttpMethod.DELETE);
+
+    ServerAccessLogRecord record = LOG_GENERATOR.captureServerLog(serverAccessLogEvent);
+    // formatting the record must not read the request again
+    Mockito.reset(context, request);
+
+    String log = LOG_GENERATOR.generateServerLog(record);
+    Assert.assertEquals("DELETE" + " - " + simpleDateFormat.format(startMillisecond), log);
+    Mockito.verifyZeroInteractions(context, request);
+  }
+
   @Test
   public void testClientLog() {
     Invocation invocation = Mockito.mock(Invocation.class);
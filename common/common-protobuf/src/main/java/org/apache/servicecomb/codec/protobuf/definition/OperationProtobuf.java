@@ -29,6 +29,7 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.foundation.protobuf.ProtoMapper;
 import org.apache.servicecomb.foundation.protobuf.internal.ProtoConst;
 import org.apache.servicecomb.foundation.protobuf.internal.ProtoUtils;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
 
 import com.fasterxml.jackson.databind.JavaType;
 
@@ -78,17 +79,18 @@ public class OperationProtobuf {
   private void initProducerRequestCodec(Invocation invocation, Message requestMessage, ProtoMapper mapper) {
     Map<String, Type> swaggerParameterTypes = invocation.getOperationMeta().getSwaggerProducerOperation()
         .getSwaggerParameterTypes();
+    ArgumentsLayout argumentsLayout = invocation.getOperationMeta().getSwaggerArgumentsLayout();
     if (ProtoUtils.isWrapArguments(requestMessage)) {
       requestRootDeserializer = new RequestRootDeserializer<>(
           mapper.createRootDeserializer(requestMessage, swaggerParameterTypes), true, null);
     } else {
       if (swaggerParameterTypes.isEmpty()) {
         requestRootDeserializer = new RequestRootDeserializer<>(
-            mapper.createRootDeserializer(requestMessage, Object.class), false, null);
+            mapper.createRootDeserializer(requestMessage, Object.class), false, null, argumentsLayout);
       } else if (swaggerParameterTypes.size() == 1) {
         Entry<String, Type> entry = swaggerParameterTypes.entrySet().iterator().next();
         requestRootDeserializer = new RequestRootDeserializer<>(mapper.createRootDeserializer(requestMessage,
-            entry.getValue()), false, entry.getKey());
+            entry.getValue()), false, entry.getKey(), argumentsLayout);
       } else {
         throw new IllegalStateException(
             "unexpected operation definition " + invocation.getOperationMeta().getMicroserviceQualifiedName());
@@ -17,11 +17,17 @@
 package org.apache.servicecomb.codec.protobuf.definition;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.servicecomb.foundation.protobuf.RootDeserializer;
 import org.apache.servicecomb.foundation.protobuf.internal.bean.PropertyWrapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
+
+import io.protostuff.ByteArrayInputEx;
+import io.protostuff.InputEx;
 
 public class RequestRootDeserializer<T> {
   private boolean wrapArgument;
@@ -30,27 +36,49 @@ public class RequestRootDeserializer<T> {
 
   private RootDeserializer<T> rootDeserializer;
 
+  // slot is the index of swagger parameter
+  private ArgumentsLayout argumentsLayout;
+
+  private int parameterSlot = ArgumentsLayout.NOT_FOUND;
+
   public RequestRootDeserializer(RootDeserializer<T> rootDeserializer, boolean wrapArgument, String parameterName) {
+    this(rootDeserializer, wrapArgument, parameterName, null);
+  }
+
+  public RequestRootDeserializer(RootDeserializer<T> rootDeserializer, boolean wrapArgument, String parameterName,
+      ArgumentsLayout argumentsLayout) {
     this.rootDeserializer = rootDeserializer;
     this.wrapArgument = wrapArgument;
     this.parameterName = parameterName;
+    this.argumentsLayout = argumentsLayout;
+    if (argumentsLayout != null && parameterName != null) {
+      this.parameterSlot = argumentsLayout.findSlot(parameterName);
+    }
   }
 
-  @SuppressWarnings("unchecked")
   public Map<String, Object> deserialize(byte[] bytes) throws IOException {
+    return deserialize(new ByteArrayInputEx(bytes));
+  }
+
+  public Map<String, Object> deserialize(ByteBuffer buffer) throws IOException {
+    return deserialize(RootDeserializer.createInput(buffer));
+  }
+
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> deserialize(InputEx input) throws IOException {
     if (!wrapArgument) {
-      Map<String, Object> result = new HashMap<>(1);
-      Object obj = rootDeserializer.deserialize(bytes);
+      Map<String, Object> result = argumentsLayout != null ? argumentsLayout.createArguments() : new HashMap<>(1);
+      Object obj = rootDeserializer.deserialize(input);
       if (obj instanceof PropertyWrapper) {
         obj = ((PropertyWrapper) obj).getValue();
       }
       if (parameterName == null) {
         return result;
       }
-      result.put(parameterName, obj);
+      SlotArguments.put(result, parameterSlot, parameterName, obj);
       return result;
     } else {
-      return (Map<String, Object>) rootDeserializer.deserialize(bytes);
+      return (Map<String, Object>) rootDeserializer.deserialize(input);
     }
   }
 }
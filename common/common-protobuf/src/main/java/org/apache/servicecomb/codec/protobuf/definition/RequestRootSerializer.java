@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.apache.servicecomb.foundation.protobuf.RootSerializer;
 
+import io.protostuff.ByteBufOutputEx;
 import io.vertx.core.json.JsonObject;
 
 public class RequestRootSerializer {
@@ -36,16 +37,27 @@ public class RequestRootSerializer {
     this.isWrap = isWrapp;
   }
 
-  @SuppressWarnings("unchecked")
   public byte[] serialize(Object value) throws IOException {
+    return this.rootSerializer.serialize(toRootValue(value));
+  }
+
+  public int computeSize(ByteBufOutputEx output, Object value) throws IOException {
+    return this.rootSerializer.computeSize(output, toRootValue(value));
+  }
+
+  public void serialize(ByteBufOutputEx output, Object value) throws IOException {
+    this.rootSerializer.serialize(output, toRootValue(value));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object toRootValue(Object value) {
     if (noTypesInfo && !isWrap) {
       Object param = ((Map<String, Object>) value).values().iterator().next();
       if (param instanceof JsonObject) {
         param = ((JsonObject) param).getMap();
       }
-      return this.rootSerializer.serialize(param);
-    } else {
-      return this.rootSerializer.serialize(value);
+      return param;
     }
+    return value;
   }
 }
@@ -17,6 +17,7 @@
 package org.apache.servicecomb.codec.protobuf.definition;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.servicecomb.foundation.protobuf.RootDeserializer;
@@ -25,6 +26,9 @@ import org.apache.servicecomb.foundation.protobuf.internal.bean.PropertyWrapper;
 
 import com.fasterxml.jackson.databind.JavaType;
 
+import io.protostuff.ByteArrayInputEx;
+import io.protostuff.InputEx;
+
 public class ResponseRootDeserializer<T> {
   private RootDeserializer<T> rootDeserializer;
 
@@ -35,14 +39,22 @@ public class ResponseRootDeserializer<T> {
     this.empty = empty;
   }
 
-  @SuppressWarnings("unchecked")
   public T deserialize(byte[] bytes, JavaType invocationTimeType) throws IOException {
+    return deserialize(new ByteArrayInputEx(bytes), invocationTimeType);
+  }
+
+  public T deserialize(ByteBuffer buffer, JavaType invocationTimeType) throws IOException {
+    return deserialize(RootDeserializer.createInput(buffer), invocationTimeType);
+  }
+
+  @SuppressWarnings("unchecked")
+  public T deserialize(InputEx input, JavaType invocationTimeType) throws IOException {
     if (empty) {
-      rootDeserializer.deserialize(bytes); // read buffers if possible.
+      rootDeserializer.deserialize(input); // read buffers if possible.
       return null;
     }
 
-    Object obj = rootDeserializer.deserialize(bytes);
+    Object obj = rootDeserializer.deserialize(input);
     if (obj instanceof PropertyWrapper) {
       obj = ((PropertyWrapper) obj).getValue();
     }
@@ -22,6 +22,8 @@ import java.util.Map;
 
 import org.apache.servicecomb.foundation.protobuf.RootSerializer;
 
+import io.protostuff.ByteBufOutputEx;
+
 public class ResponseRootSerializer {
   private RootSerializer rootSerializer;
 
@@ -36,13 +38,25 @@ public class ResponseRootSerializer {
   }
 
   public byte[] serialize(Object value) throws IOException {
+    return this.rootSerializer.serialize(toRootValue(value));
+  }
+
+  public int computeSize(ByteBufOutputEx output, Object value) throws IOException {
+    return this.rootSerializer.computeSize(output, toRootValue(value));
+  }
+
+  public void serialize(ByteBufOutputEx output, Object value) throws IOException {
+    this.rootSerializer.serialize(output, toRootValue(value));
+  }
+
+  private Object toRootValue(Object value) {
     if (noTypesInfo && !isWrap) {
-      return this.rootSerializer.serialize(value);
-    } else {
-      Map<String, Object> responseValue = new HashMap<>(1);
-      // key is fixed to "value" in IDL
-      responseValue.put("value", value);
-      return this.rootSerializer.serialize(responseValue);
+      return value;
     }
+
+    Map<String, Object> responseValue = new HashMap<>(1);
+    // key is fixed to "value" in IDL
+    responseValue.put("value", value);
+    return responseValue;
   }
 }
@@ -44,6 +44,10 @@ public final class RestConst {
   // in HttpServletRequest attribute
   public static final String FORM_PARAMETERS = "servicecomb-forms";
 
+  // in HttpServletRequest attribute and invocation local context
+  // forward body buffer without decode and encode, see PassThroughBody
+  public static final String BODY_PASS_THROUGH = "servicecomb-body-pass-through";
+
   //in invocation response
   public static final String INVOCATION_HANDLER_RESPONSE = "servicecomb-invocation-hanlder-response";
 
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.codec;
+
+import java.util.Locale;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.foundation.common.http.HttpStatus;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * raw body forwarded without decode and encode, only used by edge service<br>
+ * when request or response body is a PassThroughBody, the buffer is written to the other side directly
+ */
+public class PassThroughBody {
+  private final String contentType;
+
+  private final Buffer buffer;
+
+  public PassThroughBody(String contentType, Buffer buffer) {
+    this.contentType = contentType;
+    this.buffer = buffer;
+  }
+
+  /**
+   * only success json response is forwarded, others still be decoded to build the error data
+   */
+  public static boolean isResponsePassThrough(Invocation invocation, int statusCode, String contentType) {
+    return invocation.getLocalContext(RestConst.BODY_PASS_THROUGH) != null
+        && HttpStatus.isSuccess(statusCode)
+        && isJson(contentType);
+  }
+
+  public static boolean isJson(String contentType) {
+    return contentType != null && contentType.toLowerCase(Locale.US).startsWith(MediaType.APPLICATION_JSON);
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public Buffer getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public String toString() {
+    return "PassThroughBody{contentType=" + contentType
+        + ", length=" + (buffer == null ? 0 : buffer.length()) + "}";
+  }
+}
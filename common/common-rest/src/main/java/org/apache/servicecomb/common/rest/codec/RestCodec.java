@@ -17,7 +17,6 @@
 
 package org.apache.servicecomb.common.rest.codec;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +26,7 @@ import javax.ws.rs.core.Response.Status;
 import org.apache.servicecomb.common.rest.RestConst;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.common.rest.definition.RestParam;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,11 +56,12 @@ public final class RestCodec {
       RestOperationMeta restOperation) throws InvocationException {
     List<RestParam> paramList = restOperation.getParamList();
 
-    Map<String, Object> paramValues = new HashMap<>();
+    // paramList is in the same order of swagger parameters, so idx is the slot
+    SlotArguments paramValues = restOperation.getOperationMeta().getSwaggerArgumentsLayout().createArguments();
     for (int idx = 0; idx < paramList.size(); idx++) {
       RestParam param = paramList.get(idx);
       try {
-        paramValues.put(param.getParamName(), param.getParamProcessor().getValue(request));
+        paramValues.set(idx, param.getParamProcessor().getValue(request));
       } catch (Exception e) {
         // Avoid information leak of user input, and add option for debug use.
         String message = String
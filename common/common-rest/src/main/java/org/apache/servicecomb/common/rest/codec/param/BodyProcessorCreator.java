@@ -29,8 +29,10 @@ import javax.ws.rs.core.MediaType;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
 import org.apache.servicecomb.common.rest.codec.RestClientRequest;
 import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.stream.BufferOutputStream;
 import org.apache.servicecomb.swagger.SwaggerUtils;
 import org.apache.servicecomb.swagger.converter.ConverterMgr;
@@ -98,6 +100,10 @@ public class BodyProcessorCreator implements ParamValueProcessorCreator {
 
     @Override
     public Object getValue(HttpServletRequest request) throws Exception {
+      if (isPassThrough(request)) {
+        return createPassThroughBody(request);
+      }
+
       Object body = request.getAttribute(RestConst.BODY_PARAMETER);
       if (body != null) {
         return convertValue(body, targetType);
@@ -124,14 +130,7 @@ public class BodyProcessorCreator implements ParamValueProcessorCreator {
         return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
       }
       try {
-        ObjectReader reader = serialViewClass != null
-            ? RestObjectMapperFactory.getRestObjectMapper().readerWithView(serialViewClass)
-            : RestObjectMapperFactory.getRestObjectMapper().reader();
-        if (decodeAsObject) {
-          return reader.forType(OBJECT_TYPE).readValue(inputStream);
-        }
-        return reader.forType(targetType == null ? OBJECT_TYPE : targetType)
-            .readValue(inputStream);
+        return createObjectReader().readValue(inputStream);
       } catch (MismatchedInputException e) {
         // there is no way to detect InputStream is empty, so have to catch the exception
         if (!isRequired && e.getMessage().contains("No content to map due to end-of-input")) {
@@ -142,8 +141,45 @@ public class BodyProcessorCreator implements ParamValueProcessorCreator {
       }
     }
 
+    protected ObjectReader createObjectReader() {
+      ObjectReader reader = serialViewClass != null
+          ? RestObjectMapperFactory.getRestObjectMapper().readerWithView(serialViewClass)
+          : RestObjectMapperFactory.getRestObjectMapper().reader();
+      if (decodeAsObject) {
+        return reader.forType(OBJECT_TYPE);
+      }
+      return reader.forType(targetType == null ? OBJECT_TYPE : targetType);
+    }
+
+    /**
+     * decode a forwarded raw body, used when the selected transport can not write the raw buffer
+     */
+    public Object decodePassThroughBody(PassThroughBody passThroughBody) throws IOException {
+      return createObjectReader().readValue(passThroughBody.getBuffer().getBytes());
+    }
+
+    protected boolean isPassThrough(HttpServletRequest request) {
+      return request instanceof HttpServletRequestEx && request.getAttribute(RestConst.BODY_PASS_THROUGH) != null;
+    }
+
+    protected Object createPassThroughBody(HttpServletRequest request) {
+      Buffer bodyBuffer = ((HttpServletRequestEx) request).getBodyBuffer();
+      if (bodyBuffer == null || bodyBuffer.length() == 0) {
+        return null;
+      }
+
+      return new PassThroughBody(request.getContentType(), bodyBuffer);
+    }
+
     @Override
     public void setValue(RestClientRequest clientRequest, Object arg) throws Exception {
+      if (arg instanceof PassThroughBody) {
+        PassThroughBody passThroughBody = (PassThroughBody) arg;
+        clientRequest.putHeader(HttpHeaders.CONTENT_TYPE, passThroughBody.getContentType());
+        clientRequest.write(passThroughBody.getBuffer());
+        return;
+      }
+
       ensureContentType(clientRequest);
       if (arg != null) {
         Buffer buffer = createBodyBuffer(clientRequest.getHeaders().get(HttpHeaders.CONTENT_TYPE), arg);
@@ -205,6 +241,10 @@ public class BodyProcessorCreator implements ParamValueProcessorCreator {
 
     @Override
     public Object getValue(HttpServletRequest request) throws Exception {
+      if (isPassThrough(request)) {
+        return createPassThroughBody(request);
+      }
+
       Object body = request.getAttribute(RestConst.BODY_PARAMETER);
       if (body != null) {
         return convertValue(body, targetType);
@@ -219,6 +259,11 @@ public class BodyProcessorCreator implements ParamValueProcessorCreator {
       return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
     }
 
+    @Override
+    public Object decodePassThroughBody(PassThroughBody passThroughBody) {
+      return passThroughBody.getBuffer().toString(StandardCharsets.UTF_8);
+    }
+
     @Override
     public void setValue(RestClientRequest clientRequest, Object arg) throws Exception {
       if (arg instanceof String) {
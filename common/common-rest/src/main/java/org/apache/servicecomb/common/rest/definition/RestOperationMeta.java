@@ -39,6 +39,7 @@ import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.foundation.common.utils.MimeTypesUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.foundation.vertx.stream.BufferSizeHint;
 import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -88,6 +89,9 @@ public class RestOperationMeta {
   // 快速构建URL path
   private URLPathBuilder pathBuilder;
 
+  // initial capacity of response encoding buffer, learned from recent response sizes
+  private final BufferSizeHint responseSizeHint = new BufferSizeHint();
+
   public void init(OperationMeta operationMeta) {
     this.operationMeta = operationMeta;
 
@@ -142,6 +146,10 @@ public class RestOperationMeta {
     return type;
   }
 
+  public BufferSizeHint getResponseSizeHint() {
+    return responseSizeHint;
+  }
+
   public boolean isDownloadFile() {
     return downloadFile;
   }
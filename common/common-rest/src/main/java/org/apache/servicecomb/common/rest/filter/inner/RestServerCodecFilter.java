@@ -30,6 +30,7 @@ import javax.servlet.http.Part;
 
 import org.apache.servicecomb.common.rest.HttpTransportContext;
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
 import org.apache.servicecomb.common.rest.codec.RestCodec;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
@@ -41,9 +42,14 @@ import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
 import org.apache.servicecomb.foundation.vertx.stream.BufferOutputStream;
+import org.apache.servicecomb.foundation.vertx.stream.BufferSizeHint;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.springframework.stereotype.Component;
 
+import com.netflix.config.DynamicPropertyFactory;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.vertx.core.MultiMap;
 
@@ -51,12 +57,19 @@ import io.vertx.core.MultiMap;
 public class RestServerCodecFilter implements ProducerFilter {
   public static final String NAME = "rest-server-codec";
 
+  public static final String POOLED_BUFFER_ENABLED = "servicecomb.rest.server.pooledResponseBuffer.enabled";
+
   @Nonnull
   @Override
   public String getName() {
     return NAME;
   }
 
+  @Override
+  public boolean isSync() {
+    return true;
+  }
+
   @Override
   public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
     return CompletableFuture.completedFuture(invocation)
@@ -88,13 +101,22 @@ public class RestServerCodecFilter implements ProducerFilter {
     ProduceProcessor produceProcessor = transportContext.getProduceProcessor();
     HttpServletResponseEx responseEx = transportContext.getResponseEx();
     boolean download = isDownloadFileResponseType(invocation, response);
+    RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
 
-    return encodeResponse(response, download, produceProcessor, responseEx);
+    return encodeResponse(response, download, produceProcessor, responseEx, restOperationMeta.getResponseSizeHint());
   }
 
-  @SuppressWarnings("deprecation")
   public static CompletableFuture<Response> encodeResponse(Response response, boolean download,
       ProduceProcessor produceProcessor, HttpServletResponseEx responseEx) {
+    return encodeResponse(response, download, produceProcessor, responseEx, null);
+  }
+
+  /**
+   * @param sizeHint initial capacity of pooled body buffer, null to use the minimum size
+   */
+  @SuppressWarnings("deprecation")
+  public static CompletableFuture<Response> encodeResponse(Response response, boolean download,
+      ProduceProcessor produceProcessor, HttpServletResponseEx responseEx, BufferSizeHint sizeHint) {
     responseEx.setStatus(response.getStatusCode(), response.getReasonPhrase());
     copyHeadersToHttpResponse(response.getHeaders(), responseEx);
 
@@ -102,7 +124,19 @@ public class RestServerCodecFilter implements ProducerFilter {
       return CompletableFuture.completedFuture(response);
     }
 
+    if (response.getResult() instanceof PassThroughBody) {
+      PassThroughBody passThroughBody = response.getResult();
+      responseEx.setContentType(passThroughBody.getContentType());
+      responseEx.setBodyBuffer(passThroughBody.getBuffer());
+      return CompletableFuture.completedFuture(response);
+    }
+
     responseEx.setContentType(produceProcessor.getName() + "; charset=utf-8");
+    ByteBufAllocator allocator = responseEx.getPooledBodyAllocator();
+    if (allocator != null && isPooledBufferEnabled()) {
+      return encodeToPooledBuffer(response, produceProcessor, responseEx, allocator, sizeHint);
+    }
+
     try (BufferOutputStream output = new BufferOutputStream(Unpooled.compositeBuffer())) {
       produceProcessor.encodeResponse(output, response.getResult());
 
@@ -114,6 +148,29 @@ public class RestServerCodecFilter implements ProducerFilter {
     }
   }
 
+  private static CompletableFuture<Response> encodeToPooledBuffer(Response response,
+      ProduceProcessor produceProcessor, HttpServletResponseEx responseEx, ByteBufAllocator allocator,
+      BufferSizeHint sizeHint) {
+    ByteBuf byteBuf = allocator.directBuffer(sizeHint == null ? BufferSizeHint.DEFAULT_MIN_SIZE : sizeHint.get());
+    try (BufferOutputStream output = new BufferOutputStream(byteBuf)) {
+      produceProcessor.encodeResponse(output, response.getResult());
+      if (sizeHint != null) {
+        sizeHint.record(byteBuf.readableBytes());
+      }
+    } catch (Throwable e) {
+      byteBuf.release();
+      return AsyncUtils.completeExceptionally(e);
+    }
+
+    // from now on, responseEx is responsible to release the buffer
+    responseEx.setPooledBodyBuffer(byteBuf);
+    return CompletableFuture.completedFuture(response);
+  }
+
+  private static boolean isPooledBufferEnabled() {
+    return DynamicPropertyFactory.getInstance().getBooleanProperty(POOLED_BUFFER_ENABLED, true).get();
+  }
+
   /**
    * Check whether this response is a downloaded file response,
    * according to the schema recorded in {@link org.apache.servicecomb.swagger.invocation.response.ResponsesMeta}
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
 import org.apache.servicecomb.common.rest.codec.RestCodec;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
@@ -78,6 +79,12 @@ public class ServerRestArgsFilter implements HttpServerFilter {
       return responseEx.sendPart(PartUtils.getSinglePart(null, body));
     }
 
+    if (body instanceof PassThroughBody) {
+      responseEx.setContentType(((PassThroughBody) body).getContentType());
+      responseEx.setBodyBuffer(((PassThroughBody) body).getBuffer());
+      return CompletableFuture.completedFuture(null);
+    }
+
     responseEx.setContentType(produceProcessor.getName() + "; charset=utf-8");
 
     CompletableFuture<Void> future = new CompletableFuture<>();
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.locator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.definition.path.PathRegExp;
+
+/**
+ * segment based router for dynamic paths.<br>
+ * paths like /users/{id}/orders/{oid} are split by "/" and stored in a trie, a variable segment matches any
+ * non-empty segment, so locating an operation and extracting path variables does not need any regex.<br>
+ * paths that can not be expressed by whole segments, eg: /users/{id : .+} or /files/{name}.json, are kept as
+ * regex routes and matched by {@link PathRegExp} just like before.<br>
+ * every route remembers its index in the sorted dynamic operation list, the route with the smallest index wins,
+ * so the priority defined by RestOperationComparator is not changed.
+ */
+public class DynamicPathTrie {
+  private static final String SLASH = "/";
+
+  private static final String REG_EXP_CHARS = "\\^$|?*+()[]";
+
+  public static class Route {
+    private final int priority;
+
+    private final RestOperationMeta operation;
+
+    // index of variable segments in the split path
+    private final int[] varIndexes;
+
+    private final String[] varNames;
+
+    Route(int priority, RestOperationMeta operation, int[] varIndexes, String[] varNames) {
+      this.priority = priority;
+      this.operation = operation;
+      this.varIndexes = varIndexes;
+      this.varNames = varNames;
+    }
+
+    public int getPriority() {
+      return priority;
+    }
+
+    public RestOperationMeta getOperation() {
+      return operation;
+    }
+
+    // same to PathRegExp, for /customers/{id}/address/{id}, the later one overrides the former one
+    public void extractPathVars(String[] segments, Map<String, String> pathVarMap) {
+      for (int idx = 0; idx < varIndexes.length; idx++) {
+        pathVarMap.put(varNames[idx], segments[varIndexes[idx]]);
+      }
+    }
+  }
+
+  static class Node {
+    Map<String, Node> staticChildren = new HashMap<>();
+
+    Node variableChild;
+
+    List<Route> routes = new ArrayList<>();
+  }
+
+  private static final Comparator<Route> ROUTE_COMPARATOR = Comparator.comparingInt(Route::getPriority);
+
+  private final Node root = new Node();
+
+  // operations can not be represented by the trie, sorted by priority
+  private final List<Route> regExpRoutes = new ArrayList<>();
+
+  private int trieRouteCount;
+
+  public DynamicPathTrie(List<RestOperationMeta> dynamicPathOperations) {
+    for (int idx = 0; idx < dynamicPathOperations.size(); idx++) {
+      addOperation(idx, dynamicPathOperations.get(idx));
+    }
+  }
+
+  private void addOperation(int priority, RestOperationMeta operation) {
+    String[] segments = splitPath(PathRegExp.ensureEndWithSlash(operation.getAbsolutePath()));
+    if (segments == null) {
+      regExpRoutes.add(new Route(priority, operation, null, null));
+      return;
+    }
+
+    List<Integer> varIndexes = new ArrayList<>();
+    List<String> varNames = new ArrayList<>();
+    for (int idx = 0; idx < segments.length; idx++) {
+      String segment = segments[idx];
+      if (segment.indexOf('{') < 0 && segment.indexOf('}') < 0) {
+        if (!isPlainStatic(segment)) {
+          regExpRoutes.add(new Route(priority, operation, null, null));
+          return;
+        }
+        continue;
+      }
+
+      String varName = parseVarName(segment);
+      if (varName == null) {
+        regExpRoutes.add(new Route(priority, operation, null, null));
+        return;
+      }
+      varIndexes.add(idx);
+      varNames.add(varName);
+    }
+
+    Node node = root;
+    for (int idx = 0; idx < segments.length; idx++) {
+      if (varIndexes.contains(idx)) {
+        if (node.variableChild == null) {
+          node.variableChild = new Node();
+        }
+        node = node.variableChild;
+        continue;
+      }
+
+      node = node.staticChildren.computeIfAbsent(segments[idx], key -> new Node());
+    }
+    node.routes.add(new Route(priority,
+        operation,
+        varIndexes.stream().mapToInt(Integer::intValue).toArray(),
+        varNames.toArray(new String[0])));
+    trieRouteCount++;
+  }
+
+  private static boolean isPlainStatic(String segment) {
+    for (int idx = 0; idx < segment.length(); idx++) {
+      if (REG_EXP_CHARS.indexOf(segment.charAt(idx)) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // only {name} without customized regex and occupies the whole segment is supported
+  private static String parseVarName(String segment) {
+    if (segment.length() < 3 || segment.charAt(0) != '{' || segment.charAt(segment.length() - 1) != '}') {
+      return null;
+    }
+
+    String name = segment.substring(1, segment.length() - 1);
+    if (name.indexOf('{') >= 0 || name.indexOf('}') >= 0 || name.indexOf(':') >= 0) {
+      return null;
+    }
+
+    name = name.trim();
+    return name.isEmpty() ? null : name;
+  }
+
+  /**
+   * path must be standard path, that means end with "/"
+   * @return null if path is not end with "/"
+   */
+  public static String[] splitPath(String path) {
+    if (!path.endsWith(SLASH)) {
+      return null;
+    }
+
+    return path.substring(0, path.length() - 1).split(SLASH, -1);
+  }
+
+  /**
+   * @return routes in the trie match the segments, sorted by priority
+   */
+  public List<Route> match(String[] segments) {
+    if (segments == null || trieRouteCount == 0) {
+      return Collections.emptyList();
+    }
+
+    List<Route> matched = new ArrayList<>(2);
+    collect(root, segments, 0, matched);
+    if (matched.size() > 1) {
+      matched.sort(ROUTE_COMPARATOR);
+    }
+    return matched;
+  }
+
+  private void collect(Node node, String[] segments, int idx, List<Route> matched) {
+    if (idx == segments.length) {
+      matched.addAll(node.routes);
+      return;
+    }
+
+    String segment = segments[idx];
+    Node child = node.staticChildren.get(segment);
+    if (child != null) {
+      collect(child, segments, idx + 1, matched);
+    }
+
+    // same to the default regex [^/]+?, variable can not be empty
+    if (node.variableChild != null && !segment.isEmpty()) {
+      collect(node.variableChild, segments, idx + 1, matched);
+    }
+  }
+
+  public List<Route> getRegExpRoutes() {
+    return regExpRoutes;
+  }
+
+  public int getTrieRouteCount() {
+    return trieRouteCount;
+  }
+}
@@ -42,9 +42,13 @@ public class MicroservicePaths {
   // 运行阶段,以path优先级,从高到低排列的operation列表
   protected List<RestOperationMeta> dynamicPathOperationsList = new ArrayList<>();
 
+  // 运行阶段,按path分段查找动态path,由dynamicPathOperationsList构建
+  protected volatile DynamicPathTrie dynamicPathTrie;
+
   public void sortPath() {
     RestOperationComparator comparator = new RestOperationComparator();
     Collections.sort(this.dynamicPathOperationsList, comparator);
+    dynamicPathTrie = new DynamicPathTrie(dynamicPathOperationsList);
   }
 
   public void addResource(RestOperationMeta swaggerRestOperation) {
@@ -55,6 +59,7 @@ public class MicroservicePaths {
     }
 
     dynamicPathOperationsList.add(swaggerRestOperation);
+    dynamicPathTrie = null;
   }
 
   protected void addStaticPathResource(RestOperationMeta operation) {
@@ -85,6 +90,15 @@ public class MicroservicePaths {
     return dynamicPathOperationsList;
   }
 
+  public DynamicPathTrie getDynamicPathTrie() {
+    DynamicPathTrie trie = dynamicPathTrie;
+    if (trie == null) {
+      trie = new DynamicPathTrie(dynamicPathOperationsList);
+      dynamicPathTrie = trie;
+    }
+    return trie;
+  }
+
   public void printPaths() {
     for (Entry<String, OperationGroup> entry : staticPathOperations.entrySet()) {
       OperationGroup operationGroup = entry.getValue();
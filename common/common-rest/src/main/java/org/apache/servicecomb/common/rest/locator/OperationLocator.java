@@ -24,6 +24,7 @@ import java.util.Map;
 import javax.ws.rs.core.Response.Status;
 
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.locator.DynamicPathTrie.Route;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,7 +61,7 @@ public class OperationLocator {
     }
 
     // 在动态路径中查找
-    operation = locateDynamicPathOperation(path, microservicePaths.getDynamicPathOperationList(), httpMethod);
+    operation = locateDynamicPathOperation(path, microservicePaths.getDynamicPathTrie(), httpMethod);
     if (operation != null) {
       return;
     }
@@ -88,6 +89,41 @@ public class OperationLocator {
     return group.findValue(httpMethod);
   }
 
+  // 优先级最高且http method匹配的operation胜出，regex route只需要检查优先级比trie结果更高的部分
+  protected RestOperationMeta locateDynamicPathOperation(String path, DynamicPathTrie trie, String httpMethod) {
+    String[] segments = DynamicPathTrie.splitPath(path);
+    Route bestRoute = null;
+    for (Route route : trie.match(segments)) {
+      resourceFound = true;
+      if (checkHttpMethod(route.getOperation(), httpMethod)) {
+        bestRoute = route;
+        break;
+      }
+    }
+
+    for (Route route : trie.getRegExpRoutes()) {
+      if (bestRoute != null && route.getPriority() > bestRoute.getPriority()) {
+        break;
+      }
+
+      RestOperationMeta resource = route.getOperation();
+      String remainPath = resource.getAbsolutePathRegExp().match(path, pathVarMap);
+      if ("".equals(remainPath)) {
+        resourceFound = true;
+        if (checkHttpMethod(resource, httpMethod)) {
+          return resource;
+        }
+      }
+    }
+
+    if (bestRoute == null) {
+      return null;
+    }
+
+    bestRoute.extractPathVars(segments, pathVarMap);
+    return bestRoute.getOperation();
+  }
+
   protected RestOperationMeta locateDynamicPathOperation(String path, Collection<RestOperationMeta> resourceList,
       String httpMethod) {
     for (RestOperationMeta resource : resourceList) {
@@ -115,6 +115,7 @@ public class ServicePathManager {
     }
 
     addProducerPaths(urlPrefix, swaggerPaths.getDynamicPathOperationList());
+    producerPaths.sortPath();
     producerPaths.printPaths();
   }
 
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.codec;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.core.Invocation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import mockit.Expectations;
+import mockit.Mocked;
+
+public class TestPassThroughBody {
+  @Mocked
+  Invocation invocation;
+
+  private void mockPassThrough() {
+    new Expectations() {
+      {
+        invocation.getLocalContext(RestConst.BODY_PASS_THROUGH);
+        result = true;
+      }
+    };
+  }
+
+  @Test
+  public void responsePassThrough_json() {
+    mockPassThrough();
+
+    Assert.assertTrue(PassThroughBody.isResponsePassThrough(invocation, 200, MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  public void responsePassThrough_jsonIgnoreCase() {
+    mockPassThrough();
+
+    Assert.assertTrue(PassThroughBody.isResponsePassThrough(invocation, 200, "Application/JSON;charset=UTF-8"));
+  }
+
+  @Test
+  public void responsePassThrough_notJson() {
+    mockPassThrough();
+
+    Assert.assertFalse(PassThroughBody.isResponsePassThrough(invocation, 200, MediaType.TEXT_PLAIN));
+  }
+
+  @Test
+  public void responsePassThrough_fail() {
+    mockPassThrough();
+
+    Assert.assertFalse(PassThroughBody.isResponsePassThrough(invocation, 500, MediaType.APPLICATION_JSON));
+  }
+}
@@ -31,6 +31,7 @@ import org.apache.servicecomb.common.rest.codec.param.ParamValueProcessor;
 import org.apache.servicecomb.common.rest.codec.param.RestClientRequestImpl;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.common.rest.definition.RestParam;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.junit.AfterClass;
@@ -106,17 +107,18 @@ public class TestRestCodec {
       {
         restOperation.getParamList();
         result = params;
+        restOperation.getOperationMeta().getSwaggerArgumentsLayout();
+        result = new ArgumentsLayout("test");
         restParam.getParamProcessor();
         result = processer;
         processer.getValue(request);
         result = s;
-        restParam.getParamName();
-        result = "test";
       }
     };
 
     Map<String, Object> xx = RestCodec.restToArgs(request, restOperation);
     Assert.assertEquals(xx.get("test"), s);
+    Assert.assertEquals(1, xx.size());
   }
 
   @Test
@@ -30,9 +30,11 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
 import org.apache.servicecomb.common.rest.codec.RestClientRequest;
 import org.apache.servicecomb.common.rest.codec.param.BodyProcessorCreator.BodyProcessor;
 import org.apache.servicecomb.common.rest.codec.param.BodyProcessorCreator.RawJsonBodyProcessor;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.stream.BufferInputStream;
 import org.junit.Assert;
 import org.junit.Before;
@@ -320,4 +322,35 @@ public class TestBodyProcessor {
     Assert.assertEquals("n", bm.name);
     Assert.assertEquals(10, bm.age);
   }
+
+  @Test
+  public void getValuePassThrough(@Mocked HttpServletRequestEx requestEx) throws Exception {
+    createProcessor(BodyModel.class);
+    Buffer bodyBuffer = Buffer.buffer("{\"name\":\"n\"}");
+    new Expectations() {
+      {
+        requestEx.getAttribute(RestConst.BODY_PASS_THROUGH);
+        result = true;
+        requestEx.getBodyBuffer();
+        result = bodyBuffer;
+        requestEx.getContentType();
+        result = MediaType.APPLICATION_JSON;
+      }
+    };
+
+    PassThroughBody body = (PassThroughBody) processor.getValue(requestEx);
+    Assert.assertSame(bodyBuffer, body.getBuffer());
+    Assert.assertEquals(MediaType.APPLICATION_JSON, body.getContentType());
+  }
+
+  @Test
+  public void setValuePassThrough() throws Exception {
+    createClientRequest();
+    createProcessor(BodyModel.class);
+    Buffer bodyBuffer = Buffer.buffer("{\"name\":\"n\"}");
+
+    processor.setValue(clientRequest, new PassThroughBody(MediaType.APPLICATION_JSON + ";charset=utf-8", bodyBuffer));
+    Assert.assertEquals(MediaType.APPLICATION_JSON + ";charset=utf-8", headers.get(HttpHeaders.CONTENT_TYPE));
+    Assert.assertSame(bodyBuffer, outputBodyBuffer);
+  }
 }
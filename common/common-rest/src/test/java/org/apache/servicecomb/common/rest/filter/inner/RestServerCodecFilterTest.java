@@ -21,7 +21,10 @@ import static com.google.common.net.HttpHeaders.CONTENT_LENGTH;
 import static com.google.common.net.HttpHeaders.TRANSFER_ENCODING;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -29,6 +32,8 @@ import java.util.concurrent.ExecutionException;
 
 import org.apache.servicecomb.common.rest.HttpTransportContext;
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceJsonProcessor;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.core.Endpoint;
@@ -42,6 +47,7 @@ import org.apache.servicecomb.core.invocation.InvocationFactory;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
+import org.apache.servicecomb.foundation.vertx.stream.BufferSizeHint;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -50,6 +56,8 @@ import org.junit.Test;
 
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.vertx.core.MultiMap;
 import io.vertx.core.json.Json;
 import mockit.Expectations;
@@ -218,4 +226,74 @@ public class RestServerCodecFilterTest {
       }
     };
   }
-}
\ No newline at end of file
+
+  static class RecordAllocator extends UnpooledByteBufAllocator {
+    ByteBuf allocated;
+
+    RecordAllocator() {
+      super(false);
+    }
+
+    @Override
+    public ByteBuf directBuffer(int initialCapacity) {
+      allocated = super.directBuffer(initialCapacity);
+      return allocated;
+    }
+  }
+
+  @Test
+  public void should_encode_into_pooled_buffer_when_supported() {
+    RecordAllocator allocator = new RecordAllocator();
+    BufferSizeHint sizeHint = new BufferSizeHint();
+    new Expectations() {
+      {
+        responseEx.getPooledBodyAllocator();
+        result = allocator;
+      }
+    };
+
+    RestServerCodecFilter.encodeResponse(Response.ok("ok"), false, new ProduceJsonProcessor(), responseEx, sizeHint)
+        .join();
+
+    new Verifications() {
+      {
+        responseEx.setPooledBodyBuffer(allocator.allocated);
+        times = 1;
+      }
+    };
+    assertThat(allocator.allocated.toString(StandardCharsets.UTF_8)).isEqualTo("\"ok\"");
+    assertThat(allocator.allocated.refCnt()).isEqualTo(1);
+    assertThat(sizeHint.get()).isEqualTo(BufferSizeHint.DEFAULT_MIN_SIZE);
+    allocator.allocated.release();
+  }
+
+  @Test
+  public void should_release_pooled_buffer_when_encode_failed() {
+    RecordAllocator allocator = new RecordAllocator();
+    new Expectations() {
+      {
+        responseEx.getPooledBodyAllocator();
+        result = allocator;
+      }
+    };
+    ProduceProcessor produceProcessor = new ProduceJsonProcessor() {
+      @Override
+      public void doEncodeResponse(OutputStream output, Object result) throws Exception {
+        output.write(1);
+        throw new RuntimeExceptionWithoutStackTrace("encode failed");
+      }
+    };
+
+    Throwable throwable = catchThrowable(() -> RestServerCodecFilter
+        .encodeResponse(Response.ok("ok"), false, produceProcessor, responseEx, null).join());
+
+    assertThat(throwable).hasCauseInstanceOf(RuntimeExceptionWithoutStackTrace.class);
+    assertThat(allocator.allocated.refCnt()).isEqualTo(0);
+    new Verifications() {
+      {
+        responseEx.setPooledBodyBuffer((ByteBuf) any);
+        times = 0;
+      }
+    };
+  }
+}
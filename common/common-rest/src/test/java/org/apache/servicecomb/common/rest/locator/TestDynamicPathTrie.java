@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.locator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.locator.DynamicPathTrie.Route;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestDynamicPathTrie {
+  static RestOperationMeta createOperation(String path, String httpMethod) {
+    RestOperationMeta operation = new RestOperationMeta() {
+      @Override
+      public String getHttpMethod() {
+        return httpMethod;
+      }
+    };
+    operation.setAbsolutePath(path);
+    return operation;
+  }
+
+  static MicroservicePaths createPaths(RestOperationMeta... operations) {
+    MicroservicePaths paths = new MicroservicePaths();
+    for (RestOperationMeta operation : operations) {
+      paths.addResource(operation);
+    }
+    paths.sortPath();
+    return paths;
+  }
+
+  @Test
+  public void splitPath() {
+    Assert.assertNull(DynamicPathTrie.splitPath("/a/b"));
+    Assert.assertArrayEquals(new String[] {"", "a", "b"}, DynamicPathTrie.splitPath("/a/b/"));
+    Assert.assertArrayEquals(new String[] {"", "a", "", "b"}, DynamicPathTrie.splitPath("/a//b/"));
+  }
+
+  @Test
+  public void regExpRoutes() {
+    RestOperationMeta trie = createOperation("/a/{id}/", "GET");
+    RestOperationMeta regExp = createOperation("/a/{id : .+}/", "GET");
+    RestOperationMeta partial = createOperation("/b/{id}.json/", "GET");
+    MicroservicePaths paths = createPaths(trie, regExp, partial);
+
+    DynamicPathTrie pathTrie = paths.getDynamicPathTrie();
+    Assert.assertEquals(1, pathTrie.getTrieRouteCount());
+    Assert.assertEquals(2, pathTrie.getRegExpRoutes().size());
+  }
+
+  @Test
+  public void matchByPriority() {
+    // more static chars, higher priority
+    RestOperationMeta more = createOperation("/users/{id}/orders/", "GET");
+    RestOperationMeta less = createOperation("/users/me/{name}/", "GET");
+    MicroservicePaths paths = createPaths(less, more);
+
+    List<Route> routes = paths.getDynamicPathTrie().match(DynamicPathTrie.splitPath("/users/me/orders/"));
+    Assert.assertEquals(2, routes.size());
+    Assert.assertSame(more, routes.get(0).getOperation());
+    Assert.assertSame(less, routes.get(1).getOperation());
+  }
+
+  @Test
+  public void emptyVariable() {
+    MicroservicePaths paths = createPaths(createOperation("/users/{id}/", "GET"));
+
+    Assert.assertTrue(paths.getDynamicPathTrie().match(DynamicPathTrie.splitPath("/users//")).isEmpty());
+  }
+
+  @Test
+  public void locateWithPathVars() {
+    RestOperationMeta operation = createOperation("/users/{id}/orders/{ oid }/", "GET");
+    MicroservicePaths paths = createPaths(operation);
+
+    OperationLocator locator = new OperationLocator();
+    locator.locate("ms", "/users/u1/orders/o1/", "GET", paths);
+
+    Assert.assertSame(operation, locator.getOperation());
+    Map<String, String> expected = new HashMap<>();
+    expected.put("id", "u1");
+    expected.put("oid", "o1");
+    Assert.assertEquals(expected, locator.getPathVarMap());
+  }
+
+  @Test
+  public void locateDuplicatedVarName() {
+    MicroservicePaths paths = createPaths(createOperation("/customers/{id}/address/{id}/", "GET"));
+
+    OperationLocator locator = new OperationLocator();
+    locator.locate("ms", "/customers/123/address/456/", "GET", paths);
+
+    Assert.assertEquals("456", locator.getPathVarMap().get("id"));
+  }
+
+  @Test
+  public void locateRegExpHigherPriority() {
+    RestOperationMeta regExp = createOperation("/a/{test : .+}/{id}/", "GET");
+    RestOperationMeta trie = createOperation("/a/{test}/{id}/", "GET");
+    MicroservicePaths paths = createPaths(trie, regExp);
+
+    OperationLocator locator = new OperationLocator();
+    locator.locate("ms", "/a/b/c/", "GET", paths);
+
+    Assert.assertSame(regExp, locator.getOperation());
+  }
+
+  @Test
+  public void locateTrieHigherPriority() {
+    RestOperationMeta trie = createOperation("/abc/{id}/", "GET");
+    RestOperationMeta regExp = createOperation("/a/{id : .+}/", "GET");
+    MicroservicePaths paths = createPaths(regExp, trie);
+
+    OperationLocator locator = new OperationLocator();
+    locator.locate("ms", "/abc/1/", "GET", paths);
+
+    Assert.assertSame(trie, locator.getOperation());
+    Assert.assertEquals("1", locator.getPathVarMap().get("id"));
+  }
+
+  @Test
+  public void locateByHttpMethod() {
+    RestOperationMeta get = createOperation("/users/{id}/", "GET");
+    RestOperationMeta post = createOperation("/users/{name}/", "POST");
+    MicroservicePaths paths = createPaths(get, post);
+
+    OperationLocator locator = new OperationLocator();
+    locator.locate("ms", "/users/u1/", "POST", paths);
+
+    Assert.assertSame(post, locator.getOperation());
+    Assert.assertEquals("u1", locator.getPathVarMap().get("name"));
+  }
+
+  @Test
+  public void locateMethodNotAllowed() {
+    MicroservicePaths paths = createPaths(createOperation("/users/{id}/", "GET"));
+
+    try {
+      new OperationLocator().locate("ms", "/users/u1/", "DELETE", paths);
+      Assert.fail("must throw exception");
+    } catch (InvocationException e) {
+      Assert.assertEquals(Status.METHOD_NOT_ALLOWED.getStatusCode(), e.getStatusCode());
+    }
+
+    try {
+      new OperationLocator().locate("ms", "/orders/u1/", "GET", paths);
+      Assert.fail("must throw exception");
+    } catch (InvocationException e) {
+      Assert.assertEquals(Status.NOT_FOUND.getStatusCode(), e.getStatusCode());
+    }
+  }
+
+  @Test
+  public void rebuildAfterAddResource() {
+    MicroservicePaths paths = createPaths(createOperation("/users/{id}/", "GET"));
+    paths.getDynamicPathTrie();
+
+    RestOperationMeta operation = createOperation("/orders/{id}/", "GET");
+    paths.addResource(operation);
+
+    OperationLocator locator = new OperationLocator();
+    locator.locate("ms", "/orders/1/", "GET", paths);
+    Assert.assertSame(operation, locator.getOperation());
+  }
+}
@@ -52,10 +52,12 @@ import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.apache.servicecomb.swagger.invocation.AsyncResponse;
 import org.apache.servicecomb.swagger.invocation.InvocationType;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 
 import com.fasterxml.jackson.databind.JavaType;
@@ -263,7 +265,14 @@ public class Invocation extends SwaggerInvocation {
       return producerArguments;
     }
 
-    Method method = operationMeta.getSwaggerProducerOperation().getProducerMethod();
+    SwaggerProducerOperation producerOperation = operationMeta.getSwaggerProducerOperation();
+    if (invocationArguments instanceof SlotArguments && ((SlotArguments) invocationArguments).getLayout()
+        == producerOperation.getArgumentsMapper().getInvocationArgumentsLayout()) {
+      // slot is the index of producer method parameter, use the values directly
+      return producerArguments = ((SlotArguments) invocationArguments).getValues();
+    }
+
+    Method method = producerOperation.getProducerMethod();
     Object[] args = new Object[method.getParameterCount()];
     for (int i = 0; i < method.getParameterCount(); i++) {
       args[i] = this.invocationArguments.get(method.getParameters()[i].getName());
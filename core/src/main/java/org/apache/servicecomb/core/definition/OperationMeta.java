@@ -23,6 +23,7 @@ import org.apache.servicecomb.core.Handler;
 import org.apache.servicecomb.foundation.common.VendorExtensions;
 import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.apache.servicecomb.swagger.generator.core.model.SwaggerOperation;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
 import org.apache.servicecomb.swagger.invocation.response.ResponsesMeta;
 
 import io.swagger.models.Operation;
@@ -42,6 +43,9 @@ public class OperationMeta {
 
   private Operation swaggerOperation;
 
+  // slot is the index of swagger parameter
+  private ArgumentsLayout swaggerArgumentsLayout;
+
   // run in this executor
   private Executor executor;
 
@@ -59,6 +63,7 @@ public class OperationMeta {
     this.httpMethod = swaggerOperation.getHttpMethod().name();
     this.operationPath = swaggerOperation.getPath();
     this.swaggerOperation = swaggerOperation.getOperation();
+    this.swaggerArgumentsLayout = ArgumentsLayout.ofSwaggerParameters(this.swaggerOperation.getParameters());
     this.executor = schemaMeta.getMicroserviceMeta().getScbEngine().getExecutorManager().findExecutor(this);
     this.config = schemaMeta.getMicroserviceMeta().getMicroserviceVersionsMeta().getOrCreateOperationConfig(this);
     this.responsesMeta.init(schemaMeta.getSwagger(), swaggerOperation.getOperation());
@@ -130,6 +135,10 @@ public class OperationMeta {
     return swaggerOperation.getOperationId();
   }
 
+  public ArgumentsLayout getSwaggerArgumentsLayout() {
+    return swaggerArgumentsLayout;
+  }
+
   // invoker make sure idx is valid
   public String getParamName(int idx) {
     return swaggerOperation.getParameters().get(idx).getName();
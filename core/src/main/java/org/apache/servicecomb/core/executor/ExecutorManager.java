@@ -35,6 +35,8 @@ public class ExecutorManager {
 
   public static final String EXECUTOR_REACTIVE = "servicecomb.executor.reactive";
 
+  public static final String EXECUTOR_WORK_STEALING = "servicecomb.executor.workStealing";
+
   public static final String EXECUTOR_DEFAULT = EXECUTOR_GROUP_THREADPOOL;
 
   private Map<String, Executor> executors = new ConcurrentHashMapEx<>();
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.executor;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.netflix.config.DynamicPropertyFactory;
+
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * same affinity as {@link GroupExecutor}: tasks submitted by one thread (usually an event loop) always go to the
+ * same group<br>
+ * but a worker without local task will steal tasks from other groups, so uneven traffic of event loops will not
+ * make one group busy while other groups idle<br>
+ * <pre>
+ * 1.every group has a fixed count of workers and a lock-free queue
+ * 2.worker take task from own group first, then steal from other groups
+ * 3.worker park when there is no task in any group, submitter unpark an idle worker, prefer the own group
+ * 4.if queue of the group is full, reject the task
+ * </pre>
+ * worker threads start at the first task, so an unused instance not create any thread
+ */
+public class WorkStealingGroupExecutor implements Executor, Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(WorkStealingGroupExecutor.class);
+
+  public static final String KEY_GROUP = "servicecomb.executor.work-stealing.group";
+
+  public static final String KEY_THREADS = "servicecomb.executor.work-stealing.threads-per-group";
+
+  public static final String KEY_MAX_QUEUE_SIZE = "servicecomb.executor.work-stealing.maxQueueSize-per-group";
+
+  // safety net, worker will check queues at least in this interval even not be notified
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  public static class Group {
+    private final int index;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    // ConcurrentLinkedQueue.size() is O(n), so count by self
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private final Queue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder stealCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    Group(int index) {
+      this.index = index;
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public int getQueueSize() {
+      return queueSize.get();
+    }
+
+    /**
+     * tasks of this group executed by workers of other groups
+     */
+    public long getStealCount() {
+      return stealCount.sum();
+    }
+
+    public long getRejectedCount() {
+      return rejectedCount.sum();
+    }
+
+    Runnable poll() {
+      Runnable task = queue.poll();
+      if (task != null) {
+        queueSize.decrementAndGet();
+      }
+      return task;
+    }
+
+    boolean wakeupIdleWorker() {
+      for (; ; ) {
+        Worker worker = idleWorkers.poll();
+        if (worker == null) {
+          return false;
+        }
+
+        if (worker.idle.compareAndSet(true, false)) {
+          LockSupport.unpark(worker.thread);
+          return true;
+        }
+      }
+    }
+  }
+
+  class Worker implements Runnable {
+    private final Group group;
+
+    private final AtomicBoolean idle = new AtomicBoolean();
+
+    private Thread thread;
+
+    Worker(Group group) {
+      this.group = group;
+    }
+
+    @Override
+    public void run() {
+      for (; ; ) {
+        Runnable task = takeTask(group);
+        if (task != null) {
+          runTask(task);
+          continue;
+        }
+
+        if (closed) {
+          return;
+        }
+
+        // register as idle before check again, so that a task submitted after the check must wake up this worker
+        idle.set(true);
+        group.idleWorkers.offer(this);
+        task = takeTask(group);
+        if (task != null) {
+          if (idle.compareAndSet(true, false)) {
+            group.idleWorkers.remove(this);
+          }
+          runTask(task);
+          continue;
+        }
+
+        if (!closed) {
+          LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+        if (idle.compareAndSet(true, false)) {
+          group.idleWorkers.remove(this);
+        }
+      }
+    }
+
+    private void runTask(Runnable task) {
+      try {
+        task.run();
+      } catch (Throwable e) {
+        LOGGER.error("failed to run task in executor {}.", name, e);
+      }
+    }
+  }
+
+  protected String name;
+
+  protected int groupCount;
+
+  protected int threadsPerGroup;
+
+  protected int maxQueueSize;
+
+  private final List<Group> groups = new ArrayList<>();
+
+  private final List<Worker> workers = new ArrayList<>();
+
+  // bind submit thread to one group, event loop threads are FastThreadLocalThread, so lookup is an array access
+  private final FastThreadLocal<Group> threadGroup = new FastThreadLocal<Group>() {
+    @Override
+    protected Group initialValue() {
+      return chooseGroup();
+    }
+  };
+
+  private final AtomicInteger index = new AtomicInteger();
+
+  private volatile boolean started;
+
+  private volatile boolean closed;
+
+  public WorkStealingGroupExecutor init() {
+    return init("work-stealing");
+  }
+
+  public WorkStealingGroupExecutor init(String name) {
+    this.name = name;
+    initConfig();
+
+    for (int groupIdx = 0; groupIdx < groupCount; groupIdx++) {
+      Group group = new Group(groupIdx);
+      groups.add(group);
+      for (int threadIdx = 0; threadIdx < threadsPerGroup; threadIdx++) {
+        workers.add(new Worker(group));
+      }
+    }
+
+    return this;
+  }
+
+  public void initConfig() {
+    groupCount = DynamicPropertyFactory.getInstance().getIntProperty(KEY_GROUP, 2).get();
+    threadsPerGroup = DynamicPropertyFactory.getInstance().getIntProperty(KEY_THREADS, 25).get();
+    maxQueueSize = DynamicPropertyFactory.getInstance().getIntProperty(KEY_MAX_QUEUE_SIZE, Integer.MAX_VALUE).get();
+
+    LOGGER.info("executor name={}, group={}. per group settings, threads={}, maxQueueSize={}.",
+        name, groupCount, threadsPerGroup, maxQueueSize);
+  }
+
+  public List<Group> getGroups() {
+    return groups;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (!started) {
+      start();
+    }
+    if (closed) {
+      throw new RejectedExecutionException("work stealing executor is closed, name=" + name);
+    }
+
+    Group group = threadGroup.get();
+    if (group.queueSize.incrementAndGet() > maxQueueSize) {
+      group.queueSize.decrementAndGet();
+      group.rejectedCount.increment();
+      throw new RejectedExecutionException("work stealing executor queue is full, group=" + group.index);
+    }
+    group.queue.offer(command);
+
+    if (group.wakeupIdleWorker()) {
+      return;
+    }
+    // all workers of this group are busy, let an idle worker of other group to steal it
+    for (int idx = 1; idx < groups.size(); idx++) {
+      if (groups.get((group.index + idx) % groups.size()).wakeupIdleWorker()) {
+        return;
+      }
+    }
+  }
+
+  private Group chooseGroup() {
+    int idx = index.getAndIncrement() % groups.size();
+    return groups.get(idx);
+  }
+
+  private Runnable takeTask(Group ownGroup) {
+    Runnable task = ownGroup.poll();
+    if (task != null) {
+      return task;
+    }
+
+    for (int idx = 1; idx < groups.size(); idx++) {
+      Group victim = groups.get((ownGroup.index + idx) % groups.size());
+      task = victim.poll();
+      if (task != null) {
+        victim.stealCount.increment();
+        return task;
+      }
+    }
+    return null;
+  }
+
+  private synchronized void start() {
+    if (started || closed) {
+      return;
+    }
+
+    for (Group group : groups) {
+      GroupThreadFactory factory = new GroupThreadFactory(name + group.index);
+      for (Worker worker : workers) {
+        if (worker.group == group) {
+          worker.thread = factory.newThread(worker);
+          worker.thread.start();
+        }
+      }
+    }
+    started = true;
+  }
+
+  /**
+   * stop accept new tasks, workers exit after all queued tasks finished
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    for (Worker worker : workers) {
+      if (worker.thread != null) {
+        LockSupport.unpark(worker.thread);
+      }
+    }
+  }
+}
@@ -60,6 +60,18 @@ public interface Filter {
     return true;
   }
 
+  /**
+   * <pre>
+   * sync filter will be invoked inline, without wrap the result to a new future
+   * a filter can declare to be sync only when:
+   *   1. not switch thread before invoke nextNode
+   *   2. never return a failed Response which result is a Throwable, all fail data express by exception
+   * </pre>
+   */
+  default boolean isSync() {
+    return false;
+  }
+
   default boolean isInEventLoop() {
     return InvokerUtils.isInEventLoop();
   }
@@ -82,10 +82,26 @@ public class FilterNode {
       return nextNode.onFilter(invocation);
     }
 
+    if (filter.isSync()) {
+      return onSyncFilter(invocation);
+    }
+
     return AsyncUtils.tryCatchSupplierFuture(() -> filter.onFilter(invocation, nextNode))
         .thenApply(this::rethrowExceptionInResponse);
   }
 
+  /**
+   * sync filter run inline, and return the future of filter directly<br>
+   * so a chain of sync filters share the same future, no extra future and completion stage
+   */
+  private CompletableFuture<Response> onSyncFilter(Invocation invocation) {
+    try {
+      return filter.onFilter(invocation, nextNode);
+    } catch (Throwable e) {
+      return AsyncUtils.completeExceptionally(e);
+    }
+  }
+
   private Response rethrowExceptionInResponse(Response response) {
     if (response.isFailed() && response.getResult() instanceof Throwable) {
       AsyncUtils.rethrow(response.getResult());
@@ -19,16 +19,21 @@ package org.apache.servicecomb.core.filter.impl;
 import java.lang.reflect.Method;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.Nonnull;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
+import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 import javax.validation.executable.ExecutableValidator;
 import javax.validation.groups.Default;
+import javax.validation.metadata.MethodDescriptor;
 
+import org.apache.servicecomb.core.BootListener;
 import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.core.filter.ProducerFilter;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
@@ -46,25 +51,55 @@ import org.springframework.stereotype.Component;
 import com.netflix.config.DynamicPropertyFactory;
 
 @Component
-public class ParameterValidatorFilter implements ProducerFilter, InitializingBean {
+public class ParameterValidatorFilter implements ProducerFilter, InitializingBean, BootListener {
   private static final Logger LOGGER = LoggerFactory.getLogger(ParameterValidatorFilter.class);
 
   public static final String NAME = "validator";
 
   private static final String ENABLE_EL = "servicecomb.filters.validation.useResourceBundleMessageInterpolator";
 
+  // ext data key of OperationMeta, value is Boolean
+  public static final String EXT_PARAMETER_CONSTRAINED = "validator.parameterConstrained";
+
   protected ExecutableValidator validator;
 
+  // to query constraints metadata
+  protected Validator beanValidator;
+
+  private final LongAdder validatedCount = new LongAdder();
+
+  private final LongAdder skippedCount = new LongAdder();
+
   @Nonnull
   @Override
   public String getName() {
     return NAME;
   }
 
+  @Override
+  public boolean isSync() {
+    return true;
+  }
+
   @Override
   public void afterPropertiesSet() {
-    validator = createValidatorFactory()
-        .getValidator().forExecutables();
+    beanValidator = createValidatorFactory().getValidator();
+    validator = beanValidator.forExecutables();
+  }
+
+  @Override
+  public void onAfterProducerProvider(BootEvent event) {
+    for (OperationMeta operationMeta : event.getScbEngine().getProducerMicroserviceMeta().getOperations()) {
+      isParameterConstrained(operationMeta);
+    }
+  }
+
+  public long getValidatedCount() {
+    return validatedCount.sum();
+  }
+
+  public long getSkippedCount() {
+    return skippedCount.sum();
   }
 
   protected ValidatorFactory createValidatorFactory() {
@@ -88,6 +123,12 @@ public class ParameterValidatorFilter implements ProducerFilter, InitializingBea
 
   @Override
   public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+    if (!isParameterConstrained(invocation.getOperationMeta())) {
+      skippedCount.increment();
+      return nextNode.onFilter(invocation);
+    }
+
+    validatedCount.increment();
     Set<ConstraintViolation<Object>> violations = doValidate(invocation);
     if (violations.size() > 0) {
       LOGGER.error("Parameter validation failed : " + violations.toString());
@@ -97,6 +138,41 @@ public class ParameterValidatorFilter implements ProducerFilter, InitializingBea
     return nextNode.onFilter(invocation);
   }
 
+  /**
+   * computed when producers are ready, and cached in OperationMeta
+   */
+  protected boolean isParameterConstrained(OperationMeta operationMeta) {
+    Boolean constrained = operationMeta.getExtData(EXT_PARAMETER_CONSTRAINED);
+    if (constrained == null) {
+      constrained = checkParameterConstrained(operationMeta.getSwaggerProducerOperation());
+      operationMeta.putExtData(EXT_PARAMETER_CONSTRAINED, constrained);
+    }
+    return constrained;
+  }
+
+  protected boolean checkParameterConstrained(SwaggerProducerOperation producerOperation) {
+    if (producerOperation == null || producerOperation.getProducerInstance() == null) {
+      return false;
+    }
+
+    // validateParameters use class of the instance, not the declaring class of the method
+    return checkParameterConstrained(producerOperation.getProducerInstance().getClass(),
+        producerOperation.getProducerMethod());
+  }
+
+  protected boolean checkParameterConstrained(Class<?> instanceClass, Method method) {
+    try {
+      MethodDescriptor methodDescriptor = beanValidator.getConstraintsForClass(instanceClass)
+          .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+      // include @Valid parameters and cross-parameter constraints
+      return methodDescriptor != null && methodDescriptor.hasConstrainedParameters();
+    } catch (Throwable e) {
+      LOGGER.warn("failed to check constraints, always validate it, method={}:{}, cause={}.",
+          method.getDeclaringClass().getName(), method.getName(), e.getMessage());
+      return true;
+    }
+  }
+
   protected Set<ConstraintViolation<Object>> doValidate(Invocation invocation) {
     SwaggerProducerOperation producerOperation = invocation.getOperationMeta().getSwaggerProducerOperation();
     Object instance = producerOperation.getProducerInstance();
@@ -16,7 +16,6 @@
  */
 package org.apache.servicecomb.core.filter.impl;
 
-import java.lang.reflect.Method;
 import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
@@ -26,6 +25,7 @@ import org.apache.servicecomb.core.exception.Exceptions;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.core.filter.ProducerFilter;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
+import org.apache.servicecomb.swagger.engine.ProducerMethodInvoker;
 import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.context.ContextUtils;
@@ -47,19 +47,20 @@ public class ProducerOperationFilter implements ProducerFilter {
 
     SwaggerProducerOperation producerOperation = invocation.getOperationMeta().getSwaggerProducerOperation();
     Object instance = producerOperation.getProducerInstance();
-    Method method = producerOperation.getProducerMethod();
+    ProducerMethodInvoker methodInvoker = producerOperation.getProducerMethodInvoker();
     Object[] args = invocation.toProducerArguments();
-    return invoke(invocation, instance, method, args)
+    return invoke(invocation, instance, methodInvoker, args)
         .thenApply(result -> convertResultToResponse(invocation, producerOperation, result))
         .whenComplete((response, throwable) -> processMetrics(invocation));
   }
 
   @SuppressWarnings("unchecked")
-  protected CompletableFuture<Object> invoke(Invocation invocation, Object instance, Method method, Object[] args) {
+  protected CompletableFuture<Object> invoke(Invocation invocation, Object instance,
+      ProducerMethodInvoker methodInvoker, Object[] args) {
     ContextUtils.setInvocationContext(invocation);
 
     try {
-      Object result = method.invoke(instance, args);
+      Object result = methodInvoker.invoke(instance, args);
       if (result instanceof CompletableFuture) {
         return (CompletableFuture<Object>) result;
       }
@@ -43,6 +43,11 @@ public class TransportFilters implements InternalFilter {
     return NAME;
   }
 
+  @Override
+  public boolean isSync() {
+    return true;
+  }
+
   public Map<String, FilterNode> getChainByTransport() {
     return chainByTransport;
   }
@@ -78,7 +78,8 @@ public class ProducerOperationHandler implements Handler {
         producerInvokeExtension.beforeMethodInvoke(invocation, producerOperation, args);
       }
 
-      Object result = producerOperation.getProducerMethod().invoke(producerOperation.getProducerInstance(), args);
+      Object result = producerOperation.getProducerMethodInvoker()
+          .invoke(producerOperation.getProducerInstance(), args);
       invocation.onBusinessMethodFinish();
 
       ((CompletableFuture<Object>) result).whenComplete((realResult, ex) -> {
@@ -119,7 +120,8 @@ public class ProducerOperationHandler implements Handler {
         producerInvokeExtension.beforeMethodInvoke(invocation, producerOperation, args);
       }
 
-      Object result = producerOperation.getProducerMethod().invoke(producerOperation.getProducerInstance(), args);
+      Object result = producerOperation.getProducerMethodInvoker()
+          .invoke(producerOperation.getProducerInstance(), args);
       response = producerOperation.getResponseMapper().mapResponse(invocation.getStatus(), result);
 
       invocation.onBusinessMethodFinish();
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestWorkStealingGroupExecutor {
+  WorkStealingGroupExecutor executor;
+
+  @Before
+  public void setup() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @After
+  public void teardown() {
+    if (executor != null) {
+      executor.close();
+    }
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void should_read_config() {
+    ArchaiusUtils.setProperty(WorkStealingGroupExecutor.KEY_GROUP, 3);
+    ArchaiusUtils.setProperty(WorkStealingGroupExecutor.KEY_THREADS, 5);
+    ArchaiusUtils.setProperty(WorkStealingGroupExecutor.KEY_MAX_QUEUE_SIZE, 100);
+    executor = new WorkStealingGroupExecutor().init();
+
+    assertThat(executor.groupCount).isEqualTo(3);
+    assertThat(executor.threadsPerGroup).isEqualTo(5);
+    assertThat(executor.maxQueueSize).isEqualTo(100);
+    assertThat(executor.getGroups()).hasSize(3);
+  }
+
+  @Test
+  public void should_steal_tasks_of_busy_group() throws InterruptedException {
+    ArchaiusUtils.setProperty(WorkStealingGroupExecutor.KEY_THREADS, 1);
+    executor = new WorkStealingGroupExecutor().init();
+
+    // all tasks submitted by one thread go to one group, every group has only one worker
+    // one worker is blocked by the first task, so the others can finish only if someone steal
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch finished = new CountDownLatch(10);
+    executor.execute(() -> {
+      try {
+        blocker.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    for (int idx = 0; idx < 10; idx++) {
+      executor.execute(finished::countDown);
+    }
+
+    assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+    blocker.countDown();
+    assertThat(executor.getGroups().get(0).getStealCount() + executor.getGroups().get(1).getStealCount())
+        .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  public void should_reject_when_queue_is_full() throws InterruptedException {
+    ArchaiusUtils.setProperty(WorkStealingGroupExecutor.KEY_GROUP, 1);
+    ArchaiusUtils.setProperty(WorkStealingGroupExecutor.KEY_THREADS, 1);
+    ArchaiusUtils.setProperty(WorkStealingGroupExecutor.KEY_MAX_QUEUE_SIZE, 1);
+    executor = new WorkStealingGroupExecutor().init();
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        blocker.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+    executor.execute(() -> {
+    });
+
+    Throwable throwable = catchThrowable(() -> executor.execute(() -> {
+    }));
+    blocker.countDown();
+
+    assertThat(throwable).isInstanceOf(RejectedExecutionException.class);
+    assertThat(executor.getGroups().get(0).getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_reject_after_closed() {
+    executor = new WorkStealingGroupExecutor().init();
+    executor.close();
+
+    Throwable throwable = catchThrowable(() -> executor.execute(() -> {
+    }));
+
+    assertThat(throwable).isInstanceOf(RejectedExecutionException.class);
+  }
+}
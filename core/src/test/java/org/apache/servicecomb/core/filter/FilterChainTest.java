@@ -76,6 +76,19 @@ public class FilterChainTest {
     throw new IllegalStateException("e1");
   };
 
+  Filter syncFilter = new Filter() {
+    @Override
+    public boolean isSync() {
+      return true;
+    }
+
+    @Override
+    public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+      msg.add("sync");
+      return nextNode.onFilter(invocation);
+    }
+  };
+
   @BeforeClass
   public static void beforeClass() {
     try {
@@ -137,6 +150,38 @@ public class FilterChainTest {
         .hasMessage("e1");
   }
 
+  @Test
+  public void should_share_future_when_filters_are_sync() {
+    CompletableFuture<Response> future = CompletableFuture.completedFuture(Response.ok(null));
+    Filter lastFilter = new Filter() {
+      @Override
+      public boolean isSync() {
+        return true;
+      }
+
+      @Override
+      public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+        return future;
+      }
+    };
+
+    assertThat(buildChain(syncFilter, syncFilter, lastFilter).onFilter(invocation)).isSameAs(future);
+    assertThat(msg).containsExactly("sync", "sync");
+  }
+
+  @Test
+  public void should_stop_chain_when_filter_after_sync_filter_throw_exception() {
+    ExecutionException executionException = (ExecutionException) catchThrowable(
+        () -> buildChain(syncFilter, exceptionFilter, recordThreadFilter)
+            .onFilter(invocation)
+            .get());
+
+    assertThat(msg).containsExactly("sync");
+    assertThat(executionException.getCause())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("e1");
+  }
+
   @Test
   public void should_support_retry_logic() {
     Filter exceptionFilter = (invocation, nextNode) -> {
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.filter.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.filter.impl.ParameterValidatorFilterTest.Model;
+import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+
+public class ParameterValidatorFilterConstrainedTest {
+  public static class Controller {
+    public void query(@NotNull String query) {
+
+    }
+
+    public void cascadeOnly(@Valid Model model) {
+
+    }
+
+    public void unconstrained(String query, Model model) {
+
+    }
+  }
+
+  static ParameterValidatorFilter filter = new ParameterValidatorFilter();
+
+  @Mocked
+  Invocation invocation;
+
+  @Mocked
+  OperationMeta operationMeta;
+
+  @Mocked
+  SwaggerProducerOperation operation;
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    filter.afterPropertiesSet();
+  }
+
+  @Test
+  public void should_detect_constrained_parameters() throws Exception {
+    assertThat(filter.checkParameterConstrained(Controller.class,
+        Controller.class.getMethod("query", String.class))).isTrue();
+    assertThat(filter.checkParameterConstrained(Controller.class,
+        Controller.class.getMethod("cascadeOnly", Model.class))).isTrue();
+    assertThat(filter.checkParameterConstrained(Controller.class,
+        Controller.class.getMethod("unconstrained", String.class, Model.class))).isFalse();
+  }
+
+  @Test
+  public void should_cache_constrained_result_in_operation() throws Exception {
+    new Expectations() {
+      {
+        operationMeta.getExtData(ParameterValidatorFilter.EXT_PARAMETER_CONSTRAINED);
+        result = null;
+        operationMeta.getSwaggerProducerOperation();
+        result = operation;
+        operation.getProducerInstance();
+        result = new Controller();
+        operation.getProducerMethod();
+        result = Controller.class.getMethod("unconstrained", String.class, Model.class);
+      }
+    };
+
+    assertThat(filter.isParameterConstrained(operationMeta)).isFalse();
+
+    new Verifications() {
+      {
+        operationMeta.putExtData(ParameterValidatorFilter.EXT_PARAMETER_CONSTRAINED, false);
+        times = 1;
+      }
+    };
+  }
+
+  @Test
+  public void should_skip_validate_when_not_constrained() throws Exception {
+    new Expectations() {
+      {
+        invocation.getOperationMeta();
+        result = operationMeta;
+        operationMeta.getExtData(ParameterValidatorFilter.EXT_PARAMETER_CONSTRAINED);
+        result = false;
+      }
+    };
+    long validated = filter.getValidatedCount();
+    long skipped = filter.getSkippedCount();
+
+    assertThat(filter.onFilter(invocation, FilterNode.EMPTY).get().isSucceed()).isTrue();
+
+    assertThat(filter.getValidatedCount()).isEqualTo(validated);
+    assertThat(filter.getSkippedCount()).isEqualTo(skipped + 1);
+    new Verifications() {
+      {
+        invocation.toProducerArguments();
+        times = 0;
+      }
+    };
+  }
+}
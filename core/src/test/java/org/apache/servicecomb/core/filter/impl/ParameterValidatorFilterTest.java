@@ -171,4 +171,15 @@ public class ParameterValidatorFilterTest {
     assertThat(details.stream().map(ValidateDetail::getMessage))
         .contains("not null", "can not be null", "can not be blank");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void should_count_validated_invocation() {
+    long validated = filter.getValidatedCount();
+    long skipped = filter.getSkippedCount();
+
+    getException();
+
+    assertThat(filter.getValidatedCount()).isEqualTo(validated + 1);
+    assertThat(filter.getSkippedCount()).isEqualTo(skipped);
+  }
+}
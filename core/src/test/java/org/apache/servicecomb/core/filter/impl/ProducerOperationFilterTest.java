@@ -28,6 +28,7 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.exception.Exceptions;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
+import org.apache.servicecomb.swagger.engine.ProducerMethodInvokers;
 import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.context.ContextUtils;
@@ -98,8 +99,8 @@ public class ProducerOperationFilterTest {
         producerOperation.getProducerInstance();
         result = instance;
 
-        producerOperation.getProducerMethod();
-        result = method;
+        producerOperation.getProducerMethodInvoker();
+        result = ProducerMethodInvokers.create(method);
       }
     };
   }
@@ -39,6 +39,7 @@ import org.apache.servicecomb.config.center.client.model.QueryConfigurationsResp
 import org.apache.servicecomb.config.collect.ConfigCenterDefaultDeploymentProvider;
 import org.apache.servicecomb.config.common.ConfigConverter;
 import org.apache.servicecomb.config.common.ConfigurationChangedEvent;
+import org.apache.servicecomb.config.priority.PriorityPropertyManager;
 import org.apache.servicecomb.config.spi.ConfigCenterConfigurationSource;
 import org.apache.servicecomb.deployment.Deployment;
 import org.apache.servicecomb.deployment.SystemBootstrapInfo;
@@ -190,13 +191,16 @@ public class ConfigCenterConfigurationSourceImpl implements ConfigCenterConfigur
         result.getAdded() == null ? "" : result.getAdded().keySet(),
         result.getChanged() == null ? "" : result.getChanged().keySet(),
         result.getDeleted() == null ? "" : result.getDeleted().keySet());
-    for (WatchedUpdateListener l : listeners) {
-      try {
-        l.updateConfiguration(result);
-      } catch (Throwable ex) {
-        LOGGER.error("Error in invoking WatchedUpdateListener", ex);
+    // apply the whole push to priority properties in one pass
+    PriorityPropertyManager.batchUpdate(() -> {
+      for (WatchedUpdateListener l : listeners) {
+        try {
+          l.updateConfiguration(result);
+        } catch (Throwable ex) {
+          LOGGER.error("Error in invoking WatchedUpdateListener", ex);
+        }
       }
-    }
+    });
   }
 
   @Override
@@ -39,6 +39,7 @@ import org.apache.servicecomb.config.kie.client.KieClient;
 import org.apache.servicecomb.config.kie.client.KieConfigManager;
 import org.apache.servicecomb.config.kie.client.model.KieAddressManager;
 import org.apache.servicecomb.config.kie.client.model.KieConfiguration;
+import org.apache.servicecomb.config.priority.PriorityPropertyManager;
 import org.apache.servicecomb.config.spi.ConfigCenterConfigurationSource;
 import org.apache.servicecomb.foundation.auth.AuthHeaderProvider;
 import org.apache.servicecomb.foundation.common.event.EventManager;
@@ -173,13 +174,16 @@ public class KieConfigurationSourceImpl implements ConfigCenterConfigurationSour
         result.getChanged() == null ? "" : result.getChanged().keySet(),
         result.getDeleted() == null ? "" : result.getDeleted().keySet());
 
-    for (WatchedUpdateListener l : listeners) {
-      try {
-        l.updateConfiguration(result);
-      } catch (Throwable ex) {
-        LOGGER.error("Error in invoking WatchedUpdateListener", ex);
+    // apply the whole push to priority properties in one pass
+    PriorityPropertyManager.batchUpdate(() -> {
+      for (WatchedUpdateListener l : listeners) {
+        try {
+          l.updateConfiguration(result);
+        } catch (Throwable ex) {
+          LOGGER.error("Error in invoking WatchedUpdateListener", ex);
+        }
       }
-    }
+    });
   }
 
   @Override
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.edge.core;
+
+import java.io.IOException;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
+import org.apache.servicecomb.common.rest.codec.param.BodyProcessorCreator.BodyProcessor;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.definition.RestParam;
+import org.apache.servicecomb.core.Const;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicPropertyFactory;
+
+/**
+ * <pre>
+ * edge forward json request body and json response body as raw buffer when enabled,
+ * to avoid decode and encode them again.
+ * not pass through when:
+ *   1.accept of the request is not json
+ *   2.content-type of the request is not json and the operation has body parameter
+ *   3.some filter or handler required typed arguments of the operation, by {@link #requireTypedArguments}
+ *
+ * in pass through mode, body in swagger arguments and response result are
+ * {@link org.apache.servicecomb.common.rest.codec.PassThroughBody}
+ * the endpoint is selected after the decision, if it is not a rest endpoint, body is decoded again
+ * by {@link #restoreTypedArguments}, so when enabled and the target may have non-rest endpoints,
+ * {@link BodyPassThroughHandler} or {@link BodyPassThroughFilter} must be configured after load balance
+ * </pre>
+ */
+public final class BodyPassThrough {
+  public static final String KEY_ENABLED = "servicecomb.edge.bodyPassThrough.enabled";
+
+  public static final String EXT_TYPED_ARGUMENTS_REQUIRED = "edge.typedArgumentsRequired";
+
+  private static final DynamicBooleanProperty enabled = DynamicPropertyFactory.getInstance()
+      .getBooleanProperty(KEY_ENABLED, false);
+
+  private BodyPassThrough() {
+  }
+
+  /**
+   * filters and handlers that read or modify body argument or response result of edge invocations
+   * should call this before the operation is invoked
+   */
+  public static void requireTypedArguments(OperationMeta operationMeta) {
+    operationMeta.putExtData(EXT_TYPED_ARGUMENTS_REQUIRED, true);
+  }
+
+  public static boolean isTypedArgumentsRequired(OperationMeta operationMeta) {
+    return operationMeta.getExtData(EXT_TYPED_ARGUMENTS_REQUIRED) != null;
+  }
+
+  public static boolean isPassThrough(RestOperationMeta restOperationMeta, HttpServletRequestEx requestEx) {
+    if (!enabled.get() || isTypedArgumentsRequired(restOperationMeta.getOperationMeta())) {
+      return false;
+    }
+
+    ProduceProcessor produceProcessor = restOperationMeta.ensureFindProduceProcessor(requestEx);
+    if (produceProcessor == null || !MediaType.APPLICATION_JSON.equals(produceProcessor.getName())) {
+      return false;
+    }
+
+    return !hasBodyParameter(restOperationMeta) || PassThroughBody.isJson(requestEx.getContentType());
+  }
+
+  public static void markPassThrough(HttpServletRequestEx requestEx, Invocation invocation) {
+    requestEx.setAttribute(RestConst.BODY_PASS_THROUGH, true);
+    invocation.addLocalContext(RestConst.BODY_PASS_THROUGH, true);
+  }
+
+  /**
+   * only rest transport can write {@link PassThroughBody} directly, for other transports decode it to
+   * typed argument and disable pass through of the response
+   */
+  public static void restoreTypedArguments(Invocation invocation) throws IOException {
+    if (invocation.getLocalContext(RestConst.BODY_PASS_THROUGH) == null
+        || invocation.getEndpoint() == null
+        || Const.RESTFUL.equals(invocation.getEndpoint().getTransport().getName())) {
+      return;
+    }
+
+    invocation.getLocalContext().remove(RestConst.BODY_PASS_THROUGH);
+    RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
+    for (RestParam param : restOperationMeta.getParamList()) {
+      Object arg = invocation.getSwaggerArgument(param.getParamName());
+      if (arg instanceof PassThroughBody && param.getParamProcessor() instanceof BodyProcessor) {
+        Object value = ((BodyProcessor) param.getParamProcessor()).decodePassThroughBody((PassThroughBody) arg);
+        invocation.getSwaggerArguments().put(param.getParamName(), value);
+      }
+    }
+  }
+
+  private static boolean hasBodyParameter(RestOperationMeta restOperationMeta) {
+    for (RestParam param : restOperationMeta.getParamList()) {
+      if (param.getParamProcessor() instanceof BodyProcessor) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
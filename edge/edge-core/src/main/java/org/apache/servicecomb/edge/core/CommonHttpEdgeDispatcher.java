@@ -25,6 +25,7 @@ import org.apache.servicecomb.foundation.common.cache.VersionedCache;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClients;
+import org.apache.servicecomb.foundation.vertx.stream.HttpStreamingProxy;
 import org.apache.servicecomb.loadbalance.ExtensionsManager;
 import org.apache.servicecomb.loadbalance.LoadBalancer;
 import org.apache.servicecomb.loadbalance.LoadbalanceHandler;
@@ -45,7 +46,6 @@ import com.netflix.config.DynamicPropertyFactory;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.ext.web.Router;
@@ -113,7 +113,6 @@ public class CommonHttpEdgeDispatcher extends AbstractEdgeDispatcher {
     });
   }
 
-  @SuppressWarnings("deprecation")
   protected void onRequest(RoutingContext context) {
     URLMappedConfigurationItem configurationItem = findConfigurationItem(context.request().uri());
     if (configurationItem == null) {
@@ -145,7 +144,7 @@ public class CommonHttpEdgeDispatcher extends AbstractEdgeDispatcher {
       return;
     }
 
-    URIEndpointObject endpointObject = new URIEndpointObject(server.getEndpoint().getEndpoint());
+    URIEndpointObject endpointObject = server.getEndpointObject();
 
     RequestOptions requestOptions = new RequestOptions();
     requestOptions.setHost(endpointObject.getHostOrIp())
@@ -159,20 +158,16 @@ public class CommonHttpEdgeDispatcher extends AbstractEdgeDispatcher {
     } else {
       httpClient = HttpClients.getClient(HttpTransportHttpClientOptionsSPI.CLIENT_NAME, false).getHttpClient();
     }
-    HttpClientRequest httpClientRequest = httpClient
-        .request(context.request().method(), requestOptions, httpClientResponse -> {
-          context.response().setStatusCode(httpClientResponse.statusCode());
-          httpClientResponse.headers().forEach((header) -> {
-            context.response().headers().set(header.getKey(), header.getValue());
-          });
-          httpClientResponse.handler(this.responseHandler(context, httpClientResponse));
-          httpClientResponse.endHandler((v) -> context.response().end());
-        });
-    context.request().headers().forEach((header) -> {
-      httpClientRequest.headers().set(header.getKey(), header.getValue());
-    });
-    context.request().handler(data -> httpClientRequest.write(data));
-    context.request().endHandler((v) -> httpClientRequest.end());
+    proxy(context, httpClient, requestOptions);
+  }
+
+  /**
+   * stream request body and response body chunk by chunk, with backpressure in both directions
+   */
+  protected void proxy(RoutingContext context, HttpClient httpClient, RequestOptions requestOptions) {
+    new HttpStreamingProxy(context.request())
+        .responseBodyHandler(httpClientResponse -> responseHandler(context, httpClientResponse))
+        .proxy(httpClient, requestOptions);
   }
 
   protected Handler<Buffer> responseHandler(RoutingContext routingContext, HttpClientResponse httpClientResponse) {
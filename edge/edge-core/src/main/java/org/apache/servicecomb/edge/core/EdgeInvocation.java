@@ -118,6 +118,9 @@ public class EdgeInvocation extends AbstractRestInvocation {
     this.invocation.getHandlerContext().put(EDGE_INVOCATION_CONTEXT, Vertx.currentContext());
     this.invocation.setResponseExecutor(new ReactiveResponseExecutor());
     this.routingContext.put(RestConst.REST_INVOCATION_CONTEXT, invocation);
+    if (BodyPassThrough.isPassThrough(restOperationMeta, requestEx)) {
+      BodyPassThrough.markPassThrough(requestEx, invocation);
+    }
   }
 
   @Override
@@ -90,6 +90,9 @@ public class EdgeInvocationCreator extends RestVertxProducerInvocationCreator {
     invocation.setSync(false);
     invocation.setEdge(true);
     invocation.addLocalContext(EDGE_INVOCATION_CONTEXT, Vertx.currentContext());
+    if (BodyPassThrough.isPassThrough(restOperationMeta, requestEx)) {
+      BodyPassThrough.markPassThrough(requestEx, invocation);
+    }
 
     return invocation;
   }
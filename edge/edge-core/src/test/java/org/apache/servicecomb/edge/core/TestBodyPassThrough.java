@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.edge.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
+import org.apache.servicecomb.common.rest.codec.param.BodyProcessorCreator.BodyProcessor;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
+import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.common.rest.definition.RestParam;
+import org.apache.servicecomb.core.Const;
+import org.apache.servicecomb.core.Endpoint;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.Transport;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.swagger.invocation.AsyncResponse;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+
+public class TestBodyPassThrough {
+  @Mocked
+  RestOperationMeta restOperationMeta;
+
+  @Mocked
+  OperationMeta operationMeta;
+
+  @Mocked
+  HttpServletRequestEx requestEx;
+
+  @Mocked
+  ProduceProcessor produceProcessor;
+
+  @Mocked
+  RestParam bodyParam;
+
+  @Mocked
+  Invocation invocation;
+
+  @Mocked
+  Endpoint endpoint;
+
+  @Mocked
+  Transport transport;
+
+  @Before
+  public void setup() {
+    ArchaiusUtils.setProperty(BodyPassThrough.KEY_ENABLED, true);
+  }
+
+  @After
+  public void teardown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  private void mockOperation(String accept, String contentType) {
+    new Expectations() {
+      {
+        restOperationMeta.getOperationMeta();
+        result = operationMeta;
+        restOperationMeta.ensureFindProduceProcessor(requestEx);
+        result = produceProcessor;
+        produceProcessor.getName();
+        result = accept;
+        restOperationMeta.getParamList();
+        result = Collections.singletonList(bodyParam);
+        bodyParam.getParamProcessor();
+        result = new BodyProcessor(null, false, false);
+        requestEx.getContentType();
+        result = contentType;
+      }
+    };
+  }
+
+  @Test
+  public void disabled() {
+    ArchaiusUtils.setProperty(BodyPassThrough.KEY_ENABLED, false);
+
+    Assert.assertFalse(BodyPassThrough.isPassThrough(restOperationMeta, requestEx));
+  }
+
+  @Test
+  public void jsonRequest() {
+    mockOperation(MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON + ";charset=utf-8");
+
+    Assert.assertTrue(BodyPassThrough.isPassThrough(restOperationMeta, requestEx));
+  }
+
+  @Test
+  public void jsonRequestIgnoreCase() {
+    mockOperation(MediaType.APPLICATION_JSON, "Application/JSON;charset=utf-8");
+
+    Assert.assertTrue(BodyPassThrough.isPassThrough(restOperationMeta, requestEx));
+  }
+
+  @Test
+  public void formRequest() {
+    mockOperation(MediaType.APPLICATION_JSON, MediaType.APPLICATION_FORM_URLENCODED);
+
+    Assert.assertFalse(BodyPassThrough.isPassThrough(restOperationMeta, requestEx));
+  }
+
+  @Test
+  public void acceptNotJson() {
+    new Expectations() {
+      {
+        restOperationMeta.ensureFindProduceProcessor(requestEx);
+        result = produceProcessor;
+        produceProcessor.getName();
+        result = MediaType.TEXT_PLAIN;
+      }
+    };
+
+    Assert.assertFalse(BodyPassThrough.isPassThrough(restOperationMeta, requestEx));
+  }
+
+  @Test
+  public void typedArgumentsRequired() {
+    new Expectations() {
+      {
+        restOperationMeta.getOperationMeta();
+        result = operationMeta;
+        operationMeta.getExtData(BodyPassThrough.EXT_TYPED_ARGUMENTS_REQUIRED);
+        result = true;
+      }
+    };
+
+    Assert.assertFalse(BodyPassThrough.isPassThrough(restOperationMeta, requestEx));
+  }
+
+  private void mockEndpoint(String transportName) {
+    new Expectations() {
+      {
+        invocation.getLocalContext(RestConst.BODY_PASS_THROUGH);
+        result = true;
+        invocation.getEndpoint();
+        result = endpoint;
+        endpoint.getTransport();
+        result = transport;
+        transport.getName();
+        result = transportName;
+      }
+    };
+  }
+
+  @Test
+  public void restoreTypedArguments_restEndpoint() throws Exception {
+    mockEndpoint(Const.RESTFUL);
+
+    BodyPassThrough.restoreTypedArguments(invocation);
+
+    new Verifications() {
+      {
+        invocation.getSwaggerArguments();
+        times = 0;
+      }
+    };
+  }
+
+  @Test
+  public void restoreTypedArguments_highwayEndpoint() throws Exception {
+    mockEndpoint(Const.HIGHWAY);
+    Map<String, Object> localContext = new HashMap<>();
+    localContext.put(RestConst.BODY_PASS_THROUGH, true);
+    Map<String, Object> swaggerArguments = new HashMap<>();
+    PassThroughBody body = new PassThroughBody(MediaType.APPLICATION_JSON, Buffer.buffer("{\"name\":\"n\"}"));
+    swaggerArguments.put("body", body);
+    new Expectations() {
+      {
+        invocation.getLocalContext();
+        result = localContext;
+        invocation.getOperationMeta();
+        result = operationMeta;
+        operationMeta.getExtData(RestConst.SWAGGER_REST_OPERATION);
+        result = restOperationMeta;
+        restOperationMeta.getParamList();
+        result = Collections.singletonList(bodyParam);
+        bodyParam.getParamName();
+        result = "body";
+        bodyParam.getParamProcessor();
+        result = new BodyProcessor(null, false, false);
+        invocation.getSwaggerArgument("body");
+        result = body;
+        invocation.getSwaggerArguments();
+        result = swaggerArguments;
+      }
+    };
+
+    BodyPassThrough.restoreTypedArguments(invocation);
+
+    Assert.assertEquals(Collections.singletonMap("name", "n"), swaggerArguments.get("body"));
+    Assert.assertNull(localContext.get(RestConst.BODY_PASS_THROUGH));
+  }
+
+  @Test
+  public void handlerInvokeNext(@Mocked AsyncResponse asyncResp) throws Exception {
+    mockEndpoint(Const.RESTFUL);
+
+    new BodyPassThroughHandler().handle(invocation, asyncResp);
+
+    new Verifications() {
+      {
+        invocation.next(asyncResp);
+        times = 1;
+      }
+    };
+  }
+
+  @Test
+  public void filterInvokeNext(@Mocked FilterNode nextNode) {
+    mockEndpoint(Const.RESTFUL);
+
+    new BodyPassThroughFilter().onFilter(invocation, nextNode);
+
+    new Verifications() {
+      {
+        nextNode.onFilter(invocation);
+        times = 1;
+      }
+    };
+  }
+}
@@ -34,9 +34,17 @@ public class ConfigObjectProperty {
     this.property = property;
   }
 
+  public PriorityProperty<?> getProperty() {
+    return property;
+  }
+
   public void updateValueWhenChanged(Object instance, @Nullable String changedKey) {
     if (property.isChangedKey(changedKey)) {
-      setter.set(instance, property.getValue());
+      updateValue(instance);
     }
   }
+
+  public void updateValue(Object instance) {
+    setter.set(instance, property.getValue());
+  }
 }
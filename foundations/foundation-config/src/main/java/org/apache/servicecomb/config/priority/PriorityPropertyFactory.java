@@ -18,7 +18,12 @@
 package org.apache.servicecomb.config.priority;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import javax.annotation.PreDestroy;
@@ -30,6 +35,7 @@ import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.springframework.stereotype.Component;
 
 import com.netflix.config.ConfigurationManager;
+import com.netflix.config.DynamicProperty;
 
 @Component
 public class PriorityPropertyFactory {
@@ -42,6 +48,10 @@ public class PriorityPropertyFactory {
   // will not cause OOM exception
   private final Map<PriorityPropertyType<?>, PriorityProperty<?>> properties = new ConcurrentHashMapEx<>();
 
+  // key is config key of priority keys
+  // value is properties that use the key
+  private final Map<String, Set<PriorityProperty<?>>> keyIndex = new ConcurrentHashMapEx<>();
+
   public PriorityPropertyFactory() {
     this.configuration = ConfigurationManager.getConfigInstance();
     this.configuration.addConfigurationListener(configurationListener);
@@ -57,17 +67,55 @@ public class PriorityPropertyFactory {
   }
 
   private void configurationListener(ConfigurationEvent event) {
-    if (event.isBeforeUpdate()) {
+    if (event.isBeforeUpdate() || PriorityPropertyManager.collectBatchChangedKey(event.getPropertyName())) {
       return;
     }
 
-    // just update all properties, it's very fast, no need to do any optimize
-    getProperties().forEach(PriorityProperty::updateValue);
+    updateValues(Collections.singletonList(event.getPropertyName()));
+  }
+
+  /**
+   * @param changedKeys null element means property source changed or cleared, and so on
+   * @return properties related to the changed keys
+   */
+  public Set<PriorityProperty<?>> findProperties(Collection<String> changedKeys) {
+    Set<PriorityProperty<?>> result = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (String changedKey : changedKeys) {
+      if (changedKey == null) {
+        result.addAll(properties.values());
+        return result;
+      }
+
+      Set<PriorityProperty<?>> keyProperties = keyIndex.get(changedKey);
+      if (keyProperties != null) {
+        result.addAll(keyProperties);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * every related property only update once
+   * @return related properties
+   */
+  public Set<PriorityProperty<?>> updateValues(Collection<String> changedKeys) {
+    Set<PriorityProperty<?>> relatedProperties = findProperties(changedKeys);
+    relatedProperties.forEach(PriorityProperty::updateValue);
+    return relatedProperties;
   }
 
   @SuppressWarnings("unchecked")
   public <T> PriorityProperty<T> getOrCreate(Type type, T invalidValue, T defaultValue, String... priorityKeys) {
     PriorityPropertyType<T> propertyType = new PriorityPropertyType<>(type, invalidValue, defaultValue, priorityKeys);
-    return (PriorityProperty<T>) properties.computeIfAbsent(propertyType, PriorityProperty::new);
+    return (PriorityProperty<T>) properties.computeIfAbsent(propertyType, this::createProperty);
+  }
+
+  private <T> PriorityProperty<T> createProperty(PriorityPropertyType<T> propertyType) {
+    PriorityProperty<T> property = new PriorityProperty<>(propertyType);
+    for (DynamicProperty dynamicProperty : property.getProperties()) {
+      keyIndex.computeIfAbsent(dynamicProperty.getName(), key -> ConcurrentHashMap.newKeySet())
+          .add(property);
+    }
+    return property;
   }
 }
@@ -18,21 +18,36 @@ package org.apache.servicecomb.config.priority;
 
 import static java.util.Collections.synchronizedMap;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.WeakHashMap;
 
 import org.apache.commons.configuration.AbstractConfiguration;
 import org.apache.commons.configuration.event.ConfigurationEvent;
 import org.apache.commons.configuration.event.ConfigurationListener;
+import org.apache.servicecomb.config.event.ConfigObjectsUpdatedEvent;
+import org.apache.servicecomb.config.event.ConfigurationKeysChangedEvent;
+import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.springframework.stereotype.Component;
 
+import com.google.common.eventbus.Subscribe;
 import com.netflix.config.ConfigurationManager;
+import com.netflix.config.DynamicProperty;
 
 @Component
 public class PriorityPropertyManager {
+  // not null while a batch update is running in the thread
+  // per-key listeners only collect changed keys into it
+  private static final ThreadLocal<Set<String>> BATCH_CHANGED_KEYS = new ThreadLocal<>();
+
   private final AbstractConfiguration configuration;
 
   private final ConfigurationListener configurationListener = this::configurationListener;
@@ -43,11 +58,53 @@ public class PriorityPropertyManager {
   // value is properties of the config object instance
   private final Map<Object, List<ConfigObjectProperty>> configObjectMap = synchronizedMap(new WeakHashMap<>());
 
+  // key is config key of priority keys
+  // value is config object instances and their properties that use the key
+  // guarded by this
+  private final Map<String, Map<Object, Set<ConfigObjectProperty>>> keyIndex = new HashMap<>();
+
   public PriorityPropertyManager(ConfigObjectFactory configObjectFactory) {
     this.configuration = ConfigurationManager.getConfigInstance();
     this.configuration.addConfigurationListener(configurationListener);
 
     this.configObjectFactory = configObjectFactory;
+    EventManager.register(this);
+  }
+
+  /**
+   * run a whole push of config center as one batch<br>
+   * per-key listeners of PriorityPropertyFactory and PriorityPropertyManager are suppressed during the update,
+   * and the changed keys are applied in one pass after it
+   */
+  public static void batchUpdate(Runnable update) {
+    if (BATCH_CHANGED_KEYS.get() != null) {
+      update.run();
+      return;
+    }
+
+    Set<String> changedKeys = new HashSet<>();
+    BATCH_CHANGED_KEYS.set(changedKeys);
+    try {
+      update.run();
+    } finally {
+      BATCH_CHANGED_KEYS.remove();
+      if (!changedKeys.isEmpty()) {
+        EventManager.post(new ConfigurationKeysChangedEvent(changedKeys));
+      }
+    }
+  }
+
+  /**
+   * @return true if collected by a running batch update, and should not be applied now
+   */
+  static boolean collectBatchChangedKey(String changedKey) {
+    Set<String> changedKeys = BATCH_CHANGED_KEYS.get();
+    if (changedKeys == null) {
+      return false;
+    }
+
+    changedKeys.add(changedKey);
+    return true;
   }
 
   public PriorityPropertyFactory getPropertyFactory() {
@@ -56,20 +113,69 @@ public class PriorityPropertyManager {
 
   public void close() {
     configuration.removeConfigurationListener(configurationListener);
+    EventManager.unregister(this);
   }
 
   public synchronized void configurationListener(ConfigurationEvent event) {
-    if (event.isBeforeUpdate()) {
+    if (event.isBeforeUpdate() || collectBatchChangedKey(event.getPropertyName())) {
       return;
     }
 
-    // just loop all properties, it's very fast, no need to do any optimize
-    for (Entry<Object, List<ConfigObjectProperty>> entry : configObjectMap.entrySet()) {
+    // values of priority properties are already updated by listener of PriorityPropertyFactory
+    updateConfigObjects(Collections.singletonList(event.getPropertyName()), System.nanoTime());
+  }
+
+  @Subscribe
+  public void onConfigurationKeysChanged(ConfigurationKeysChangedEvent event) {
+    configurationChanged(event.getChangedKeys());
+  }
+
+  /**
+   * apply a batch of changed keys in one pass, every related property only update once
+   *
+   * @param changedKeys null element means property source changed or cleared, and so on
+   */
+  public synchronized void configurationChanged(Collection<String> changedKeys) {
+    long start = System.nanoTime();
+    getPropertyFactory().updateValues(changedKeys);
+    updateConfigObjects(changedKeys, start);
+  }
+
+  private void updateConfigObjects(Collection<String> changedKeys, long start) {
+    Map<Object, Set<ConfigObjectProperty>> relatedObjects = findConfigObjects(changedKeys);
+    int updatedProperties = 0;
+    for (Entry<Object, Set<ConfigObjectProperty>> entry : relatedObjects.entrySet()) {
       Object instance = entry.getKey();
-      entry.getValue()
-          .forEach(
-              configObjectProperty -> configObjectProperty.updateValueWhenChanged(instance, event.getPropertyName()));
+      for (ConfigObjectProperty configObjectProperty : entry.getValue()) {
+        configObjectProperty.updateValue(instance);
+        updatedProperties++;
+      }
     }
+
+    EventManager.post(new ConfigObjectsUpdatedEvent(changedKeys.size(), updatedProperties, System.nanoTime() - start));
+  }
+
+  private Map<Object, Set<ConfigObjectProperty>> findConfigObjects(Collection<String> changedKeys) {
+    Map<Object, Set<ConfigObjectProperty>> relatedObjects = new IdentityHashMap<>();
+    for (String changedKey : changedKeys) {
+      if (changedKey == null) {
+        relatedObjects.clear();
+        synchronized (configObjectMap) {
+          configObjectMap.forEach((instance, properties) ->
+              relatedObjects.put(instance, new LinkedHashSet<>(properties)));
+        }
+        return relatedObjects;
+      }
+
+      Map<Object, Set<ConfigObjectProperty>> keyObjects = keyIndex.get(changedKey);
+      if (keyObjects == null) {
+        continue;
+      }
+
+      keyObjects.forEach((instance, properties) ->
+          relatedObjects.computeIfAbsent(instance, k -> new LinkedHashSet<>()).addAll(properties));
+    }
+    return relatedObjects;
   }
 
   public Map<Object, List<ConfigObjectProperty>> getConfigObjectMap() {
@@ -95,8 +201,16 @@ public class PriorityPropertyManager {
     return saveConfigObject(configObject);
   }
 
-  private <T> T saveConfigObject(ConfigObject<T> configObject) {
-    configObjectMap.put(configObject.getInstance(), configObject.getProperties());
-    return configObject.getInstance();
+  private synchronized <T> T saveConfigObject(ConfigObject<T> configObject) {
+    T instance = configObject.getInstance();
+    configObjectMap.put(instance, configObject.getProperties());
+    for (ConfigObjectProperty configObjectProperty : configObject.getProperties()) {
+      for (DynamicProperty property : configObjectProperty.getProperty().getProperties()) {
+        keyIndex.computeIfAbsent(property.getName(), key -> new WeakHashMap<>())
+            .computeIfAbsent(instance, key -> new LinkedHashSet<>())
+            .add(configObjectProperty);
+      }
+    }
+    return instance;
   }
 }
@@ -48,6 +48,7 @@ public class TestPriorityPropertyBase {
 
   @AfterEach
   public void teardown() {
+    priorityPropertyManager.close();
     ArchaiusUtils.resetConfig();
   }
 }
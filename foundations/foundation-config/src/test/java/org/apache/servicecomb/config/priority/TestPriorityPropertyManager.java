@@ -17,13 +17,21 @@
 
 package org.apache.servicecomb.config.priority;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.config.event.ConfigObjectsUpdatedEvent;
 import org.apache.servicecomb.config.inject.InjectProperties;
 import org.apache.servicecomb.config.inject.InjectProperty;
 import org.apache.servicecomb.config.inject.TestConfigObjectFactory;
+import org.apache.servicecomb.foundation.common.event.EventManager;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.eventbus.Subscribe;
 import com.netflix.config.DynamicProperty;
 
 public class TestPriorityPropertyManager extends TestPriorityPropertyBase {
@@ -82,4 +90,72 @@ public class TestPriorityPropertyManager extends TestPriorityPropertyBase {
 
     System.out.println("Token : " + (System.currentTimeMillis() - timeBegin));
   }
+
+  public static class UpdatedEventCollector {
+    List<ConfigObjectsUpdatedEvent> events = new ArrayList<>();
+
+    @Subscribe
+    public void onConfigObjectsUpdated(ConfigObjectsUpdatedEvent event) {
+      events.add(event);
+    }
+  }
+
+  @Test
+  public void testOnlyUpdateRelatedProperties() {
+    ConfigWithAnnotation configWithAnnotation = priorityPropertyManager.createConfigObject(ConfigWithAnnotation.class);
+    TestConfigObjectFactory.ConfigWithAnnotation other = priorityPropertyManager.createConfigObject(
+        TestConfigObjectFactory.ConfigWithAnnotation.class);
+    UpdatedEventCollector collector = new UpdatedEventCollector();
+    EventManager.register(collector);
+
+    try {
+      ArchaiusUtils.setProperty("override.low", "low");
+      Assert.assertEquals("low", configWithAnnotation.strValue);
+      Assert.assertEquals(1, collector.events.get(collector.events.size() - 1).getUpdatedProperties());
+
+      ArchaiusUtils.setProperty("override.high", "high");
+      Assert.assertEquals("high", configWithAnnotation.strValue);
+
+      // keys of same property in one batch, only update once
+      collector.events.clear();
+      priorityPropertyManager.configurationChanged(Arrays.asList("override.high", "override.low", "not.exist"));
+      Assert.assertEquals(1, collector.events.size());
+      Assert.assertEquals(3, collector.events.get(0).getChangedKeys());
+      Assert.assertEquals(1, collector.events.get(0).getUpdatedProperties());
+
+      collector.events.clear();
+      priorityPropertyManager.configurationChanged(Arrays.asList("not.exist"));
+      Assert.assertEquals(0, collector.events.get(0).getUpdatedProperties());
+
+      // null key means all properties
+      collector.events.clear();
+      priorityPropertyManager.configurationChanged(Arrays.asList((String) null));
+      Assert.assertEquals(1 + priorityPropertyManager.getConfigObjectMap().get(other).size(),
+          collector.events.get(0).getUpdatedProperties());
+    } finally {
+      EventManager.unregister(collector);
+    }
+  }
+
+  @Test
+  public void testBatchUpdate() {
+    ConfigWithAnnotation configWithAnnotation = priorityPropertyManager.createConfigObject(ConfigWithAnnotation.class);
+    UpdatedEventCollector collector = new UpdatedEventCollector();
+    EventManager.register(collector);
+
+    try {
+      PriorityPropertyManager.batchUpdate(() -> {
+        ArchaiusUtils.setProperty("override.low", "low");
+        ArchaiusUtils.setProperty("override.high", "high");
+        // per-key listeners are suppressed
+        Assert.assertNull(configWithAnnotation.strValue);
+        Assert.assertTrue(collector.events.isEmpty());
+      });
+
+      Assert.assertEquals("high", configWithAnnotation.strValue);
+      Assert.assertEquals(1, collector.events.stream().mapToInt(ConfigObjectsUpdatedEvent::getUpdatedProperties).sum());
+    } finally {
+      EventManager.unregister(collector);
+    }
+  }
 }
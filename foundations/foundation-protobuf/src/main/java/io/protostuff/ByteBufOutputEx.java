@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.protostuff;
+
+import static io.protostuff.ProtobufOutputEx.encodeZigZag32;
+import static io.protostuff.ProtobufOutputEx.encodeZigZag64;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Protobuf serialization directly into a netty {@link ByteBuf}, usually a pooled one.<br>
+ * <br>
+ * {@link ProtobufOutputEx} buffers nested messages in {@link LinkedBuffer} chains, because size of a nested message
+ * is unknown until it's written, then all chains are copied to the target.<br>
+ * ByteBufOutputEx works in two passes instead:
+ * <pre>
+ * 1.{@link #computeSize(SchemaWriter, Object)}
+ *   walk through the messages, compute size of them and all nested messages, nothing is written
+ * 2.{@link #output(ByteBuf)} and {@link #write(SchemaWriter, Object)}
+ *   write the same messages in the same order, nested sizes are known, so everything is written in place
+ * </pre>
+ * so the caller is able to allocate the target with the exact size.<br>
+ * <br>
+ * instance is not thread safe, can be reused after {@link #clear()}
+ */
+public final class ByteBufOutputEx implements OutputEx {
+  private final SizeComputingOutputEx sizeComputer = new SizeComputingOutputEx();
+
+  private ByteBuf byteBuf;
+
+  private int nestedIndex;
+
+  /**
+   * can be invoked multiple times, for multiple messages
+   * @return size of the message
+   */
+  public <T> int computeSize(SchemaWriter<T> schemaWriter, T value) throws IOException {
+    int lastSize = sizeComputer.getSize();
+    schemaWriter.writeTo(sizeComputer, value);
+    return sizeComputer.getSize() - lastSize;
+  }
+
+  public ByteBufOutputEx output(ByteBuf byteBuf) {
+    this.byteBuf = byteBuf;
+    return this;
+  }
+
+  public ByteBuf getByteBuf() {
+    return byteBuf;
+  }
+
+  /**
+   * messages must be same to and in the same order of {@link #computeSize(SchemaWriter, Object)}
+   */
+  public <T> void write(SchemaWriter<T> schemaWriter, T value) throws IOException {
+    schemaWriter.writeTo(this, value);
+  }
+
+  /**
+   * Resets this output for re-use.
+   */
+  public ByteBufOutputEx clear() {
+    sizeComputer.clear();
+    byteBuf = null;
+    nestedIndex = 0;
+    return this;
+  }
+
+  private void writeRawVarInt32(int value) {
+    while ((value & ~0x7F) != 0) {
+      byteBuf.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    byteBuf.writeByte(value);
+  }
+
+  private void writeRawVarInt64(long value) {
+    while ((value & ~0x7FL) != 0) {
+      byteBuf.writeByte(((int) value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    byteBuf.writeByte((int) value);
+  }
+
+  @Override
+  public void writeInt32(int tag, int tagSize, int value) {
+    writeRawVarInt32(tag);
+    if (value < 0) {
+      writeRawVarInt64(value);
+      return;
+    }
+
+    writeRawVarInt32(value);
+  }
+
+  @Override
+  public void writeUInt32(int tag, int tagSize, int value) {
+    writeRawVarInt32(tag);
+    writeRawVarInt32(value);
+  }
+
+  @Override
+  public void writeSInt32(int tag, int tagSize, int value) {
+    writeRawVarInt32(tag);
+    writeRawVarInt32(encodeZigZag32(value));
+  }
+
+  @Override
+  public void writeFixed32(int tag, int tagSize, int value) {
+    writeRawVarInt32(tag);
+    byteBuf.writeIntLE(value);
+  }
+
+  @Override
+  public void writeSFixed32(int tag, int tagSize, int value) {
+    writeFixed32(tag, tagSize, value);
+  }
+
+  @Override
+  public void writeInt64(int tag, int tagSize, long value) {
+    writeRawVarInt32(tag);
+    writeRawVarInt64(value);
+  }
+
+  @Override
+  public void writeUInt64(int tag, int tagSize, long value) {
+    writeInt64(tag, tagSize, value);
+  }
+
+  @Override
+  public void writeSInt64(int tag, int tagSize, long value) {
+    writeInt64(tag, tagSize, encodeZigZag64(value));
+  }
+
+  @Override
+  public void writeFixed64(int tag, int tagSize, long value) {
+    writeRawVarInt32(tag);
+    byteBuf.writeLongLE(value);
+  }
+
+  @Override
+  public void writeSFixed64(int tag, int tagSize, long value) {
+    writeFixed64(tag, tagSize, value);
+  }
+
+  @Override
+  public void writeFloat(int tag, int tagSize, float value) {
+    writeFixed32(tag, tagSize, Float.floatToRawIntBits(value));
+  }
+
+  @Override
+  public void writeDouble(int tag, int tagSize, double value) {
+    writeFixed64(tag, tagSize, Double.doubleToRawLongBits(value));
+  }
+
+  @Override
+  public void writeBool(int tag, int tagSize, boolean value) {
+    writeRawVarInt32(tag);
+    byteBuf.writeByte(value ? 1 : 0);
+  }
+
+  @Override
+  public void writeEnum(int tag, int tagSize, int value) {
+    writeInt32(tag, tagSize, value);
+  }
+
+  @Override
+  public void writeString(int tag, int tagSize, String value) {
+    int length = ByteBufUtil.utf8Bytes(value);
+    writeRawVarInt32(tag);
+    writeRawVarInt32(length);
+    ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+  }
+
+  @Override
+  public void writeBytes(int tag, int tagSize, ByteString value) {
+    writeByteArray(tag, tagSize, value.getBytes());
+  }
+
+  @Override
+  public void writeByteArray(int tag, int tagSize, byte[] value) {
+    writeByteRange(false, tag, tagSize, value, 0, value.length);
+  }
+
+  @Override
+  public void writeByteRange(boolean utf8String, int tag, int tagSize, byte[] value, int offset, int length) {
+    writeRawVarInt32(tag);
+    writeRawVarInt32(length);
+    byteBuf.writeBytes(value, offset, length);
+  }
+
+  @Override
+  public <T> void writeObject(int tag, int tagSize, T value, SchemaWriter<T> schemaWriter) throws IOException {
+    int msgSize = sizeComputer.getNestedSize(nestedIndex++);
+    writeRawVarInt32(tag);
+    writeRawVarInt32(msgSize);
+
+    int lastWriterIndex = byteBuf.writerIndex();
+    schemaWriter.writeTo(this, value);
+    if (byteBuf.writerIndex() - lastWriterIndex != msgSize) {
+      throw new IllegalStateException(String.format(
+          "nested message changed after size computed, expected size=%d, actual size=%d.",
+          msgSize, byteBuf.writerIndex() - lastWriterIndex));
+    }
+  }
+
+  @Override
+  public void writeBytes(int tag, int tagSize, ByteBuffer value) {
+    writeByteRange(false, tag, tagSize, value.array(), value.arrayOffset() + value.position(), value.remaining());
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    return ByteBufUtil.getBytes(byteBuf);
+  }
+
+  @Override
+  public void writePackedInt32(int value) {
+    if (value >= 0) {
+      writeRawVarInt32(value);
+      return;
+    }
+
+    writeRawVarInt64(value);
+  }
+
+  @Override
+  public void writeScalarInt32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeInt32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarInt64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeInt64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedUInt32(int value) {
+    writeRawVarInt32(value);
+  }
+
+  @Override
+  public void writeScalarUInt32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeUInt32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedUInt64(long value) {
+    writeRawVarInt64(value);
+  }
+
+  @Override
+  public void writeScalarUInt64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeUInt64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedSInt32(int value) {
+    writeRawVarInt32(encodeZigZag32(value));
+  }
+
+  @Override
+  public void writeScalarSInt32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeSInt32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarSInt64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeSInt64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedFixed32(int value) {
+    byteBuf.writeIntLE(value);
+  }
+
+  @Override
+  public void writeScalarFixed32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeFixed32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedFixed64(long value) {
+    byteBuf.writeLongLE(value);
+  }
+
+  @Override
+  public void writeScalarFixed64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeFixed64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarSFixed32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeSFixed32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarSFixed64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeSFixed64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarFloat(int tag, int tagSize, float value) {
+    if (value != 0) {
+      writeFloat(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarDouble(int tag, int tagSize, double value) {
+    if (value != 0) {
+      writeDouble(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedBool(boolean value) {
+    byteBuf.writeByte(value ? 1 : 0);
+  }
+
+  @Override
+  public void writeScalarBool(int tag, int tagSize, boolean value) {
+    if (value) {
+      writeBool(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarEnum(int tag, int tagSize, int value) {
+    writeScalarInt32(tag, tagSize, value);
+  }
+
+  @Override
+  public void writeScalarString(int tag, int tagSize, String value) {
+    if (!value.isEmpty()) {
+      writeString(tag, tagSize, value);
+    }
+  }
+}
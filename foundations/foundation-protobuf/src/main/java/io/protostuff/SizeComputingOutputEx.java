@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.protostuff;
+
+import static io.protostuff.ProtobufOutputEx.LITTLE_ENDIAN_32_SIZE;
+import static io.protostuff.ProtobufOutputEx.LITTLE_ENDIAN_64_SIZE;
+import static io.protostuff.ProtobufOutputEx.computeRawVarint32Size;
+import static io.protostuff.ProtobufOutputEx.computeRawVarint64Size;
+import static io.protostuff.ProtobufOutputEx.encodeZigZag32;
+import static io.protostuff.ProtobufOutputEx.encodeZigZag64;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * first pass of {@link ByteBufOutputEx}<br>
+ * nothing is written, only compute size of messages, and remember size of nested messages
+ * in the order of {@link #writeObject(int, int, Object, SchemaWriter)} invoked
+ */
+final class SizeComputingOutputEx implements OutputEx {
+  private static final int INIT_NESTED_CAPACITY = 16;
+
+  // avoid keep a huge array in reused instance after serialized a huge message
+  private static final int MAX_KEPT_NESTED_CAPACITY = 4096;
+
+  private int size;
+
+  private int[] nestedSizes = new int[INIT_NESTED_CAPACITY];
+
+  private int nestedCount;
+
+  public int getSize() {
+    return size;
+  }
+
+  public int getNestedCount() {
+    return nestedCount;
+  }
+
+  public int getNestedSize(int idx) {
+    if (idx >= nestedCount) {
+      throw new IllegalStateException("nested messages changed after size computed.");
+    }
+    return nestedSizes[idx];
+  }
+
+  public void clear() {
+    size = 0;
+    nestedCount = 0;
+    if (nestedSizes.length > MAX_KEPT_NESTED_CAPACITY) {
+      nestedSizes = new int[INIT_NESTED_CAPACITY];
+    }
+  }
+
+  private int reserveNestedSize() {
+    if (nestedCount == nestedSizes.length) {
+      nestedSizes = Arrays.copyOf(nestedSizes, nestedSizes.length << 1);
+    }
+    return nestedCount++;
+  }
+
+  private void addVarInt32(int tagSize, int value) {
+    size += tagSize + computeRawVarint32Size(value);
+  }
+
+  private void addVarInt64(int tagSize, long value) {
+    size += tagSize + computeRawVarint64Size(value);
+  }
+
+  private void addDelimited(int tagSize, int length) {
+    size += tagSize + computeRawVarint32Size(length) + length;
+  }
+
+  @Override
+  public void writeInt32(int tag, int tagSize, int value) {
+    if (value < 0) {
+      addVarInt64(tagSize, value);
+      return;
+    }
+
+    addVarInt32(tagSize, value);
+  }
+
+  @Override
+  public void writeUInt32(int tag, int tagSize, int value) {
+    addVarInt32(tagSize, value);
+  }
+
+  @Override
+  public void writeSInt32(int tag, int tagSize, int value) {
+    addVarInt32(tagSize, encodeZigZag32(value));
+  }
+
+  @Override
+  public void writeFixed32(int tag, int tagSize, int value) {
+    size += tagSize + LITTLE_ENDIAN_32_SIZE;
+  }
+
+  @Override
+  public void writeSFixed32(int tag, int tagSize, int value) {
+    size += tagSize + LITTLE_ENDIAN_32_SIZE;
+  }
+
+  @Override
+  public void writeInt64(int tag, int tagSize, long value) {
+    addVarInt64(tagSize, value);
+  }
+
+  @Override
+  public void writeUInt64(int tag, int tagSize, long value) {
+    addVarInt64(tagSize, value);
+  }
+
+  @Override
+  public void writeSInt64(int tag, int tagSize, long value) {
+    addVarInt64(tagSize, encodeZigZag64(value));
+  }
+
+  @Override
+  public void writeFixed64(int tag, int tagSize, long value) {
+    size += tagSize + LITTLE_ENDIAN_64_SIZE;
+  }
+
+  @Override
+  public void writeSFixed64(int tag, int tagSize, long value) {
+    size += tagSize + LITTLE_ENDIAN_64_SIZE;
+  }
+
+  @Override
+  public void writeFloat(int tag, int tagSize, float value) {
+    size += tagSize + LITTLE_ENDIAN_32_SIZE;
+  }
+
+  @Override
+  public void writeDouble(int tag, int tagSize, double value) {
+    size += tagSize + LITTLE_ENDIAN_64_SIZE;
+  }
+
+  @Override
+  public void writeBool(int tag, int tagSize, boolean value) {
+    size += tagSize + 1;
+  }
+
+  @Override
+  public void writeEnum(int tag, int tagSize, int value) {
+    writeInt32(tag, tagSize, value);
+  }
+
+  @Override
+  public void writeString(int tag, int tagSize, String value) {
+    addDelimited(tagSize, ByteBufUtil.utf8Bytes(value));
+  }
+
+  @Override
+  public void writeBytes(int tag, int tagSize, ByteString value) {
+    addDelimited(tagSize, value.size());
+  }
+
+  @Override
+  public void writeByteArray(int tag, int tagSize, byte[] value) {
+    addDelimited(tagSize, value.length);
+  }
+
+  @Override
+  public void writeByteRange(boolean utf8String, int tag, int tagSize, byte[] value, int offset, int length) {
+    addDelimited(tagSize, length);
+  }
+
+  @Override
+  public <T> void writeObject(int tag, int tagSize, T value, SchemaWriter<T> schemaWriter) throws IOException {
+    int idx = reserveNestedSize();
+    int lastSize = size;
+
+    schemaWriter.writeTo(this, value);
+
+    int msgSize = size - lastSize;
+    nestedSizes[idx] = msgSize;
+    size += tagSize + computeRawVarint32Size(msgSize);
+  }
+
+  @Override
+  public void writeBytes(int tag, int tagSize, ByteBuffer value) {
+    addDelimited(tagSize, value.remaining());
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void writePackedInt32(int value) {
+    if (value >= 0) {
+      addVarInt32(0, value);
+      return;
+    }
+
+    addVarInt64(0, value);
+  }
+
+  @Override
+  public void writeScalarInt32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeInt32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarInt64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeInt64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedUInt32(int value) {
+    addVarInt32(0, value);
+  }
+
+  @Override
+  public void writeScalarUInt32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeUInt32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedUInt64(long value) {
+    addVarInt64(0, value);
+  }
+
+  @Override
+  public void writeScalarUInt64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeUInt64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedSInt32(int value) {
+    addVarInt32(0, encodeZigZag32(value));
+  }
+
+  @Override
+  public void writeScalarSInt32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeSInt32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarSInt64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeSInt64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedFixed32(int value) {
+    size += LITTLE_ENDIAN_32_SIZE;
+  }
+
+  @Override
+  public void writeScalarFixed32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeFixed32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedFixed64(long value) {
+    size += LITTLE_ENDIAN_64_SIZE;
+  }
+
+  @Override
+  public void writeScalarFixed64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeFixed64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarSFixed32(int tag, int tagSize, int value) {
+    if (value != 0) {
+      writeSFixed32(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarSFixed64(int tag, int tagSize, long value) {
+    if (value != 0) {
+      writeSFixed64(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarFloat(int tag, int tagSize, float value) {
+    if (value != 0) {
+      writeFloat(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarDouble(int tag, int tagSize, double value) {
+    if (value != 0) {
+      writeDouble(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writePackedBool(boolean value) {
+    size++;
+  }
+
+  @Override
+  public void writeScalarBool(int tag, int tagSize, boolean value) {
+    if (value) {
+      writeBool(tag, tagSize, value);
+    }
+  }
+
+  @Override
+  public void writeScalarEnum(int tag, int tagSize, int value) {
+    writeScalarInt32(tag, tagSize, value);
+  }
+
+  @Override
+  public void writeScalarString(int tag, int tagSize, String value) {
+    if (!value.isEmpty()) {
+      writeString(tag, tagSize, value);
+    }
+  }
+}
@@ -17,8 +17,10 @@
 package org.apache.servicecomb.foundation.protobuf;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import io.protostuff.ByteArrayInputEx;
+import io.protostuff.ByteBufferInputEx;
 import io.protostuff.InputEx;
 import io.protostuff.SchemaEx;
 
@@ -29,6 +31,14 @@ public class RootDeserializer<T> {
     this.schema = schema;
   }
 
+  public static InputEx createInput(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return new ByteArrayInputEx(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+
+    return new ByteBufferInputEx(buffer);
+  }
+
   public SchemaEx<T> getSchema() {
     return schema;
   }
@@ -37,9 +47,19 @@ public class RootDeserializer<T> {
     this.schema = schema;
   }
 
-  @SuppressWarnings("unchecked")
   public T deserialize(byte[] bytes) throws IOException {
-    InputEx input = new ByteArrayInputEx(bytes);
+    return deserialize(new ByteArrayInputEx(bytes));
+  }
+
+  /**
+   * read from position to limit of the buffer, without copy data to a byte array<br>
+   * position and limit of the buffer will not be changed
+   */
+  public T deserialize(ByteBuffer buffer) throws IOException {
+    return deserialize(createInput(buffer));
+  }
+
+  public T deserialize(InputEx input) throws IOException {
     T instance = schema.newMessage();
     schema.mergeFrom(input, instance);
     return instance;
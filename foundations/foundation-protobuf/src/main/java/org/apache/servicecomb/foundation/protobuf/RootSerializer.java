@@ -19,6 +19,7 @@ package org.apache.servicecomb.foundation.protobuf;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import io.protostuff.ByteBufOutputEx;
 import io.protostuff.ProtobufOutputEx;
 import io.protostuff.SchemaEx;
 
@@ -44,4 +45,23 @@ public class RootSerializer {
     }
     output.toOutputStream(outputStream);
   }
+
+  /**
+   * first pass of serializing into a ByteBuf, see {@link ByteBufOutputEx}
+   */
+  public int computeSize(ByteBufOutputEx output, Object value) throws IOException {
+    if (value == null) {
+      return 0;
+    }
+    return output.computeSize(schema, value);
+  }
+
+  /**
+   * second pass of serializing into a ByteBuf, see {@link ByteBufOutputEx}
+   */
+  public void serialize(ByteBufOutputEx output, Object value) throws IOException {
+    if (value != null) {
+      output.write(schema, value);
+    }
+  }
 }
@@ -17,6 +17,7 @@
 package org.apache.servicecomb.foundation.protobuf.internal;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.apache.commons.codec.binary.Hex;
@@ -32,6 +33,10 @@ import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.protostuff.ByteBufOutputEx;
 import io.protostuff.compiler.model.Field;
 
 public class TestSchemaBase {
@@ -156,6 +161,15 @@ public class TestSchemaBase {
     scbRoot = deserializer.deserialize(scbMapBytes);
     // 5.strong type serialize
     scbRootBytes = serializer.serialize(scbRoot);
+    // 6.deserialize from direct buffer, must be same to deserialize from bytes
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(scbMapBytes.length + 1);
+    directBuffer.put((byte) 0).put(scbMapBytes).flip().position(1);
+    Assert.assertArrayEquals(scbRootBytes, serializer.serialize(deserializer.deserialize(directBuffer)));
+    Assert.assertArrayEquals(protobufBytes,
+        serializer.serialize(mapDeserializer.deserialize(ByteBuffer.wrap(protobufBytes))));
+    // 7.serialize into ByteBuf, must be same to serialize to bytes
+    Assert.assertArrayEquals(protobufBytes, serializeToByteBuf(serializer, scbMap));
+    Assert.assertArrayEquals(protobufBytes, serializeToByteBuf(serializer, scbRoot));
 
     if (print) {
       System.out.println("scbRoot bytes:" + Hex.encodeHexString(scbRootBytes));
@@ -168,4 +182,14 @@ public class TestSchemaBase {
     Assert.assertArrayEquals(protobufBytes, scbMapBytes);
     Assert.assertArrayEquals(protobufBytes, scbRootBytes);
   }
+
+  protected static byte[] serializeToByteBuf(RootSerializer serializer, Object value) throws IOException {
+    ByteBufOutputEx output = new ByteBufOutputEx();
+    int size = serializer.computeSize(output, value);
+    // exact capacity, any wrong size will cause IndexOutOfBoundsException
+    ByteBuf byteBuf = Unpooled.buffer(size, size);
+    serializer.serialize(output.output(byteBuf), value);
+    Assert.assertEquals(size, byteBuf.readableBytes());
+    return ByteBufUtil.getBytes(byteBuf);
+  }
 }
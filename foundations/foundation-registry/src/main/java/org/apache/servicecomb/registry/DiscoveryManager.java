@@ -17,6 +17,7 @@
 
 package org.apache.servicecomb.registry;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -31,8 +32,11 @@ import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
 import org.apache.servicecomb.registry.cache.InstanceCacheManager;
 import org.apache.servicecomb.registry.cache.InstanceCacheManagerNew;
+import org.apache.servicecomb.registry.config.ServiceRegistryCommonConfig;
 import org.apache.servicecomb.registry.consumer.AppManager;
 import org.apache.servicecomb.registry.consumer.MicroserviceVersions;
+import org.apache.servicecomb.registry.snapshot.RegistrySnapshotManager;
+import org.apache.servicecomb.registry.snapshot.RegistrySnapshotStore;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -45,6 +49,8 @@ public class DiscoveryManager {
 
   private final InstanceCacheManager instanceCacheManager;
 
+  // null if snapshot not enabled
+  private RegistrySnapshotManager snapshotManager;
 
   private DiscoveryManager() {
     appManager = new AppManager();
@@ -71,12 +77,20 @@ public class DiscoveryManager {
     // default values not suitable for aggregate, reset.
     result.setNeedRefresh(false);
     result.setMicroserviceNotExist(true);
-    discoveryList
-        .forEach(discovery -> {
-          MicroserviceInstances instances = discovery.findServiceInstances(appId, serviceName, versionRule, revision);
-          result.mergeMicroserviceInstances(instances);
-        });
+    int failed = 0;
+    for (Discovery discovery : discoveryList) {
+      MicroserviceInstances instances = discovery.findServiceInstances(appId, serviceName, versionRule, revision);
+      if (instances == null) {
+        failed++;
+        continue;
+      }
+      result.mergeMicroserviceInstances(instances);
+    }
 
+    if (failed > 0 && failed == discoveryList.size()) {
+      // all discoveries are not available
+      return snapshotManager == null ? null : snapshotManager.findServiceInstances(appId, serviceName, revision);
+    }
     return result;
   }
 
@@ -102,10 +116,13 @@ public class DiscoveryManager {
     for (Discovery discovery : discoveryList) {
       String schema = discovery.getSchema(microserviceId, instances, schemaId);
       if (schema != null) {
+        if (snapshotManager != null) {
+          snapshotManager.onSchemaPulled(microserviceId, schemaId, schema);
+        }
         return schema;
       }
     }
-    return null;
+    return snapshotManager == null ? null : snapshotManager.getSchema(microserviceId, schemaId);
   }
 
   public Microservice getMicroservice(String microserviceId) {
@@ -115,7 +132,7 @@ public class DiscoveryManager {
         return microservice;
       }
     }
-    return null;
+    return snapshotManager == null ? null : snapshotManager.getMicroservice(microserviceId);
   }
 
   public List<Microservice> getAllMicroservices() {
@@ -138,15 +155,33 @@ public class DiscoveryManager {
     return appManager.getOrCreateMicroserviceVersions(appId, microserviceName);
   }
 
+  public RegistrySnapshotManager getSnapshotManager() {
+    return snapshotManager;
+  }
+
   public void destroy() {
+    if (snapshotManager != null) {
+      snapshotManager.stop();
+    }
     discoveryList.forEach(discovery -> discovery.destroy());
   }
 
   public void run() {
     discoveryList.forEach(discovery -> discovery.run());
+
+    if (snapshotManager != null) {
+      snapshotManager.start(ServiceRegistryCommonConfig.getSnapshotInterval());
+    }
   }
 
   public void init() {
+    if (ServiceRegistryCommonConfig.isSnapshotEnabled()) {
+      // load before discoveries init, so the first pull can use it
+      snapshotManager = new RegistrySnapshotManager(appManager,
+          new RegistrySnapshotStore(new File(ServiceRegistryCommonConfig.getSnapshotFile())));
+      snapshotManager.load();
+    }
+
     BeanUtils.addBeans(Discovery.class, discoveryList);
 
     discoveryList.forEach(discovery -> discovery.init());
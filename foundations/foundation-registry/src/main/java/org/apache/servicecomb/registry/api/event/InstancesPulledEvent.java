@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.registry.api.event;
+
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+
+/**
+ * posted after one round trip of pulling instances from registry<br>
+ * a single pull contains result of one microservice, a batch pull contains results of many microservices
+ */
+public class InstancesPulledEvent {
+  public static final String MODE_SINGLE = "single";
+
+  public static final String MODE_BATCH = "batch";
+
+  private final String mode;
+
+  private final long timeNanos;
+
+  private int updated;
+
+  private int notModified;
+
+  private int notFound;
+
+  private int failed;
+
+  public InstancesPulledEvent(String mode, long timeNanos) {
+    this.mode = mode;
+    this.timeNanos = timeNanos;
+  }
+
+  public InstancesPulledEvent addResult(MicroserviceInstances microserviceInstances) {
+    if (microserviceInstances == null) {
+      failed++;
+    } else if (microserviceInstances.isMicroserviceNotExist()) {
+      notFound++;
+    } else if (!microserviceInstances.isNeedRefresh()) {
+      notModified++;
+    } else {
+      updated++;
+    }
+    return this;
+  }
+
+  public String getMode() {
+    return mode;
+  }
+
+  public long getTimeNanos() {
+    return timeNanos;
+  }
+
+  public int getUpdated() {
+    return updated;
+  }
+
+  public int getNotModified() {
+    return notModified;
+  }
+
+  public int getNotFound() {
+    return notFound;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+}
@@ -24,6 +24,22 @@ public class ServiceRegistryCommonConfig {
 
   private static final String REGISTRY_FILTER_UP_INSTANCES = "servicecomb.service.registry.instance.useUpInstancesOnly";
 
+  private static final String REGISTRY_PULL_PARALLELISM = "servicecomb.service.registry.instance.pull.parallelism";
+
+  public static final int DEFAULT_PULL_PARALLELISM = 1;
+
+  private static final String REGISTRY_SNAPSHOT_ENABLED = "servicecomb.service.registry.snapshot.enabled";
+
+  private static final String REGISTRY_SNAPSHOT_FILE = "servicecomb.service.registry.snapshot.file";
+
+  private static final String REGISTRY_SNAPSHOT_INTERVAL = "servicecomb.service.registry.snapshot.interval";
+
+  public static final int DEFAULT_SNAPSHOT_INTERVAL_IN_S = 60;
+
+  private static final String REGISTRY_SCHEMA_CACHE_SIZE = "servicecomb.service.registry.schema.cache.size";
+
+  public static final int DEFAULT_SCHEMA_CACHE_SIZE = 256;
+
   public static boolean isEmptyInstanceProtectionEnabled() {
     return
         DynamicPropertyFactory.getInstance()
@@ -37,4 +53,37 @@ public class ServiceRegistryCommonConfig {
             .getBooleanProperty(REGISTRY_FILTER_UP_INSTANCES,
                 false).get();
   }
+
+  /**
+   * max number of microservices to pull instances concurrently, 1 means pull one by one
+   */
+  public static int getInstancePullParallelism() {
+    int parallelism = DynamicPropertyFactory.getInstance()
+        .getIntProperty(REGISTRY_PULL_PARALLELISM, DEFAULT_PULL_PARALLELISM).get();
+    return parallelism < 1 ? DEFAULT_PULL_PARALLELISM : parallelism;
+  }
+
+  public static boolean isSnapshotEnabled() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty(REGISTRY_SNAPSHOT_ENABLED, false).get();
+  }
+
+  public static String getSnapshotFile() {
+    return DynamicPropertyFactory.getInstance()
+        .getStringProperty(REGISTRY_SNAPSHOT_FILE, "registry-snapshot.json").get();
+  }
+
+  public static int getSnapshotInterval() {
+    int interval = DynamicPropertyFactory.getInstance()
+        .getIntProperty(REGISTRY_SNAPSHOT_INTERVAL, DEFAULT_SNAPSHOT_INTERVAL_IN_S).get();
+    return interval < 1 ? DEFAULT_SNAPSHOT_INTERVAL_IN_S : interval;
+  }
+
+  /**
+   * max number of parsed schemas cached by schema summary, 0 means not cache
+   */
+  public static int getSchemaCacheSize() {
+    return DynamicPropertyFactory.getInstance()
+        .getIntProperty(REGISTRY_SCHEMA_CACHE_SIZE, DEFAULT_SCHEMA_CACHE_SIZE).get();
+  }
 }
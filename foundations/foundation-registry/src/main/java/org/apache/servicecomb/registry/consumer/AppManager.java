@@ -17,6 +17,8 @@
 
 package org.apache.servicecomb.registry.consumer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -35,6 +37,8 @@ public class AppManager {
   // key: appId
   private Map<String, MicroserviceManager> apps = new ConcurrentHashMapEx<>();
 
+  private final InstancePullExecutor instancePullExecutor = new InstancePullExecutor("app-manager");
+
   public AppManager() {
     getEventBus().register(this);
   }
@@ -79,10 +83,17 @@ public class AppManager {
     microserviceManager.onMicroserviceInstanceChanged(changedEvent);
   }
 
+  public InstancePullExecutor getInstancePullExecutor() {
+    return instancePullExecutor;
+  }
+
   public void pullInstances() {
+    // microservices of all apps share the same concurrency
+    List<Runnable> tasks = new ArrayList<>();
     for (MicroserviceManager microserviceManager : apps.values()) {
-      microserviceManager.pullInstances();
+      microserviceManager.collectPullTasks(tasks);
     }
+    instancePullExecutor.runAll(tasks);
   }
 
   public void safePullInstances() {
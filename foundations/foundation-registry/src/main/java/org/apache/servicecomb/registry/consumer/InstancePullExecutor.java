@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.registry.consumer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.servicecomb.registry.config.ServiceRegistryCommonConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * run pull tasks of many microservices and wait for all of them finished<br>
+ * concurrency is bounded by servicecomb.service.registry.instance.pull.parallelism, default to 1, that means
+ * run the tasks one by one in the invoker thread, same as the old behavior
+ */
+public class InstancePullExecutor {
+  private static final Logger LOGGER = LoggerFactory.getLogger(InstancePullExecutor.class);
+
+  private final String name;
+
+  private ExecutorService executor;
+
+  private int parallelism;
+
+  public InstancePullExecutor(String name) {
+    this.name = name;
+  }
+
+  public void runAll(Collection<Runnable> tasks) {
+    int parallelism = ServiceRegistryCommonConfig.getInstancePullParallelism();
+    if (parallelism == 1 || tasks.size() <= 1) {
+      tasks.forEach(Runnable::run);
+      return;
+    }
+
+    ExecutorService executor = getOrCreateExecutor(parallelism);
+    List<Future<?>> futures = new ArrayList<>(tasks.size());
+    for (Runnable task : tasks) {
+      futures.add(executor.submit(task));
+    }
+
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.warn("interrupted while waiting for pull tasks, name={}.", name);
+        return;
+      } catch (ExecutionException e) {
+        LOGGER.error("failed to pull instances, name={}.", name, e.getCause());
+      }
+    }
+  }
+
+  private synchronized ExecutorService getOrCreateExecutor(int parallelism) {
+    if (executor != null && this.parallelism == parallelism) {
+      return executor;
+    }
+
+    if (executor != null) {
+      // parallelism changed, running tasks of old executor will still be waited by their invoker
+      executor.shutdown();
+    }
+    this.parallelism = parallelism;
+    this.executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat(name + "-pull-%d")
+        .build());
+    return executor;
+  }
+
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+}
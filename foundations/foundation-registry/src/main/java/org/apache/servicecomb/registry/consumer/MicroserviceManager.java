@@ -17,6 +17,8 @@
 
 package org.apache.servicecomb.registry.consumer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -110,13 +112,23 @@ public class MicroserviceManager {
   }
 
   public void pullInstances() {
-    for (MicroserviceVersions microserviceVersions : versionsByName.values()) {
-      microserviceVersions.pullInstances();
+    List<Runnable> tasks = new ArrayList<>();
+    collectPullTasks(tasks);
+    appManager.getInstancePullExecutor().runAll(tasks);
+  }
 
-      tryRemoveInvalidMicroservice(microserviceVersions);
+  void collectPullTasks(List<Runnable> tasks) {
+    for (MicroserviceVersions microserviceVersions : versionsByName.values()) {
+      tasks.add(() -> pullInstances(microserviceVersions));
     }
   }
 
+  private void pullInstances(MicroserviceVersions microserviceVersions) {
+    microserviceVersions.pullInstances();
+
+    tryRemoveInvalidMicroservice(microserviceVersions);
+  }
+
   public void onMicroserviceInstanceChanged(MicroserviceInstanceChangedEvent changedEvent) {
     for (MicroserviceVersions microserviceVersions : versionsByName.values()) {
       microserviceVersions.onMicroserviceInstanceChanged(changedEvent);
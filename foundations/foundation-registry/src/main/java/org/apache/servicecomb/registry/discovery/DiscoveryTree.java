@@ -21,11 +21,15 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.foundation.common.exceptions.ServiceCombException;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.registry.DiscoveryManager;
+import org.apache.servicecomb.registry.api.event.DiscoveryTreeRebuildEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +52,8 @@ import org.slf4j.LoggerFactory;
  *   eg: if there is no available instances in self AZ, can refilter in other AZ
  *   red arrows in <a href="https://servicecomb.atlassian.net/browse/JAV-479">help to understand DiscoveryTree</a>, show the refilter logic
  * 3.every filter must try to cache result, avoid calculate every time.
+ * 4.every appId/microserviceName/versionRule has its own root
+ *   instances changed of one microservice will not rebuild trees of other microservices
  *
  * usage:
  * 1.declare a field: DiscoveryTree discoveryTree = new DiscoveryTree();
@@ -76,7 +82,8 @@ import org.slf4j.LoggerFactory;
 public class DiscoveryTree {
   private static final Logger LOGGER = LoggerFactory.getLogger(DiscoveryTree.class);
 
-  private volatile DiscoveryTreeNode root;
+  // key is appId/microserviceName/versionRule
+  private final Map<String, DiscoveryTreeNode> roots = new ConcurrentHashMapEx<>();
 
   private final Object lock = new Object();
 
@@ -119,26 +126,40 @@ public class DiscoveryTree {
         .getInstanceCacheManager()
         .getOrCreateVersionedCache(appId, microserviceName, versionRule);
 
-    return discovery(context, instanceVersionedCache);
+    return discoveryInRoot(context, appId, microserviceName, instanceVersionedCache);
   }
 
   public DiscoveryTreeNode discovery(DiscoveryContext context, VersionedCache inputCache) {
-    DiscoveryTreeNode tmpRoot = getOrCreateRoot(inputCache);
+    return discoveryInRoot(context, null, null, inputCache);
+  }
+
+  private DiscoveryTreeNode discoveryInRoot(DiscoveryContext context, String appId, String microserviceName,
+      VersionedCache inputCache) {
+    DiscoveryTreeNode tmpRoot = getOrCreateRoot(appId, microserviceName, inputCache);
     DiscoveryTreeNode parent = tmpRoot.children()
         .computeIfAbsent(inputCache.name(), name -> new DiscoveryTreeNode().fromCache(inputCache));
     return doDiscovery(context, parent);
   }
 
-  protected DiscoveryTreeNode getOrCreateRoot(VersionedCache inputCache) {
-    DiscoveryTreeNode tmpRoot = root;
+  protected String rootKey(String appId, String microserviceName, VersionedCache inputCache) {
+    // name of inputCache is versionRule
+    return appId + "/" + microserviceName + "/" + inputCache.name();
+  }
+
+  protected DiscoveryTreeNode getOrCreateRoot(String appId, String microserviceName, VersionedCache inputCache) {
+    String rootKey = rootKey(appId, microserviceName, inputCache);
+    DiscoveryTreeNode tmpRoot = roots.get(rootKey);
     if (isMatch(tmpRoot, inputCache)) {
       return tmpRoot;
     }
 
     synchronized (lock) {
+      DiscoveryTreeNode root = roots.get(rootKey);
       if (isExpired(root, inputCache)) {
         // not initialized or inputCache newer than root, create new root
         root = new DiscoveryTreeNode().cacheVersion(inputCache.cacheVersion());
+        roots.put(rootKey, root);
+        EventManager.post(new DiscoveryTreeRebuildEvent(appId, microserviceName, inputCache.name()));
         return root;
       }
 
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.registry.snapshot;
+
+import java.util.List;
+
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
+
+/**
+ * instances of one microservice pulled from registry, same as {@link
+ * org.apache.servicecomb.registry.consumer.MicroserviceVersions#getPulledInstances()}
+ */
+public class MicroserviceInstancesSnapshot {
+  private String revision;
+
+  private List<MicroserviceInstance> instances;
+
+  public String getRevision() {
+    return revision;
+  }
+
+  public MicroserviceInstancesSnapshot setRevision(String revision) {
+    this.revision = revision;
+    return this;
+  }
+
+  public List<MicroserviceInstance> getInstances() {
+    return instances;
+  }
+
+  public MicroserviceInstancesSnapshot setInstances(List<MicroserviceInstance> instances) {
+    this.instances = instances;
+    return this;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.registry.snapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.servicecomb.registry.api.registry.Microservice;
+
+/**
+ * data pulled from registry by consumers, persisted to local disk to start without registry
+ */
+public class RegistrySnapshot {
+  private long timestamp;
+
+  // key is appId/microserviceName, microserviceName maybe normal name or alias name
+  private Map<String, MicroserviceInstancesSnapshot> instances = new HashMap<>();
+
+  // key is microserviceId
+  private Map<String, Microservice> microservices = new HashMap<>();
+
+  // key is microserviceId, value is schemaId -> schema content
+  private Map<String, Map<String, String>> schemas = new HashMap<>();
+
+  public static String instancesKey(String appId, String microserviceName) {
+    return appId + "/" + microserviceName;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public Map<String, MicroserviceInstancesSnapshot> getInstances() {
+    return instances;
+  }
+
+  public void setInstances(Map<String, MicroserviceInstancesSnapshot> instances) {
+    this.instances = instances;
+  }
+
+  public Map<String, Microservice> getMicroservices() {
+    return microservices;
+  }
+
+  public void setMicroservices(Map<String, Microservice> microservices) {
+    this.microservices = microservices;
+  }
+
+  public Map<String, Map<String, String>> getSchemas() {
+    return schemas;
+  }
+
+  public void setSchemas(Map<String, Map<String, String>> schemas) {
+    this.schemas = schemas;
+  }
+}
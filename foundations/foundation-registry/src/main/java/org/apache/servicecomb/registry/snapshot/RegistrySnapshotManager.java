@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.registry.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.registry.api.registry.FindInstancesResponse;
+import org.apache.servicecomb.registry.api.registry.Microservice;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+import org.apache.servicecomb.registry.consumer.AppManager;
+import org.apache.servicecomb.registry.consumer.MicroserviceManager;
+import org.apache.servicecomb.registry.consumer.MicroserviceVersion;
+import org.apache.servicecomb.registry.consumer.MicroserviceVersions;
+import org.apache.servicecomb.registry.consumer.StaticMicroserviceVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * periodically persist instances, microservices and schemas pulled by consumers<br>
+ * after restart, if registry is not available, consumers use the persisted data, and reconcile with registry by
+ * the normal pull process after registry recovered
+ */
+public class RegistrySnapshotManager {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RegistrySnapshotManager.class);
+
+  private final AppManager appManager;
+
+  private final RegistrySnapshotStore store;
+
+  // loaded from disk, used when registry is not available
+  private volatile RegistrySnapshot loadedSnapshot = new RegistrySnapshot();
+
+  // key is microserviceId, value is schemaId -> schema content
+  private final Map<String, Map<String, String>> pulledSchemas = new ConcurrentHashMapEx<>();
+
+  // microserviceIds of pulledSchemas not referenced at last collect
+  // evicted if still not referenced at next collect, schemas are pulled before the version is referenced
+  private Set<String> unreferencedSchemaIds = Collections.emptySet();
+
+  private ScheduledExecutorService executor;
+
+  public RegistrySnapshotManager(AppManager appManager, RegistrySnapshotStore store) {
+    this.appManager = appManager;
+    this.store = store;
+  }
+
+  public void load() {
+    RegistrySnapshot snapshot = store.load();
+    if (snapshot == null) {
+      return;
+    }
+
+    loadedSnapshot = snapshot;
+    LOGGER.info("registry snapshot loaded, file={}, timestamp={}, microservices={}.",
+        store.getFile().getAbsolutePath(), snapshot.getTimestamp(), snapshot.getInstances().size());
+  }
+
+  public void start(int intervalSeconds) {
+    executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat("registry-snapshot")
+        .build());
+    executor.scheduleWithFixedDelay(this::save, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+  }
+
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+    save();
+  }
+
+  public void save() {
+    try {
+      if (store.save(collect())) {
+        LOGGER.info("registry snapshot saved, file={}.", store.getFile().getAbsolutePath());
+      }
+    } catch (Throwable e) {
+      LOGGER.error("failed to save registry snapshot.", e);
+    }
+  }
+
+  public synchronized RegistrySnapshot collect() {
+    RegistrySnapshot snapshot = new RegistrySnapshot();
+    snapshot.setTimestamp(System.currentTimeMillis());
+    // sorted, so that same data always have same checksum
+    snapshot.setInstances(new TreeMap<>());
+    snapshot.setMicroservices(new TreeMap<>());
+    snapshot.setSchemas(new TreeMap<>());
+
+    for (MicroserviceManager microserviceManager : appManager.getApps().values()) {
+      for (MicroserviceVersions microserviceVersions : microserviceManager.getVersionsByName().values()) {
+        collect(snapshot, microserviceVersions);
+      }
+    }
+    evictUnreferencedSchemas(snapshot.getMicroservices().keySet());
+    return snapshot;
+  }
+
+  private void evictUnreferencedSchemas(Set<String> referencedIds) {
+    Set<String> unreferencedIds = new HashSet<>(pulledSchemas.keySet());
+    unreferencedIds.removeAll(referencedIds);
+
+    for (String microserviceId : unreferencedSchemaIds) {
+      if (unreferencedIds.remove(microserviceId)) {
+        pulledSchemas.remove(microserviceId);
+      }
+    }
+    unreferencedSchemaIds = unreferencedIds;
+  }
+
+  private void collect(RegistrySnapshot snapshot, MicroserviceVersions microserviceVersions) {
+    if (microserviceVersions instanceof StaticMicroserviceVersions
+        || microserviceVersions.isWaitingDelete()
+        || microserviceVersions.getPulledInstances() == null) {
+      return;
+    }
+
+    snapshot.getInstances().put(
+        RegistrySnapshot.instancesKey(microserviceVersions.getAppId(), microserviceVersions.getMicroserviceName()),
+        new MicroserviceInstancesSnapshot()
+            .setRevision(microserviceVersions.getRevision())
+            .setInstances(microserviceVersions.getPulledInstances()));
+    for (MicroserviceVersion microserviceVersion : microserviceVersions.getVersions().values()) {
+      String microserviceId = microserviceVersion.getMicroserviceId();
+      snapshot.getMicroservices().put(microserviceId, microserviceVersion.getMicroservice());
+
+      Map<String, String> schemas = pulledSchemas.get(microserviceId);
+      if (schemas == null) {
+        // not pulled after started, maybe got from the loaded snapshot
+        schemas = loadedSnapshot.getSchemas().get(microserviceId);
+      }
+      if (schemas != null) {
+        snapshot.getSchemas().put(microserviceId, new TreeMap<>(schemas));
+      }
+    }
+  }
+
+  public void onSchemaPulled(String microserviceId, String schemaId, String schemaContent) {
+    pulledSchemas.computeIfAbsent(microserviceId, id -> new ConcurrentHashMapEx<>())
+        .put(schemaId, schemaContent);
+  }
+
+  /**
+   * snapshot is only used when never pulled successfully after started<br>
+   * otherwise keep current instances, because the loaded snapshot is older than them
+   *
+   * @return null if not in snapshot or already pulled
+   */
+  public MicroserviceInstances findServiceInstances(String appId, String microserviceName, String revision) {
+    if (revision != null || isPulled(appId, microserviceName)) {
+      return null;
+    }
+
+    MicroserviceInstancesSnapshot instancesSnapshot = loadedSnapshot.getInstances()
+        .get(RegistrySnapshot.instancesKey(appId, microserviceName));
+    if (instancesSnapshot == null) {
+      return null;
+    }
+
+    LOGGER.warn("registry is not available, use instances in snapshot, appId={}, microserviceName={}.",
+        appId, microserviceName);
+    // MicroserviceVersions will sort the list, so copy it
+    return new MicroserviceInstances()
+        .setRevision(instancesSnapshot.getRevision())
+        .setNeedRefresh(true)
+        .setInstancesResponse(new FindInstancesResponse()
+            .setInstances(new ArrayList<>(instancesSnapshot.getInstances())));
+  }
+
+  private boolean isPulled(String appId, String microserviceName) {
+    MicroserviceManager microserviceManager = appManager.getApps().get(appId);
+    if (microserviceManager == null) {
+      return false;
+    }
+
+    MicroserviceVersions microserviceVersions = microserviceManager.getVersionsByName().get(microserviceName);
+    return microserviceVersions != null && microserviceVersions.getPulledInstances() != null;
+  }
+
+  public Microservice getMicroservice(String microserviceId) {
+    return loadedSnapshot.getMicroservices().get(microserviceId);
+  }
+
+  public String getSchema(String microserviceId, String schemaId) {
+    Map<String, String> schemas = loadedSnapshot.getSchemas().get(microserviceId);
+    return schemas == null ? null : schemas.get(schemaId);
+  }
+}
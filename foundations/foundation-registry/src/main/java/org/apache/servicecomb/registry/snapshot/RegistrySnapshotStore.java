@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.registry.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.apache.servicecomb.foundation.common.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * file format:<br>
+ *   first line: crc32 of the json content, in hex<br>
+ *   others: json of {@link RegistrySnapshot}<br>
+ * write to a temporary file and then rename, so the file is never partially written
+ */
+public class RegistrySnapshotStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RegistrySnapshotStore.class);
+
+  private final File file;
+
+  private long lastChecksum = -1;
+
+  public RegistrySnapshotStore(File file) {
+    this.file = file;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * @return null if file not exists or broken
+   */
+  public RegistrySnapshot load() {
+    if (!file.exists()) {
+      return null;
+    }
+
+    try {
+      byte[] bytes = Files.readAllBytes(file.toPath());
+      int lineEnd = indexOfLineEnd(bytes);
+      if (lineEnd < 0) {
+        LOGGER.warn("ignore broken registry snapshot, file={}.", file.getAbsolutePath());
+        return null;
+      }
+
+      byte[] content = Arrays.copyOfRange(bytes, lineEnd + 1, bytes.length);
+      long checksum = checksum(content);
+      String expected = new String(bytes, 0, lineEnd, StandardCharsets.US_ASCII).trim();
+      if (!Long.toHexString(checksum).equals(expected)) {
+        LOGGER.warn("ignore registry snapshot with wrong checksum, file={}.", file.getAbsolutePath());
+        return null;
+      }
+
+      RegistrySnapshot snapshot = JsonUtils.readValue(content, RegistrySnapshot.class);
+      lastChecksum = contentChecksum(snapshot);
+      return snapshot;
+    } catch (Throwable e) {
+      LOGGER.warn("failed to load registry snapshot, file={}.", file.getAbsolutePath(), e);
+      return null;
+    }
+  }
+
+  /**
+   * @return false if content not changed or failed to write
+   */
+  public boolean save(RegistrySnapshot snapshot) {
+    try {
+      long contentChecksum = contentChecksum(snapshot);
+      if (contentChecksum == lastChecksum) {
+        return false;
+      }
+
+      byte[] content = JsonUtils.writeValueAsBytes(snapshot);
+      File parent = file.getAbsoluteFile().getParentFile();
+      if (!parent.exists() && !parent.mkdirs()) {
+        throw new IOException("failed to create directory " + parent.getAbsolutePath());
+      }
+
+      File tmp = new File(parent, file.getName() + ".tmp");
+      byte[] header = (Long.toHexString(checksum(content)) + "\n").getBytes(StandardCharsets.US_ASCII);
+      byte[] bytes = new byte[header.length + content.length];
+      System.arraycopy(header, 0, bytes, 0, header.length);
+      System.arraycopy(content, 0, bytes, header.length, content.length);
+      Files.write(tmp.toPath(), bytes);
+      Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+      lastChecksum = contentChecksum;
+      return true;
+    } catch (Throwable e) {
+      LOGGER.warn("failed to save registry snapshot, file={}.", file.getAbsolutePath(), e);
+      return false;
+    }
+  }
+
+  // timestamp not involved, otherwise every save will write the file even nothing changed
+  private static long contentChecksum(RegistrySnapshot snapshot) throws IOException {
+    long timestamp = snapshot.getTimestamp();
+    try {
+      snapshot.setTimestamp(0);
+      return checksum(JsonUtils.writeValueAsBytes(snapshot));
+    } finally {
+      snapshot.setTimestamp(timestamp);
+    }
+  }
+
+  private static int indexOfLineEnd(byte[] bytes) {
+    for (int idx = 0; idx < bytes.length; idx++) {
+      if (bytes[idx] == '\n') {
+        return idx;
+      }
+    }
+    return -1;
+  }
+
+  private static long checksum(byte[] bytes) {
+    CRC32 crc32 = new CRC32();
+    crc32.update(bytes, 0, bytes.length);
+    return crc32.getValue();
+  }
+}
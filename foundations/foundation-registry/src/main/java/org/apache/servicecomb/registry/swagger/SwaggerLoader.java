@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
@@ -32,6 +33,7 @@ import org.apache.servicecomb.registry.DiscoveryManager;
 import org.apache.servicecomb.registry.RegistrationManager;
 import org.apache.servicecomb.registry.api.registry.Microservice;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
+import org.apache.servicecomb.registry.config.ServiceRegistryCommonConfig;
 import org.apache.servicecomb.registry.definition.MicroserviceNameParser;
 import org.apache.servicecomb.swagger.SwaggerUtils;
 import org.apache.servicecomb.swagger.generator.SwaggerGenerator;
@@ -40,7 +42,10 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import io.swagger.models.Swagger;
 
@@ -52,6 +57,11 @@ public class SwaggerLoader {
   // third key : schemaId
   private Map<String, Map<String, Map<String, Swagger>>> apps = new ConcurrentHashMapEx<>();
 
+  // key is schema summary
+  // different microservice versions usually have the same schema, parse it only once
+  // created when first used, because SwaggerLoader is created before configuration loaded
+  private volatile Cache<String, Swagger> remoteSwaggers;
+
   public SwaggerLoader() {
   }
 
@@ -188,7 +198,7 @@ public class SwaggerLoader {
           microservice.getServiceId(),
           schemaId);
       LOGGER.debug(schemaContent);
-      return SwaggerUtils.parseAndValidateSwagger(schemaContent);
+      return parseRemoteSwagger(schemaContent);
     }
 
     LOGGER.warn("no schema in local, and can not get schema from service center, "
@@ -201,4 +211,35 @@ public class SwaggerLoader {
 
     return null;
   }
+
+  @VisibleForTesting
+  public Swagger parseRemoteSwagger(String schemaContent) {
+    Cache<String, Swagger> cache = getOrCreateRemoteSwaggers();
+    if (cache == null) {
+      return SwaggerUtils.parseAndValidateSwagger(schemaContent);
+    }
+
+    try {
+      return cache.get(calcSchemaSummary(schemaContent), () -> SwaggerUtils.parseAndValidateSwagger(schemaContent));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("failed to parse schema.", e.getCause());
+    }
+  }
+
+  private Cache<String, Swagger> getOrCreateRemoteSwaggers() {
+    if (remoteSwaggers == null) {
+      synchronized (this) {
+        int size = ServiceRegistryCommonConfig.getSchemaCacheSize();
+        if (remoteSwaggers == null && size > 0) {
+          remoteSwaggers = CacheBuilder.newBuilder()
+              .maximumSize(size)
+              .build();
+        }
+      }
+    }
+    return remoteSwaggers;
+  }
 }
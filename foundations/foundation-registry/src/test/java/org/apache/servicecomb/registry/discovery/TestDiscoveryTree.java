@@ -17,15 +17,19 @@
 
 package org.apache.servicecomb.registry.discovery;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
+import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.foundation.common.exceptions.ServiceCombException;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.registry.DiscoveryManager;
+import org.apache.servicecomb.registry.api.event.DiscoveryTreeRebuildEvent;
 import org.apache.servicecomb.registry.discovery.DiscoveryContext;
 import org.apache.servicecomb.registry.discovery.DiscoveryFilter;
 import org.apache.servicecomb.registry.discovery.DiscoveryTree;
@@ -39,6 +43,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.eventbus.Subscribe;
+
 import mockit.Deencapsulation;
 import mockit.Expectations;
 import mockit.Mocked;
@@ -57,6 +63,8 @@ public class TestDiscoveryTree {
 
   List<DiscoveryFilter> filters = Deencapsulation.getField(discoveryTree, "filters");
 
+  Map<String, DiscoveryTreeNode> roots = Deencapsulation.getField(discoveryTree, "roots");
+
   DiscoveryContext context = new DiscoveryContext();
 
   DiscoveryTreeNode parent = new DiscoveryTreeNode().name("parent");
@@ -262,7 +270,7 @@ public class TestDiscoveryTree {
 
   @Test
   public void avoidConcurrentProblem() {
-    Deencapsulation.setField(discoveryTree, "root", parent.cacheVersion(1));
+    roots.put("null/null/input", parent.cacheVersion(1));
     Assert.assertTrue(parent.children().isEmpty());
 
     discoveryTree.discovery(context, new VersionedCache().cacheVersion(0).name("input"));
@@ -271,32 +279,68 @@ public class TestDiscoveryTree {
 
   @Test
   public void getOrCreateRoot_match() {
-    Deencapsulation.setField(discoveryTree, "root", parent);
+    roots.put("app/ms/parent", parent);
 
-    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot(parent);
+    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot("app", "ms", parent);
 
     Assert.assertSame(parent, root);
   }
 
   @Test
   public void getOrCreateRoot_expired() {
-    Deencapsulation.setField(discoveryTree, "root", parent);
+    roots.put("app/ms/parent", parent);
 
-    VersionedCache inputCache = new VersionedCache().cacheVersion(parent.cacheVersion() + 1);
-    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot(inputCache);
+    VersionedCache inputCache = new VersionedCache().cacheVersion(parent.cacheVersion() + 1).name("parent");
+    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot("app", "ms", inputCache);
 
     Assert.assertEquals(inputCache.cacheVersion(), root.cacheVersion());
-    Assert.assertSame(Deencapsulation.getField(discoveryTree, "root"), root);
+    Assert.assertSame(roots.get("app/ms/parent"), root);
   }
 
   @Test
   public void getOrCreateRoot_tempRoot() {
-    Deencapsulation.setField(discoveryTree, "root", parent);
+    roots.put("app/ms/parent", parent);
 
-    VersionedCache inputCache = new VersionedCache().cacheVersion(parent.cacheVersion() - 1);
-    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot(inputCache);
+    VersionedCache inputCache = new VersionedCache().cacheVersion(parent.cacheVersion() - 1).name("parent");
+    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot("app", "ms", inputCache);
 
     Assert.assertEquals(inputCache.cacheVersion(), root.cacheVersion());
-    Assert.assertNotSame(Deencapsulation.getField(discoveryTree, "root"), root);
+    Assert.assertNotSame(roots.get("app/ms/parent"), root);
+  }
+
+  @Test
+  public void getOrCreateRoot_notAffectOtherMicroservice() {
+    roots.put("app/ms1/parent", parent);
+
+    VersionedCache inputCache = new VersionedCache().cacheVersion(parent.cacheVersion() + 1).name("parent");
+    DiscoveryTreeNode root = discoveryTree.getOrCreateRoot("app", "ms2", inputCache);
+
+    Assert.assertSame(roots.get("app/ms2/parent"), root);
+    Assert.assertSame(parent, roots.get("app/ms1/parent"));
+    Assert.assertSame(parent, discoveryTree.getOrCreateRoot("app", "ms1", parent));
+  }
+
+  @Test
+  public void getOrCreateRoot_postRebuildEvent() {
+    List<DiscoveryTreeRebuildEvent> events = new ArrayList<>();
+    Object subscriber = new Object() {
+      @Subscribe
+      public void onRebuild(DiscoveryTreeRebuildEvent event) {
+        events.add(event);
+      }
+    };
+    EventManager.register(subscriber);
+    try {
+      VersionedCache inputCache = new VersionedCache().autoCacheVersion().name("0+");
+      discoveryTree.getOrCreateRoot("app", "ms", inputCache);
+      discoveryTree.getOrCreateRoot("app", "ms", inputCache);
+    } finally {
+      EventManager.unregister(subscriber);
+    }
+
+    Assert.assertEquals(1, events.size());
+    Assert.assertEquals("app", events.get(0).getAppId());
+    Assert.assertEquals("ms", events.get(0).getMicroserviceName());
+    Assert.assertEquals("0+", events.get(0).getVersionRule());
   }
 }
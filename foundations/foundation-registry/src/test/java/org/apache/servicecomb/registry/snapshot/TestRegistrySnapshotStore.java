@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.registry.snapshot;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.apache.servicecomb.registry.api.registry.Microservice;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+import org.apache.servicecomb.registry.consumer.AppManager;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class TestRegistrySnapshotStore {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private RegistrySnapshot createSnapshot() {
+    MicroserviceInstance instance = new MicroserviceInstance();
+    instance.setInstanceId("i1");
+    instance.setServiceId("s1");
+    instance.getEndpoints().add("rest://127.0.0.1:8080");
+
+    Microservice microservice = new Microservice();
+    microservice.setServiceId("s1");
+    microservice.setAppId("app");
+    microservice.setServiceName("ms");
+    microservice.setVersion("1.0.0");
+
+    RegistrySnapshot snapshot = new RegistrySnapshot();
+    snapshot.setTimestamp(1);
+    snapshot.getInstances().put(RegistrySnapshot.instancesKey("app", "ms"), new MicroserviceInstancesSnapshot()
+        .setRevision("rev")
+        .setInstances(Collections.singletonList(instance)));
+    snapshot.getMicroservices().put("s1", microservice);
+    snapshot.getSchemas().put("s1", Collections.singletonMap("schema", "swagger: '2.0'"));
+    return snapshot;
+  }
+
+  @Test
+  public void saveAndLoad() {
+    File file = new File(folder.getRoot(), "dir/snapshot.json");
+    RegistrySnapshotStore store = new RegistrySnapshotStore(file);
+
+    Assert.assertNull(store.load());
+    Assert.assertTrue(store.save(createSnapshot()));
+
+    RegistrySnapshot snapshot = new RegistrySnapshotStore(file).load();
+    Assert.assertEquals(1, snapshot.getTimestamp());
+    MicroserviceInstancesSnapshot instances = snapshot.getInstances().get("app/ms");
+    Assert.assertEquals("rev", instances.getRevision());
+    Assert.assertEquals("i1", instances.getInstances().get(0).getInstanceId());
+    Assert.assertEquals("rest://127.0.0.1:8080", instances.getInstances().get(0).getEndpoints().get(0));
+    Assert.assertEquals("1.0.0", snapshot.getMicroservices().get("s1").getVersion());
+    Assert.assertEquals("swagger: '2.0'", snapshot.getSchemas().get("s1").get("schema"));
+  }
+
+  @Test
+  public void saveNotChanged() {
+    RegistrySnapshotStore store = new RegistrySnapshotStore(new File(folder.getRoot(), "snapshot.json"));
+
+    Assert.assertTrue(store.save(createSnapshot()));
+    RegistrySnapshot snapshot = createSnapshot();
+    snapshot.setTimestamp(2);
+    Assert.assertFalse(store.save(snapshot));
+
+    snapshot.getInstances().get("app/ms").setRevision("rev2");
+    Assert.assertTrue(store.save(snapshot));
+  }
+
+  @Test
+  public void loadWrongChecksum() throws Exception {
+    File file = new File(folder.getRoot(), "snapshot.json");
+    new RegistrySnapshotStore(file).save(createSnapshot());
+
+    String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    Files.write(file.toPath(), content.replace("rev", "rew").getBytes(StandardCharsets.UTF_8));
+
+    Assert.assertNull(new RegistrySnapshotStore(file).load());
+  }
+
+  @Test
+  public void findServiceInstancesFromSnapshot() throws Exception {
+    File file = new File(folder.getRoot(), "snapshot.json");
+    new RegistrySnapshotStore(file).save(createSnapshot());
+    RegistrySnapshotManager manager = new RegistrySnapshotManager(Mockito.mock(AppManager.class),
+        new RegistrySnapshotStore(file));
+    manager.load();
+
+    MicroserviceInstances instances = manager.findServiceInstances("app", "ms", null);
+    Assert.assertTrue(instances.isNeedRefresh());
+    Assert.assertEquals("rev", instances.getRevision());
+    Assert.assertEquals(1, instances.getInstancesResponse().getInstances().size());
+
+    // already pulled, keep current instances
+    Assert.assertNull(manager.findServiceInstances("app", "ms", "rev"));
+    Assert.assertNull(manager.findServiceInstances("app", "other", null));
+    Assert.assertEquals("ms", manager.getMicroservice("s1").getServiceName());
+    Assert.assertEquals("swagger: '2.0'", manager.getSchema("s1", "schema"));
+    Assert.assertNull(manager.getSchema("s1", "other"));
+  }
+}
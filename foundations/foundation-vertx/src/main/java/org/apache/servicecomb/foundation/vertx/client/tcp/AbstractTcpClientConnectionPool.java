@@ -18,7 +18,6 @@
 package org.apache.servicecomb.foundation.vertx.client.tcp;
 
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 
@@ -41,14 +40,10 @@ public abstract class AbstractTcpClientConnectionPool<T extends TcpClientConnect
     startCheckTimeout(context);
   }
 
+  // pool is created in the context, so the wheel timer always run in the context
+  // requests register to the wheel when send and cancel when reply, no need to scan all requests periodically
   protected void startCheckTimeout(Context context) {
-    context.owner().setPeriodic(TimeUnit.SECONDS.toMillis(1), this::onCheckTimeout);
-  }
-
-  private void onCheckTimeout(Long event) {
-    for (TcpClientConnection client : tcpClientMap.values()) {
-      client.checkTimeout();
-    }
+    TimeoutWheel.findOrCreate(context);
   }
 
   public T findOrCreateClient(String endpoint) {
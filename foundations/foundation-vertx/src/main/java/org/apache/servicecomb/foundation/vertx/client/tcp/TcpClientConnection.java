@@ -20,7 +20,6 @@ package org.apache.servicecomb.foundation.vertx.client.tcp;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -74,6 +73,8 @@ public class TcpClientConnection extends TcpConnection {
 
   private volatile Map<Long, TcpRequest> requestMap = new ConcurrentHashMap<>();
 
+  private TimeoutWheel timeoutWheel;
+
   public TcpClientConnection(Context context, NetClientWrapper netClientWrapper, String strEndpoint) {
     this.setContext(context);
 
@@ -82,6 +83,7 @@ public class TcpClientConnection extends TcpConnection {
     this.socketAddress = endpoint.getSocketAddress();
     this.remoteSupportLogin = Boolean.parseBoolean(endpoint.getFirst(TcpConst.LOGIN));
     this.clientConfig = netClientWrapper.getClientConfig(endpoint.isSslEnabled());
+    this.timeoutWheel = TimeoutWheel.findOrCreate(context);
   }
 
   public boolean isLocalSupportLogin() {
@@ -117,7 +119,7 @@ public class TcpClientConnection extends TcpConnection {
   }
 
   public void send(AbstractTcpClientPackage tcpClientPackage, TcpResponseCallback callback) {
-    requestMap.put(tcpClientPackage.getMsgId(), new TcpRequest(tcpClientPackage.getMsRequestTimeout(), callback));
+    addRequest(tcpClientPackage.getMsgId(), new TcpRequest(tcpClientPackage.getMsRequestTimeout(), callback));
 
     if (writeToBufferQueue(tcpClientPackage)) {
       return;
@@ -248,8 +250,7 @@ public class TcpClientConnection extends TcpConnection {
     LOGGER.info("try login to address {}", socketAddress.toString());
 
     try (TcpOutputStream os = createLogin()) {
-      requestMap.put(os.getMsgId(),
-          new TcpRequest(clientConfig.getMsLoginTimeout(), this::onLoginResponse));
+      addRequest(os.getMsgId(), new TcpRequest(clientConfig.getMsLoginTimeout(), this::onLoginResponse));
       netSocket.write(os.getBuffer());
     }
   }
@@ -294,6 +295,7 @@ public class TcpClientConnection extends TcpConnection {
     requestMap = new ConcurrentHashMap<>();
 
     for (TcpRequest request : oldMap.values()) {
+      request.cancelTimeout();
       request.onSendError(cause);
     }
     oldMap.clear();
@@ -306,24 +308,24 @@ public class TcpClientConnection extends TcpConnection {
       return;
     }
 
+    request.cancelTimeout();
     request.onReply(headerBuffer, bodyBuffer);
   }
 
-  public void checkTimeout() {
-    for (Entry<Long, TcpRequest> entry : requestMap.entrySet()) {
-      TcpRequest request = entry.getValue();
-      if (request.isTimeout()) {
-        // 可能正好收到reply，且被处理了，所以这里的remove不一定有效
-        // 是否有效，根据remove的结果来决定
-        request = requestMap.remove(entry.getKey());
-        if (request != null) {
-          String msg =
-              String.format("request timeout, msgId=%d, address=%s", entry.getKey(), socketAddress);
-          LOGGER.error(msg);
-
-          request.onTimeout(new TimeoutException(msg));
-        }
-      }
+  private void addRequest(long msgId, TcpRequest request) {
+    requestMap.put(msgId, request);
+    request.setTimeout(timeoutWheel.newTimeout(request.getMsTimeout(), () -> onRequestTimeout(msgId)));
+  }
+
+  private void onRequestTimeout(long msgId) {
+    // 可能正好收到reply，且被处理了，所以这里的remove不一定有效
+    // 是否有效，根据remove的结果来决定
+    TcpRequest request = requestMap.remove(msgId);
+    if (request != null) {
+      String msg = String.format("request timeout, msgId=%d, address=%s", msgId, socketAddress);
+      LOGGER.error(msg);
+
+      request.onTimeout(new TimeoutException(msg));
     }
   }
 }
@@ -19,13 +19,13 @@ package org.apache.servicecomb.foundation.vertx.client.tcp;
 
 import java.util.concurrent.TimeoutException;
 
+import org.apache.servicecomb.foundation.vertx.client.tcp.TimeoutWheel.Timeout;
+
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 
 public class TcpRequest {
-  private long begin;
-
   private long msTimeout;
 
   private Context callContext;
@@ -34,14 +34,29 @@ public class TcpRequest {
 
   private TcpResponseCallback responseCallback;
 
+  private volatile Timeout timeout;
+
   public TcpRequest(long msTimeout, TcpResponseCallback responseCallback) {
     callContext = Vertx.currentContext();
     threadId = Thread.currentThread().getId();
-    this.begin = System.currentTimeMillis();
     this.msTimeout = msTimeout;
     this.responseCallback = responseCallback;
   }
 
+  public long getMsTimeout() {
+    return msTimeout;
+  }
+
+  public void setTimeout(Timeout timeout) {
+    this.timeout = timeout;
+  }
+
+  public void cancelTimeout() {
+    if (timeout != null) {
+      timeout.cancel();
+    }
+  }
+
   public void onReply(Buffer headerBuffer, Buffer bodyBuffer) {
     TcpData tcpData = new TcpData(headerBuffer, bodyBuffer);
 
@@ -59,10 +74,6 @@ public class TcpRequest {
     responseCallback.fail(e);
   }
 
-  public boolean isTimeout() {
-    return System.currentTimeMillis() - begin >= msTimeout;
-  }
-
   public void onTimeout(TimeoutException e) {
     responseCallback.fail(e);
   }
@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.client.tcp;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.DynamicPropertyFactory;
+
+import io.vertx.core.Context;
+
+/**
+ * hashed timing wheel for request timeout, one wheel for one context, driven by a periodic timer of the context<br>
+ * add and cancel are O(1) and can be invoked in any thread, expire is always executed in the context<br>
+ * timeout precision is one tick, not only for highway, any client bind to a context can reuse it by
+ * {@link #findOrCreate(Context)}<br>
+ * the timer only runs while there are timeouts in the wheel, an idle context has no periodic task
+ */
+public class TimeoutWheel {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TimeoutWheel.class);
+
+  public static final long DEFAULT_MS_TICK = 10;
+
+  public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+  private static final String CONTEXT_KEY = TimeoutWheel.class.getName();
+
+  private final long msTick;
+
+  private final long startTime;
+
+  private final Bucket[] buckets;
+
+  private final int mask;
+
+  // add and cancel can happen in any thread, buckets only be changed in the context
+  private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+  private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+  // next tick to process
+  private long tick;
+
+  // timeouts in buckets, only be changed in the context
+  private int bucketTimeoutCount;
+
+  private Context context;
+
+  private long timerId;
+
+  private final AtomicBoolean ticking = new AtomicBoolean();
+
+  public static synchronized TimeoutWheel findOrCreate(Context context) {
+    TimeoutWheel wheel = context.get(CONTEXT_KEY);
+    if (wheel == null) {
+      wheel = new TimeoutWheel(getMsTick(), DEFAULT_TICKS_PER_WHEEL, System.currentTimeMillis());
+      wheel.start(context);
+      context.put(CONTEXT_KEY, wheel);
+    }
+    return wheel;
+  }
+
+  public static long getMsTick() {
+    long msTick = DynamicPropertyFactory.getInstance()
+        .getLongProperty("servicecomb.client.timeout-wheel.tick", DEFAULT_MS_TICK).get();
+    return Math.max(msTick, 1);
+  }
+
+  @VisibleForTesting
+  TimeoutWheel(long msTick, int ticksPerWheel, long startTime) {
+    int size = Integer.highestOneBit(Math.max(ticksPerWheel, 1) * 2 - 1);
+    this.msTick = msTick;
+    this.startTime = startTime;
+    this.buckets = new Bucket[size];
+    this.mask = size - 1;
+    for (int idx = 0; idx < size; idx++) {
+      buckets[idx] = new Bucket();
+    }
+  }
+
+  private void start(Context context) {
+    this.context = context;
+  }
+
+  private void startTicking() {
+    if (context == null || !ticking.compareAndSet(false, true)) {
+      return;
+    }
+
+    // make sure timer handler run in the context
+    context.runOnContext(v -> timerId = context.owner().setPeriodic(msTick, id -> onTick()));
+  }
+
+  private void onTick() {
+    expireTimeouts(System.currentTimeMillis());
+    if (bucketTimeoutCount > 0 || !pendingTimeouts.isEmpty()) {
+      return;
+    }
+
+    context.owner().cancelTimer(timerId);
+    ticking.set(false);
+    // timeout added after the check but before ticking cleared did not start the timer
+    if (!pendingTimeouts.isEmpty()) {
+      startTicking();
+    }
+  }
+
+  public Timeout newTimeout(long msTimeout, Runnable task) {
+    return addTimeout(System.currentTimeMillis() + msTimeout, task);
+  }
+
+  @VisibleForTesting
+  Timeout addTimeout(long deadline, Runnable task) {
+    // never expire before deadline, so round up
+    long deadlineTick = Math.max(deadline - startTime + msTick - 1, 0) / msTick;
+    Timeout timeout = new Timeout(this, deadlineTick, task);
+    pendingTimeouts.add(timeout);
+    startTicking();
+    return timeout;
+  }
+
+  @VisibleForTesting
+  void expireTimeouts(long now) {
+    long targetTick = (now - startTime) / msTick;
+    if (bucketTimeoutCount == 0) {
+      // skip the ticks passed while the timer stopped, all buckets are empty
+      tick = Math.max(tick, targetTick);
+    }
+
+    transferPendingTimeouts();
+    removeCancelledTimeouts();
+
+    for (; tick <= targetTick; tick++) {
+      bucketTimeoutCount -= buckets[(int) (tick & mask)].expireTimeouts(tick);
+    }
+  }
+
+  private void transferPendingTimeouts() {
+    for (; ; ) {
+      Timeout timeout = pendingTimeouts.poll();
+      if (timeout == null) {
+        return;
+      }
+
+      if (timeout.state != Timeout.ST_INIT) {
+        continue;
+      }
+
+      // already passed, expire in the next tick
+      long deadlineTick = Math.max(timeout.deadlineTick, tick);
+      buckets[(int) (deadlineTick & mask)].add(timeout);
+      bucketTimeoutCount++;
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    for (; ; ) {
+      Timeout timeout = cancelledTimeouts.poll();
+      if (timeout == null) {
+        return;
+      }
+
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+        bucketTimeoutCount--;
+      }
+    }
+  }
+
+  public static final class Timeout {
+    private static final int ST_INIT = 0;
+
+    private static final int ST_CANCELLED = 1;
+
+    private static final int ST_EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private final TimeoutWheel wheel;
+
+    private final long deadlineTick;
+
+    private final Runnable task;
+
+    private volatile int state = ST_INIT;
+
+    // only be accessed in the context
+    private Bucket bucket;
+
+    private Timeout prev;
+
+    private Timeout next;
+
+    private Timeout(TimeoutWheel wheel, long deadlineTick, Runnable task) {
+      this.wheel = wheel;
+      this.deadlineTick = deadlineTick;
+      this.task = task;
+    }
+
+    /**
+     * @return false if already expired or cancelled
+     */
+    public boolean cancel() {
+      if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+        return false;
+      }
+
+      wheel.cancelledTimeouts.add(this);
+      return true;
+    }
+
+    public boolean isCancelled() {
+      return state == ST_CANCELLED;
+    }
+
+    public boolean isExpired() {
+      return state == ST_EXPIRED;
+    }
+
+    private void expire() {
+      if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+        return;
+      }
+
+      try {
+        task.run();
+      } catch (Throwable e) {
+        LOGGER.error("failed to process timeout.", e);
+      }
+    }
+  }
+
+  private static final class Bucket {
+    private Timeout head;
+
+    private Timeout tail;
+
+    void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+        return;
+      }
+
+      tail.next = timeout;
+      timeout.prev = tail;
+      tail = timeout;
+    }
+
+    void remove(Timeout timeout) {
+      Timeout next = timeout.next;
+      if (timeout.prev != null) {
+        timeout.prev.next = next;
+      }
+      if (next != null) {
+        next.prev = timeout.prev;
+      }
+
+      if (timeout == head) {
+        head = next;
+      }
+      if (timeout == tail) {
+        tail = timeout.prev;
+      }
+
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+
+    /**
+     * @return count of removed timeouts
+     */
+    int expireTimeouts(long tick) {
+      int count = 0;
+      Timeout timeout = head;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.deadlineTick <= tick) {
+          remove(timeout);
+          count++;
+          timeout.expire();
+        }
+        timeout = next;
+      }
+      return count;
+    }
+  }
+}
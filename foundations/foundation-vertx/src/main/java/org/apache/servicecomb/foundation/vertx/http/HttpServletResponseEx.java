@@ -23,6 +23,10 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.Part;
 import javax.ws.rs.core.Response.StatusType;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 
 public interface HttpServletResponseEx extends HttpServletResponse, BodyBufferSupport {
@@ -37,4 +41,25 @@ public interface HttpServletResponseEx extends HttpServletResponse, BodyBufferSu
   default void setChunked(boolean chunked) {
     setHeader(HttpHeaders.TRANSFER_ENCODING.toString(), HttpHeaders.CHUNKED.toString());
   }
+
+  /**
+   * allocator to encode body into pooled buffer<br>
+   * null means not support pooled body buffer, should use {@link #setBodyBuffer} instead
+   */
+  default ByteBufAllocator getPooledBodyAllocator() {
+    return null;
+  }
+
+  /**
+   * take ownership of a buffer allocated by {@link #getPooledBodyAllocator()}<br>
+   * the buffer will be released after written to the connection, or when replaced or failed to flush<br>
+   * default implementation copy the content to a heap body buffer and release the pooled buffer at once
+   */
+  default void setPooledBodyBuffer(ByteBuf bodyByteBuf) {
+    try {
+      setBodyBuffer(Buffer.buffer(ByteBufUtil.getBytes(bodyByteBuf)));
+    } finally {
+      bodyByteBuf.release();
+    }
+  }
 }
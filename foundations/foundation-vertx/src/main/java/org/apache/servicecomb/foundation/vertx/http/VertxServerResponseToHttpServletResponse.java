@@ -28,8 +28,12 @@ import javax.ws.rs.core.Response.StatusType;
 import org.apache.servicecomb.foundation.common.http.HttpStatus;
 import org.apache.servicecomb.foundation.vertx.stream.PumpFromPart;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
 
 public class VertxServerResponseToHttpServletResponse extends AbstractHttpServletResponse {
@@ -39,6 +43,9 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
 
   private StatusType statusType;
 
+  // owned by this response until flushed
+  private ByteBuf pooledBodyByteBuf;
+
   public VertxServerResponseToHttpServletResponse(HttpServerResponse serverResponse) {
     this.context = Vertx.currentContext();
     this.serverResponse = serverResponse;
@@ -117,7 +124,56 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
       return;
     }
 
-    serverResponse.end(bodyBuffer);
+    if (pooledBodyByteBuf == null) {
+      serverResponse.end(bodyBuffer);
+      return;
+    }
+
+    // vertx wraps the ByteBuf as unreleasable, netty will not release it after written
+    // so release it when the write completed or failed
+    ByteBuf byteBuf = pooledBodyByteBuf;
+    pooledBodyByteBuf = null;
+    try {
+      serverResponse.end(bodyBuffer, ar -> releaseIfNotReleased(byteBuf));
+    } catch (Throwable e) {
+      // not written, eg: response already closed
+      releaseIfNotReleased(byteBuf);
+      throw e;
+    }
+  }
+
+  private static void releaseIfNotReleased(ByteBuf byteBuf) {
+    if (byteBuf.refCnt() > 0) {
+      byteBuf.release();
+    }
+  }
+
+  /**
+   * same as the direct allocator of vertx channels, pooled buffers come from thread local cache of the encoding thread
+   */
+  @Override
+  public ByteBufAllocator getPooledBodyAllocator() {
+    return PooledByteBufAllocator.DEFAULT;
+  }
+
+  @Override
+  public void setPooledBodyBuffer(ByteBuf bodyByteBuf) {
+    releasePooledBodyBuffer();
+    super.setBodyBuffer(Buffer.buffer(bodyByteBuf));
+    this.pooledBodyByteBuf = bodyByteBuf;
+  }
+
+  @Override
+  public void setBodyBuffer(Buffer bodyBuffer) {
+    releasePooledBodyBuffer();
+    super.setBodyBuffer(bodyBuffer);
+  }
+
+  private void releasePooledBodyBuffer() {
+    if (pooledBodyByteBuf != null) {
+      pooledBodyByteBuf.release();
+      pooledBodyByteBuf = null;
+    }
   }
 
   @Override
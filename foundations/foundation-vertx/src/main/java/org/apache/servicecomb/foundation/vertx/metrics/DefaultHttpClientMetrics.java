@@ -71,6 +71,9 @@ public class DefaultHttpClientMetrics implements
   public DefaultHttpSocketMetric requestBegin(DefaultClientEndpointMetric endpointMetric,
       DefaultHttpSocketMetric socketMetric, SocketAddress localAddress, SocketAddress remoteAddress,
       HttpClientRequest request) {
+    if (socketMetric.getRequests() > 0) {
+      endpointMetric.onConnectionReused();
+    }
     socketMetric.requestBegin();
     return socketMetric;
   }
@@ -24,6 +24,9 @@ import java.util.concurrent.atomic.LongAdder;
 public class DefaultClientEndpointMetric extends DefaultEndpointMetric {
   private LongAdder queue = new LongAdder();
 
+  // requests sent by an existing connection, not a new connection
+  private LongAdder reuseCount = new LongAdder();
+
   // control if the metric instance will be expired
   // all invoker about incRefCount/isExpired, must lock: DefaultClientEndpointMetricManager
   // decRefCount no need to lock, because that only cause to be expired later.
@@ -55,6 +58,14 @@ public class DefaultClientEndpointMetric extends DefaultEndpointMetric {
     queue.decrement();
   }
 
+  public long getReuseCount() {
+    return reuseCount.longValue();
+  }
+
+  public void onConnectionReused() {
+    reuseCount.increment();
+  }
+
   public boolean isExpired(long nsTimeout) {
     return getCurrentConnectionCount() == 0
         && (System.nanoTime() - lastNanoTime) > nsTimeout;
@@ -22,6 +22,9 @@ import java.util.concurrent.atomic.LongAdder;
  * for one listen address, include multiple httpClient or httpServer
  */
 public class DefaultEndpointMetric {
+  // upper bounds of messages in one write
+  public static final int[] WRITE_BATCH_BOUNDS = {1, 2, 4, 8, 16, 32, 64, 128, Integer.MAX_VALUE};
+
   private String address;
 
   // summary of connect times from boot
@@ -40,8 +43,18 @@ public class DefaultEndpointMetric {
 
   private LongAdder latency = new LongAdder();
 
+  // only for tcp connections, one write usually cause one syscall
+  private LongAdder writes = new LongAdder();
+
+  private LongAdder writtenMessages = new LongAdder();
+
+  private LongAdder[] writeBatches = new LongAdder[WRITE_BATCH_BOUNDS.length];
+
   public DefaultEndpointMetric(String address) {
     this.address = address;
+    for (int idx = 0; idx < writeBatches.length; idx++) {
+      writeBatches[idx] = new LongAdder();
+    }
   }
 
   public String getAddress() {
@@ -99,4 +112,31 @@ public class DefaultEndpointMetric {
   public long getLatency() {
     return latency.longValue();
   }
+
+  public void onWriteBatch(int messages) {
+    writes.increment();
+    writtenMessages.add(messages);
+    for (int idx = 0; idx < WRITE_BATCH_BOUNDS.length; idx++) {
+      if (messages <= WRITE_BATCH_BOUNDS[idx]) {
+        writeBatches[idx].increment();
+        return;
+      }
+    }
+  }
+
+  public long getWrites() {
+    return writes.longValue();
+  }
+
+  public long getWrittenMessages() {
+    return writtenMessages.longValue();
+  }
+
+  /**
+   * @param boundIdx index of {@link #WRITE_BATCH_BOUNDS}
+   * @return count of writes, messages in them not more than the bound, and more than the previous bound
+   */
+  public long getWriteBatchCount(int boundIdx) {
+    return writeBatches[boundIdx].longValue();
+  }
 }
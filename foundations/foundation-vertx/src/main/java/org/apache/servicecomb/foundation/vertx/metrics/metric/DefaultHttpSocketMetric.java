@@ -23,6 +23,9 @@ public class DefaultHttpSocketMetric extends DefaultTcpSocketMetric {
 
   private long requestEndTime;
 
+  // requests sent by this connection, more than 1 means the connection is reused
+  private long requests;
+
   public DefaultHttpSocketMetric() {
   }
 
@@ -36,6 +39,11 @@ public class DefaultHttpSocketMetric extends DefaultTcpSocketMetric {
 
   public void requestBegin() {
     this.requestBeginTime = System.nanoTime();
+    this.requests++;
+  }
+
+  public long getRequests() {
+    return requests;
   }
 
   public long getRequestEndTime() {
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.stream;
+
+/**
+ * initial capacity for encoding buffers, learned from recent encoded sizes<br>
+ * grow to the latest size immediately, shrink slowly, so that most encoding not need to expand the buffer,
+ * and a few big results will not keep the hint large forever<br>
+ * not strict thread safe, lost updates only make the hint a little inaccurate
+ */
+public class BufferSizeHint {
+  public static final int DEFAULT_MIN_SIZE = 256;
+
+  public static final int DEFAULT_MAX_SIZE = 64 * 1024;
+
+  private final int minSize;
+
+  private final int maxSize;
+
+  private volatile int size;
+
+  public BufferSizeHint() {
+    this(DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE);
+  }
+
+  public BufferSizeHint(int minSize, int maxSize) {
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.size = minSize;
+  }
+
+  public int get() {
+    return size;
+  }
+
+  public void record(int encodedSize) {
+    int current = size;
+    if (encodedSize > current) {
+      size = Math.min(maxSize, encodedSize);
+      return;
+    }
+
+    // move 1/8 of the distance to the smaller size
+    int next = Math.max(minSize, current - ((current - encodedSize) >> 3));
+    if (next != current) {
+      size = next;
+    }
+  }
+}
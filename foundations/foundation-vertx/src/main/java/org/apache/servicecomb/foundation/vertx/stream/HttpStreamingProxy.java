@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.stream;
+
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * forward a http server request to target server, and forward the response back.<br>
+ * both request body and response body are streamed chunk by chunk, never buffered as a whole:<br>
+ *   read side is paused when write queue of the other side is full, and resumed after drained
+ */
+public class HttpStreamingProxy {
+  private static final Logger LOGGER = LoggerFactory.getLogger(HttpStreamingProxy.class);
+
+  // hop-by-hop headers only belongs to one connection, should not be forwarded
+  private static final Set<String> HOP_BY_HOP_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+  static {
+    HOP_BY_HOP_HEADERS.add(HttpHeaders.CONNECTION.toString());
+    HOP_BY_HOP_HEADERS.add(HttpHeaders.KEEP_ALIVE.toString());
+    HOP_BY_HOP_HEADERS.add(HttpHeaders.TRANSFER_ENCODING.toString());
+    HOP_BY_HOP_HEADERS.add(HttpHeaders.UPGRADE.toString());
+    HOP_BY_HOP_HEADERS.add("TE");
+    HOP_BY_HOP_HEADERS.add("Trailer");
+  }
+
+  private final HttpServerRequest serverRequest;
+
+  private final HttpServerResponse serverResponse;
+
+  private Function<HttpClientResponse, Handler<Buffer>> responseBodyHandlerFactory;
+
+  private Handler<Throwable> failureHandler = this::defaultFailureHandler;
+
+  private HttpClientRequest clientRequest;
+
+  public HttpStreamingProxy(HttpServerRequest serverRequest) {
+    this.serverRequest = serverRequest;
+    this.serverResponse = serverRequest.response();
+    this.responseBodyHandlerFactory = clientResponse -> serverResponse::write;
+  }
+
+  /**
+   * customize how to write response body chunks to serverResponse, default to write them directly
+   */
+  public HttpStreamingProxy responseBodyHandler(Function<HttpClientResponse, Handler<Buffer>> factory) {
+    this.responseBodyHandlerFactory = factory;
+    return this;
+  }
+
+  public HttpStreamingProxy failureHandler(Handler<Throwable> failureHandler) {
+    this.failureHandler = failureHandler;
+    return this;
+  }
+
+  @SuppressWarnings("deprecation")
+  public HttpClientRequest proxy(HttpClient httpClient, RequestOptions requestOptions) {
+    // hold the body until the request head sent
+    // otherwise body will be buffered in client request while connecting
+    serverRequest.pause();
+
+    clientRequest = httpClient.request(serverRequest.method(), requestOptions, this::onResponse);
+    clientRequest.exceptionHandler(this::onFailure);
+    copyHeaders(serverRequest.headers(), clientRequest.headers());
+    clientRequest.setChunked(isRequestChunked());
+
+    serverRequest.exceptionHandler(e -> clientRequest.reset());
+    serverResponse.closeHandler(v -> {
+      // invoker disconnected, no need to continue
+      if (!serverResponse.ended()) {
+        clientRequest.reset();
+      }
+    });
+    pump(serverRequest, clientRequest, clientRequest::write);
+    serverRequest.endHandler(v -> clientRequest.end());
+    clientRequest.sendHead(version -> serverRequest.resume());
+    return clientRequest;
+  }
+
+  protected void onResponse(HttpClientResponse clientResponse) {
+    serverResponse.setStatusCode(clientResponse.statusCode());
+    serverResponse.setStatusMessage(clientResponse.statusMessage());
+    copyHeaders(clientResponse.headers(), serverResponse.headers());
+    serverResponse.setChunked(isResponseChunked(clientResponse));
+
+    clientResponse.exceptionHandler(this::onFailure);
+    pump(clientResponse, serverResponse, responseBodyHandlerFactory.apply(clientResponse));
+    clientResponse.endHandler(v -> serverResponse.end());
+  }
+
+  protected void onFailure(Throwable e) {
+    if (serverResponse.closed() || serverResponse.ended()) {
+      return;
+    }
+
+    failureHandler.handle(e);
+  }
+
+  protected void defaultFailureHandler(Throwable e) {
+    LOGGER.error("failed to proxy request, method={}, uri={}, message={}.",
+        serverRequest.method(), serverRequest.uri(), e.getMessage());
+    if (serverResponse.headWritten()) {
+      // part of the body already sent, can only break the connection to notify the invoker
+      serverResponse.close();
+      return;
+    }
+
+    serverResponse.setStatusCode(Status.BAD_GATEWAY.getStatusCode())
+        .setStatusMessage(Status.BAD_GATEWAY.getReasonPhrase())
+        .end();
+  }
+
+  protected boolean isRequestChunked() {
+    if (serverRequest.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+      return false;
+    }
+
+    if (serverRequest.version() == HttpVersion.HTTP_2) {
+      // http2 never use chunked encoding, but target maybe http1
+      return serverRequest.method() != HttpMethod.GET && serverRequest.method() != HttpMethod.HEAD;
+    }
+
+    String transferEncoding = serverRequest.getHeader(HttpHeaders.TRANSFER_ENCODING);
+    return transferEncoding != null
+        && transferEncoding.toLowerCase(Locale.US).contains(HttpHeaders.CHUNKED.toString());
+  }
+
+  protected boolean isResponseChunked(HttpClientResponse clientResponse) {
+    int statusCode = clientResponse.statusCode();
+    return !clientResponse.headers().contains(HttpHeaders.CONTENT_LENGTH)
+        && statusCode != Status.NO_CONTENT.getStatusCode()
+        && statusCode != Status.NOT_MODIFIED.getStatusCode()
+        && serverRequest.method() != HttpMethod.HEAD;
+  }
+
+  public static void copyHeaders(MultiMap from, MultiMap to) {
+    for (Entry<String, String> entry : from) {
+      if (!HOP_BY_HOP_HEADERS.contains(entry.getKey())) {
+        to.add(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * different to {@link io.vertx.core.streams.Pump}, allowed to customize how to write data
+   */
+  public static <T> void pump(ReadStream<T> readStream, WriteStream<?> writeStream, Handler<T> writer) {
+    readStream.handler(data -> {
+      writer.handle(data);
+      if (writeStream.writeQueueFull()) {
+        readStream.pause();
+        writeStream.drainHandler(v -> readStream.resume());
+      }
+    });
+  }
+}
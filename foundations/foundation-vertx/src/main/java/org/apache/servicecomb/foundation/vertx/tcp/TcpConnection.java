@@ -18,14 +18,21 @@ package org.apache.servicecomb.foundation.vertx.tcp;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultEndpointMetric;
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultTcpSocketMetric;
+import org.apache.servicecomb.foundation.vertx.stream.BufferSizeHint;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.Context;
-import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.net.impl.NetSocketImpl;
 
 public class TcpConnection {
@@ -53,6 +60,28 @@ public class TcpConnection {
 
   private AtomicLong writeQueueSize = new AtomicLong();
 
+  // many tiny messages make many components, and composite buffer with max components will be written at once
+  // so small buffers are copied into a contiguous pooled buffer
+  private final int coalesceThreshold = TcpWriteConfig.getCoalesceThreshold();
+
+  private final int coalesceMaxBytes = TcpWriteConfig.getCoalesceMaxBytes();
+
+  private final long flushDelayMicros = TcpWriteConfig.getFlushDelayMicros();
+
+  private final BufferSizeHint coalesceSizeHint = new BufferSizeHint(BufferSizeHint.DEFAULT_MIN_SIZE, coalesceMaxBytes);
+
+  // the following fields only accessed in context thread
+  private CompositeByteBuf pending;
+
+  private int pendingMessages;
+
+  private ByteBuf coalescing;
+
+  private int coalescingMessages;
+
+  // null when vertx metrics is not DefaultVertxMetrics
+  private DefaultEndpointMetric endpointMetric;
+
   public String getProtocol() {
     return protocol;
   }
@@ -81,6 +110,11 @@ public class TcpConnection {
     this.netSocket = netSocket;
 
     this.context = netSocket.getContext();
+
+    Object socketMetric = netSocket.metric();
+    if (socketMetric instanceof DefaultTcpSocketMetric) {
+      this.endpointMetric = ((DefaultTcpSocketMetric) socketMetric).getEndpointMetric();
+    }
   }
 
   public void write(ByteBuf buf) {
@@ -93,13 +127,19 @@ public class TcpConnection {
 
   // notify context thread to write
   protected void scheduleWrite() {
+    if (flushDelayMicros > 0) {
+      ((ContextInternal) context).nettyEventLoop().schedule(() -> context.runOnContext(v -> {
+        writeInContext();
+      }), flushDelayMicros, TimeUnit.MICROSECONDS);
+      return;
+    }
+
     context.runOnContext(v -> {
       writeInContext();
     });
   }
 
   protected void writeInContext() {
-    CompositeByteBuf cbb = ByteBufAllocator.DEFAULT.compositeBuffer();
     for (; ; ) {
       ByteBuf buf = writeQueue.poll();
       if (buf == null) {
@@ -107,15 +147,80 @@ public class TcpConnection {
       }
 
       writeQueueSize.decrementAndGet();
-      cbb.addComponent(true, buf);
+      addPending(buf);
+    }
 
-      if (cbb.numComponents() == cbb.maxNumComponents()) {
-        netSocket.write(Buffer.buffer(cbb));
-        cbb = ByteBufAllocator.DEFAULT.compositeBuffer();
-      }
+    finishCoalescing();
+    writePending();
+  }
+
+  private void addPending(ByteBuf buf) {
+    int length = buf.readableBytes();
+    if (length > coalesceThreshold) {
+      finishCoalescing();
+      pendingMessages++;
+      addPendingComponent(buf);
+      return;
+    }
+
+    if (coalescing != null && coalescing.maxWritableBytes() < length) {
+      finishCoalescing();
+    }
+    if (coalescing == null) {
+      coalescing = allocateCoalescing(coalesceSizeHint.get(), coalesceMaxBytes);
+    }
+    coalescing.writeBytes(buf);
+    buf.release();
+    coalescingMessages++;
+  }
+
+  protected ByteBuf allocateCoalescing(int initialCapacity, int maxCapacity) {
+    return PooledByteBufAllocator.DEFAULT.directBuffer(initialCapacity, maxCapacity);
+  }
+
+  private void finishCoalescing() {
+    if (coalescing == null) {
+      return;
     }
-    if (cbb.isReadable()) {
-      netSocket.write(Buffer.buffer(cbb));
+
+    coalesceSizeHint.record(coalescing.readableBytes());
+    ByteBuf buf = coalescing;
+    coalescing = null;
+    pendingMessages += coalescingMessages;
+    coalescingMessages = 0;
+    addPendingComponent(buf);
+  }
+
+  private void addPendingComponent(ByteBuf buf) {
+    if (pending == null) {
+      pending = ByteBufAllocator.DEFAULT.compositeBuffer();
+    }
+
+    pending.addComponent(true, buf);
+    if (pending.numComponents() == pending.maxNumComponents()) {
+      writePending();
+    }
+  }
+
+  private void writePending() {
+    if (pending == null) {
+      return;
+    }
+
+    CompositeByteBuf cbb = pending;
+    int messages = pendingMessages;
+    pending = null;
+    pendingMessages = 0;
+    if (!cbb.isReadable()) {
+      cbb.release();
+      return;
+    }
+
+    // write the ByteBuf to the channel as is, netty releases it after written or failed
+    // NetSocket.write(Buffer) is not used, vertx wraps a ByteBuf as unreleasable, the pooled buffers would leak
+    ((NetSocketInternal) netSocket).writeMessage(cbb);
+    if (endpointMetric != null) {
+      endpointMetric.onWriteBatch(messages);
     }
   }
 }
@@ -20,6 +20,8 @@ package org.apache.servicecomb.foundation.vertx.tcp;
 import org.apache.servicecomb.foundation.vertx.server.TcpParser;
 import org.apache.servicecomb.foundation.vertx.stream.BufferOutputStream;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * TcpOutputStream
  *
@@ -36,6 +38,16 @@ public class TcpOutputStream extends BufferOutputStream {
     writeLong(msgId);
   }
 
+  /**
+   * byteBuf should be able to hold {@link TcpParser#TCP_HEADER_LENGTH} and the whole message
+   */
+  public TcpOutputStream(long msgId, ByteBuf byteBuf) {
+    super(byteBuf);
+    this.msgId = msgId;
+    write(TcpParser.TCP_MAGIC);
+    writeLong(msgId);
+  }
+
   public long getMsgId() {
     return msgId;
   }
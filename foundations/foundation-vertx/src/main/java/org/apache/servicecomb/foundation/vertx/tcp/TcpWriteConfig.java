@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.tcp;
+
+import com.netflix.config.DynamicPropertyFactory;
+
+public final class TcpWriteConfig {
+  public static final int DEFAULT_COALESCE_THRESHOLD = 1024;
+
+  public static final int DEFAULT_COALESCE_MAX_BYTES = 64 * 1024;
+
+  private TcpWriteConfig() {
+  }
+
+  /**
+   * buffers not larger than this are copied into one contiguous buffer before written, 0 means not copy
+   */
+  public static int getCoalesceThreshold() {
+    return DynamicPropertyFactory.getInstance()
+        .getIntProperty("servicecomb.tcp.write.coalesce-threshold", DEFAULT_COALESCE_THRESHOLD).get();
+  }
+
+  /**
+   * max size of one contiguous buffer
+   */
+  public static int getCoalesceMaxBytes() {
+    int maxBytes = DynamicPropertyFactory.getInstance()
+        .getIntProperty("servicecomb.tcp.write.coalesce-max-bytes", DEFAULT_COALESCE_MAX_BYTES).get();
+    return Math.max(maxBytes, getCoalesceThreshold());
+  }
+
+  /**
+   * 0 means write as soon as the eventloop run the write task, that already includes all buffers queued while the
+   * eventloop is busy<br>
+   * bigger than 0 means wait more microseconds before write, trade a little latency for fewer writes
+   */
+  public static long getFlushDelayMicros() {
+    return DynamicPropertyFactory.getInstance()
+        .getLongProperty("servicecomb.tcp.write.flush-delay-micros", 0).get();
+  }
+}
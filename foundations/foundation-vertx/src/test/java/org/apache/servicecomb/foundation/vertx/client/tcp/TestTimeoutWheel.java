@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.client.tcp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.servicecomb.foundation.vertx.client.tcp.TimeoutWheel.Timeout;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestTimeoutWheel {
+  TimeoutWheel wheel = new TimeoutWheel(10, 4, 0);
+
+  List<String> expired = new ArrayList<>();
+
+  @Test
+  public void expire_notBeforeDeadline() {
+    Timeout timeout = wheel.addTimeout(25, () -> expired.add("a"));
+
+    wheel.expireTimeouts(29);
+    Assert.assertTrue(expired.isEmpty());
+
+    wheel.expireTimeouts(30);
+    Assert.assertEquals(Arrays.asList("a"), expired);
+    Assert.assertTrue(timeout.isExpired());
+    Assert.assertFalse(timeout.cancel());
+  }
+
+  @Test
+  public void expire_moreThanOneRound() {
+    wheel.addTimeout(100, () -> expired.add("a"));
+    wheel.addTimeout(20, () -> expired.add("b"));
+
+    wheel.expireTimeouts(60);
+    Assert.assertEquals(Arrays.asList("b"), expired);
+
+    wheel.expireTimeouts(100);
+    Assert.assertEquals(Arrays.asList("b", "a"), expired);
+  }
+
+  @Test
+  public void expire_deadlinePassed() {
+    wheel.expireTimeouts(100);
+    wheel.addTimeout(50, () -> expired.add("a"));
+
+    wheel.expireTimeouts(100);
+    Assert.assertTrue(expired.isEmpty());
+
+    // expire in the next tick
+    wheel.expireTimeouts(110);
+    Assert.assertEquals(Arrays.asList("a"), expired);
+  }
+
+  @Test
+  public void expire_afterIdle() {
+    wheel.addTimeout(10, () -> expired.add("a"));
+    wheel.expireTimeouts(10);
+
+    // timer stopped while idle, restart long after
+    wheel.addTimeout(1_000_020, () -> expired.add("b"));
+    wheel.expireTimeouts(1_000_010);
+    Assert.assertEquals(Arrays.asList("a"), expired);
+
+    wheel.expireTimeouts(1_000_020);
+    Assert.assertEquals(Arrays.asList("a", "b"), expired);
+  }
+
+  @Test
+  public void cancel() {
+    Timeout pending = wheel.addTimeout(20, () -> expired.add("a"));
+    Assert.assertTrue(pending.cancel());
+    Assert.assertFalse(pending.cancel());
+
+    Timeout scheduled = wheel.addTimeout(40, () -> expired.add("b"));
+    wheel.addTimeout(40, () -> expired.add("c"));
+    wheel.expireTimeouts(10);
+    Assert.assertTrue(scheduled.cancel());
+
+    wheel.expireTimeouts(100);
+    Assert.assertEquals(Arrays.asList("c"), expired);
+    Assert.assertTrue(pending.isCancelled());
+    Assert.assertTrue(scheduled.isCancelled());
+  }
+
+  @Test
+  public void expire_taskThrowException() {
+    wheel.addTimeout(10, () -> {
+      throw new IllegalStateException("should be ignored");
+    });
+    wheel.addTimeout(10, () -> expired.add("a"));
+
+    wheel.expireTimeouts(10);
+    Assert.assertEquals(Arrays.asList("a"), expired);
+  }
+}
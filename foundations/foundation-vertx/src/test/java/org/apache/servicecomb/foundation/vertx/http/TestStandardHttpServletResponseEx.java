@@ -36,6 +36,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.buffer.Buffer;
 import mockit.Expectations;
 import mockit.Mock;
@@ -66,6 +68,16 @@ public class TestStandardHttpServletResponseEx {
     Assert.assertEquals("abc", responseEx.getBodyBuffer().toString());
   }
 
+  @Test
+  public void setPooledBodyBuffer_copyAndRelease() {
+    ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.directBuffer();
+    byteBuf.writeBytes("abc".getBytes());
+    responseEx.setPooledBodyBuffer(byteBuf);
+
+    Assert.assertEquals(0, byteBuf.refCnt());
+    Assert.assertEquals("abc", responseEx.getBodyBuffer().toString());
+  }
+
   @Test
   public void getBodyBytes() {
     Buffer bodyBuffer = Buffer.buffer();
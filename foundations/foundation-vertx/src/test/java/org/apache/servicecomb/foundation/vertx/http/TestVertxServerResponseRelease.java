@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+
+/**
+ * write pooled body through a real http server, make sure the pooled buffer released after written
+ */
+public class TestVertxServerResponseRelease {
+  Vertx vertx;
+
+  CompletableFuture<ByteBuf> bodyByteBuf = new CompletableFuture<>();
+
+  @Before
+  public void setup() {
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown() {
+    vertx.close();
+  }
+
+  private int listen() throws Exception {
+    CompletableFuture<HttpServer> future = new CompletableFuture<>();
+    vertx.createHttpServer()
+        .requestHandler(request -> {
+          VertxServerResponseToHttpServletResponse response =
+              new VertxServerResponseToHttpServletResponse(request.response());
+          ByteBuf byteBuf = response.getPooledBodyAllocator().directBuffer();
+          byteBuf.writeBytes("body".getBytes(StandardCharsets.UTF_8));
+          response.setPooledBodyBuffer(byteBuf);
+          response.internalFlushBuffer();
+          bodyByteBuf.complete(byteBuf);
+        })
+        .listen(0, "127.0.0.1", ar -> {
+          if (ar.failed()) {
+            future.completeExceptionally(ar.cause());
+            return;
+          }
+          future.complete(ar.result());
+        });
+    return future.get(10, TimeUnit.SECONDS).actualPort();
+  }
+
+  @Test
+  public void releaseAfterWritten() throws Exception {
+    int port = listen();
+
+    CompletableFuture<String> body = new CompletableFuture<>();
+    vertx.createHttpClient().get(port, "127.0.0.1", "/", ar -> {
+      if (ar.failed()) {
+        body.completeExceptionally(ar.cause());
+        return;
+      }
+      ar.result().bodyHandler(buffer -> body.complete(buffer.toString()));
+    });
+    Assert.assertEquals("body", body.get(10, TimeUnit.SECONDS));
+
+    // released in the write completion, which may run a little later than the client got the response
+    ByteBuf byteBuf = bodyByteBuf.get(10, TimeUnit.SECONDS);
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (byteBuf.refCnt() != 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(0, byteBuf.refCnt());
+  }
+}
@@ -40,8 +40,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -67,6 +69,8 @@ public class TestVertxServerResponseToHttpServletResponse {
 
   boolean flushWithBody;
 
+  RuntimeException endException;
+
   boolean runOnContextInvoked;
 
   @Mocked
@@ -123,9 +127,18 @@ public class TestVertxServerResponseToHttpServletResponse {
 
       @Mock
       void end(Buffer chunk) {
+        if (endException != null) {
+          throw endException;
+        }
         flushWithBody = true;
       }
 
+      @Mock
+      void end(Buffer chunk, Handler<AsyncResult<Void>> handler) {
+        end(chunk);
+        handler.handle(Future.succeededFuture());
+      }
+
       @Mock
       HttpServerResponse setChunked(boolean chunked) {
         TestVertxServerResponseToHttpServletResponse.this.chunked = chunked;
@@ -295,6 +308,42 @@ public class TestVertxServerResponseToHttpServletResponse {
     Assert.assertTrue(flushWithBody);
   }
 
+  @Test
+  public void internalFlushBufferWithPooledBody() {
+    ByteBuf byteBuf = response.getPooledBodyAllocator().directBuffer();
+    byteBuf.writeBytes("body".getBytes(StandardCharsets.UTF_8));
+    response.setPooledBodyBuffer(byteBuf);
+    response.internalFlushBuffer();
+
+    Assert.assertTrue(flushWithBody);
+    // released after written
+    Assert.assertEquals(0, byteBuf.refCnt());
+  }
+
+  @Test
+  public void internalFlushBufferWithPooledBodyFailed() {
+    endException = new IllegalStateException("Response is closed");
+    ByteBuf byteBuf = response.getPooledBodyAllocator().directBuffer();
+    response.setPooledBodyBuffer(byteBuf);
+
+    expectedException.expect(IllegalStateException.class);
+    try {
+      response.internalFlushBuffer();
+    } finally {
+      Assert.assertEquals(0, byteBuf.refCnt());
+    }
+  }
+
+  @Test
+  public void setBodyBufferReleasePooledBody() {
+    ByteBuf byteBuf = response.getPooledBodyAllocator().directBuffer();
+    response.setPooledBodyBuffer(byteBuf);
+    response.setBodyBuffer(Buffer.buffer("new body"));
+
+    Assert.assertEquals(0, byteBuf.refCnt());
+    Assert.assertEquals("new body", response.getBodyBuffer().toString());
+  }
+
   @Test
   public void prepareSendPartHeader_update(@Mocked Part part) {
     new Expectations() {
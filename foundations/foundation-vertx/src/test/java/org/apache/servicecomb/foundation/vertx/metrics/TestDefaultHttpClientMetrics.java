@@ -289,4 +289,18 @@ public class TestDefaultHttpClientMetrics {
     Assert.assertEquals(2, socketMetric.getRequestBeginTime());
     Assert.assertEquals(3, socketMetric.getRequestEndTime());
   }
+
+  @Test
+  public void connectionReused(@Mocked HttpClientRequest request) {
+    DefaultHttpSocketMetric socketMetric = clientMetrics_a.connected(address1, host);
+    clientMetrics_a.endpointConnected(endpointMetric_a_1, socketMetric);
+
+    clientMetrics_a.requestBegin(endpointMetric_a_1, socketMetric, address1, address1, request);
+    Assert.assertEquals(0, endpointMetric_a_1.getReuseCount());
+
+    clientMetrics_a.requestBegin(endpointMetric_a_1, socketMetric, address1, address1, request);
+    clientMetrics_a.requestBegin(endpointMetric_a_1, socketMetric, address1, address1, request);
+    Assert.assertEquals(3, socketMetric.getRequests());
+    Assert.assertEquals(2, endpointMetric_a_1.getReuseCount());
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestBufferSizeHint {
+  BufferSizeHint hint = new BufferSizeHint(256, 4096);
+
+  @Test
+  public void should_start_from_min_size() {
+    Assert.assertEquals(256, hint.get());
+  }
+
+  @Test
+  public void should_grow_to_bigger_size_immediately() {
+    hint.record(1000);
+
+    Assert.assertEquals(1000, hint.get());
+  }
+
+  @Test
+  public void should_not_exceed_max_size() {
+    hint.record(100_000);
+
+    Assert.assertEquals(4096, hint.get());
+  }
+
+  @Test
+  public void should_shrink_slowly() {
+    hint.record(1256);
+    hint.record(256);
+
+    Assert.assertEquals(1131, hint.get());
+  }
+
+  @Test
+  public void should_not_less_than_min_size() {
+    for (int idx = 0; idx < 100; idx++) {
+      hint.record(0);
+    }
+
+    Assert.assertEquals(256, hint.get());
+  }
+}
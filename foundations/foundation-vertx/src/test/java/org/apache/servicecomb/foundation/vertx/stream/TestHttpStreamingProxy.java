@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.stream;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.streams.WriteStream;
+
+public class TestHttpStreamingProxy {
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  static final int CHUNK_COUNT = 64;
+
+  static Vertx vertx = Vertx.vertx();
+
+  static HttpClient httpClient = vertx.createHttpClient();
+
+  static HttpServer targetServer;
+
+  static HttpServer proxyServer;
+
+  static int targetPort;
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    targetServer = listen(TestHttpStreamingProxy::onTargetRequest);
+    targetPort = targetServer.actualPort();
+    proxyServer = listen(request -> new HttpStreamingProxy(request)
+        .proxy(httpClient, new RequestOptions().setHost("127.0.0.1").setPort(targetPort).setURI(request.uri())));
+  }
+
+  @AfterClass
+  public static void teardown() {
+    vertx.close();
+  }
+
+  private static HttpServer listen(io.vertx.core.Handler<HttpServerRequest> handler) throws Exception {
+    CompletableFuture<HttpServer> future = new CompletableFuture<>();
+    vertx.createHttpServer().requestHandler(handler).listen(0, "127.0.0.1", ar -> {
+      if (ar.failed()) {
+        future.completeExceptionally(ar.cause());
+        return;
+      }
+      future.complete(ar.result());
+    });
+    return future.get(10, TimeUnit.SECONDS);
+  }
+
+  private static void onTargetRequest(HttpServerRequest request) {
+    HttpServerResponse response = request.response();
+    if (request.path().equals("/upload")) {
+      AtomicLong size = new AtomicLong();
+      request.handler(data -> size.addAndGet(data.length()));
+      request.endHandler(v -> response.end(String.valueOf(size.get())));
+      return;
+    }
+
+    response.setChunked(true);
+    response.putHeader(HttpHeaders.CONNECTION, HttpHeaders.KEEP_ALIVE);
+    response.putHeader("x-target", "true");
+    write(response, Buffer.buffer(new byte[CHUNK_SIZE]), CHUNK_COUNT, response::end);
+  }
+
+  static void write(WriteStream<Buffer> writeStream, Buffer chunk, int count, Runnable endHandler) {
+    int remain = count;
+    while (remain > 0 && !writeStream.writeQueueFull()) {
+      writeStream.write(chunk);
+      remain--;
+    }
+
+    if (remain == 0) {
+      endHandler.run();
+      return;
+    }
+
+    int next = remain;
+    writeStream.drainHandler(v -> write(writeStream, chunk, next, endHandler));
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void upload() throws Exception {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    HttpClientRequest request = httpClient.request(HttpMethod.POST, proxyServer.actualPort(), "127.0.0.1", "/upload",
+        response -> response.bodyHandler(body -> future.complete(body.toString())));
+    request.exceptionHandler(future::completeExceptionally);
+    request.setChunked(true);
+    write(request, Buffer.buffer(new byte[CHUNK_SIZE]), CHUNK_COUNT, request::end);
+
+    Assert.assertEquals(String.valueOf(CHUNK_SIZE * CHUNK_COUNT), future.get(10, TimeUnit.SECONDS));
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void download() throws Exception {
+    AtomicLong size = new AtomicLong();
+    CompletableFuture<MultiMap> future = new CompletableFuture<>();
+    HttpClientRequest request = httpClient.request(HttpMethod.GET, proxyServer.actualPort(), "127.0.0.1", "/download",
+        response -> {
+          response.handler(data -> size.addAndGet(data.length()));
+          response.endHandler(v -> future.complete(response.headers()));
+        });
+    request.exceptionHandler(future::completeExceptionally);
+    request.end();
+
+    MultiMap headers = future.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(CHUNK_SIZE * CHUNK_COUNT, size.get());
+    Assert.assertEquals("true", headers.get("x-target"));
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void targetNotAvailable() throws Exception {
+    HttpServer server = listen(request -> new HttpStreamingProxy(request)
+        .proxy(httpClient, new RequestOptions().setHost("127.0.0.1").setPort(1).setURI(request.uri())));
+
+    CompletableFuture<Integer> future = new CompletableFuture<>();
+    HttpClientRequest request = httpClient.request(HttpMethod.GET, server.actualPort(), "127.0.0.1", "/download",
+        response -> future.complete(response.statusCode()));
+    request.exceptionHandler(future::completeExceptionally);
+    request.end();
+
+    Assert.assertEquals(502, (int) future.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void copyHeaders() {
+    MultiMap from = MultiMap.caseInsensitiveMultiMap()
+        .add(HttpHeaders.CONNECTION, HttpHeaders.KEEP_ALIVE)
+        .add(HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CHUNKED)
+        .add("keep-alive", "timeout=5")
+        .add(HttpHeaders.SET_COOKIE, "a=1")
+        .add(HttpHeaders.SET_COOKIE, "b=2")
+        .add(HttpHeaders.CONTENT_TYPE, "application/json");
+    MultiMap to = MultiMap.caseInsensitiveMultiMap();
+
+    HttpStreamingProxy.copyHeaders(from, to);
+
+    Assert.assertEquals(3, to.size());
+    Assert.assertEquals(2, to.getAll(HttpHeaders.SET_COOKIE).size());
+    Assert.assertEquals("application/json", to.get(HttpHeaders.CONTENT_TYPE));
+  }
+}
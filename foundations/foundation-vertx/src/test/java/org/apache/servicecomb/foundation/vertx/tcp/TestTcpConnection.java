@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.tcp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultEndpointMetric;
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultTcpSocketMetric;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.impl.NetSocketImpl;
+
+public class TestTcpConnection {
+  List<Buffer> written = new ArrayList<>();
+
+  DefaultEndpointMetric endpointMetric = new DefaultEndpointMetric("127.0.0.1:7070");
+
+  TcpConnection connection;
+
+  @Before
+  public void setup() {
+    ArchaiusUtils.setProperty("servicecomb.tcp.write.coalesce-threshold", 16);
+    ArchaiusUtils.setProperty("servicecomb.tcp.write.coalesce-max-bytes", 1024);
+
+    NetSocketImpl netSocket = Mockito.mock(NetSocketImpl.class);
+    Mockito.when(netSocket.metric()).thenReturn(new DefaultTcpSocketMetric(endpointMetric));
+    // like netty, release the message after written
+    Mockito.when(netSocket.writeMessage(Mockito.any())).then(invocation -> {
+      ByteBuf buf = invocation.getArgument(0);
+      written.add(Buffer.buffer(buf.copy()));
+      buf.release();
+      return netSocket;
+    });
+
+    connection = new TcpConnection() {
+      @Override
+      protected void scheduleWrite() {
+      }
+    };
+    connection.initNetSocket(netSocket);
+  }
+
+  @After
+  public void teardown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  private ByteBuf createBuf(int size, int value) {
+    ByteBuf buf = Unpooled.buffer(size);
+    for (int idx = 0; idx < size; idx++) {
+      buf.writeByte(value);
+    }
+    return buf;
+  }
+
+  @Test
+  public void coalesceSmallBuffers() {
+    List<ByteBuf> bufs = new ArrayList<>();
+    for (int idx = 0; idx < 100; idx++) {
+      ByteBuf buf = createBuf(10, idx);
+      bufs.add(buf);
+      connection.write(buf);
+    }
+    connection.writeInContext();
+
+    Assert.assertEquals(1, written.size());
+    Buffer buffer = written.get(0);
+    Assert.assertEquals(1000, buffer.length());
+    for (int idx = 0; idx < 100; idx++) {
+      Assert.assertEquals(idx, buffer.getByte(idx * 10));
+      Assert.assertEquals(0, bufs.get(idx).refCnt());
+    }
+
+    Assert.assertEquals(1, endpointMetric.getWrites());
+    Assert.assertEquals(100, endpointMetric.getWrittenMessages());
+    // 100 messages in (64, 128]
+    Assert.assertEquals(1, endpointMetric.getWriteBatchCount(7));
+  }
+
+  @Test
+  public void largeBufferNotCopied() {
+    connection.write(createBuf(10, 1));
+    connection.write(createBuf(100, 2));
+    connection.write(createBuf(10, 3));
+    connection.writeInContext();
+
+    Assert.assertEquals(1, written.size());
+    Buffer buffer = written.get(0);
+    Assert.assertEquals(120, buffer.length());
+    Assert.assertEquals(1, buffer.getByte(0));
+    Assert.assertEquals(2, buffer.getByte(10));
+    Assert.assertEquals(3, buffer.getByte(110));
+
+    Assert.assertEquals(1, endpointMetric.getWrites());
+    Assert.assertEquals(3, endpointMetric.getWrittenMessages());
+    // 3 messages in (2, 4]
+    Assert.assertEquals(1, endpointMetric.getWriteBatchCount(2));
+  }
+
+  @Test
+  public void coalesceNotExceedMaxBytes() {
+    for (int idx = 0; idx < 100; idx++) {
+      connection.write(createBuf(16, idx));
+    }
+    connection.writeInContext();
+
+    Assert.assertEquals(1, written.size());
+    Assert.assertEquals(1600, written.get(0).length());
+    Assert.assertEquals(99, written.get(0).getByte(1599));
+  }
+
+  @Test
+  public void nothingToWrite() {
+    connection.writeInContext();
+
+    Assert.assertTrue(written.isEmpty());
+    Assert.assertEquals(0, endpointMetric.getWrites());
+  }
+}
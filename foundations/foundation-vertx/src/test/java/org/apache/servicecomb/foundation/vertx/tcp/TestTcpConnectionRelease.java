@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.foundation.vertx.tcp;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Vertx;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.impl.NetSocketImpl;
+
+/**
+ * write through a real socket, make sure netty released all pooled buffers after written
+ */
+public class TestTcpConnectionRelease {
+  Vertx vertx;
+
+  NetServer server;
+
+  AtomicInteger received = new AtomicInteger();
+
+  CompletableFuture<Void> receivedAll = new CompletableFuture<>();
+
+  List<ByteBuf> coalescingBuffers = new CopyOnWriteArrayList<>();
+
+  TcpConnection connection = new TcpConnection() {
+    @Override
+    protected ByteBuf allocateCoalescing(int initialCapacity, int maxCapacity) {
+      ByteBuf buf = super.allocateCoalescing(initialCapacity, maxCapacity);
+      coalescingBuffers.add(buf);
+      return buf;
+    }
+  };
+
+  @Before
+  public void setup() throws Exception {
+    ArchaiusUtils.setProperty("servicecomb.tcp.write.coalesce-threshold", 16);
+    ArchaiusUtils.setProperty("servicecomb.tcp.write.coalesce-max-bytes", 1024);
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown() {
+    vertx.close();
+    ArchaiusUtils.resetConfig();
+  }
+
+  private int listen(int expectedBytes) throws Exception {
+    CompletableFuture<NetServer> future = new CompletableFuture<>();
+    vertx.createNetServer()
+        .connectHandler(socket -> socket.handler(buffer -> {
+          if (received.addAndGet(buffer.length()) == expectedBytes) {
+            receivedAll.complete(null);
+          }
+        }))
+        .listen(0, "127.0.0.1", ar -> {
+          if (ar.failed()) {
+            future.completeExceptionally(ar.cause());
+            return;
+          }
+          future.complete(ar.result());
+        });
+    server = future.get(10, TimeUnit.SECONDS);
+    return server.actualPort();
+  }
+
+  private ByteBuf createPooledBuf(int size) {
+    ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer(size);
+    buf.writeZero(size);
+    return buf;
+  }
+
+  @Test
+  public void releaseAfterWritten() throws Exception {
+    int port = listen(10 * 10 + 100);
+
+    ByteBuf large = createPooledBuf(100);
+    CompletableFuture<Void> connected = new CompletableFuture<>();
+    vertx.createNetClient().connect(port, "127.0.0.1", ar -> {
+      connection.initNetSocket((NetSocketImpl) ar.result());
+      for (int idx = 0; idx < 10; idx++) {
+        connection.write(createPooledBuf(10));
+      }
+      connection.write(large);
+      connected.complete(null);
+    });
+    connected.get(10, TimeUnit.SECONDS);
+    receivedAll.get(10, TimeUnit.SECONDS);
+
+    // netty releases after the bytes flushed to the socket, which is before the server receive them
+    Assert.assertFalse(coalescingBuffers.isEmpty());
+    for (ByteBuf buf : coalescingBuffers) {
+      Assert.assertEquals(0, buf.refCnt());
+    }
+    Assert.assertEquals(0, large.refCnt());
+  }
+}
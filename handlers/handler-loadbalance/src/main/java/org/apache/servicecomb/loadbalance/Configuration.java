@@ -19,6 +19,9 @@ package org.apache.servicecomb.loadbalance;
 
 import java.util.Map;
 
+import org.apache.servicecomb.config.priority.PriorityPropertyManager;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.registry.config.ConfigurePropertyUtils;
 
 import com.netflix.config.DynamicPropertyFactory;
@@ -79,9 +82,57 @@ public final class Configuration {
 
   public static final Configuration INSTANCE = new Configuration();
 
+  // key is microservice name
+  private final Map<String, LoadbalanceConfig> loadbalanceConfigs = new ConcurrentHashMapEx<>();
+
+  // loadbalanceConfigs are managed by this manager
+  private volatile PriorityPropertyManager priorityPropertyManager;
+
   private Configuration() {
   }
 
+  /**
+   * resolved once and updated by config change event, no need to build keys and read archaius for each invocation
+   */
+  public LoadbalanceConfig getLoadbalanceConfig(String microservice) {
+    PriorityPropertyManager manager = SCBEngine.getInstance().getPriorityPropertyManager();
+    if (manager == null) {
+      // not run in a full engine, no one to update the config object, so read it every time
+      return readLoadbalanceConfig(microservice);
+    }
+
+    if (manager != priorityPropertyManager) {
+      resetLoadbalanceConfigs(manager);
+    }
+    return loadbalanceConfigs.computeIfAbsent(microservice,
+        name -> manager.createConfigObject(LoadbalanceConfig.class, "service", name));
+  }
+
+  private synchronized void resetLoadbalanceConfigs(PriorityPropertyManager manager) {
+    if (manager != priorityPropertyManager) {
+      loadbalanceConfigs.clear();
+      priorityPropertyManager = manager;
+    }
+  }
+
+  private LoadbalanceConfig readLoadbalanceConfig(String microservice) {
+    LoadbalanceConfig config = new LoadbalanceConfig();
+    config.setRuleStrategyName(getRuleStrategyName(microservice));
+    config.setSessionTimeoutInSeconds(getSessionTimeoutInSeconds(microservice));
+    config.setSuccessiveFailedTimes(getSuccessiveFailedTimes(microservice));
+    config.setRetryEnabled(isRetryEnabled(microservice));
+    config.setRetryNextServer(getRetryNextServer(microservice));
+    config.setRetrySameServer(getRetrySameServer(microservice));
+    config.setIsolationFilterOpen(isIsolationFilterOpen(microservice));
+    config.setErrorThresholdPercentage(getErrorThresholdPercentage(microservice));
+    config.setEnableRequestThreshold(getEnableRequestThreshold(microservice));
+    config.setSingleTestTime(getSingleTestTime(microservice));
+    config.setMinIsolationTime(getMinIsolationTime(microservice));
+    config.setRecoverImmediatelyWhenSuccess(isRecoverImmediatelyWhenSuccess(microservice));
+    config.setContinuousFailureThreshold(getContinuousFailureThreshold(microservice));
+    return config;
+  }
+
   public String getRuleStrategyName(String microservice) {
     return getStringProperty(null,
         ROOT + microservice + "." + RULE_STRATEGY_NAME,
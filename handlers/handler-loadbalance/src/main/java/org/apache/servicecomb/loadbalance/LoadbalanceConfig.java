@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.loadbalance;
+
+import org.apache.servicecomb.config.inject.InjectProperties;
+import org.apache.servicecomb.config.inject.InjectProperty;
+
+/**
+ * load balance configuration items of one microservice, resolved by priority keys and updated when config changed
+ */
+@InjectProperties(prefix = "servicecomb.loadbalance")
+public class LoadbalanceConfig {
+  private static final int MAX_PERCENTAGE = 100;
+
+  @InjectProperty(keys = {"${service}.strategy.name", "strategy.name"})
+  private String ruleStrategyName;
+
+  @InjectProperty(keys = {"${service}.SessionStickinessRule.sessionTimeoutInSeconds",
+      "SessionStickinessRule.sessionTimeoutInSeconds"}, defaultValue = "30")
+  private int sessionTimeoutInSeconds;
+
+  @InjectProperty(keys = {"${service}.SessionStickinessRule.successiveFailedTimes",
+      "SessionStickinessRule.successiveFailedTimes"}, defaultValue = "5")
+  private int successiveFailedTimes;
+
+  @InjectProperty(keys = {"${service}.retryEnabled", "retryEnabled"}, defaultValue = "false")
+  private boolean retryEnabled;
+
+  @InjectProperty(keys = {"${service}.retryOnNext", "retryOnNext"}, defaultValue = "0")
+  private int retryNextServer;
+
+  @InjectProperty(keys = {"${service}.retryOnSame", "retryOnSame"}, defaultValue = "0")
+  private int retrySameServer;
+
+  @InjectProperty(keys = {"${service}.isolation.enabled", "isolation.enabled"}, defaultValue = "true")
+  private boolean isolationFilterOpen;
+
+  @InjectProperty(keys = {"${service}.isolation.errorThresholdPercentage", "isolation.errorThresholdPercentage"},
+      defaultValue = "0")
+  private int errorThresholdPercentage;
+
+  @InjectProperty(keys = {"${service}.isolation.enableRequestThreshold", "isolation.enableRequestThreshold"},
+      defaultValue = "5")
+  private int enableRequestThreshold;
+
+  @InjectProperty(keys = {"${service}.isolation.singleTestTime", "isolation.singleTestTime"},
+      defaultValue = "60000")
+  private int singleTestTime;
+
+  @InjectProperty(keys = {"${service}.isolation.minIsolationTime", "isolation.minIsolationTime"},
+      defaultValue = "3000")
+  private int minIsolationTime;
+
+  @InjectProperty(keys = {"${service}.isolation.recoverImmediatelyWhenSuccess",
+      "isolation.recoverImmediatelyWhenSuccess"}, defaultValue = "true")
+  private boolean recoverImmediatelyWhenSuccess;
+
+  @InjectProperty(keys = {"${service}.isolation.continuousFailureThreshold", "isolation.continuousFailureThreshold"},
+      defaultValue = "5")
+  private int continuousFailureThreshold;
+
+  public String getRuleStrategyName() {
+    return ruleStrategyName;
+  }
+
+  public void setRuleStrategyName(String ruleStrategyName) {
+    this.ruleStrategyName = ruleStrategyName;
+  }
+
+  public int getSessionTimeoutInSeconds() {
+    return sessionTimeoutInSeconds;
+  }
+
+  public void setSessionTimeoutInSeconds(int sessionTimeoutInSeconds) {
+    this.sessionTimeoutInSeconds = sessionTimeoutInSeconds;
+  }
+
+  public int getSuccessiveFailedTimes() {
+    return successiveFailedTimes;
+  }
+
+  public void setSuccessiveFailedTimes(int successiveFailedTimes) {
+    this.successiveFailedTimes = successiveFailedTimes;
+  }
+
+  public boolean isRetryEnabled() {
+    return retryEnabled;
+  }
+
+  public void setRetryEnabled(boolean retryEnabled) {
+    this.retryEnabled = retryEnabled;
+  }
+
+  public int getRetryNextServer() {
+    return retryNextServer;
+  }
+
+  public void setRetryNextServer(int retryNextServer) {
+    this.retryNextServer = Math.max(retryNextServer, 0);
+  }
+
+  public int getRetrySameServer() {
+    return retrySameServer;
+  }
+
+  public void setRetrySameServer(int retrySameServer) {
+    this.retrySameServer = Math.max(retrySameServer, 0);
+  }
+
+  public boolean isIsolationFilterOpen() {
+    return isolationFilterOpen;
+  }
+
+  public void setIsolationFilterOpen(boolean isolationFilterOpen) {
+    this.isolationFilterOpen = isolationFilterOpen;
+  }
+
+  public int getErrorThresholdPercentage() {
+    return errorThresholdPercentage;
+  }
+
+  public void setErrorThresholdPercentage(int errorThresholdPercentage) {
+    this.errorThresholdPercentage = errorThresholdPercentage > 0 && errorThresholdPercentage <= MAX_PERCENTAGE ?
+        errorThresholdPercentage : 0;
+  }
+
+  public int getEnableRequestThreshold() {
+    return enableRequestThreshold;
+  }
+
+  public void setEnableRequestThreshold(int enableRequestThreshold) {
+    this.enableRequestThreshold = enableRequestThreshold > 0 ? enableRequestThreshold : 5;
+  }
+
+  public int getSingleTestTime() {
+    return singleTestTime;
+  }
+
+  public void setSingleTestTime(int singleTestTime) {
+    this.singleTestTime = singleTestTime >= 0 ? singleTestTime : 60000;
+  }
+
+  public int getMinIsolationTime() {
+    return minIsolationTime;
+  }
+
+  public void setMinIsolationTime(int minIsolationTime) {
+    this.minIsolationTime = minIsolationTime >= 0 ? minIsolationTime : 3000;
+  }
+
+  public boolean isRecoverImmediatelyWhenSuccess() {
+    return recoverImmediatelyWhenSuccess;
+  }
+
+  public void setRecoverImmediatelyWhenSuccess(boolean recoverImmediatelyWhenSuccess) {
+    this.recoverImmediatelyWhenSuccess = recoverImmediatelyWhenSuccess;
+  }
+
+  public int getContinuousFailureThreshold() {
+    return continuousFailureThreshold;
+  }
+
+  public void setContinuousFailureThreshold(int continuousFailureThreshold) {
+    this.continuousFailureThreshold = continuousFailureThreshold > 0 ? continuousFailureThreshold : 5;
+  }
+}
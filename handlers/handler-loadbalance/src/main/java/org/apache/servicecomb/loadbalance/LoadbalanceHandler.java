@@ -203,7 +203,8 @@ public class LoadbalanceHandler implements Handler {
       return;
     }
 
-    String strategy = Configuration.INSTANCE.getRuleStrategyName(invocation.getMicroserviceName());
+    LoadbalanceConfig config = Configuration.INSTANCE.getLoadbalanceConfig(invocation.getMicroserviceName());
+    String strategy = config.getRuleStrategyName();
     if (!Objects.equals(strategy, this.strategy)) {
       //配置变化，需要重新生成所有的lb实例
       synchronized (lock) {
@@ -214,7 +215,7 @@ public class LoadbalanceHandler implements Handler {
 
     LoadBalancer loadBalancer = getOrCreateLoadBalancer(invocation);
 
-    if (!Configuration.INSTANCE.isRetryEnabled(invocation.getMicroserviceName())) {
+    if (!config.isRetryEnabled()) {
       send(invocation, asyncResp, loadBalancer);
     } else {
       sendWithRetry(invocation, asyncResp, loadBalancer);
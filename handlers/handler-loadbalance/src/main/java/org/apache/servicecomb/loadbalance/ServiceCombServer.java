@@ -22,6 +22,7 @@ import java.net.URISyntaxException;
 
 import org.apache.servicecomb.core.Endpoint;
 import org.apache.servicecomb.core.Transport;
+import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.cache.CacheEndpoint;
 
@@ -41,6 +42,9 @@ public class ServiceCombServer extends Server {
 
   private final String microserviceName;
 
+  // parsed lazily, servers are cached by discovery tree, so parse only once for every version of instances
+  private volatile URIEndpointObject endpointObject;
+
   @VisibleForTesting
   ServiceCombServer(String microserviceName, Endpoint endpoint, MicroserviceInstance instance) {
     super(null);
@@ -86,6 +90,15 @@ public class ServiceCombServer extends Server {
     return endpoint;
   }
 
+  public URIEndpointObject getEndpointObject() {
+    if (endpointObject == null) {
+      Object address = endpoint.getAddress();
+      endpointObject = address instanceof URIEndpointObject ?
+          (URIEndpointObject) address : new URIEndpointObject(endpoint.getEndpoint());
+    }
+    return endpointObject;
+  }
+
   public MicroserviceInstance getInstance() {
     return instance;
   }
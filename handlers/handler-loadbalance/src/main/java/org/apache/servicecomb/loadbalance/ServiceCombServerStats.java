@@ -45,6 +45,12 @@ public class ServiceCombServerStats {
    */
   static AtomicReference<TryingIsolatedServerMarker> globalAllowIsolatedServerTryingFlag = new AtomicReference<>();
 
+  /**
+   * changed when any server may change between allowed and not allowed to visit, for isolation result cache.<br>
+   * successes of a server without failure can not make it isolated, so will not change the version.
+   */
+  private static final AtomicLong stateVersion = new AtomicLong();
+
   Clock clock;
 
   private long lastWindow;
@@ -87,6 +93,14 @@ public class ServiceCombServerStats {
     failedRequests = new AtomicLong(0L);
   }
 
+  public static long getStateVersion() {
+    return stateVersion.get();
+  }
+
+  private static void changeStateVersion() {
+    stateVersion.incrementAndGet();
+  }
+
   public static boolean isolatedServerCanTry() {
     TryingIsolatedServerMarker marker = globalAllowIsolatedServerTryingFlag.get();
     if (marker == null) {
@@ -103,10 +117,18 @@ public class ServiceCombServerStats {
   public static boolean applyForTryingChance(Invocation invocation) {
     TryingIsolatedServerMarker marker = globalAllowIsolatedServerTryingFlag.get();
     if (marker == null) {
-      return globalAllowIsolatedServerTryingFlag.compareAndSet(null, new TryingIsolatedServerMarker(invocation));
+      return occupyTryingChance(null, invocation);
     }
     if (marker.isOutdated()) {
-      return globalAllowIsolatedServerTryingFlag.compareAndSet(marker, new TryingIsolatedServerMarker(invocation));
+      return occupyTryingChance(marker, invocation);
+    }
+    return false;
+  }
+
+  private static boolean occupyTryingChance(TryingIsolatedServerMarker marker, Invocation invocation) {
+    if (globalAllowIsolatedServerTryingFlag.compareAndSet(marker, new TryingIsolatedServerMarker(invocation))) {
+      changeStateVersion();
+      return true;
     }
     return false;
   }
@@ -122,16 +144,20 @@ public class ServiceCombServerStats {
   public void markIsolated(boolean isolated) {
     this.isolated = isolated;
     this.isolatedTime = System.currentTimeMillis();
+    changeStateVersion();
   }
 
   public void markSuccess() {
     long time = clock.millis();
     ensureWindow(time);
 
+    // the success only changes isolation decisions when there are failures or the server is isolated
+    boolean stateChanged = isolated || failedRequests.get() > 0;
+
     if (isolated) {
-      if (Configuration.INSTANCE.isRecoverImmediatelyWhenSuccess(microserviceName)
-          && time - this.isolatedTime > Configuration.INSTANCE
-          .getMinIsolationTime(microserviceName)) {
+      LoadbalanceConfig config = Configuration.INSTANCE.getLoadbalanceConfig(microserviceName);
+      if (config.isRecoverImmediatelyWhenSuccess()
+          && time - this.isolatedTime > config.getMinIsolationTime()) {
         resetStats();
         LOGGER.info("trying server invocation success, and reset stats.");
       } else {
@@ -144,6 +170,9 @@ public class ServiceCombServerStats {
     continuousFailureCount.set(0);
     lastVisitTime = time;
     lastActiveTime = time;
+    if (stateChanged) {
+      changeStateVersion();
+    }
   }
 
   public void markFailure() {
@@ -156,6 +185,7 @@ public class ServiceCombServerStats {
       totalRequests.incrementAndGet();
       failedRequests.incrementAndGet();
       continuousFailureCount.incrementAndGet();
+      changeStateVersion();
     }
   }
 
@@ -95,10 +95,11 @@ public class SessionStickinessRule implements RuleExt {
   }
 
   private boolean isTimeOut() {
-    return Configuration.INSTANCE.getSessionTimeoutInSeconds(microserviceName) > 0
+    int sessionTimeoutInSeconds = Configuration.INSTANCE.getLoadbalanceConfig(microserviceName)
+        .getSessionTimeoutInSeconds();
+    return sessionTimeoutInSeconds > 0
         && System.currentTimeMillis()
-        - this.lastAccessedTime > ((long) Configuration.INSTANCE.getSessionTimeoutInSeconds(microserviceName)
-        * MILLI_COUNT_IN_SECOND);
+        - this.lastAccessedTime > ((long) sessionTimeoutInSeconds * MILLI_COUNT_IN_SECOND);
   }
 
   private boolean isErrorThresholdMet() {
@@ -107,8 +108,9 @@ public class SessionStickinessRule implements RuleExt {
     if (stats != null && stats.getServerStats() != null && stats.getServerStats().size() > 0) {
       ServerStats serverStats = stats.getSingleServerStat(lastServer);
       int successiveFailedCount = serverStats.getSuccessiveConnectionFailureCount();
-      if (Configuration.INSTANCE.getSuccessiveFailedTimes(microserviceName) > 0
-          && successiveFailedCount >= Configuration.INSTANCE.getSuccessiveFailedTimes(microserviceName)) {
+      int successiveFailedTimes = Configuration.INSTANCE.getLoadbalanceConfig(microserviceName)
+          .getSuccessiveFailedTimes();
+      if (successiveFailedTimes > 0 && successiveFailedCount >= successiveFailedTimes) {
         serverStats.clearSuccessiveConnectionFailureCount();
         return true;
       }
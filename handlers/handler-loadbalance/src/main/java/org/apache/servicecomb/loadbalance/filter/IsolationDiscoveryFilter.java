@@ -19,11 +19,13 @@ package org.apache.servicecomb.loadbalance.filter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.foundation.common.event.AlarmEvent.Type;
 import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.loadbalance.Configuration;
+import org.apache.servicecomb.loadbalance.LoadbalanceConfig;
 import org.apache.servicecomb.loadbalance.ServiceCombLoadBalancerStats;
 import org.apache.servicecomb.loadbalance.ServiceCombServer;
 import org.apache.servicecomb.loadbalance.ServiceCombServerStats;
@@ -50,6 +52,11 @@ public class IsolationDiscoveryFilter implements DiscoveryFilter {
 
   private static final String EMPTY_INSTANCE_PROTECTION = "servicecomb.loadbalance.filter.isolation.emptyInstanceProtectionEnabled";
 
+  private static final String CHILD_NAME = "filterred";
+
+  // attribute of parent node
+  private static final String ISOLATION_CACHE = "isolation-cache";
+
   private final DynamicBooleanProperty emptyProtection = DynamicPropertyFactory.getInstance()
       .getBooleanProperty(EMPTY_INSTANCE_PROTECTION, false);
 
@@ -63,6 +70,46 @@ public class IsolationDiscoveryFilter implements DiscoveryFilter {
     public int continuousFailureThreshold;
 
     public int minIsolationTime; // to avoid isolation recover too fast due to no concurrent control in concurrent scenario
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Settings)) {
+        return false;
+      }
+      Settings other = (Settings) o;
+      return errorThresholdPercentage == other.errorThresholdPercentage
+          && singleTestTime == other.singleTestTime
+          && enableRequestThreshold == other.enableRequestThreshold
+          && continuousFailureThreshold == other.continuousFailureThreshold
+          && minIsolationTime == other.minIsolationTime;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(errorThresholdPercentage, singleTestTime, enableRequestThreshold,
+          continuousFailureThreshold, minIsolationTime);
+    }
+  }
+
+  /**
+   * only cache the result that all instances are allowed to visit, other results depend on time and must
+   * evaluate every time
+   */
+  private static final class IsolationCache {
+    final long stateVersion;
+
+    final Settings settings;
+
+    final DiscoveryTreeNode child;
+
+    IsolationCache(long stateVersion, Settings settings, DiscoveryTreeNode child) {
+      this.stateVersion = stateVersion;
+      this.settings = settings;
+      this.child = child;
+    }
   }
 
   public EventBus eventBus = EventManager.getEventBus();
@@ -94,18 +141,34 @@ public class IsolationDiscoveryFilter implements DiscoveryFilter {
   public DiscoveryTreeNode discovery(DiscoveryContext context, DiscoveryTreeNode parent) {
     Map<String, MicroserviceInstance> instances = parent.data();
     Invocation invocation = context.getInputParameters();
-    if (!Configuration.INSTANCE.isIsolationFilterOpen(invocation.getMicroserviceName())) {
+    LoadbalanceConfig config = Configuration.INSTANCE.getLoadbalanceConfig(invocation.getMicroserviceName());
+    if (!config.isIsolationFilterOpen()) {
       return parent;
     }
 
+    // must read before evaluate, changes during evaluating will make the result not cacheable
+    long stateVersion = ServiceCombServerStats.getStateVersion();
+    Settings settings = createSettings(config);
+    IsolationCache cache = parent.attribute(ISOLATION_CACHE);
+    if (cache != null && cache.stateVersion == stateVersion && cache.settings.equals(settings)) {
+      return cache.child;
+    }
+
     Map<String, MicroserviceInstance> filteredServers = new HashMap<>();
     instances.entrySet().forEach(stringMicroserviceInstanceEntry -> {
       MicroserviceInstance instance = stringMicroserviceInstanceEntry.getValue();
-      if (allowVisit(invocation, instance)) {
+      if (allowVisit(invocation, instance, settings)) {
         filteredServers.put(stringMicroserviceInstanceEntry.getKey(), instance);
       }
     });
 
+    if (filteredServers.size() == instances.size() && stateVersion == ServiceCombServerStats.getStateVersion()) {
+      DiscoveryTreeNode child = new DiscoveryTreeNode().data(instances);
+      parent.child(CHILD_NAME, child);
+      parent.attribute(ISOLATION_CACHE, new IsolationCache(stateVersion, settings, child));
+      return child;
+    }
+
     DiscoveryTreeNode child = new DiscoveryTreeNode();
     if (ZoneAwareDiscoveryFilter.GROUP_Instances_All
         .equals(context.getContextParameter(ZoneAwareDiscoveryFilter.KEY_ZONE_AWARE_STEP)) && filteredServers.isEmpty()
@@ -115,32 +178,27 @@ public class IsolationDiscoveryFilter implements DiscoveryFilter {
     } else {
       child.data(filteredServers);
     }
-    parent.child("filterred", child);
+    parent.child(CHILD_NAME, child);
     return child;
   }
 
-  private Settings createSettings(Invocation invocation) {
+  private Settings createSettings(LoadbalanceConfig config) {
     Settings settings = new Settings();
-    settings.errorThresholdPercentage = Configuration.INSTANCE
-        .getErrorThresholdPercentage(invocation.getMicroserviceName());
-    settings.singleTestTime = Configuration.INSTANCE.getSingleTestTime(invocation.getMicroserviceName());
-    settings.enableRequestThreshold = Configuration.INSTANCE
-        .getEnableRequestThreshold(invocation.getMicroserviceName());
-    settings.continuousFailureThreshold = Configuration.INSTANCE
-        .getContinuousFailureThreshold(invocation.getMicroserviceName());
-    settings.minIsolationTime = Configuration.INSTANCE
-        .getMinIsolationTime(invocation.getMicroserviceName());
+    settings.errorThresholdPercentage = config.getErrorThresholdPercentage();
+    settings.singleTestTime = config.getSingleTestTime();
+    settings.enableRequestThreshold = config.getEnableRequestThreshold();
+    settings.continuousFailureThreshold = config.getContinuousFailureThreshold();
+    settings.minIsolationTime = config.getMinIsolationTime();
     return settings;
   }
 
-  private boolean allowVisit(Invocation invocation, MicroserviceInstance instance) {
+  private boolean allowVisit(Invocation invocation, MicroserviceInstance instance, Settings settings) {
     ServiceCombServer server = ServiceCombLoadBalancerStats.INSTANCE.getServiceCombServer(instance);
     if (server == null) {
       // first time accessed.
       return true;
     }
     ServiceCombServerStats serverStats = ServiceCombLoadBalancerStats.INSTANCE.getServiceCombServerStats(server);
-    Settings settings = createSettings(invocation);
     if (!checkThresholdAllowed(settings, serverStats)) {
       if (serverStats.isIsolated()
           && (System.currentTimeMillis() - serverStats.getLastVisitTime()) > settings.singleTestTime) {
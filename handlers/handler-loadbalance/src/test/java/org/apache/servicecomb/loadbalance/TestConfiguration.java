@@ -18,10 +18,15 @@
 package org.apache.servicecomb.loadbalance;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.bootstrap.SCBBootstrap;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.junit.After;
 import org.junit.Test;
@@ -189,4 +194,26 @@ public class TestConfiguration {
     ArchaiusUtils.setProperty("servicecomb.loadbalance.isolation.maxSingleTestWindow", 5000);
     assertEquals(5000, Configuration.INSTANCE.getMaxSingleTestWindow());
   }
+
+  @Test
+  public void getLoadbalanceConfig_updateWhenChanged() {
+    ConfigUtil.installDynamicConfig();
+    SCBEngine scbEngine = SCBBootstrap.createSCBEngineForTest();
+    try {
+      LoadbalanceConfig config = Configuration.INSTANCE.getLoadbalanceConfig("test");
+      assertSame(config, Configuration.INSTANCE.getLoadbalanceConfig("test"));
+      assertFalse(config.isRetryEnabled());
+      assertEquals(0, config.getRetryNextServer());
+
+      ArchaiusUtils.setProperty("servicecomb.loadbalance.retryEnabled", true);
+      ArchaiusUtils.setProperty("servicecomb.loadbalance.test.retryOnNext", 2);
+      assertTrue(config.isRetryEnabled());
+      assertEquals(2, config.getRetryNextServer());
+
+      ArchaiusUtils.setProperty("servicecomb.loadbalance.test.retryOnNext", -1);
+      assertEquals(0, config.getRetryNextServer());
+    } finally {
+      scbEngine.destroy();
+    }
+  }
 }
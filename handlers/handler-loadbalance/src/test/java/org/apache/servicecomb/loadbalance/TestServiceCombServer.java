@@ -20,6 +20,7 @@ package org.apache.servicecomb.loadbalance;
 import static org.junit.Assert.assertNotNull;
 
 import org.apache.servicecomb.core.Transport;
+import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.cache.CacheEndpoint;
 import org.junit.Assert;
@@ -87,4 +88,30 @@ public class TestServiceCombServer {
     cs.hashCode();
     assertNotNull(cs.hashCode());
   }
+
+  @Test
+  public void testGetEndpointObject() {
+    MicroserviceInstance instance = new MicroserviceInstance();
+    instance.setInstanceId("1234");
+    ServiceCombServer server = new ServiceCombServer(null, transport,
+        new CacheEndpoint("rest://127.0.0.1:8080?sslEnabled=true", instance));
+
+    URIEndpointObject endpointObject = server.getEndpointObject();
+    Assert.assertEquals("127.0.0.1", endpointObject.getHostOrIp());
+    Assert.assertEquals(8080, endpointObject.getPort());
+    Assert.assertTrue(endpointObject.isSslEnabled());
+    Assert.assertSame(endpointObject, server.getEndpointObject());
+  }
+
+  @Test
+  public void testGetEndpointObjectFromAddress() {
+    URIEndpointObject address = new URIEndpointObject("rest://127.0.0.1:8080");
+    Mockito.when(transport.parseAddress("rest://127.0.0.1:8080")).thenReturn(address);
+    MicroserviceInstance instance = new MicroserviceInstance();
+    instance.setInstanceId("1234");
+    ServiceCombServer server = new ServiceCombServer(null, transport,
+        new CacheEndpoint("rest://127.0.0.1:8080", instance));
+
+    Assert.assertSame(address, server.getEndpointObject());
+  }
 }
@@ -102,6 +102,30 @@ public class IsolationDiscoveryFilterTest {
     Assert.assertEquals(data.get("i2"), childNodeData.get("i2"));
   }
 
+  @Test
+  public void discovery_cache_until_state_changed() {
+    DiscoveryTreeNode childNode = filter.discovery(discoveryContext, discoveryTreeNode);
+    Assert.assertSame(childNode, filter.discovery(discoveryContext, discoveryTreeNode));
+    Assert.assertSame(data, childNode.data());
+
+    // success without failure will not change the result
+    ServiceCombServer server0 = ServiceCombLoadBalancerStats.INSTANCE.getServiceCombServer(data.get("i0"));
+    ServiceCombLoadBalancerStats.INSTANCE.markSuccess(server0);
+    Assert.assertSame(childNode, filter.discovery(discoveryContext, discoveryTreeNode));
+
+    ServiceCombLoadBalancerStats.INSTANCE.markFailure(server0);
+    DiscoveryTreeNode newChildNode = filter.discovery(discoveryContext, discoveryTreeNode);
+    Assert.assertNotSame(childNode, newChildNode);
+    Assert.assertThat(newChildNode.<Map<String, MicroserviceInstance>>data().keySet(),
+        Matchers.containsInAnyOrder("i0", "i1", "i2"));
+
+    ServiceCombLoadBalancerStats.INSTANCE.markIsolated(server0, true);
+    newChildNode = filter.discovery(discoveryContext, discoveryTreeNode);
+    Assert.assertThat(newChildNode.<Map<String, MicroserviceInstance>>data().keySet(),
+        Matchers.containsInAnyOrder("i1", "i2"));
+    Assert.assertNotSame(newChildNode, filter.discovery(discoveryContext, discoveryTreeNode));
+  }
+
   @Test
   public void discovery_isolate_error_instance() {
     ServiceCombServer server0 = ServiceCombLoadBalancerStats.INSTANCE.getServiceCombServer(data.get("i0"));
@@ -17,6 +17,7 @@
 package org.apache.servicecomb.router.distribute;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,11 +28,12 @@ import org.apache.servicecomb.router.cache.RouterRuleCache;
 import org.apache.servicecomb.router.custom.MicroserviceCache;
 import org.apache.servicecomb.router.model.PolicyRuleItem;
 import org.apache.servicecomb.router.model.RouteItem;
+import org.apache.servicecomb.router.model.RouteTable;
+import org.apache.servicecomb.router.model.RouteTable.ServerGroups;
 import org.apache.servicecomb.router.model.TagItem;
 import org.apache.servicecomb.router.util.VersionCompareUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.CollectionUtils;
 
 import com.netflix.loadbalancer.Server;
 
@@ -56,25 +58,47 @@ public abstract class AbstractRouterDistributor<T extends Server, E> implements
 
   @Override
   public List<T> distribute(String targetServiceName, List<T> list, PolicyRuleItem invokeRule) {
+    RouteTable<T> routeTable = RouterRuleCache.getServiceInfoCacheMap().get(targetServiceName)
+        .getOrCreateRouteTable(invokeRule, rule -> createRouteTable(targetServiceName, list, rule));
+
+    // server list instance is kept until instances changed, so groups only rebuild on changes
+    ServerGroups<T> serverGroups = routeTable.getServerGroups();
+    if (serverGroups == null || !serverGroups.isSameServers(list)) {
+      serverGroups = createServerGroups(targetServiceName, list, invokeRule);
+      routeTable.setServerGroups(serverGroups);
+    }
+
+    if (serverGroups.getTagServers().isEmpty()) {
+      LOGGER.debug("route management can not match any rule and route the latest version");
+      return serverGroups.getLatestVersionServers();
+    }
+
+    TagItem targetTag = routeTable.nextTag();
+    List<T> servers = serverGroups.getTagServers().get(targetTag);
+    if (servers != null) {
+      return servers;
+    }
+    return serverGroups.getLatestVersionServers();
+  }
+
+  private RouteTable<T> createRouteTable(String targetServiceName, List<T> list, PolicyRuleItem invokeRule) {
     //init LatestVersion
     initLatestVersion(targetServiceName, list);
 
     invokeRule.check(
         RouterRuleCache.getServiceInfoCacheMap().get(targetServiceName).getLatestVersionTag());
+    return new RouteTable<>(invokeRule);
+  }
 
-    // get tag list
-    Map<TagItem, List<T>> versionServerMap = getDistributList(targetServiceName, list, invokeRule);
-
-    if (CollectionUtils.isEmpty(versionServerMap)) {
-      LOGGER.debug("route management can not match any rule and route the latest version");
-      return getLatestVersionList(list, targetServiceName);
-    }
+  private ServerGroups<T> createServerGroups(String targetServiceName, List<T> list, PolicyRuleItem invokeRule) {
+    initLatestVersion(targetServiceName, list);
 
-    TagItem targetTag = getFiltedServerTagItem(invokeRule, targetServiceName);
-    if (versionServerMap.containsKey(targetTag)) {
-      return versionServerMap.get(targetTag);
-    }
-    return getLatestVersionList(list, targetServiceName);
+    // get tag list
+    Map<TagItem, List<T>> versionServerMap = new HashMap<>();
+    getDistributList(targetServiceName, list, invokeRule)
+        .forEach((tag, servers) -> versionServerMap.put(tag, Collections.unmodifiableList(servers)));
+    return new ServerGroups<>(list, versionServerMap,
+        Collections.unmodifiableList(getLatestVersionList(list, targetServiceName)));
   }
 
   @Override
@@ -88,9 +112,14 @@ public abstract class AbstractRouterDistributor<T extends Server, E> implements
     this.getProperties = getProperties;
   }
 
+  /**
+   * @deprecated tag is selected by {@link RouteTable#nextTag()} in {@link #distribute}
+   */
+  @Deprecated
   public TagItem getFiltedServerTagItem(PolicyRuleItem rule, String targetServiceName) {
     return RouterRuleCache.getServiceInfoCacheMap().get(targetServiceName)
-        .getNextInvokeVersion(rule);
+        .getOrCreateRouteTable(rule, RouteTable::new)
+        .nextTag();
   }
 
   /**
@@ -41,10 +41,18 @@ public class RouteItem implements Comparable<RouteItem> {
     }
   }
 
+  /**
+   * @deprecated weighted selection is done by {@link RouteTable#nextTag()}, this only changes currentWeight
+   */
+  @Deprecated
   public void addCurrentWeight() {
     currentWeight += weight;
   }
 
+  /**
+   * @deprecated weighted selection is done by {@link RouteTable#nextTag()}, this only changes currentWeight
+   */
+  @Deprecated
   public void reduceCurrentWeight(int total) {
     currentWeight -= total;
   }
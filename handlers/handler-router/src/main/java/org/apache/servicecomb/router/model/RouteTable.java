@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.router.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * precomputed route result of one rule
+ *
+ * weighted tag sequence is built once from the rule, servers grouped by tag are
+ * rebuilt only when the server list instance changed
+ */
+public class RouteTable<T> {
+
+  private final TagItem[] weightedTags;
+
+  private final AtomicInteger nextIndex = new AtomicInteger();
+
+  private volatile ServerGroups<T> serverGroups;
+
+  public RouteTable(PolicyRuleItem rule) {
+    this.weightedTags = createWeightedTags(rule.getRoute());
+  }
+
+  /**
+   * same sequence as smooth weighted round robin, one full cycle
+   */
+  private static TagItem[] createWeightedTags(List<RouteItem> route) {
+    int total = route.stream().mapToInt(RouteItem::getWeight).sum();
+    if (total <= 0) {
+      return new TagItem[] {route.get(0).getTagitem()};
+    }
+
+    TagItem[] tags = new TagItem[total];
+    int[] currentWeights = new int[route.size()];
+    for (int idx = 0; idx < total; idx++) {
+      int maxIndex = 0, maxWeight = Integer.MIN_VALUE;
+      for (int i = 0; i < route.size(); i++) {
+        currentWeights[i] += route.get(i).getWeight();
+        if (maxWeight < currentWeights[i]) {
+          maxIndex = i;
+          maxWeight = currentWeights[i];
+        }
+      }
+      currentWeights[maxIndex] -= total;
+      tags[idx] = route.get(maxIndex).getTagitem();
+    }
+    return tags;
+  }
+
+  public TagItem nextTag() {
+    int index = nextIndex.getAndIncrement() & Integer.MAX_VALUE;
+    return weightedTags[index % weightedTags.length];
+  }
+
+  public ServerGroups<T> getServerGroups() {
+    return serverGroups;
+  }
+
+  public void setServerGroups(ServerGroups<T> serverGroups) {
+    this.serverGroups = serverGroups;
+  }
+
+  public static class ServerGroups<T> {
+    private final List<T> servers;
+
+    private final Map<TagItem, List<T>> tagServers;
+
+    private final List<T> latestVersionServers;
+
+    public ServerGroups(List<T> servers, Map<TagItem, List<T>> tagServers, List<T> latestVersionServers) {
+      this.servers = servers;
+      this.tagServers = tagServers;
+      this.latestVersionServers = latestVersionServers;
+    }
+
+    /**
+     * only identity is checked, the list instance is kept by load balance until instances changed<br>
+     * but when some instances are isolated, a new list is created for every invocation, then groups are
+     * rebuilt for every invocation too, that is correct but slower
+     */
+    public boolean isSameServers(List<T> servers) {
+      return this.servers == servers;
+    }
+
+    public Map<TagItem, List<T>> getTagServers() {
+      return tagServers;
+    }
+
+    public List<T> getLatestVersionServers() {
+      return latestVersionServers;
+    }
+  }
+}
@@ -17,6 +17,9 @@
 package org.apache.servicecomb.router.model;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +35,11 @@ public class ServiceInfoCache {
    */
   private TagItem latestVersionTag;
 
+  /**
+   * rule instance to route table, rules change will create a new ServiceInfoCache
+   */
+  private final Map<PolicyRuleItem, RouteTable<?>> routeTables = new ConcurrentHashMap<>();
+
   public ServiceInfoCache() {
   }
 
@@ -49,21 +57,22 @@ public class ServiceInfoCache {
     allrule = allrule.stream().sorted().collect(Collectors.toList());
   }
 
+  /**
+   * @deprecated use {@link #getOrCreateRouteTable} and {@link RouteTable#nextTag()} instead
+   */
+  @Deprecated
   public TagItem getNextInvokeVersion(PolicyRuleItem policyRuleItem) {
-    List<RouteItem> rule = policyRuleItem.getRoute();
-    if (policyRuleItem.getTotal() == null) {
-      policyRuleItem.setTotal(rule.stream().mapToInt(RouteItem::getWeight).sum());
-    }
-    rule.stream().forEach(RouteItem::addCurrentWeight);
-    int maxIndex = 0, maxWeight = -1;
-    for (int i = 0; i < rule.size(); i++) {
-      if (maxWeight < rule.get(i).getCurrentWeight()) {
-        maxIndex = i;
-        maxWeight = rule.get(i).getCurrentWeight();
-      }
+    return getOrCreateRouteTable(policyRuleItem, RouteTable::new).nextTag();
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> RouteTable<T> getOrCreateRouteTable(PolicyRuleItem rule,
+      Function<PolicyRuleItem, RouteTable<T>> factory) {
+    RouteTable<?> routeTable = routeTables.get(rule);
+    if (routeTable == null) {
+      routeTable = routeTables.computeIfAbsent(rule, factory);
     }
-    rule.get(maxIndex).reduceCurrentWeight(policyRuleItem.getTotal());
-    return rule.get(maxIndex).getTagitem();
+    return (RouteTable<T>) routeTable;
   }
 
   public List<PolicyRuleItem> getAllrule() {
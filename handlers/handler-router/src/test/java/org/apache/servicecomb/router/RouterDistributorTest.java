@@ -102,6 +102,30 @@ public class RouterDistributorTest {
     Assert.assertEquals("02", serverList.get(0).getHost());
   }
 
+  @Test
+  public void testWeightedRouteReuseServerGroups() {
+    Map<String, String> headermap = new HashMap<>();
+    headermap.put("userId", "01");
+    headermap.put("appId", "01");
+    List<ServiceIns> list = getMockList();
+    RouterDistributor<ServiceIns, ServiceIns> testDistributer = new TestDistributor();
+    List<ServiceIns> first = mainFilter(list, headermap, testDistributer);
+    List<ServiceIns> second = RouterFilter
+        .getFilteredListOfServers(list, TARGET_SERVICE_NAME, headermap, testDistributer);
+    List<ServiceIns> third = RouterFilter
+        .getFilteredListOfServers(list, TARGET_SERVICE_NAME, headermap, testDistributer);
+
+    Assert.assertEquals("02", first.get(0).getHost());
+    Assert.assertEquals("01", second.get(0).getHost());
+    Assert.assertSame(first, third);
+
+    // new server list instance, rebuild groups
+    List<ServiceIns> fourth = RouterFilter
+        .getFilteredListOfServers(getMockList(), TARGET_SERVICE_NAME, headermap, testDistributer);
+    Assert.assertEquals("01", fourth.get(0).getHost());
+    Assert.assertNotSame(second, fourth);
+  }
+
   private List<ServiceIns> getMockList() {
     List<ServiceIns> serverList = new ArrayList<>();
     ServiceIns ins1 = new ServiceIns("01");
@@ -114,7 +138,11 @@ public class RouterDistributorTest {
   }
 
   private List<ServiceIns> mainFilter(List<ServiceIns> serverlist, Map<String, String> headermap) {
-    RouterDistributor<ServiceIns, ServiceIns> testDistributer = new TestDistributor();
+    return mainFilter(serverlist, headermap, new TestDistributor());
+  }
+
+  private List<ServiceIns> mainFilter(List<ServiceIns> serverlist, Map<String, String> headermap,
+      RouterDistributor<ServiceIns, ServiceIns> testDistributer) {
     DynamicPropertyFactory dpf = DynamicPropertyFactory.getInstance();
     DynamicStringProperty rule = new DynamicStringProperty("", RULE_STRING);
     new Expectations(dpf) {
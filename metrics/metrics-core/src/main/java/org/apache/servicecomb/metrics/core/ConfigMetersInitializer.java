@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.config.event.ConfigObjectsUpdatedEvent;
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.netflix.spectator.api.Registry;
+
+/**
+ * time spent applying changed config keys to config objects, and count of updated config object properties
+ */
+public class ConfigMetersInitializer implements MetricsInitializer {
+  public static final String CONFIG_APPLY = "servicecomb.config.apply";
+
+  public static final String CONFIG_APPLY_PROPERTIES = "servicecomb.config.apply.properties";
+
+  private Registry registry;
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    registry = globalRegistry.getDefaultRegistry();
+
+    eventBus.register(this);
+  }
+
+  @Subscribe
+  @AllowConcurrentEvents
+  public void onConfigObjectsUpdated(ConfigObjectsUpdatedEvent event) {
+    registry.timer(CONFIG_APPLY).record(event.getTimeNanos(), TimeUnit.NANOSECONDS);
+
+    if (event.getUpdatedProperties() != 0) {
+      registry.counter(CONFIG_APPLY_PROPERTIES).increment(event.getUpdatedProperties());
+    }
+  }
+}
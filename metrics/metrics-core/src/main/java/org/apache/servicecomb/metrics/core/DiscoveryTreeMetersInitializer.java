@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.registry.api.event.DiscoveryTreeRebuildEvent;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.netflix.spectator.api.Registry;
+
+public class DiscoveryTreeMetersInitializer implements MetricsInitializer {
+  public static final String DISCOVERY_TREE_REBUILD = "servicecomb.discovery.tree.rebuild";
+
+  public static final String TAG_APP_ID = "appId";
+
+  public static final String TAG_MICROSERVICE = "microservice";
+
+  public static final String TAG_VERSION_RULE = "versionRule";
+
+  private Registry registry;
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    registry = globalRegistry.getDefaultRegistry();
+
+    eventBus.register(this);
+  }
+
+  @Subscribe
+  @AllowConcurrentEvents
+  public void onDiscoveryTreeRebuild(DiscoveryTreeRebuildEvent event) {
+    registry.counter(DISCOVERY_TREE_REBUILD,
+        TAG_APP_ID, String.valueOf(event.getAppId()),
+        TAG_MICROSERVICE, String.valueOf(event.getMicroserviceName()),
+        TAG_VERSION_RULE, String.valueOf(event.getVersionRule()))
+        .increment();
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.registry.api.event.InstancesPulledEvent;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.netflix.spectator.api.Registry;
+
+/**
+ * latency of pulling instances from registry, and count of pulled microservices by result<br>
+ * not modified ratio is notModified / (updated + notModified + notFound + failed)
+ */
+public class InstancePullMetersInitializer implements MetricsInitializer {
+  public static final String INSTANCE_PULL = "servicecomb.registry.instance.pull";
+
+  public static final String INSTANCE_PULL_RESULT = "servicecomb.registry.instance.pull.result";
+
+  public static final String TAG_MODE = "mode";
+
+  public static final String TAG_RESULT = "result";
+
+  public static final String RESULT_UPDATED = "updated";
+
+  public static final String RESULT_NOT_MODIFIED = "notModified";
+
+  public static final String RESULT_NOT_FOUND = "notFound";
+
+  public static final String RESULT_FAILED = "failed";
+
+  private Registry registry;
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    registry = globalRegistry.getDefaultRegistry();
+
+    eventBus.register(this);
+  }
+
+  @Subscribe
+  @AllowConcurrentEvents
+  public void onInstancesPulled(InstancesPulledEvent event) {
+    registry.timer(INSTANCE_PULL, TAG_MODE, event.getMode())
+        .record(event.getTimeNanos(), TimeUnit.NANOSECONDS);
+
+    increment(event.getMode(), RESULT_UPDATED, event.getUpdated());
+    increment(event.getMode(), RESULT_NOT_MODIFIED, event.getNotModified());
+    increment(event.getMode(), RESULT_NOT_FOUND, event.getNotFound());
+    increment(event.getMode(), RESULT_FAILED, event.getFailed());
+  }
+
+  private void increment(String mode, String result, int count) {
+    if (count == 0) {
+      return;
+    }
+
+    registry.counter(INSTANCE_PULL_RESULT, TAG_MODE, mode, TAG_RESULT, result).increment(count);
+  }
+}
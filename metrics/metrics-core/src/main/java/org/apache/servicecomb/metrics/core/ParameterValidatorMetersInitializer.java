@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.servicecomb.core.filter.impl.ParameterValidatorFilter;
+import org.apache.servicecomb.foundation.common.utils.BeanUtils;
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+
+/**
+ * count invocations that executed or skipped parameter validation
+ */
+public class ParameterValidatorMetersInitializer implements MetricsInitializer {
+  public static final String PARAMETER_VALIDATOR = "servicecomb.filter.parameterValidator";
+
+  public static final String TAG_ID = "id";
+
+  public static final String TAG_RESULT = "result";
+
+  public static final String RESULT_VALIDATED = "validated";
+
+  public static final String RESULT_SKIPPED = "skipped";
+
+  private Registry registry;
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    registry = globalRegistry.getDefaultRegistry();
+
+    if (BeanUtils.getContext() == null) {
+      return;
+    }
+
+    Map<String, ParameterValidatorFilter> filters = BeanUtils.getContext()
+        .getBeansOfType(ParameterValidatorFilter.class);
+    for (Entry<String, ParameterValidatorFilter> entry : filters.entrySet()) {
+      createMeters(entry.getKey(), entry.getValue());
+    }
+  }
+
+  public void createMeters(String id, ParameterValidatorFilter filter) {
+    PolledMeter.using(registry)
+        .withName(PARAMETER_VALIDATOR)
+        .withTag(TAG_ID, id)
+        .withTag(TAG_RESULT, RESULT_VALIDATED)
+        .monitorMonotonicCounter(filter, ParameterValidatorFilter::getValidatedCount);
+    PolledMeter.using(registry)
+        .withName(PARAMETER_VALIDATOR)
+        .withTag(TAG_ID, id)
+        .withTag(TAG_RESULT, RESULT_SKIPPED)
+        .monitorMonotonicCounter(filter, ParameterValidatorFilter::getSkippedCount);
+  }
+}
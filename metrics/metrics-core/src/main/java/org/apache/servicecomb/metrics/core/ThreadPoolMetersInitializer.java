@@ -27,6 +27,8 @@ import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.executor.GroupExecutor;
 import org.apache.servicecomb.core.executor.ThreadPoolExecutorEx;
+import org.apache.servicecomb.core.executor.WorkStealingGroupExecutor;
+import org.apache.servicecomb.core.executor.WorkStealingGroupExecutor.Group;
 import org.apache.servicecomb.foundation.common.utils.BeanUtils;
 import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
 import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
@@ -42,6 +44,10 @@ import com.netflix.spectator.api.patterns.ThreadPoolMonitor;
 public class ThreadPoolMetersInitializer implements MetricsInitializer {
   public static String REJECTED_COUNT = "threadpool.rejectedCount";
 
+  public static String QUEUE_SIZE = "threadpool.queueSize";
+
+  public static String STEAL_COUNT = "threadpool.stealCount";
+
   private Registry registry;
 
   @Override
@@ -67,6 +73,11 @@ public class ThreadPoolMetersInitializer implements MetricsInitializer {
         continue;
       }
 
+      if (executor instanceof WorkStealingGroupExecutor) {
+        createThreadPoolMeters(entry.getKey(), (WorkStealingGroupExecutor) executor);
+        continue;
+      }
+
       createThreadPoolMeters(entry.getKey(), executor);
     }
   }
@@ -88,6 +99,25 @@ public class ThreadPoolMetersInitializer implements MetricsInitializer {
     }
   }
 
+  protected void createThreadPoolMeters(String threadPoolName, WorkStealingGroupExecutor executor) {
+    for (Group group : executor.getGroups()) {
+      Tag idTag = new BasicTag("id", threadPoolName + "-group" + group.getIndex());
+
+      PolledMeter.using(registry)
+          .withName(QUEUE_SIZE)
+          .withTag(idTag)
+          .monitorValue(group, Group::getQueueSize);
+      PolledMeter.using(registry)
+          .withName(STEAL_COUNT)
+          .withTag(idTag)
+          .monitorMonotonicCounter(group, Group::getStealCount);
+      PolledMeter.using(registry)
+          .withName(REJECTED_COUNT)
+          .withTag(idTag)
+          .monitorMonotonicCounter(group, Group::getRejectedCount);
+    }
+  }
+
   protected void createThreadPoolMeters(String threadPoolName, Executor executor) {
     if (!ThreadPoolExecutor.class.isInstance(executor)) {
       return;
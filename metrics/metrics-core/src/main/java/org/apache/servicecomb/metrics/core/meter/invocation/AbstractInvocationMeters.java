@@ -17,8 +17,11 @@
 package org.apache.servicecomb.metrics.core.meter.invocation;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.event.InvocationFinishEvent;
 import org.apache.servicecomb.core.event.InvocationStartEvent;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
@@ -29,8 +32,19 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.api.SpectatorUtils;
 
 public abstract class AbstractInvocationMeters {
+  private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
+  // status code in [MIN_STATUS_CODE, MAX_STATUS_CODE] will be cached in array, others still use metersMap
+  private static final int MIN_STATUS_CODE = 100;
+
+  private static final int MAX_STATUS_CODE = 599;
+
   protected Registry registry;
 
+  // different instances(consumer/producer/edge) must not share meters cached in OperationMeta
+  private final String operationMetersKey =
+      AbstractInvocationMeters.class.getName() + "-" + INSTANCE_COUNTER.incrementAndGet();
+
   private Map<String, AbstractInvocationMeter> metersMap = new ConcurrentHashMapEx<>();
 
   // not care for concurrency, just for make build key faster 
@@ -77,13 +91,56 @@ public abstract class AbstractInvocationMeters {
     });
   }
 
+  /**
+   * meters are resolved once for each OperationMeta/transport/status code, and cached in OperationMeta<br>
+   * so after warm up, there is no allocation to find the meter
+   */
+  protected AbstractInvocationMeter findMeters(Invocation invocation, Response response) {
+    int statusCode = response.getStatusCode();
+    if (statusCode < MIN_STATUS_CODE || statusCode > MAX_STATUS_CODE) {
+      return getOrCreateMeters(invocation, response);
+    }
+
+    AtomicReferenceArray<AbstractInvocationMeter> statusMeters = findStatusMeters(invocation);
+    if (statusMeters == null) {
+      return getOrCreateMeters(invocation, response);
+    }
+
+    int idx = statusCode - MIN_STATUS_CODE;
+    AbstractInvocationMeter meter = statusMeters.get(idx);
+    if (meter == null) {
+      // getOrCreateMeters always return the same instance, so not care for concurrency
+      meter = getOrCreateMeters(invocation, response);
+      statusMeters.set(idx, meter);
+    }
+    return meter;
+  }
+
+  private AtomicReferenceArray<AbstractInvocationMeter> findStatusMeters(Invocation invocation) {
+    OperationMeta operationMeta = invocation.getOperationMeta();
+    String transportName = invocation.getRealTransportName();
+    if (operationMeta == null || transportName == null) {
+      return null;
+    }
+
+    Map<String, AtomicReferenceArray<AbstractInvocationMeter>> metersByTransport =
+        operationMeta.getExtData(operationMetersKey);
+    if (metersByTransport == null) {
+      metersByTransport = new ConcurrentHashMapEx<>();
+      operationMeta.putExtData(operationMetersKey, metersByTransport);
+    }
+
+    return metersByTransport.computeIfAbsent(transportName,
+        k -> new AtomicReferenceArray<>(MAX_STATUS_CODE - MIN_STATUS_CODE + 1));
+  }
+
   protected abstract AbstractInvocationMeter createMeter(Id id);
 
   public void onInvocationStart(InvocationStartEvent event) {
   }
 
   public void onInvocationFinish(InvocationFinishEvent event) {
-    AbstractInvocationMeter meters = getOrCreateMeters(event.getInvocation(), event.getResponse());
+    AbstractInvocationMeter meters = findMeters(event.getInvocation(), event.getResponse());
     meters.onInvocationFinish(event);
   }
 }
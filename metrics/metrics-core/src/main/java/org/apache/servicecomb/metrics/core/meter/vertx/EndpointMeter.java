@@ -45,6 +45,16 @@ public class EndpointMeter {
 
   public static final String LATENCY = "latency";
 
+  public static final String WRITES = "writes";
+
+  public static final String WRITES_PER_MESSAGE = "writesPerMessage";
+
+  public static final String WRITE_BATCH = "writeBatch";
+
+  public static final String BATCH_SIZE = "batchSize";
+
+  public static final String BATCH_SIZE_MAX = "max";
+
   protected Id id;
 
   private Id idConnect;
@@ -61,6 +71,12 @@ public class EndpointMeter {
 
   private Id idLatency;
 
+  private Id idWrites;
+
+  private Id idWritesPerMessage;
+
+  private Id[] idWriteBatches = new Id[DefaultEndpointMetric.WRITE_BATCH_BOUNDS.length];
+
   protected DefaultEndpointMetric metric;
 
   private long lastConnectCount;
@@ -75,6 +91,12 @@ public class EndpointMeter {
 
   private long lastLatency;
 
+  private long lastWrites;
+
+  private long lastWrittenMessages;
+
+  private long[] lastWriteBatches = new long[DefaultEndpointMetric.WRITE_BATCH_BOUNDS.length];
+
   public EndpointMeter(Id id, DefaultEndpointMetric metric) {
     id = id.withTag(ADDRESS, metric.getAddress());
     this.id = id;
@@ -85,6 +107,13 @@ public class EndpointMeter {
     idBytesWritten = id.withTag(STATISTIC, BYTES_WRITTEN);
     idRequests = id.withTag(STATISTIC, REQUESTS);
     idLatency = id.withTag(STATISTIC, LATENCY);
+    idWrites = id.withTag(STATISTIC, WRITES);
+    idWritesPerMessage = id.withTag(STATISTIC, WRITES_PER_MESSAGE);
+    for (int idx = 0; idx < idWriteBatches.length; idx++) {
+      int bound = DefaultEndpointMetric.WRITE_BATCH_BOUNDS[idx];
+      idWriteBatches[idx] = id.withTag(STATISTIC, WRITE_BATCH)
+          .withTag(BATCH_SIZE, bound == Integer.MAX_VALUE ? BATCH_SIZE_MAX : String.valueOf(bound));
+    }
     this.metric = metric;
   }
 
@@ -119,5 +148,30 @@ public class EndpointMeter {
     this.lastBytesWritten = bytesWritten;
     this.lastRequests = requests;
     this.lastLatency = latency;
+
+    calcWriteMeasurements(measurements, msNow, secondInterval);
+  }
+
+  private void calcWriteMeasurements(List<Measurement> measurements, long msNow, double secondInterval) {
+    long writes = metric.getWrites();
+    if (writes == 0) {
+      // not a tcp endpoint, or nothing written yet
+      return;
+    }
+
+    long writtenMessages = metric.getWrittenMessages();
+    long deltaWrites = writes - lastWrites;
+    long deltaMessages = writtenMessages - lastWrittenMessages;
+    measurements.add(newMeasurement(idWrites, msNow, deltaWrites / secondInterval));
+    measurements.add(newMeasurement(idWritesPerMessage, msNow,
+        deltaMessages == 0 ? 0 : (double) deltaWrites / deltaMessages));
+    for (int idx = 0; idx < idWriteBatches.length; idx++) {
+      long count = metric.getWriteBatchCount(idx);
+      measurements.add(newMeasurement(idWriteBatches[idx], msNow, count - lastWriteBatches[idx]));
+      lastWriteBatches[idx] = count;
+    }
+
+    this.lastWrites = writes;
+    this.lastWrittenMessages = writtenMessages;
   }
 }
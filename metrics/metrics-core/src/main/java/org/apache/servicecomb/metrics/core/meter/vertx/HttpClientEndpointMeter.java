@@ -27,18 +27,30 @@ import com.netflix.spectator.api.Measurement;
 public class HttpClientEndpointMeter extends EndpointMeter {
   public static final String QUEUE_COUNT = "queueCount";
 
+  public static final String REUSE_COUNT = "reuseCount";
+
   private Id idQueueCount;
 
+  private Id idReuseCount;
+
+  private long lastReuseCount;
+
   public HttpClientEndpointMeter(Id id, DefaultEndpointMetric metric) {
     super(id, metric);
     idQueueCount = this.id.withTag(STATISTIC, QUEUE_COUNT);
+    idReuseCount = this.id.withTag(STATISTIC, REUSE_COUNT);
   }
 
   @Override
   public void calcMeasurements(List<Measurement> measurements, long msNow, double secondInterval) {
     super.calcMeasurements(measurements, msNow, secondInterval);
 
-    long queueCount = ((DefaultClientEndpointMetric) metric).getQueueCount();
+    DefaultClientEndpointMetric clientEndpointMetric = (DefaultClientEndpointMetric) metric;
+    long queueCount = clientEndpointMetric.getQueueCount();
     measurements.add(newMeasurement(idQueueCount, msNow, queueCount));
+
+    long reuseCount = clientEndpointMetric.getReuseCount();
+    measurements.add(newMeasurement(idReuseCount, msNow, reuseCount - lastReuseCount));
+    this.lastReuseCount = reuseCount;
   }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import org.apache.servicecomb.config.event.ConfigObjectsUpdatedEvent;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.ManualClock;
+import com.netflix.spectator.api.Registry;
+
+public class TestConfigMetersInitializer {
+  GlobalRegistry globalRegistry = new GlobalRegistry(new ManualClock());
+
+  Registry registry = new DefaultRegistry(globalRegistry.getClock());
+
+  EventBus eventBus = new EventBus();
+
+  @Test
+  public void recordApplyTimeAndProperties() {
+    globalRegistry.add(registry);
+    new ConfigMetersInitializer().init(globalRegistry, eventBus, null);
+
+    eventBus.post(new ConfigObjectsUpdatedEvent(1, 0, 100));
+    eventBus.post(new ConfigObjectsUpdatedEvent(200, 30, 300));
+
+    Assert.assertEquals(2, registry.timer(ConfigMetersInitializer.CONFIG_APPLY).count());
+    Assert.assertEquals(400, registry.timer(ConfigMetersInitializer.CONFIG_APPLY).totalTime());
+    Assert.assertEquals(30, registry.counter(ConfigMetersInitializer.CONFIG_APPLY_PROPERTIES).count());
+  }
+}
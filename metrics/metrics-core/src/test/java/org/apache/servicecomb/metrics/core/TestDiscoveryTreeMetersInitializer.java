@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.registry.api.event.DiscoveryTreeRebuildEvent;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.ManualClock;
+import com.netflix.spectator.api.Registry;
+
+public class TestDiscoveryTreeMetersInitializer {
+  GlobalRegistry globalRegistry = new GlobalRegistry(new ManualClock());
+
+  Registry registry = new DefaultRegistry(globalRegistry.getClock());
+
+  EventBus eventBus = new EventBus();
+
+  @Test
+  public void countRebuildPerMicroservice() {
+    globalRegistry.add(registry);
+    new DiscoveryTreeMetersInitializer().init(globalRegistry, eventBus, null);
+
+    eventBus.post(new DiscoveryTreeRebuildEvent("app", "ms1", "0+"));
+    eventBus.post(new DiscoveryTreeRebuildEvent("app", "ms1", "0+"));
+    eventBus.post(new DiscoveryTreeRebuildEvent("app", "ms2", "0+"));
+
+    Assert.assertEquals(2, registry.counter(DiscoveryTreeMetersInitializer.DISCOVERY_TREE_REBUILD,
+        "appId", "app", "microservice", "ms1", "versionRule", "0+").count());
+    Assert.assertEquals(1, registry.counter(DiscoveryTreeMetersInitializer.DISCOVERY_TREE_REBUILD,
+        "appId", "app", "microservice", "ms2", "versionRule", "0+").count());
+  }
+}
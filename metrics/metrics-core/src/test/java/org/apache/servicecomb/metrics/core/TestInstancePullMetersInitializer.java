@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.registry.api.event.InstancesPulledEvent;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.ManualClock;
+import com.netflix.spectator.api.Registry;
+
+public class TestInstancePullMetersInitializer {
+  GlobalRegistry globalRegistry = new GlobalRegistry(new ManualClock());
+
+  Registry registry = new DefaultRegistry(globalRegistry.getClock());
+
+  EventBus eventBus = new EventBus();
+
+  @Test
+  public void recordPullLatencyAndResults() {
+    globalRegistry.add(registry);
+    new InstancePullMetersInitializer().init(globalRegistry, eventBus, null);
+
+    eventBus.post(new InstancesPulledEvent(InstancesPulledEvent.MODE_SINGLE, 100)
+        .addResult(new MicroserviceInstances()));
+    eventBus.post(new InstancesPulledEvent(InstancesPulledEvent.MODE_BATCH, 300)
+        .addResult(new MicroserviceInstances().setNeedRefresh(false))
+        .addResult(new MicroserviceInstances().setNeedRefresh(false))
+        .addResult(new MicroserviceInstances().setMicroserviceNotExist(true).setNeedRefresh(false))
+        .addResult(null));
+
+    Assert.assertEquals(1, registry.timer(InstancePullMetersInitializer.INSTANCE_PULL,
+        "mode", "single").count());
+    Assert.assertEquals(300, registry.timer(InstancePullMetersInitializer.INSTANCE_PULL,
+        "mode", "batch").totalTime());
+    Assert.assertEquals(1, registry.counter(InstancePullMetersInitializer.INSTANCE_PULL_RESULT,
+        "mode", "single", "result", "updated").count());
+    Assert.assertEquals(2, registry.counter(InstancePullMetersInitializer.INSTANCE_PULL_RESULT,
+        "mode", "batch", "result", "notModified").count());
+    Assert.assertEquals(1, registry.counter(InstancePullMetersInitializer.INSTANCE_PULL_RESULT,
+        "mode", "batch", "result", "notFound").count());
+    Assert.assertEquals(1, registry.counter(InstancePullMetersInitializer.INSTANCE_PULL_RESULT,
+        "mode", "batch", "result", "failed").count());
+    Assert.assertEquals(0, registry.counter(InstancePullMetersInitializer.INSTANCE_PULL_RESULT,
+        "mode", "batch", "result", "updated").count());
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.servicecomb.core.filter.impl.ParameterValidatorFilter;
+import org.apache.servicecomb.foundation.common.utils.BeanUtils;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.context.ApplicationContext;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.ManualClock;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+
+import mockit.Expectations;
+import mockit.Mocked;
+
+public class TestParameterValidatorMetersInitializer {
+  GlobalRegistry globalRegistry = new GlobalRegistry();
+
+  Registry registry = new DefaultRegistry(new ManualClock());
+
+  ParameterValidatorMetersInitializer initializer = new ParameterValidatorMetersInitializer();
+
+  @Mocked
+  ApplicationContext applicationContext;
+
+  @Mocked
+  ParameterValidatorFilter filter;
+
+  @Test
+  public void init() {
+    new Expectations(BeanUtils.class) {
+      {
+        BeanUtils.getContext();
+        result = applicationContext;
+        applicationContext.getBeansOfType(ParameterValidatorFilter.class);
+        result = Collections.singletonMap("parameterValidatorFilter", filter);
+      }
+    };
+
+    globalRegistry.add(registry);
+    initializer.init(globalRegistry, null, null);
+
+    PolledMeter.update(registry);
+    List<String> result = new ArrayList<>();
+    registry.iterator().forEachRemaining(meter -> result.add(meter.id().toString()));
+
+    Assert.assertThat(result, Matchers.containsInAnyOrder(
+        "servicecomb.filter.parameterValidator:id=parameterValidatorFilter:result=validated",
+        "servicecomb.filter.parameterValidator:id=parameterValidatorFilter:result=skipped"));
+  }
+}
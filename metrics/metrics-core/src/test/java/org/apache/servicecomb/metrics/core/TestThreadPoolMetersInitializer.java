@@ -32,6 +32,7 @@ import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.executor.GroupExecutor;
+import org.apache.servicecomb.core.executor.WorkStealingGroupExecutor;
 import org.apache.servicecomb.foundation.common.utils.BeanUtils;
 import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
 import org.hamcrest.Matchers;
@@ -45,6 +46,7 @@ import com.netflix.spectator.api.ManualClock;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.api.patterns.PolledMeter;
 
+import mockit.Deencapsulation;
 import mockit.Expectations;
 import mockit.Mock;
 import mockit.MockUp;
@@ -148,4 +150,24 @@ public class TestThreadPoolMetersInitializer {
             "[Measurement(threadpool.queueSize:id=groupExecutor-group0,0,10.0)]",
             "[Measurement(threadpool.taskCount:id=groupExecutor-group0,0,0.0)]"));
   }
+
+  @Test
+  public void workStealingGroupExecutor() {
+    WorkStealingGroupExecutor workStealingGroupExecutor = new WorkStealingGroupExecutor().init();
+    Deencapsulation.setField(threadPoolMetersInitializer, "registry", registry);
+
+    threadPoolMetersInitializer.createThreadPoolMeters("workStealing", workStealingGroupExecutor);
+
+    PolledMeter.update(registry);
+    List<String> result = new ArrayList<>();
+    registry.iterator().forEachRemaining(meter -> result.add(meter.id().toString()));
+
+    Assert.assertThat(result,
+        Matchers.containsInAnyOrder("threadpool.queueSize:id=workStealing-group0",
+            "threadpool.stealCount:id=workStealing-group0",
+            "threadpool.rejectedCount:id=workStealing-group0",
+            "threadpool.queueSize:id=workStealing-group1",
+            "threadpool.stealCount:id=workStealing-group1",
+            "threadpool.rejectedCount:id=workStealing-group1"));
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter.invocation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.servicecomb.core.Const;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.foundation.common.http.HttpStatus;
+import org.apache.servicecomb.swagger.invocation.InvocationType;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.ManualClock;
+
+public class TestAbstractInvocationMeters {
+  ProducerInvocationMeters invocationMeters = new ProducerInvocationMeters(new DefaultRegistry(new ManualClock()));
+
+  Map<String, Object> extData = new HashMap<>();
+
+  OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+
+  Invocation invocation = Mockito.mock(Invocation.class);
+
+  @Before
+  public void setup() {
+    Mockito.when(operationMeta.getExtData(Mockito.anyString()))
+        .thenAnswer(invocation -> extData.get(invocation.<String>getArgument(0)));
+    Mockito.doAnswer(invocation -> extData.put(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(operationMeta).putExtData(Mockito.anyString(), Mockito.any());
+
+    Mockito.when(invocation.getOperationMeta()).thenReturn(operationMeta);
+    Mockito.when(invocation.getInvocationType()).thenReturn(InvocationType.PRODUCER);
+    Mockito.when(invocation.getRealTransportName()).thenReturn(Const.RESTFUL);
+    Mockito.when(invocation.getMicroserviceQualifiedName()).thenReturn("m.s.o");
+  }
+
+  @Test
+  public void should_cache_meters_in_operation_meta() {
+    AbstractInvocationMeter ok = invocationMeters.findMeters(invocation, Response.ok(null));
+
+    Assert.assertEquals(1, extData.size());
+    Assert.assertSame(ok, invocationMeters.findMeters(invocation, Response.ok(null)));
+    Assert.assertNotSame(ok, invocationMeters.findMeters(invocation, Response.status(new HttpStatus(500, ""))));
+  }
+
+  @Test
+  public void should_share_meters_with_invalid_status() {
+    AbstractInvocationMeter invalid = invocationMeters.findMeters(invocation, Response.status(new HttpStatus(0, "")));
+    Assert.assertTrue(extData.isEmpty());
+    Assert.assertSame(invalid, invocationMeters.findMeters(invocation, Response.status(new HttpStatus(0, ""))));
+  }
+
+  @Test
+  public void should_not_share_meters_with_different_transport() {
+    AbstractInvocationMeter rest = invocationMeters.findMeters(invocation, Response.ok(null));
+    Mockito.when(invocation.getRealTransportName()).thenReturn(Const.HIGHWAY);
+    Assert.assertNotSame(rest, invocationMeters.findMeters(invocation, Response.ok(null)));
+  }
+
+  @Test
+  public void should_not_share_cache_between_instances() {
+    ConsumerInvocationMeters consumerMeters = new ConsumerInvocationMeters(new DefaultRegistry(new ManualClock()));
+    Mockito.when(invocation.getInvocationType()).thenReturn(InvocationType.CONSUMER);
+
+    AbstractInvocationMeter producer = invocationMeters.findMeters(invocation, Response.ok(null));
+    AbstractInvocationMeter consumer = consumerMeters.findMeters(invocation, Response.ok(null));
+
+    Assert.assertEquals(2, extData.size());
+    Assert.assertNotSame(producer, consumer);
+  }
+}
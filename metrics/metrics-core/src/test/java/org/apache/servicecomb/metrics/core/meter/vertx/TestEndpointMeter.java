@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter.vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultEndpointMetric;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.ManualClock;
+import com.netflix.spectator.api.Measurement;
+import com.netflix.spectator.api.Tag;
+
+public class TestEndpointMeter {
+  DefaultEndpointMetric metric = new DefaultEndpointMetric("127.0.0.1:7070");
+
+  EndpointMeter meter = new EndpointMeter(new DefaultRegistry(new ManualClock()).createId("endpoint"), metric);
+
+  private Map<String, Double> calcWriteMeasurements(double secondInterval) {
+    List<Measurement> measurements = new ArrayList<>();
+    meter.calcMeasurements(measurements, 0, secondInterval);
+
+    Map<String, Double> values = new HashMap<>();
+    for (Measurement measurement : measurements) {
+      Id id = measurement.id();
+      String statistic = findTag(id, EndpointMeter.STATISTIC);
+      String batchSize = findTag(id, EndpointMeter.BATCH_SIZE);
+      values.put(batchSize == null ? statistic : statistic + "." + batchSize, measurement.value());
+    }
+    return values;
+  }
+
+  private String findTag(Id id, String key) {
+    for (Tag tag : id.tags()) {
+      if (key.equals(tag.key())) {
+        return tag.value();
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void should_not_measure_writes_when_nothing_written() {
+    Map<String, Double> values = calcWriteMeasurements(1);
+
+    Assert.assertFalse(values.containsKey(EndpointMeter.WRITES));
+    Assert.assertFalse(values.containsKey(EndpointMeter.WRITES_PER_MESSAGE));
+  }
+
+  @Test
+  public void should_measure_write_batches_by_interval() {
+    metric.onWriteBatch(1);
+    metric.onWriteBatch(3);
+    metric.onWriteBatch(200);
+
+    Map<String, Double> values = calcWriteMeasurements(2);
+    Assert.assertEquals(1.5, values.get(EndpointMeter.WRITES), 0);
+    Assert.assertEquals(3.0 / 204, values.get(EndpointMeter.WRITES_PER_MESSAGE), 0.0001);
+    Assert.assertEquals(1, values.get(EndpointMeter.WRITE_BATCH + ".1"), 0);
+    Assert.assertEquals(0, values.get(EndpointMeter.WRITE_BATCH + ".2"), 0);
+    Assert.assertEquals(1, values.get(EndpointMeter.WRITE_BATCH + ".4"), 0);
+    Assert.assertEquals(1, values.get(EndpointMeter.WRITE_BATCH + "." + EndpointMeter.BATCH_SIZE_MAX), 0);
+
+    // only delta of the next interval
+    metric.onWriteBatch(4);
+    values = calcWriteMeasurements(1);
+    Assert.assertEquals(1, values.get(EndpointMeter.WRITES), 0);
+    Assert.assertEquals(0.25, values.get(EndpointMeter.WRITES_PER_MESSAGE), 0);
+    Assert.assertEquals(0, values.get(EndpointMeter.WRITE_BATCH + ".1"), 0);
+    Assert.assertEquals(1, values.get(EndpointMeter.WRITE_BATCH + ".4"), 0);
+    Assert.assertEquals(0, values.get(EndpointMeter.WRITE_BATCH + "." + EndpointMeter.BATCH_SIZE_MAX), 0);
+  }
+}
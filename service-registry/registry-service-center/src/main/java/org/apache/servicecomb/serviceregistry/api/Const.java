@@ -88,6 +88,9 @@ public final class Const {
       }
     }
 
+    // only supported by v4
+    public static final String MICROSERVICE_INSTANCES_ACTION = V4_PREFIX + "/instances/action";
+
     public static final String MICROSERVICE_PROPERTIES;
 
     static {
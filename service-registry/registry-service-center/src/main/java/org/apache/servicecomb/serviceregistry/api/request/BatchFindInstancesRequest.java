@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.serviceregistry.api.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * request of service center batch find instances api
+ */
+public class BatchFindInstancesRequest {
+  public static class FindService {
+    private FindServiceKey service;
+
+    private String rev;
+
+    public FindServiceKey getService() {
+      return service;
+    }
+
+    public FindService setService(FindServiceKey service) {
+      this.service = service;
+      return this;
+    }
+
+    public String getRev() {
+      return rev;
+    }
+
+    public FindService setRev(String rev) {
+      this.rev = rev;
+      return this;
+    }
+  }
+
+  public static class FindServiceKey {
+    private String environment;
+
+    private String appId;
+
+    private String serviceName;
+
+    private String version;
+
+    public String getEnvironment() {
+      return environment;
+    }
+
+    public FindServiceKey setEnvironment(String environment) {
+      this.environment = environment;
+      return this;
+    }
+
+    public String getAppId() {
+      return appId;
+    }
+
+    public FindServiceKey setAppId(String appId) {
+      this.appId = appId;
+      return this;
+    }
+
+    public String getServiceName() {
+      return serviceName;
+    }
+
+    public FindServiceKey setServiceName(String serviceName) {
+      this.serviceName = serviceName;
+      return this;
+    }
+
+    public String getVersion() {
+      return version;
+    }
+
+    public FindServiceKey setVersion(String version) {
+      this.version = version;
+      return this;
+    }
+  }
+
+  private List<FindService> services = new ArrayList<>();
+
+  public List<FindService> getServices() {
+    return services;
+  }
+
+  public void setServices(List<FindService> services) {
+    this.services = services;
+  }
+
+  public BatchFindInstancesRequest addService(FindService service) {
+    services.add(service);
+    return this;
+  }
+}
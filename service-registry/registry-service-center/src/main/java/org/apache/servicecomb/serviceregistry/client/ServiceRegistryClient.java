@@ -17,6 +17,7 @@
 
 package org.apache.servicecomb.serviceregistry.client;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,7 @@ import org.apache.servicecomb.serviceregistry.api.registry.ServiceCenterInfo;
 import org.apache.servicecomb.serviceregistry.api.response.GetSchemaResponse;
 import org.apache.servicecomb.serviceregistry.api.response.HeartbeatResponse;
 import org.apache.servicecomb.serviceregistry.client.http.Holder;
+import org.apache.servicecomb.serviceregistry.registry.cache.MicroserviceCacheKey;
 
 public interface ServiceRegistryClient {
   void init();
@@ -161,6 +163,20 @@ public interface ServiceRegistryClient {
   MicroserviceInstances findServiceInstances(String consumerId, String appId, String serviceName,
       String versionRule, String revision);
 
+  /**
+   * find instances of many microservices by one request<br>
+   * key of revisions is the microservice to find, value is the revision pulled last time<br>
+   * value of result is null if failed to find the microservice, result is null if the whole request failed<br>
+   * default implementation find them one by one
+   */
+  default Map<MicroserviceCacheKey, MicroserviceInstances> batchFindServiceInstances(String consumerId,
+      Map<MicroserviceCacheKey, String> revisions) {
+    Map<MicroserviceCacheKey, MicroserviceInstances> result = new LinkedHashMap<>();
+    revisions.forEach((key, revision) -> result.put(key,
+        findServiceInstances(consumerId, key.getAppId(), key.getServiceName(), key.getVersionRule(), revision)));
+    return result;
+  }
+
   /**
    * 通过serviceId， instanceId 获取instance对象。
    * @param serviceId
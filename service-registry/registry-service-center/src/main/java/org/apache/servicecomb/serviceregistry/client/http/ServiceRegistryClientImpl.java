@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -44,10 +45,17 @@ import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
 import org.apache.servicecomb.serviceregistry.RegistryUtils;
 import org.apache.servicecomb.serviceregistry.api.Const;
 import org.apache.servicecomb.serviceregistry.api.registry.ServiceCenterInfo;
+import org.apache.servicecomb.serviceregistry.api.request.BatchFindInstancesRequest;
+import org.apache.servicecomb.serviceregistry.api.request.BatchFindInstancesRequest.FindService;
+import org.apache.servicecomb.serviceregistry.api.request.BatchFindInstancesRequest.FindServiceKey;
 import org.apache.servicecomb.serviceregistry.api.request.CreateSchemaRequest;
 import org.apache.servicecomb.serviceregistry.api.request.CreateServiceRequest;
 import org.apache.servicecomb.serviceregistry.api.request.RegisterInstanceRequest;
 import org.apache.servicecomb.serviceregistry.api.request.UpdatePropertiesRequest;
+import org.apache.servicecomb.serviceregistry.api.response.BatchFindInstancesResponse;
+import org.apache.servicecomb.serviceregistry.api.response.BatchFindInstancesResponse.BatchFindResult;
+import org.apache.servicecomb.serviceregistry.api.response.BatchFindInstancesResponse.FailedResult;
+import org.apache.servicecomb.serviceregistry.api.response.BatchFindInstancesResponse.UpdatedResult;
 import org.apache.servicecomb.serviceregistry.api.response.CreateServiceResponse;
 import org.apache.servicecomb.serviceregistry.api.response.GetAllServicesResponse;
 import org.apache.servicecomb.serviceregistry.api.response.GetExistenceResponse;
@@ -62,6 +70,7 @@ import org.apache.servicecomb.serviceregistry.client.ClientException;
 import org.apache.servicecomb.serviceregistry.client.IpPortManager;
 import org.apache.servicecomb.serviceregistry.client.ServiceRegistryClient;
 import org.apache.servicecomb.serviceregistry.config.ServiceRegistryConfig;
+import org.apache.servicecomb.serviceregistry.registry.cache.MicroserviceCacheKey;
 import org.apache.servicecomb.serviceregistry.task.HeartbeatResult;
 import org.apache.servicecomb.serviceregistry.task.MicroserviceInstanceHeartbeatTask;
 import org.slf4j.Logger;
@@ -793,6 +802,98 @@ public final class ServiceRegistryClientImpl implements ServiceRegistryClient {
     return null;
   }
 
+  @Override
+  public Map<MicroserviceCacheKey, MicroserviceInstances> batchFindServiceInstances(String consumerId,
+      Map<MicroserviceCacheKey, String> revisions) {
+    if (Const.REGISTRY_API.VERSION_V3.equals(Const.REGISTRY_API.CURRENT_VERSION)) {
+      return ServiceRegistryClient.super.batchFindServiceInstances(consumerId, revisions);
+    }
+
+    List<MicroserviceCacheKey> keys = new ArrayList<>(revisions.keySet());
+    BatchFindInstancesRequest request = new BatchFindInstancesRequest();
+    for (MicroserviceCacheKey key : keys) {
+      request.addService(new FindService()
+          .setService(new FindServiceKey()
+              .setEnvironment(key.getEnv())
+              .setAppId(key.getAppId())
+              .setServiceName(key.getServiceName())
+              .setVersion(key.getVersionRule()))
+          .setRev(revisions.get(key)));
+    }
+
+    Holder<BatchFindInstancesResponse> holder = new Holder<>();
+    IpPort ipPort = ipPortManager.getAvailableAddress();
+    try {
+      RequestParam requestParam = new RequestParam()
+          .addQueryParam("type", "query")
+          .setBody(JsonUtils.writeValueAsBytes(request));
+      if (consumerId != null) {
+        requestParam.addHeader("X-ConsumerId", consumerId);
+      }
+
+      CountDownLatch countDownLatch = new CountDownLatch(1);
+      restClientUtil.post(ipPort,
+          Const.REGISTRY_API.MICROSERVICE_INSTANCES_ACTION,
+          requestParam,
+          syncHandler(countDownLatch, BatchFindInstancesResponse.class, holder));
+      countDownLatch.await();
+      if (holder.value != null && holder.value.getServices() != null) {
+        return toMicroserviceInstances(keys, revisions, holder.value.getServices());
+      }
+    } catch (Exception e) {
+      LOGGER.error("batch find instances of {} microservices failed", keys.size(), e);
+    }
+    return null;
+  }
+
+  @VisibleForTesting
+  static Map<MicroserviceCacheKey, MicroserviceInstances> toMicroserviceInstances(List<MicroserviceCacheKey> keys,
+      Map<MicroserviceCacheKey, String> revisions, BatchFindResult batchFindResult) {
+    // microservices not in any result list are treated as failed
+    Map<MicroserviceCacheKey, MicroserviceInstances> result = new LinkedHashMap<>();
+    keys.forEach(key -> result.put(key, null));
+
+    if (batchFindResult.getUpdated() != null) {
+      for (UpdatedResult updated : batchFindResult.getUpdated()) {
+        List<MicroserviceInstance> instances =
+            updated.getInstances() == null ? new ArrayList<>() : updated.getInstances();
+        result.put(keys.get(updated.getIndex()), new MicroserviceInstances()
+            .setNeedRefresh(true)
+            .setRevision(updated.getRev())
+            .setInstancesResponse(new FindInstancesResponse().setInstances(instances)));
+      }
+    }
+
+    if (batchFindResult.getNotModified() != null) {
+      for (Integer index : batchFindResult.getNotModified()) {
+        MicroserviceCacheKey key = keys.get(index);
+        result.put(key, new MicroserviceInstances()
+            .setNeedRefresh(false)
+            .setRevision(revisions.get(key)));
+      }
+    }
+
+    if (batchFindResult.getFailed() != null) {
+      for (FailedResult failed : batchFindResult.getFailed()) {
+        boolean notExist = failed.getError() != null
+            && ERR_SERVICE_NOT_EXISTS.equals(failed.getError().get(ERROR_CODE));
+        LOGGER.warn("failed to find instances of {} microservices in batch, error={}.",
+            failed.getIndexes() == null ? 0 : failed.getIndexes().size(), failed.getError());
+        if (!notExist || failed.getIndexes() == null) {
+          continue;
+        }
+
+        for (Integer index : failed.getIndexes()) {
+          result.put(keys.get(index), new MicroserviceInstances()
+              .setMicroserviceNotExist(true)
+              .setNeedRefresh(false)
+              .setRevision(""));
+        }
+      }
+    }
+    return result;
+  }
+
   private void watchErrorHandler(Throwable e, String selfMicroserviceId,
       AsyncResultCallback<MicroserviceInstanceChangedEvent> callback) {
     LOGGER.error(
@@ -91,6 +91,9 @@ public class ServiceRegistryConfig {
 
   private int instancePullInterval;
 
+  // max number of microservices in one batch find request, less than 2 means not use batch find
+  private int instancePullBatchSize;
+
   private boolean registryAutoDiscovery;
 
   private int resendHeartBeatTimes;
@@ -261,6 +264,15 @@ public class ServiceRegistryConfig {
     return this;
   }
 
+  public int getInstancePullBatchSize() {
+    return instancePullBatchSize;
+  }
+
+  public ServiceRegistryConfig setInstancePullBatchSize(int instancePullBatchSize) {
+    this.instancePullBatchSize = instancePullBatchSize;
+    return this;
+  }
+
   public boolean isRegistryAutoDiscovery() {
     return registryAutoDiscovery;
   }
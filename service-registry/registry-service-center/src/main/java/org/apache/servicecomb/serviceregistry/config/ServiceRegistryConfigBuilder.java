@@ -60,6 +60,7 @@ class ServiceRegistryConfigBuilder {
         .setHeartBeatRequestTimeout(getHeartBeatRequestTimeout())
         .setHeartbeatInterval(getHeartbeatInterval())
         .setInstancePullInterval(getInstancePullInterval())
+        .setInstancePullBatchSize(getInstancePullBatchSize())
         .setRegistryAutoDiscovery(isRegistryAutoDiscovery())
         .setResendHeartBeatTimes(getResendHeartBeatTimes())
         .setAlwaysOverrideSchema(isAlwaysOverrideSchema())
@@ -196,6 +197,13 @@ class ServiceRegistryConfigBuilder {
     return interval < 0 ? ServiceRegistryConfig.DEFAULT_CHECK_INTERVAL_IN_S : interval;
   }
 
+  public int getInstancePullBatchSize() {
+    DynamicIntProperty property =
+        DynamicPropertyFactory.getInstance()
+            .getIntProperty("servicecomb.service.registry.instance.pull.batchSize", 0);
+    return property.get();
+  }
+
   public boolean isRegistryAutoDiscovery() {
     DynamicBooleanProperty property =
         DynamicPropertyFactory.getInstance()
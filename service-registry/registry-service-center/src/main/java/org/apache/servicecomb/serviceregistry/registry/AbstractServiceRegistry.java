@@ -95,6 +95,7 @@ public abstract class AbstractServiceRegistry implements ServiceRegistry {
 
   private void initCache() {
     serviceRegistryCache = new RefreshableServiceRegistryCache(microservice, srClient);
+    serviceRegistryCache.setInstancePullBatchSize(serviceRegistryConfig.getInstancePullBatchSize());
     serviceRegistryCache.setCacheRefreshedWatcher(
         caches -> eventBus.post(new MicroserviceCacheRefreshedEvent(caches)));
   }
@@ -23,7 +23,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
+import org.apache.servicecomb.registry.api.event.InstancesPulledEvent;
 import org.apache.servicecomb.registry.api.event.MicroserviceInstanceChangedEvent;
 import org.apache.servicecomb.registry.api.registry.Microservice;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
@@ -83,8 +85,27 @@ public class RefreshableMicroserviceCache implements MicroserviceCache {
   }
 
   void pullInstance(String revisionId) {
+    long start = System.nanoTime();
     MicroserviceInstances serviceInstances = pullInstanceFromServiceCenter(revisionId);
+    EventManager.post(new InstancesPulledEvent(InstancesPulledEvent.MODE_SINGLE, System.nanoTime() - start)
+        .addResult(serviceInstances));
 
+    setPulledInstances(serviceInstances);
+  }
+
+  /**
+   * instances pulled by {@link RefreshableServiceRegistryCache} in batch
+   */
+  void safeSetPulledInstances(MicroserviceInstances serviceInstances) {
+    try {
+      setPulledInstances(serviceInstances);
+    } catch (Throwable e) {
+      LOGGER.error("unknown error occurs while setting pulled instances", e);
+      setStatus(MicroserviceCacheStatus.UNKNOWN_ERROR);
+    }
+  }
+
+  private void setPulledInstances(MicroserviceInstances serviceInstances) {
     if (serviceInstances == null) {
       LOGGER.error("Can not find any instances from service center due to previous errors. service={}/{}/{}",
           key.getAppId(),
@@ -17,7 +17,9 @@
 
 package org.apache.servicecomb.serviceregistry.registry.cache;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,13 +28,19 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.foundation.common.event.EventManager;
+import org.apache.servicecomb.registry.api.event.InstancesPulledEvent;
 import org.apache.servicecomb.registry.api.event.MicroserviceInstanceChangedEvent;
 import org.apache.servicecomb.registry.api.registry.Microservice;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+import org.apache.servicecomb.registry.consumer.InstancePullExecutor;
 import org.apache.servicecomb.serviceregistry.client.ServiceRegistryClient;
 import org.apache.servicecomb.serviceregistry.registry.cache.MicroserviceCache.MicroserviceCacheStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+
 /**
  * Cache the pulled microservice instances.
  */
@@ -51,6 +59,11 @@ public class RefreshableServiceRegistryCache implements ServiceRegistryCache {
 
   ReentrantLock refreshLock = new ReentrantLock();
 
+  // less than 2 means not use batch find
+  int instancePullBatchSize;
+
+  InstancePullExecutor instancePullExecutor = new InstancePullExecutor("service-center");
+
   public RefreshableServiceRegistryCache(Microservice consumerService, ServiceRegistryClient srClient) {
     this.consumerService = consumerService;
     this.srClient = srClient;
@@ -73,13 +86,53 @@ public class RefreshableServiceRegistryCache implements ServiceRegistryCache {
   }
 
   private List<MicroserviceCache> refreshInnerState() {
-    return microserviceCache.values().stream()
-        .peek(cache -> cache.refresh())
+    List<RefreshableMicroserviceCache> caches = new ArrayList<>(microserviceCache.values());
+    if (instancePullBatchSize > 1) {
+      List<Runnable> tasks = new ArrayList<>();
+      for (List<RefreshableMicroserviceCache> batch : Lists.partition(caches, instancePullBatchSize)) {
+        tasks.add(() -> refreshBatch(batch));
+      }
+      instancePullExecutor.runAll(tasks);
+    } else {
+      instancePullExecutor.runAll(caches.stream()
+          .map(cache -> (Runnable) cache::refresh)
+          .collect(Collectors.toList()));
+    }
+
+    return caches.stream()
         .filter(this::isRefreshedMicroserviceCache)
         .peek(this::removeCacheIfServiceNotFound)
         .collect(Collectors.toList());
   }
 
+  void refreshBatch(List<RefreshableMicroserviceCache> batch) {
+    Map<MicroserviceCacheKey, String> revisions = new LinkedHashMap<>();
+    batch.forEach(cache -> revisions.put(cache.getKey(), cache.getRevisionId()));
+
+    long start = System.nanoTime();
+    Map<MicroserviceCacheKey, MicroserviceInstances> result = batchFindServiceInstances(revisions);
+    if (result == null) {
+      // maybe service center not support batch find, fallback to find one by one
+      LOGGER.warn("failed to batch find instances of {} microservices, try to find them one by one.", batch.size());
+      batch.forEach(RefreshableMicroserviceCache::refresh);
+      return;
+    }
+
+    InstancesPulledEvent event = new InstancesPulledEvent(InstancesPulledEvent.MODE_BATCH,
+        System.nanoTime() - start);
+    for (RefreshableMicroserviceCache cache : batch) {
+      MicroserviceInstances microserviceInstances = result.get(cache.getKey());
+      event.addResult(microserviceInstances);
+      cache.safeSetPulledInstances(microserviceInstances);
+    }
+    EventManager.post(event);
+  }
+
+  Map<MicroserviceCacheKey, MicroserviceInstances> batchFindServiceInstances(
+      Map<MicroserviceCacheKey, String> revisions) {
+    return srClient.batchFindServiceInstances(consumerService.getServiceId(), revisions);
+  }
+
   private boolean isRefreshedMicroserviceCache(MicroserviceCache microserviceCache) {
     return MicroserviceCacheStatus.REFRESHED.equals(microserviceCache.getStatus())
         || MicroserviceCacheStatus.SERVICE_NOT_FOUND.equals(microserviceCache.getStatus());
@@ -120,6 +173,11 @@ public class RefreshableServiceRegistryCache implements ServiceRegistryCache {
         emptyInstanceProtectionEnabled);
   }
 
+  public RefreshableServiceRegistryCache setInstancePullBatchSize(int instancePullBatchSize) {
+    this.instancePullBatchSize = instancePullBatchSize;
+    return this;
+  }
+
   public RefreshableServiceRegistryCache setEmptyInstanceProtectionEnabled(boolean emptyInstanceProtectionEnabled) {
     this.emptyInstanceProtectionEnabled = emptyInstanceProtectionEnabled;
     return this;
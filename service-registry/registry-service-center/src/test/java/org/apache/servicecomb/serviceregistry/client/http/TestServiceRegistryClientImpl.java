@@ -21,7 +21,9 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -34,6 +36,7 @@ import org.apache.log4j.Logger;
 import org.apache.log4j.spi.LoggingEvent;
 import org.apache.servicecomb.config.BootStrapProperties;
 import org.apache.servicecomb.foundation.common.net.IpPort;
+import org.apache.servicecomb.foundation.common.utils.JsonUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClients;
 import org.apache.servicecomb.registry.api.registry.Microservice;
@@ -43,6 +46,7 @@ import org.apache.servicecomb.registry.definition.DefinitionConst;
 import org.apache.servicecomb.serviceregistry.RegistryUtils;
 import org.apache.servicecomb.serviceregistry.api.registry.ServiceCenterConfig;
 import org.apache.servicecomb.serviceregistry.api.registry.ServiceCenterInfo;
+import org.apache.servicecomb.serviceregistry.api.response.BatchFindInstancesResponse;
 import org.apache.servicecomb.serviceregistry.api.response.GetExistenceResponse;
 import org.apache.servicecomb.serviceregistry.api.response.GetSchemaResponse;
 import org.apache.servicecomb.serviceregistry.api.response.GetSchemasResponse;
@@ -50,6 +54,7 @@ import org.apache.servicecomb.serviceregistry.api.response.GetServiceResponse;
 import org.apache.servicecomb.serviceregistry.client.ClientException;
 import org.apache.servicecomb.serviceregistry.client.http.ServiceRegistryClientImpl.ResponseWrapper;
 import org.apache.servicecomb.serviceregistry.config.ServiceRegistryConfig;
+import org.apache.servicecomb.serviceregistry.registry.cache.MicroserviceCacheKey;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -620,6 +625,40 @@ public class TestServiceRegistryClientImpl {
     }
   }
 
+  @Test
+  public void toMicroserviceInstances() throws Exception {
+    MicroserviceCacheKey updatedKey = MicroserviceCacheKey.builder().appId("app").serviceName("ms1").env("").build();
+    MicroserviceCacheKey notModifiedKey = MicroserviceCacheKey.builder().appId("app").serviceName("ms2").env("").build();
+    MicroserviceCacheKey notFoundKey = MicroserviceCacheKey.builder().appId("app").serviceName("ms3").env("").build();
+    MicroserviceCacheKey failedKey = MicroserviceCacheKey.builder().appId("app").serviceName("ms4").env("").build();
+    Map<MicroserviceCacheKey, String> revisions = new LinkedHashMap<>();
+    revisions.put(updatedKey, "1");
+    revisions.put(notModifiedKey, "2");
+    revisions.put(notFoundKey, "3");
+    revisions.put(failedKey, "4");
+
+    String json = "{\"services\":{"
+        + "\"updated\":[{\"index\":0,\"rev\":\"11\",\"instances\":[{\"instanceId\":\"i1\"}]}],"
+        + "\"notModified\":[1],"
+        + "\"failed\":[{\"indexes\":[2],\"error\":{\"errorCode\":\"400012\"}},"
+        + "{\"indexes\":[3],\"error\":{\"errorCode\":\"500003\"}}]}}";
+    BatchFindInstancesResponse response = JsonUtils.readValue(json.getBytes(), BatchFindInstancesResponse.class);
+
+    Map<MicroserviceCacheKey, MicroserviceInstances> result = ServiceRegistryClientImpl
+        .toMicroserviceInstances(new ArrayList<>(revisions.keySet()), revisions, response.getServices());
+
+    Assert.assertEquals(Arrays.asList(updatedKey, notModifiedKey, notFoundKey, failedKey),
+        new ArrayList<>(result.keySet()));
+    MicroserviceInstances updated = result.get(updatedKey);
+    Assert.assertTrue(updated.isNeedRefresh());
+    Assert.assertEquals("11", updated.getRevision());
+    Assert.assertEquals("i1", updated.getInstancesResponse().getInstances().get(0).getInstanceId());
+    Assert.assertFalse(result.get(notModifiedKey).isNeedRefresh());
+    Assert.assertEquals("2", result.get(notModifiedKey).getRevision());
+    Assert.assertTrue(result.get(notFoundKey).isMicroserviceNotExist());
+    Assert.assertNull(result.get(failedKey));
+  }
+
   private void shouldThrowException() {
     fail("an exception is expected");
   }
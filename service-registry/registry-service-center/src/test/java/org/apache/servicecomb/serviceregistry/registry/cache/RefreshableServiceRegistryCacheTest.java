@@ -18,15 +18,21 @@
 package org.apache.servicecomb.serviceregistry.registry.cache;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apache.servicecomb.foundation.common.Holder;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.registry.api.registry.FindInstancesResponse;
 import org.apache.servicecomb.registry.api.registry.Microservice;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
 import org.apache.servicecomb.serviceregistry.registry.cache.MicroserviceCache.MicroserviceCacheStatus;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -123,6 +129,106 @@ public class RefreshableServiceRegistryCacheTest {
     Assert.assertSame(microserviceCache2, serviceRegistryCache.microserviceCache.get(microserviceCache2.getKey()));
   }
 
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void refreshCache_parallel() {
+    ArchaiusUtils.setProperty("servicecomb.service.registry.instance.pull.parallelism", 4);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    for (int idx = 0; idx < 8; idx++) {
+      RefreshableMicroserviceCache microserviceCache = new RefreshableMicroserviceCache(
+          consumerService,
+          MicroserviceCacheKey.builder().serviceName("svc" + idx).appId("appId").env("env").build(),
+          null, false) {
+        @Override
+        public void refresh() {
+          threads.add(Thread.currentThread().getName());
+          this.status = MicroserviceCacheStatus.REFRESHED;
+        }
+      };
+      serviceRegistryCache.microserviceCache.put(microserviceCache.getKey(), microserviceCache);
+    }
+
+    List<MicroserviceCache> refreshedCaches = new ArrayList<>();
+    serviceRegistryCache.setCacheRefreshedWatcher(refreshedCaches::addAll);
+
+    serviceRegistryCache.refreshCache();
+
+    Assert.assertEquals(8, refreshedCaches.size());
+    Assert.assertFalse(threads.contains(Thread.currentThread().getName()));
+    Assert.assertTrue(threads.stream().allMatch(name -> name.startsWith("service-center-pull-")));
+  }
+
+  @Test
+  public void refreshCache_batch() {
+    List<Map<MicroserviceCacheKey, String>> requests = new ArrayList<>();
+    serviceRegistryCache = new RefreshableServiceRegistryCache(consumerService, null) {
+      @Override
+      Map<MicroserviceCacheKey, MicroserviceInstances> batchFindServiceInstances(
+          Map<MicroserviceCacheKey, String> revisions) {
+        requests.add(revisions);
+        Map<MicroserviceCacheKey, MicroserviceInstances> result = new LinkedHashMap<>();
+        revisions.forEach((key, rev) -> result.put(key, key.getServiceName().equals("svc0") ?
+            pullInstanceFromServiceCenterLogic.value.apply("new") :
+            new MicroserviceInstances().setNeedRefresh(false).setRevision(rev)));
+        return result;
+      }
+    }.setInstancePullBatchSize(2);
+    for (int idx = 0; idx < 3; idx++) {
+      RefreshableMicroserviceCache microserviceCache = new RefreshableMicroserviceCache(
+          consumerService,
+          MicroserviceCacheKey.builder().serviceName("svc" + idx).appId("appId").env("env").build(),
+          null, false);
+      microserviceCache.revisionId = "old";
+      serviceRegistryCache.microserviceCache.put(microserviceCache.getKey(), microserviceCache);
+    }
+
+    List<MicroserviceCache> refreshedCaches = new ArrayList<>();
+    serviceRegistryCache.setCacheRefreshedWatcher(refreshedCaches::addAll);
+
+    serviceRegistryCache.refreshCache();
+
+    Assert.assertEquals(2, requests.size());
+    Assert.assertEquals(3, requests.stream().mapToInt(Map::size).sum());
+    Assert.assertEquals(1, refreshedCaches.size());
+    Assert.assertEquals("svc0", refreshedCaches.get(0).getKey().getServiceName());
+    Assert.assertEquals("new", refreshedCaches.get(0).getRevisionId());
+  }
+
+  @Test
+  public void refreshCache_batch_fallback() {
+    serviceRegistryCache = new RefreshableServiceRegistryCache(consumerService, null) {
+      @Override
+      Map<MicroserviceCacheKey, MicroserviceInstances> batchFindServiceInstances(
+          Map<MicroserviceCacheKey, String> revisions) {
+        return null;
+      }
+
+      @Override
+      RefreshableMicroserviceCache createMicroserviceCache(MicroserviceCacheKey microserviceCacheKey) {
+        return new RefreshableMicroserviceCache(consumerService, microserviceCacheKey, null, false) {
+          @Override
+          MicroserviceInstances pullInstanceFromServiceCenter(String revisionId) {
+            return pullInstanceFromServiceCenterLogic.value.apply(revisionId);
+          }
+        };
+      }
+    }.setInstancePullBatchSize(2);
+    serviceRegistryCache.findServiceCache(
+        MicroserviceCacheKey.builder().serviceName("svc").appId("app").env("env").build());
+
+    List<MicroserviceCache> refreshedCaches = new ArrayList<>();
+    serviceRegistryCache.setCacheRefreshedWatcher(refreshedCaches::addAll);
+
+    serviceRegistryCache.refreshCache();
+
+    Assert.assertEquals(1, refreshedCaches.size());
+    Assert.assertEquals(MicroserviceCacheStatus.REFRESHED, refreshedCaches.get(0).getStatus());
+  }
+
   @Test
   public void findServiceCache_normal() {
     mockServiceRegistryHolder().value = MicroserviceCacheStatus.REFRESHED;
@@ -91,6 +91,16 @@ public class TestSwaggerLoader extends TestRegistryBase {
     Assert.assertEquals(swagger, loadedSwagger);
   }
 
+  @Test
+  public void parseRemoteSwagger_sameSummary() {
+    String schemaContent = SwaggerUtils.swaggerToString(SwaggerGenerator.generate(Hello.class));
+    SwaggerLoader swaggerLoader = new SwaggerLoader();
+
+    Swagger first = swaggerLoader.parseRemoteSwagger(schemaContent);
+    Swagger second = swaggerLoader.parseRemoteSwagger(new String(schemaContent));
+    Assert.assertSame(first, second);
+  }
+
   @Test
   public void loadFromResource_sameApp_dirWithoutApp() {
     Swagger swagger = SwaggerGenerator.generate(Hello.class);
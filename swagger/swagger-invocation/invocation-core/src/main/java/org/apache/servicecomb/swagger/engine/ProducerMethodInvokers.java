@@ -0,0 +1,393 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.engine;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.primitives.Primitives;
+
+/**
+ * create invoker by LambdaMetafactory, so that invoke producer method directly instead of reflection<br>
+ * reflection is still used when:
+ * <pre>
+ *   1.static method, not public method or not public class
+ *   2.more than {@link #MAX_DIRECT_PARAMETERS} parameters
+ *   3.types are not visible to the ClassLoader of this class
+ *   4.arguments not match the parameter types exactly, eg: null for primitive, Integer for long
+ * </pre>
+ */
+public final class ProducerMethodInvokers {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProducerMethodInvokers.class);
+
+  public static final int MAX_DIRECT_PARAMETERS = 8;
+
+  private static final Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final Class<?>[] INVOKER_CLASSES = {
+      Invoker0.class, Invoker1.class, Invoker2.class, Invoker3.class, Invoker4.class,
+      Invoker5.class, Invoker6.class, Invoker7.class, Invoker8.class};
+
+  private static final Class<?>[] VOID_INVOKER_CLASSES = {
+      VoidInvoker0.class, VoidInvoker1.class, VoidInvoker2.class, VoidInvoker3.class, VoidInvoker4.class,
+      VoidInvoker5.class, VoidInvoker6.class, VoidInvoker7.class, VoidInvoker8.class};
+
+  interface Invoker0 {
+    Object invoke(Object i);
+  }
+
+  interface Invoker1 {
+    Object invoke(Object i, Object a0);
+  }
+
+  interface Invoker2 {
+    Object invoke(Object i, Object a0, Object a1);
+  }
+
+  interface Invoker3 {
+    Object invoke(Object i, Object a0, Object a1, Object a2);
+  }
+
+  interface Invoker4 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3);
+  }
+
+  interface Invoker5 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4);
+  }
+
+  interface Invoker6 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
+  }
+
+  interface Invoker7 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6);
+  }
+
+  interface Invoker8 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6,
+        Object a7);
+  }
+
+  interface VoidInvoker0 {
+    void invoke(Object i);
+  }
+
+  interface VoidInvoker1 {
+    void invoke(Object i, Object a0);
+  }
+
+  interface VoidInvoker2 {
+    void invoke(Object i, Object a0, Object a1);
+  }
+
+  interface VoidInvoker3 {
+    void invoke(Object i, Object a0, Object a1, Object a2);
+  }
+
+  interface VoidInvoker4 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3);
+  }
+
+  interface VoidInvoker5 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4);
+  }
+
+  interface VoidInvoker6 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
+  }
+
+  interface VoidInvoker7 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6);
+  }
+
+  interface VoidInvoker8 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7);
+  }
+
+  // spread arguments array to the generated lambda
+  interface Target {
+    Object invoke(Object instance, Object[] args);
+  }
+
+  static class DirectInvoker implements ProducerMethodInvoker {
+    private final Method method;
+
+    private final Class<?> instanceClass;
+
+    // wrapper types of parameters
+    private final Class<?>[] argumentClasses;
+
+    private final boolean[] primitives;
+
+    private final Target target;
+
+    DirectInvoker(Method method, Target target) {
+      this.method = method;
+      this.instanceClass = method.getDeclaringClass();
+      this.argumentClasses = new Class<?>[method.getParameterCount()];
+      this.primitives = new boolean[method.getParameterCount()];
+      for (int idx = 0; idx < argumentClasses.length; idx++) {
+        Class<?> parameterType = method.getParameterTypes()[idx];
+        argumentClasses[idx] = Primitives.wrap(parameterType);
+        primitives[idx] = parameterType.isPrimitive();
+      }
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object instance, Object[] args) throws IllegalAccessException, InvocationTargetException {
+      int count = args == null ? 0 : args.length;
+      if (count != argumentClasses.length) {
+        // let reflection throw IllegalArgumentException
+        return method.invoke(instance, args);
+      }
+
+      try {
+        return target.invoke(instance, args);
+      } catch (Throwable e) {
+        // lambda casts all arguments before invoking the producer method
+        // so if arguments not match exactly, the producer method is not invoked, and the exception is caused by cast
+        // checking only when failed, to avoid overhead of the normal invocation
+        if (!isExactMatch(instance, args)) {
+          // let reflection to do the conversion or throw IllegalArgumentException
+          return method.invoke(instance, args);
+        }
+        throw new InvocationTargetException(e);
+      }
+    }
+
+    private boolean isExactMatch(Object instance, Object[] args) {
+      if (!instanceClass.isInstance(instance)) {
+        return false;
+      }
+
+      for (int idx = 0; idx < argumentClasses.length; idx++) {
+        Object arg = args[idx];
+        if (arg == null ? primitives[idx] : !argumentClasses[idx].isInstance(arg)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private ProducerMethodInvokers() {
+  }
+
+  public static ProducerMethodInvoker create(Method method) {
+    if (!isDirectInvokeSupported(method)) {
+      return method::invoke;
+    }
+
+    try {
+      return new DirectInvoker(method, createTarget(method));
+    } catch (Throwable e) {
+      LOGGER.warn("failed to create direct invoker, use reflection instead, method={}:{}, cause={}.",
+          method.getDeclaringClass().getName(), method.getName(), e.getMessage());
+      return method::invoke;
+    }
+  }
+
+  static boolean isDirectInvokeSupported(Method method) {
+    if (Modifier.isStatic(method.getModifiers())
+        || !Modifier.isPublic(method.getModifiers())
+        || !Modifier.isPublic(method.getDeclaringClass().getModifiers())
+        || method.getParameterCount() > MAX_DIRECT_PARAMETERS) {
+      return false;
+    }
+
+    // lambda class is defined in the ClassLoader of this class
+    if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+      return false;
+    }
+    for (Class<?> parameterType : method.getParameterTypes()) {
+      if (!isVisible(parameterType)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isVisible(Class<?> cls) {
+    while (cls.isArray()) {
+      cls = cls.getComponentType();
+    }
+    if (cls.isPrimitive()) {
+      return true;
+    }
+
+    try {
+      return Class.forName(cls.getName(), false, ProducerMethodInvokers.class.getClassLoader()) == cls;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static Target createTarget(Method method) throws Throwable {
+    int count = method.getParameterCount();
+    boolean isVoid = method.getReturnType() == void.class;
+    Object lambda = createLambda(method, isVoid ? VOID_INVOKER_CLASSES[count] : INVOKER_CLASSES[count]);
+    return isVoid ? createVoidTarget(lambda, count) : createTarget(lambda, count);
+  }
+
+  private static Object createLambda(Method method, Class<?> invokerClass) throws Throwable {
+    MethodHandle methodHandle = LOOKUP.unreflect(method);
+    Method invokerMethod = invokerClass.getDeclaredMethods()[0];
+
+    Class<?>[] instantiatedTypes = new Class<?>[method.getParameterCount() + 1];
+    instantiatedTypes[0] = method.getDeclaringClass();
+    for (int idx = 0; idx < method.getParameterCount(); idx++) {
+      instantiatedTypes[idx + 1] = Primitives.wrap(method.getParameterTypes()[idx]);
+    }
+    Class<?> instantiatedReturnType = invokerMethod.getReturnType() == void.class ?
+        void.class : Primitives.wrap(method.getReturnType());
+
+    CallSite callSite = LambdaMetafactory.metafactory(
+        LOOKUP,
+        invokerMethod.getName(),
+        MethodType.methodType(invokerClass),
+        MethodType.methodType(invokerMethod.getReturnType(), invokerMethod.getParameterTypes()),
+        methodHandle,
+        MethodType.methodType(instantiatedReturnType, instantiatedTypes));
+    return callSite.getTarget().invoke();
+  }
+
+  private static Target createTarget(Object lambda, int count) {
+    switch (count) {
+      case 0: {
+        Invoker0 invoker = (Invoker0) lambda;
+        return (i, a) -> invoker.invoke(i);
+      }
+      case 1: {
+        Invoker1 invoker = (Invoker1) lambda;
+        return (i, a) -> invoker.invoke(i, a[0]);
+      }
+      case 2: {
+        Invoker2 invoker = (Invoker2) lambda;
+        return (i, a) -> invoker.invoke(i, a[0], a[1]);
+      }
+      case 3: {
+        Invoker3 invoker = (Invoker3) lambda;
+        return (i, a) -> invoker.invoke(i, a[0], a[1], a[2]);
+      }
+      case 4: {
+        Invoker4 invoker = (Invoker4) lambda;
+        return (i, a) -> invoker.invoke(i, a[0], a[1], a[2], a[3]);
+      }
+      case 5: {
+        Invoker5 invoker = (Invoker5) lambda;
+        return (i, a) -> invoker.invoke(i, a[0], a[1], a[2], a[3], a[4]);
+      }
+      case 6: {
+        Invoker6 invoker = (Invoker6) lambda;
+        return (i, a) -> invoker.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5]);
+      }
+      case 7: {
+        Invoker7 invoker = (Invoker7) lambda;
+        return (i, a) -> invoker.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+      }
+      case 8: {
+        Invoker8 invoker = (Invoker8) lambda;
+        return (i, a) -> invoker.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5], a[6], a[7]);
+      }
+      default:
+        throw new IllegalStateException("too many parameters: " + count);
+    }
+  }
+
+  private static Target createVoidTarget(Object lambda, int count) {
+    switch (count) {
+      case 0: {
+        VoidInvoker0 invoker = (VoidInvoker0) lambda;
+        return (i, a) -> {
+          invoker.invoke(i);
+          return null;
+        };
+      }
+      case 1: {
+        VoidInvoker1 invoker = (VoidInvoker1) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0]);
+          return null;
+        };
+      }
+      case 2: {
+        VoidInvoker2 invoker = (VoidInvoker2) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0], a[1]);
+          return null;
+        };
+      }
+      case 3: {
+        VoidInvoker3 invoker = (VoidInvoker3) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0], a[1], a[2]);
+          return null;
+        };
+      }
+      case 4: {
+        VoidInvoker4 invoker = (VoidInvoker4) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0], a[1], a[2], a[3]);
+          return null;
+        };
+      }
+      case 5: {
+        VoidInvoker5 invoker = (VoidInvoker5) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0], a[1], a[2], a[3], a[4]);
+          return null;
+        };
+      }
+      case 6: {
+        VoidInvoker6 invoker = (VoidInvoker6) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5]);
+          return null;
+        };
+      }
+      case 7: {
+        VoidInvoker7 invoker = (VoidInvoker7) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+          return null;
+        };
+      }
+      case 8: {
+        VoidInvoker8 invoker = (VoidInvoker8) lambda;
+        return (i, a) -> {
+          invoker.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5], a[6], a[7]);
+          return null;
+        };
+      }
+      default:
+        throw new IllegalStateException("too many parameters: " + count);
+    }
+  }
+}
@@ -17,12 +17,10 @@
 package org.apache.servicecomb.swagger.engine;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.servicecomb.swagger.generator.core.model.SwaggerOperation;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 import org.apache.servicecomb.swagger.invocation.response.consumer.ConsumerResponseMapper;
 
@@ -31,7 +29,8 @@ public class SwaggerConsumerOperation {
 
   private Method consumerMethod;
 
-  private String[] consumerParameterNames;
+  // slot is the index of consumer method parameter
+  private ArgumentsLayout consumerArgumentsLayout;
 
   private SwaggerOperation swaggerOperation;
 
@@ -46,9 +45,7 @@ public class SwaggerConsumerOperation {
   public void setConsumerMethod(Method consumerMethod) {
     this.consumerMethod = consumerMethod;
 
-    this.consumerParameterNames = Arrays.stream(consumerMethod.getParameters())
-        .map(Parameter::getName)
-        .toArray(String[]::new);
+    this.consumerArgumentsLayout = ArgumentsLayout.ofMethod(consumerMethod);
   }
 
   public Class<?> getConsumerClass() {
@@ -83,11 +80,15 @@ public class SwaggerConsumerOperation {
     this.responseMapper = responseMapper;
   }
 
+  public ArgumentsLayout getConsumerArgumentsLayout() {
+    return consumerArgumentsLayout;
+  }
+
   public Map<String, Object> toInvocationArguments(Object[] args) {
-    Map<String, Object> arguments = new HashMap<>();
-    for (int i = 0; i < consumerParameterNames.length; i++) {
-      arguments.put(consumerParameterNames[i], args[i]);
+    if (args == null) {
+      // method without parameters
+      return consumerArgumentsLayout.createArguments();
     }
-    return arguments;
+    return consumerArgumentsLayout.wrapArguments(args);
   }
 }
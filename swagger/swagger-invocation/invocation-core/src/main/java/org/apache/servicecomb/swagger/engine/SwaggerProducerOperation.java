@@ -39,6 +39,8 @@ public class SwaggerProducerOperation {
 
   private Method producerMethod;
 
+  private ProducerMethodInvoker producerMethodInvoker;
+
   private SwaggerOperation swaggerOperation;
 
   // swagger parameter types relate to producer
@@ -79,6 +81,11 @@ public class SwaggerProducerOperation {
 
   public void setProducerMethod(Method producerMethod) {
     this.producerMethod = producerMethod;
+    this.producerMethodInvoker = ProducerMethodInvokers.create(producerMethod);
+  }
+
+  public ProducerMethodInvoker getProducerMethodInvoker() {
+    return producerMethodInvoker;
   }
 
   public SwaggerOperation getSwaggerOperation() {
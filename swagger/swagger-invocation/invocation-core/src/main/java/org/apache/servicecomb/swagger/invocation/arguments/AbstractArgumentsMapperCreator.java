@@ -107,6 +107,9 @@ public abstract class AbstractArgumentsMapperCreator {
 
   protected List<Parameter> swaggerParameters;
 
+  // slot is the index of swagger parameter
+  protected ArgumentsLayout swaggerArgumentsLayout;
+
   // body index in swagger parameters
   protected int swaggerBodyIdx;
 
@@ -126,6 +129,7 @@ public abstract class AbstractArgumentsMapperCreator {
     this.swaggerOperation = swaggerOperation;
 
     this.swaggerParameters = new ArrayList<>(this.swaggerOperation.getOperation().getParameters());
+    this.swaggerArgumentsLayout = ArgumentsLayout.ofSwaggerParameters(swaggerParameters);
 
     bodyParameter = findSwaggerBodyParameter();
     swaggerBodyProperties = SwaggerUtils.getBodyProperties(swaggerOperation.getSwagger(), bodyParameter);
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.invocation.arguments;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.models.parameters.Parameter;
+
+/**
+ * assign a fixed slot to every argument of an operation<br>
+ * codecs and mappers fill {@link SlotArguments} by slot, so no need to build a HashMap for every invocation
+ */
+public class ArgumentsLayout {
+  public static final int NOT_FOUND = -1;
+
+  private final String[] names;
+
+  private final Map<String, Integer> slots;
+
+  public ArgumentsLayout(String... names) {
+    this.names = names;
+    this.slots = new HashMap<>(names.length * 2);
+    for (int slot = 0; slot < names.length; slot++) {
+      slots.put(names[slot], slot);
+    }
+  }
+
+  /**
+   * slot is the index of swagger parameter
+   */
+  public static ArgumentsLayout ofSwaggerParameters(List<Parameter> parameters) {
+    return new ArgumentsLayout(parameters.stream()
+        .map(Parameter::getName)
+        .toArray(String[]::new));
+  }
+
+  /**
+   * slot is the index of method parameter
+   */
+  public static ArgumentsLayout ofMethod(Method method) {
+    java.lang.reflect.Parameter[] parameters = method.getParameters();
+    String[] names = new String[parameters.length];
+    for (int idx = 0; idx < parameters.length; idx++) {
+      names[idx] = parameters[idx].getName();
+    }
+    return new ArgumentsLayout(names);
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  public String getName(int slot) {
+    return names[slot];
+  }
+
+  public int findSlot(Object name) {
+    Integer slot = slots.get(name);
+    return slot == null ? NOT_FOUND : slot;
+  }
+
+  /**
+   * @return true if slot belongs to this layout and it's name is the same as the name
+   */
+  public boolean isSlotOf(int slot, String name) {
+    return slot >= 0 && slot < names.length && names[slot].equals(name);
+  }
+
+  public SlotArguments createArguments() {
+    return new SlotArguments(this, new Object[names.length]);
+  }
+
+  /**
+   * values is used directly and all slots are marked as present
+   */
+  public SlotArguments wrapArguments(Object[] values) {
+    if (values.length != names.length) {
+      throw new IllegalArgumentException(
+          String.format("arguments count not match, expect=%d, actual=%d.", names.length, values.length));
+    }
+    SlotArguments arguments = new SlotArguments(this, values);
+    arguments.markAllPresent();
+    return arguments;
+  }
+}
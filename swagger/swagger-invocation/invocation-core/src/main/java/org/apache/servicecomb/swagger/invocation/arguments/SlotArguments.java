@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.invocation.arguments;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * arguments stored in an array, the slot of an argument is defined by {@link ArgumentsLayout}<br>
+ * a Map view is provided for compatible APIs, eg: Invocation.getSwaggerArguments()<br>
+ * names not belongs to the layout are stored in an extra map
+ */
+public class SlotArguments extends AbstractMap<String, Object> {
+  private final ArgumentsLayout layout;
+
+  private final Object[] values;
+
+  // present flags of slot 0-63
+  private long present;
+
+  // present flags of slot 64+, operation with so many arguments is rare
+  private long[] morePresent;
+
+  private Map<String, Object> extra;
+
+  private Set<Entry<String, Object>> entrySet;
+
+  SlotArguments(ArgumentsLayout layout, Object[] values) {
+    this.layout = layout;
+    this.values = values;
+  }
+
+  /**
+   * read by slot if arguments is SlotArguments and the slot matches the name, otherwise read by name
+   */
+  public static Object get(Map<String, Object> arguments, int slot, String name) {
+    if (arguments instanceof SlotArguments) {
+      SlotArguments slotArguments = (SlotArguments) arguments;
+      if (slotArguments.layout.isSlotOf(slot, name)) {
+        return slotArguments.values[slot];
+      }
+    }
+    return arguments.get(name);
+  }
+
+  /**
+   * write by slot if arguments is SlotArguments and the slot matches the name, otherwise write by name
+   */
+  public static void put(Map<String, Object> arguments, int slot, String name, Object value) {
+    if (arguments instanceof SlotArguments) {
+      SlotArguments slotArguments = (SlotArguments) arguments;
+      if (slotArguments.layout.isSlotOf(slot, name)) {
+        slotArguments.set(slot, value);
+        return;
+      }
+    }
+    arguments.put(name, value);
+  }
+
+  public ArgumentsLayout getLayout() {
+    return layout;
+  }
+
+  /**
+   * the backing array, value of absent slot is null
+   */
+  public Object[] getValues() {
+    return values;
+  }
+
+  public Object get(int slot) {
+    return values[slot];
+  }
+
+  public void set(int slot, Object value) {
+    values[slot] = value;
+    markPresent(slot);
+  }
+
+  public boolean isPresent(int slot) {
+    if (slot < Long.SIZE) {
+      return (present & (1L << slot)) != 0;
+    }
+
+    return morePresent != null && (morePresent[(slot >>> 6) - 1] & (1L << slot)) != 0;
+  }
+
+  void markAllPresent() {
+    for (int slot = 0; slot < values.length; slot++) {
+      markPresent(slot);
+    }
+  }
+
+  private void markPresent(int slot) {
+    if (slot < Long.SIZE) {
+      present |= 1L << slot;
+      return;
+    }
+
+    if (morePresent == null) {
+      morePresent = new long[(values.length >>> 6)];
+    }
+    morePresent[(slot >>> 6) - 1] |= 1L << slot;
+  }
+
+  private void clearPresent(int slot) {
+    values[slot] = null;
+    if (slot < Long.SIZE) {
+      present &= ~(1L << slot);
+      return;
+    }
+
+    if (morePresent != null) {
+      morePresent[(slot >>> 6) - 1] &= ~(1L << slot);
+    }
+  }
+
+  private int presentCount() {
+    int count = Long.bitCount(present);
+    if (morePresent != null) {
+      for (long bits : morePresent) {
+        count += Long.bitCount(bits);
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int size() {
+    return presentCount() + (extra == null ? 0 : extra.size());
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    int slot = layout.findSlot(key);
+    if (slot != ArgumentsLayout.NOT_FOUND) {
+      return isPresent(slot);
+    }
+    return extra != null && extra.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    int slot = layout.findSlot(key);
+    if (slot != ArgumentsLayout.NOT_FOUND) {
+      return values[slot];
+    }
+    return extra == null ? null : extra.get(key);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    int slot = layout.findSlot(key);
+    if (slot != ArgumentsLayout.NOT_FOUND) {
+      Object old = values[slot];
+      set(slot, value);
+      return old;
+    }
+
+    if (extra == null) {
+      extra = new HashMap<>();
+    }
+    return extra.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    int slot = layout.findSlot(key);
+    if (slot != ArgumentsLayout.NOT_FOUND) {
+      Object old = values[slot];
+      clearPresent(slot);
+      return old;
+    }
+    return extra == null ? null : extra.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    for (int slot = 0; slot < values.length; slot++) {
+      values[slot] = null;
+    }
+    present = 0;
+    morePresent = null;
+    extra = null;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return SlotArguments.this.size();
+    }
+  }
+
+  private class SlotEntry implements Entry<String, Object> {
+    private final int slot;
+
+    SlotEntry(int slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    public String getKey() {
+      return layout.getName(slot);
+    }
+
+    @Override
+    public Object getValue() {
+      return values[slot];
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object old = values[slot];
+      values[slot] = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return getKey().equals(e.getKey()) &&
+          (getValue() == null ? e.getValue() == null : getValue().equals(e.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ (getValue() == null ? 0 : getValue().hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, Object>> {
+    private int nextSlot = findPresent(0);
+
+    private int lastSlot = ArgumentsLayout.NOT_FOUND;
+
+    private Iterator<Entry<String, Object>> extraIterator;
+
+    private int findPresent(int from) {
+      for (int slot = from; slot < values.length; slot++) {
+        if (isPresent(slot)) {
+          return slot;
+        }
+      }
+      return values.length;
+    }
+
+    private Iterator<Entry<String, Object>> extraIterator() {
+      if (extraIterator == null) {
+        extraIterator = extra == null ? null : extra.entrySet().iterator();
+      }
+      return extraIterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextSlot < values.length) {
+        return true;
+      }
+      return extraIterator() != null && extraIterator.hasNext();
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (nextSlot < values.length) {
+        lastSlot = nextSlot;
+        nextSlot = findPresent(nextSlot + 1);
+        return new SlotEntry(lastSlot);
+      }
+
+      lastSlot = ArgumentsLayout.NOT_FOUND;
+      if (extraIterator() == null) {
+        throw new NoSuchElementException();
+      }
+      return extraIterator.next();
+    }
+
+    @Override
+    public void remove() {
+      if (lastSlot != ArgumentsLayout.NOT_FOUND) {
+        clearPresent(lastSlot);
+        lastSlot = ArgumentsLayout.NOT_FOUND;
+        return;
+      }
+
+      if (extraIterator == null) {
+        throw new IllegalStateException();
+      }
+      extraIterator.remove();
+    }
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentMapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 
 /**
@@ -30,14 +31,23 @@ import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 public class ArgumentsMapperCommon implements ArgumentsMapper {
   private List<ArgumentMapper> mappers;
 
+  // slot is the index of swagger parameter
+  private ArgumentsLayout swaggerArgumentsLayout;
+
   public ArgumentsMapperCommon(List<ArgumentMapper> mappers) {
+    this(mappers, null);
+  }
+
+  public ArgumentsMapperCommon(List<ArgumentMapper> mappers, ArgumentsLayout swaggerArgumentsLayout) {
     this.mappers = mappers;
+    this.swaggerArgumentsLayout = swaggerArgumentsLayout;
   }
 
   @Override
   public Map<String, Object> invocationArgumentToSwaggerArguments(SwaggerInvocation swaggerInvocation,
       Map<String, Object> invocationArguments) {
-    Map<String, Object> swaggerParameters = new HashMap<>(invocationArguments.size());
+    Map<String, Object> swaggerParameters = swaggerArgumentsLayout != null ?
+        swaggerArgumentsLayout.createArguments() : new HashMap<>(invocationArguments.size());
     for (ArgumentMapper argMapper : mappers) {
       argMapper.invocationArgumentToSwaggerArguments(swaggerInvocation, swaggerParameters, invocationArguments);
     }
@@ -20,15 +20,28 @@ package org.apache.servicecomb.swagger.invocation.arguments.consumer;
 import java.util.Map;
 
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
 
 public final class ConsumerArgumentSame extends ConsumerArgumentMapper {
   protected String invocationArgumentName;
 
   protected String swaggerArgumentName;
 
+  protected int invocationArgumentSlot;
+
+  protected int swaggerArgumentSlot;
+
   public ConsumerArgumentSame(String invocationArgumentName, String swaggerArgumentName) {
+    this(invocationArgumentName, swaggerArgumentName, ArgumentsLayout.NOT_FOUND, ArgumentsLayout.NOT_FOUND);
+  }
+
+  public ConsumerArgumentSame(String invocationArgumentName, String swaggerArgumentName,
+      int invocationArgumentSlot, int swaggerArgumentSlot) {
     this.invocationArgumentName = invocationArgumentName;
     this.swaggerArgumentName = swaggerArgumentName;
+    this.invocationArgumentSlot = invocationArgumentSlot;
+    this.swaggerArgumentSlot = swaggerArgumentSlot;
   }
 
   public boolean isSameMapping() {
@@ -39,6 +52,7 @@ public final class ConsumerArgumentSame extends ConsumerArgumentMapper {
   public void invocationArgumentToSwaggerArguments(SwaggerInvocation swaggerInvocation,
       Map<String, Object> swaggerArguments,
       Map<String, Object> invocationArguments) {
-    swaggerArguments.put(swaggerArgumentName, invocationArguments.get(invocationArgumentName));
+    SlotArguments.put(swaggerArguments, swaggerArgumentSlot, swaggerArgumentName,
+        SlotArguments.get(invocationArguments, invocationArgumentSlot, invocationArgumentName));
   }
 }
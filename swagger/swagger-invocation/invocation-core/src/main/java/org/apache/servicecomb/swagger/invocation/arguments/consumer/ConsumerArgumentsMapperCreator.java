@@ -71,7 +71,7 @@ public class ConsumerArgumentsMapperCreator extends AbstractArgumentsMapperCreat
       return new ArgumentsMapperDirectReuse();
     }
 
-    return new ArgumentsMapperCommon(mappers);
+    return new ArgumentsMapperCommon(mappers, swaggerArgumentsLayout);
   }
 
   @Override
@@ -90,7 +90,7 @@ public class ConsumerArgumentsMapperCreator extends AbstractArgumentsMapperCreat
   @Override
   protected ArgumentMapper createKnownParameterMapper(int consumerParamIdx, Integer swaggerIdx) {
     return new ConsumerArgumentSame(this.providerMethod.getParameters()[consumerParamIdx].getName(),
-        this.swaggerParameters.get(swaggerIdx).getName());
+        this.swaggerParameters.get(swaggerIdx).getName(), consumerParamIdx, swaggerIdx);
   }
 
   @Override
@@ -20,20 +20,34 @@ package org.apache.servicecomb.swagger.invocation.arguments.producer;
 import java.util.Map;
 
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
+import org.apache.servicecomb.swagger.invocation.arguments.SlotArguments;
 
 public class ProducerArgumentSame extends ProducerArgumentMapper {
   protected String invocationArgumentName;
 
   protected String swaggerArgumentName;
 
+  protected int invocationArgumentSlot;
+
+  protected int swaggerArgumentSlot;
+
   public ProducerArgumentSame(String invocationArgumentName, String swaggerArgumentName) {
+    this(invocationArgumentName, swaggerArgumentName, ArgumentsLayout.NOT_FOUND, ArgumentsLayout.NOT_FOUND);
+  }
+
+  public ProducerArgumentSame(String invocationArgumentName, String swaggerArgumentName,
+      int invocationArgumentSlot, int swaggerArgumentSlot) {
     this.invocationArgumentName = invocationArgumentName;
     this.swaggerArgumentName = swaggerArgumentName;
+    this.invocationArgumentSlot = invocationArgumentSlot;
+    this.swaggerArgumentSlot = swaggerArgumentSlot;
   }
 
   @Override
   public void swaggerArgumentToInvocationArguments(SwaggerInvocation invocation,
       Map<String, Object> swaggerArguments, Map<String, Object> invocationArguments) {
-    invocationArguments.put(invocationArgumentName, swaggerArguments.get(swaggerArgumentName));
+    SlotArguments.put(invocationArguments, invocationArgumentSlot, invocationArgumentName,
+        SlotArguments.get(swaggerArguments, swaggerArgumentSlot, swaggerArgumentName));
   }
 }
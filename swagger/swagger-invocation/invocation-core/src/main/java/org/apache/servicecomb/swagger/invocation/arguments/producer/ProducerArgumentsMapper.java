@@ -23,6 +23,7 @@ import java.util.Map;
 
 import org.apache.servicecomb.swagger.invocation.SwaggerInvocation;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentMapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 
 /**
@@ -31,14 +32,28 @@ import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsMapper;
 public class ProducerArgumentsMapper implements ArgumentsMapper {
   private List<ArgumentMapper> producerArgMapperList;
 
+  // slot is the index of producer method parameter
+  private ArgumentsLayout invocationArgumentsLayout;
+
   public ProducerArgumentsMapper(List<ArgumentMapper> producerArgMapperList) {
+    this(producerArgMapperList, null);
+  }
+
+  public ProducerArgumentsMapper(List<ArgumentMapper> producerArgMapperList,
+      ArgumentsLayout invocationArgumentsLayout) {
     this.producerArgMapperList = producerArgMapperList;
+    this.invocationArgumentsLayout = invocationArgumentsLayout;
+  }
+
+  public ArgumentsLayout getInvocationArgumentsLayout() {
+    return invocationArgumentsLayout;
   }
 
   @Override
   public Map<String, Object> swaggerArgumentToInvocationArguments(SwaggerInvocation invocation,
       Map<String, Object> swaggerArguments) {
-    Map<String, Object> invocationArguments = new HashMap<>(swaggerArguments.size());
+    Map<String, Object> invocationArguments = invocationArgumentsLayout != null ?
+        invocationArgumentsLayout.createArguments() : new HashMap<>(swaggerArguments.size());
     for (ArgumentMapper argMapper : producerArgMapperList) {
       argMapper.swaggerArgumentToInvocationArguments(invocation, swaggerArguments, invocationArguments);
     }
@@ -29,6 +29,7 @@ import org.apache.servicecomb.foundation.common.utils.LambdaMetafactoryUtils;
 import org.apache.servicecomb.swagger.generator.core.model.SwaggerOperation;
 import org.apache.servicecomb.swagger.invocation.arguments.AbstractArgumentsMapperCreator;
 import org.apache.servicecomb.swagger.invocation.arguments.ArgumentMapper;
+import org.apache.servicecomb.swagger.invocation.arguments.ArgumentsLayout;
 import org.apache.servicecomb.swagger.invocation.arguments.ContextArgumentMapperFactory;
 
 import com.fasterxml.jackson.databind.JavaType;
@@ -57,7 +58,7 @@ public class ProducerArgumentsMapperCreator extends AbstractArgumentsMapperCreat
 
   public ProducerArgumentsMapper createArgumentsMapper() {
     doCreateArgumentsMapper();
-    return new ProducerArgumentsMapper(mappers);
+    return new ProducerArgumentsMapper(mappers, ArgumentsLayout.ofMethod(providerMethod));
   }
 
   @Override
@@ -80,7 +81,8 @@ public class ProducerArgumentsMapperCreator extends AbstractArgumentsMapperCreat
         .getType();
     swaggerParameterTypes
         .put(swaggerArgumentName, providerType);
-    return new ProducerArgumentSame(providerMethod.getParameters()[providerParamIdx].getName(), swaggerArgumentName);
+    return new ProducerArgumentSame(providerMethod.getParameters()[providerParamIdx].getName(), swaggerArgumentName,
+        providerParamIdx, swaggerIdx);
   }
 
   @Override
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.engine;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.servicecomb.swagger.engine.ProducerMethodInvokers.DirectInvoker;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestProducerMethodInvokers {
+  public static class Producer {
+    public int add(int x, int y) {
+      return x + y;
+    }
+
+    public String noParameter() {
+      return "ok";
+    }
+
+    public void addTo(List<String> list, String value) {
+      list.add(value);
+    }
+
+    public long eight(int p1, int p2, int p3, int p4, int p5, int p6, int p7, long p8) {
+      return p1 + p2 + p3 + p4 + p5 + p6 + p7 + p8;
+    }
+
+    public int nine(int p1, int p2, int p3, int p4, int p5, int p6, int p7, int p8, int p9) {
+      return p1 + p2 + p3 + p4 + p5 + p6 + p7 + p8 + p9;
+    }
+
+    public void exception() {
+      throw new IllegalStateException("business exception");
+    }
+  }
+
+  Producer producer = new Producer();
+
+  private static ProducerMethodInvoker create(String name) {
+    for (Method method : Producer.class.getMethods()) {
+      if (method.getName().equals(name)) {
+        return ProducerMethodInvokers.create(method);
+      }
+    }
+    throw new IllegalStateException("method not found: " + name);
+  }
+
+  @Test
+  public void direct() throws Exception {
+    ProducerMethodInvoker invoker = create("add");
+
+    Assert.assertTrue(invoker instanceof DirectInvoker);
+    Assert.assertEquals(3, invoker.invoke(producer, new Object[] {1, 2}));
+  }
+
+  @Test
+  public void noParameter() throws Exception {
+    ProducerMethodInvoker invoker = create("noParameter");
+
+    Assert.assertEquals("ok", invoker.invoke(producer, null));
+    Assert.assertEquals("ok", invoker.invoke(producer, new Object[0]));
+  }
+
+  @Test
+  public void voidMethod() throws Exception {
+    List<String> list = new ArrayList<>();
+
+    Assert.assertNull(create("addTo").invoke(producer, new Object[] {list, "v"}));
+    Assert.assertEquals("v", list.get(0));
+  }
+
+  @Test
+  public void eightParameters() throws Exception {
+    ProducerMethodInvoker invoker = create("eight");
+
+    Assert.assertTrue(invoker instanceof DirectInvoker);
+    Assert.assertEquals(8L, invoker.invoke(producer, new Object[] {1, 1, 1, 1, 1, 1, 1, 1L}));
+    // widening conversion is done by reflection
+    Assert.assertEquals(8L, invoker.invoke(producer, new Object[] {1, 1, 1, 1, 1, 1, 1, 1}));
+  }
+
+  @Test
+  public void tooManyParameters() throws Exception {
+    ProducerMethodInvoker invoker = create("nine");
+
+    Assert.assertFalse(invoker instanceof DirectInvoker);
+    Assert.assertEquals(9, invoker.invoke(producer, new Object[] {1, 1, 1, 1, 1, 1, 1, 1, 1}));
+  }
+
+  @Test
+  public void businessException() throws Exception {
+    try {
+      create("exception").invoke(producer, null);
+      Assert.fail("must throw exception");
+    } catch (InvocationTargetException e) {
+      Assert.assertEquals("business exception", e.getTargetException().getMessage());
+    }
+  }
+
+  @Test
+  public void wrongArguments() throws Exception {
+    ProducerMethodInvoker invoker = create("add");
+
+    checkIllegalArgument(invoker, new Object[] {1});
+    checkIllegalArgument(invoker, new Object[] {1, null});
+    checkIllegalArgument(invoker, new Object[] {1, "2"});
+  }
+
+  private void checkIllegalArgument(ProducerMethodInvoker invoker, Object[] args) throws Exception {
+    try {
+      invoker.invoke(producer, args);
+      Assert.fail("must throw exception");
+    } catch (IllegalArgumentException e) {
+      // same to reflection
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.invocation.arguments;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSlotArguments {
+  ArgumentsLayout layout = new ArgumentsLayout("x", "y", "z");
+
+  @Test
+  public void presentEvenValueIsNull() {
+    SlotArguments arguments = layout.createArguments();
+    Assert.assertTrue(arguments.isEmpty());
+
+    arguments.set(1, null);
+
+    Assert.assertEquals(1, arguments.size());
+    Assert.assertTrue(arguments.containsKey("y"));
+    Assert.assertFalse(arguments.containsKey("x"));
+  }
+
+  @Test
+  public void sameAsHashMap() {
+    SlotArguments arguments = layout.createArguments();
+    arguments.put("x", 1);
+    arguments.put("z", null);
+    arguments.put("unknown", 2);
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("x", 1);
+    expected.put("z", null);
+    expected.put("unknown", 2);
+
+    Assert.assertEquals(expected, arguments);
+    Assert.assertEquals(arguments, expected);
+    Assert.assertEquals(expected.hashCode(), arguments.hashCode());
+    Assert.assertArrayEquals(new Object[] {1, null, null}, arguments.getValues());
+  }
+
+  @Test
+  public void remove() {
+    SlotArguments arguments = layout.wrapArguments(new Object[] {1, 2, 3});
+    arguments.put("unknown", 4);
+
+    Assert.assertEquals(1, arguments.remove("x"));
+    Iterator<Entry<String, Object>> iterator = arguments.entrySet().iterator();
+    Assert.assertEquals("y", iterator.next().getKey());
+    iterator.remove();
+
+    Assert.assertEquals(2, arguments.size());
+    Assert.assertFalse(arguments.containsKey("x"));
+    Assert.assertFalse(arguments.containsKey("y"));
+    Assert.assertNull(arguments.getValues()[1]);
+  }
+
+  @Test
+  public void accessBySlotOrName() {
+    SlotArguments arguments = layout.createArguments();
+    SlotArguments.put(arguments, 2, "z", 1);
+    // slot not match the name, fallback to name
+    SlotArguments.put(arguments, 0, "y", 2);
+
+    Assert.assertEquals(1, SlotArguments.get(arguments, 2, "z"));
+    Assert.assertEquals(2, SlotArguments.get(arguments, 0, "y"));
+    Assert.assertEquals(2, arguments.get(1));
+
+    Map<String, Object> map = new HashMap<>(arguments);
+    Assert.assertEquals(1, SlotArguments.get(map, 2, "z"));
+  }
+
+  @Test
+  public void manySlots() {
+    String[] names = new String[130];
+    for (int idx = 0; idx < names.length; idx++) {
+      names[idx] = "p" + idx;
+    }
+    SlotArguments arguments = new ArgumentsLayout(names).createArguments();
+    arguments.put("p3", 3);
+    arguments.put("p64", 64);
+    arguments.put("p129", 129);
+
+    Assert.assertEquals(3, arguments.size());
+    Assert.assertTrue(arguments.containsKey("p129"));
+    Assert.assertFalse(arguments.containsKey("p128"));
+    Assert.assertEquals("{p3=3, p64=64, p129=129}", arguments.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void wrapArgumentsCountNotMatch() {
+    layout.wrapArguments(new Object[] {1});
+  }
+}
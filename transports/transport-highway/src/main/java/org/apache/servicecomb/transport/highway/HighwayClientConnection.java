@@ -20,6 +20,7 @@ import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.foundation.vertx.client.tcp.AbstractTcpClientPackage;
 import org.apache.servicecomb.foundation.vertx.client.tcp.NetClientWrapper;
 import org.apache.servicecomb.foundation.vertx.client.tcp.TcpClientConnection;
+import org.apache.servicecomb.foundation.vertx.client.tcp.TcpResponseCallback;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.apache.servicecomb.transport.highway.message.LoginRequest;
 import org.apache.servicecomb.transport.highway.message.LoginResponse;
@@ -33,11 +34,26 @@ import io.vertx.core.buffer.Buffer;
 public class HighwayClientConnection extends TcpClientConnection {
   private static final Logger LOGGER = LoggerFactory.getLogger(HighwayClientConnection.class);
 
+  // reset by every login, packages are encoded only after login success
+  private volatile HighwayOperationDictionary operationDictionary;
+
   public HighwayClientConnection(Context context, NetClientWrapper netClientWrapper, String endpoint) {
     super(context, netClientWrapper, endpoint);
     setLocalSupportLogin(true);
   }
 
+  public HighwayOperationDictionary getOperationDictionary() {
+    return operationDictionary;
+  }
+
+  @Override
+  public void send(AbstractTcpClientPackage tcpClientPackage, TcpResponseCallback callback) {
+    if (tcpClientPackage instanceof HighwayClientPackage) {
+      ((HighwayClientPackage) tcpClientPackage).setConnection(this);
+    }
+    super.send(tcpClientPackage, callback);
+  }
+
   @Override
   protected TcpOutputStream createLogin() {
     try {
@@ -46,6 +62,7 @@ public class HighwayClientConnection extends TcpClientConnection {
 
       LoginRequest login = new LoginRequest();
       login.setProtocol(Const.HIGHWAY);
+      login.setUseOperationId(HighwayConfig.isOperationIdEnabled());
 
       HighwayOutputStream os = new HighwayOutputStream(AbstractTcpClientPackage.getAndIncRequestId());
       os.write(header, LoginRequest.getRootSerializer(), login);
@@ -59,6 +76,8 @@ public class HighwayClientConnection extends TcpClientConnection {
   protected boolean onLoginResponse(Buffer bodyBuffer) {
     try {
       LoginResponse response = LoginResponse.readObject(bodyBuffer);
+      // old server will not return dictionary, then still send strings
+      operationDictionary = HighwayOperationDictionary.createConsumerDictionary(response.getOperationIds());
       return true;
     } catch (Throwable e) {
       LOGGER.error("decode login response failed.", e);
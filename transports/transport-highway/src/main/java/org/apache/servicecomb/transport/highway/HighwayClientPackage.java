@@ -30,16 +30,23 @@ public class HighwayClientPackage extends AbstractTcpClientPackage {
 
   private OperationProtobuf operationProtobuf;
 
+  private HighwayClientConnection connection;
+
   public HighwayClientPackage(Invocation invocation, OperationProtobuf operationProtobuf, long msRequestTimeout) {
     this.invocation = invocation;
     this.operationProtobuf = operationProtobuf;
     this.setMsRequestTimeout(msRequestTimeout);
   }
 
+  public void setConnection(HighwayClientConnection connection) {
+    this.connection = connection;
+  }
+
   @Override
   public TcpOutputStream createStream() {
     try {
-      return HighwayCodec.encodeRequest(msgId, invocation, operationProtobuf);
+      return HighwayCodec.encodeRequest(msgId, invocation, operationProtobuf,
+          connection == null ? null : connection.getOperationDictionary());
     } catch (Exception e) {
       String msg = String.format("encode request failed. appid=%s, qualifiedName=%s",
           invocation.getAppId(),
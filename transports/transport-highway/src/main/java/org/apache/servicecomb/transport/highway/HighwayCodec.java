@@ -23,10 +23,12 @@ import java.util.Map;
 
 import org.apache.servicecomb.codec.protobuf.definition.OperationProtobuf;
 import org.apache.servicecomb.codec.protobuf.definition.RequestRootDeserializer;
+import org.apache.servicecomb.codec.protobuf.definition.RequestRootSerializer;
 import org.apache.servicecomb.codec.protobuf.definition.ResponseRootDeserializer;
 import org.apache.servicecomb.codec.protobuf.definition.ResponseRootSerializer;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.foundation.vertx.client.tcp.TcpData;
+import org.apache.servicecomb.foundation.vertx.server.TcpParser;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.transport.highway.message.RequestHeader;
@@ -35,27 +37,82 @@ import org.apache.servicecomb.transport.highway.message.ResponseHeader;
 import com.fasterxml.jackson.databind.JavaType;
 import com.google.common.base.Defaults;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.protostuff.ByteBufOutputEx;
 import io.swagger.models.parameters.Parameter;
 import io.vertx.core.buffer.Buffer;
 
 public final class HighwayCodec {
+  // reused by encoding threads, cleared after every message
+  private static final ThreadLocal<ByteBufOutputEx> OUTPUTS = ThreadLocal.withInitial(ByteBufOutputEx::new);
+
   private HighwayCodec() {
   }
 
   public static TcpOutputStream encodeRequest(long msgId, Invocation invocation,
       OperationProtobuf operationProtobuf) throws Exception {
+    return encodeRequest(msgId, invocation, operationProtobuf, null);
+  }
+
+  public static TcpOutputStream encodeRequest(long msgId, Invocation invocation,
+      OperationProtobuf operationProtobuf, HighwayOperationDictionary operationDictionary) throws Exception {
     // 写header
     RequestHeader header = new RequestHeader();
     header.setMsgType(MsgType.REQUEST);
     header.setFlags(0);
-    header.setDestMicroservice(invocation.getMicroserviceName());
-    header.setSchemaId(invocation.getSchemaId());
-    header.setOperationName(invocation.getOperationName());
+    int operationId = operationDictionary == null ? 0 :
+        operationDictionary.findOperationId(invocation.getSchemaId(), invocation.getOperationName());
+    if (operationId != 0) {
+      header.setOperationId(operationId);
+    } else {
+      header.setDestMicroservice(invocation.getMicroserviceName());
+      header.setSchemaId(invocation.getSchemaId());
+      header.setOperationName(invocation.getOperationName());
+    }
     header.setContext(invocation.getContext());
 
-    HighwayOutputStream os = new HighwayOutputStream(msgId);
-    os.write(header, operationProtobuf.getRequestRootSerializer(), invocation.getSwaggerArguments());
-    return os;
+    RequestRootSerializer bodySerializer = operationProtobuf.getRequestRootSerializer();
+    Object body = invocation.getSwaggerArguments();
+    if (!HighwayConfig.isPooledBufferEnabled()) {
+      HighwayOutputStream os = new HighwayOutputStream(msgId);
+      os.write(header, bodySerializer, body);
+      return os;
+    }
+
+    ByteBufOutputEx output = OUTPUTS.get();
+    ByteBuf byteBuf = null;
+    try {
+      int headerSize = RequestHeader.getRootSerializer().computeSize(output, header);
+      int bodySize = bodySerializer.computeSize(output, body);
+      byteBuf = allocateFrame(headerSize + bodySize);
+
+      HighwayOutputStream os = new HighwayOutputStream(msgId, byteBuf);
+      os.writeLength(headerSize + bodySize, headerSize);
+      output.output(byteBuf);
+      RequestHeader.getRootSerializer().serialize(output, header);
+      bodySerializer.serialize(output, body);
+      return os;
+    } catch (Throwable e) {
+      releaseFrame(byteBuf);
+      throw e;
+    } finally {
+      output.clear();
+    }
+  }
+
+  /**
+   * all sizes are computed before allocating, so the frame never grows, and no temporary buffer is needed<br>
+   * from now on, the buffer is owned by the caller, and will be released by netty after written
+   */
+  private static ByteBuf allocateFrame(int messageSize) {
+    return PooledByteBufAllocator.DEFAULT.directBuffer(TcpParser.TCP_HEADER_LENGTH + messageSize);
+  }
+
+  private static void releaseFrame(ByteBuf byteBuf) {
+    if (byteBuf != null) {
+      byteBuf.release();
+    }
   }
 
   private static Map<String, Object> addPrimitiveTypeDefaultValues(Invocation invocation,
@@ -78,7 +135,7 @@ public final class HighwayCodec {
   public static void decodeRequest(Invocation invocation, RequestHeader header, OperationProtobuf operationProtobuf,
       Buffer bodyBuffer) throws Exception {
     RequestRootDeserializer<Object> requestDeserializer = operationProtobuf.getRequestRootDeserializer();
-    Map<String, Object> swaggerArguments = requestDeserializer.deserialize(bodyBuffer.getBytes());
+    Map<String, Object> swaggerArguments = requestDeserializer.deserialize(bodyBuffer.getByteBuf().nioBuffer());
     addPrimitiveTypeDefaultValues(invocation, swaggerArguments);
     invocation.setSwaggerArguments(swaggerArguments);
   }
@@ -87,11 +144,38 @@ public final class HighwayCodec {
     return RequestHeader.readObject(headerBuffer);
   }
 
-  public static Buffer encodeResponse(long msgId, ResponseHeader header, ResponseRootSerializer bodySchema,
+  /**
+   * the result is owned by the caller, write it to {@link org.apache.servicecomb.foundation.vertx.tcp.TcpConnection}
+   * as is, not wrap it as a vertx Buffer, vertx wraps ByteBuf as unreleasable, a pooled frame would leak
+   */
+  public static ByteBuf encodeResponse(long msgId, ResponseHeader header, ResponseRootSerializer bodySchema,
       Object body) throws Exception {
-    try (HighwayOutputStream os = new HighwayOutputStream(msgId)) {
-      os.write(header, bodySchema, body);
-      return os.getBuffer();
+    if (!HighwayConfig.isPooledBufferEnabled()) {
+      try (HighwayOutputStream os = new HighwayOutputStream(msgId)) {
+        os.write(header, bodySchema, body);
+        return os.getByteBuf();
+      }
+    }
+
+    ByteBufOutputEx output = OUTPUTS.get();
+    ByteBuf byteBuf = null;
+    try {
+      int headerSize = ResponseHeader.getRootSerializer().computeSize(output, header);
+      int bodySize = bodySchema.computeSize(output, body);
+      byteBuf = allocateFrame(headerSize + bodySize);
+
+      try (HighwayOutputStream os = new HighwayOutputStream(msgId, byteBuf)) {
+        os.writeLength(headerSize + bodySize, headerSize);
+        output.output(byteBuf);
+        ResponseHeader.getRootSerializer().serialize(output, header);
+        bodySchema.serialize(output, body);
+        return os.getByteBuf();
+      }
+    } catch (Throwable e) {
+      releaseFrame(byteBuf);
+      throw e;
+    } finally {
+      output.clear();
     }
   }
 
@@ -106,7 +190,7 @@ public final class HighwayCodec {
         .findResponseRootDeserializer(header.getStatusCode());
     JavaType type = invocation.findResponseType(header.getStatusCode());
     Object body = bodySchema
-        .deserialize(tcpData.getBodyBuffer().getBytes(), type);
+        .deserialize(tcpData.getBodyBuffer().getByteBuf().nioBuffer(), type);
 
     Response response = Response.create(header.getStatusCode(), header.getReasonPhrase()
         , defaultPrimitiveValue(body, type));
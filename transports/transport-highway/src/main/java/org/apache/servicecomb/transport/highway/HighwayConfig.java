@@ -38,6 +38,19 @@ public final class HighwayConfig {
         "servicecomb.highway.server.thread-count");
   }
 
+  public static boolean isOperationIdEnabled() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.client.operation-id.enabled", false).get();
+  }
+
+  /**
+   * encode highway messages into pooled buffers directly, instead of temporary byte arrays
+   */
+  public static boolean isPooledBufferEnabled() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.pooled-buffer.enabled", true).get();
+  }
+
   public static int getClientThreadCount() {
     return TransportConfigUtils.readVerticleCount(
         "servicecomb.highway.client.verticle-count",
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.transport.highway;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.servicecomb.core.definition.MicroserviceMeta;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.definition.SchemaMeta;
+import org.apache.servicecomb.transport.highway.message.OperationId;
+import org.apache.servicecomb.transport.highway.message.RequestHeader;
+
+/**
+ * operation id dictionary negotiated in login.<br>
+ * after login success, client send a varint id instead of destMicroservice/schemaId/operationName strings.<br>
+ * ids are allocated in the order of schemaId and operationName, start from 1, 0 means not negotiated.
+ */
+public class HighwayOperationDictionary {
+  private static final String PRODUCER_DICTIONARY = "HighwayOperationDictionary";
+
+  // schemaId -> operationName -> id
+  private final Map<String, Map<String, Integer>> operationIds = new HashMap<>();
+
+  private final List<OperationId> definitions;
+
+  // only for producer, index is id - 1
+  private final OperationMeta[] operations;
+
+  private HighwayOperationDictionary(List<OperationId> definitions, OperationMeta[] operations) {
+    this.definitions = definitions;
+    this.operations = operations;
+
+    for (OperationId definition : definitions) {
+      operationIds.computeIfAbsent(definition.getSchemaId(), k -> new HashMap<>())
+          .put(definition.getOperationName(), definition.getId());
+    }
+  }
+
+  public static HighwayOperationDictionary getOrCreateProducerDictionary(MicroserviceMeta microserviceMeta) {
+    HighwayOperationDictionary dictionary = microserviceMeta.getExtData(PRODUCER_DICTIONARY);
+    if (dictionary == null) {
+      // ids are stable, so concurrent creation get the same result
+      dictionary = createProducerDictionary(microserviceMeta);
+      microserviceMeta.putExtData(PRODUCER_DICTIONARY, dictionary);
+    }
+    return dictionary;
+  }
+
+  private static HighwayOperationDictionary createProducerDictionary(MicroserviceMeta microserviceMeta) {
+    List<OperationId> definitions = new ArrayList<>();
+    List<OperationMeta> operations = new ArrayList<>();
+    for (SchemaMeta schemaMeta : new TreeMap<>(microserviceMeta.getSchemaMetas()).values()) {
+      for (OperationMeta operationMeta : new TreeMap<>(schemaMeta.getOperations()).values()) {
+        operations.add(operationMeta);
+        definitions.add(new OperationId(schemaMeta.getSchemaId(), operationMeta.getOperationId(), operations.size()));
+      }
+    }
+    return new HighwayOperationDictionary(definitions, operations.toArray(new OperationMeta[0]));
+  }
+
+  /**
+   * @return null if server not support or not return dictionary
+   */
+  public static HighwayOperationDictionary createConsumerDictionary(List<OperationId> definitions) {
+    if (definitions == null || definitions.isEmpty()) {
+      return null;
+    }
+
+    return new HighwayOperationDictionary(Collections.unmodifiableList(definitions), null);
+  }
+
+  public static OperationMeta findProducerOperation(MicroserviceMeta microserviceMeta, RequestHeader header) {
+    if (header.getOperationId() == 0) {
+      SchemaMeta schemaMeta = microserviceMeta.ensureFindSchemaMeta(header.getSchemaId());
+      return schemaMeta.ensureFindOperation(header.getOperationName());
+    }
+
+    return getOrCreateProducerDictionary(microserviceMeta).ensureFindOperation(header.getOperationId());
+  }
+
+  public List<OperationId> getDefinitions() {
+    return definitions;
+  }
+
+  /**
+   * @return 0 if not found
+   */
+  public int findOperationId(String schemaId, String operationName) {
+    Map<String, Integer> schemaOperationIds = operationIds.get(schemaId);
+    if (schemaOperationIds == null) {
+      return 0;
+    }
+
+    Integer id = schemaOperationIds.get(operationName);
+    return id == null ? 0 : id;
+  }
+
+  public OperationMeta ensureFindOperation(int operationId) {
+    if (operations == null || operationId <= 0 || operationId > operations.length) {
+      throw new IllegalStateException(String.format("Can not find OperationMeta, operation id=%d.", operationId));
+    }
+
+    return operations[operationId - 1];
+  }
+}
@@ -23,11 +23,17 @@ import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.apache.servicecomb.transport.highway.message.RequestHeader;
 import org.apache.servicecomb.transport.highway.message.ResponseHeader;
 
+import io.netty.buffer.ByteBuf;
+
 public class HighwayOutputStream extends TcpOutputStream {
   public HighwayOutputStream(long msgId) {
     super(msgId);
   }
 
+  public HighwayOutputStream(long msgId, ByteBuf byteBuf) {
+    super(msgId, byteBuf);
+  }
+
   public void write(RequestHeader header, RequestRootSerializer requestRootSerializer, Object body) throws Exception {
     write(RequestHeader.getRootSerializer().serialize(header), requestRootSerializer.serialize(body));
   }
@@ -32,7 +32,7 @@ import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.transport.highway.message.ResponseHeader;
 import org.springframework.stereotype.Component;
 
-import io.vertx.core.buffer.Buffer;
+import io.netty.buffer.ByteBuf;
 
 @Component
 public class HighwayServerCodecFilter implements ProducerFilter {
@@ -44,6 +44,11 @@ public class HighwayServerCodecFilter implements ProducerFilter {
     return NAME;
   }
 
+  @Override
+  public boolean isSync() {
+    return true;
+  }
+
   @Override
   public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
     return CompletableFuture.completedFuture(invocation)
@@ -81,7 +86,7 @@ public class HighwayServerCodecFilter implements ProducerFilter {
     ResponseRootSerializer bodySchema = operationProtobuf.findResponseRootSerializer(response.getStatusCode());
 
     try {
-      Buffer respBuffer = HighwayCodec.encodeResponse(
+      ByteBuf respBuffer = HighwayCodec.encodeResponse(
           msgId, header, bodySchema, response.getResult());
       transportContext.setResponseBuffer(respBuffer);
 
@@ -27,7 +27,6 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
-import org.apache.servicecomb.core.definition.SchemaMeta;
 import org.apache.servicecomb.core.invocation.InvocationCreator;
 import org.apache.servicecomb.core.invocation.InvocationFactory;
 import org.apache.servicecomb.foundation.vertx.server.TcpBufferHandler;
@@ -108,12 +107,17 @@ public class HighwayServerConnection extends TcpServerConnection implements TcpB
       this.setZipName(request.getZipName());
     }
 
+    LoginResponse response = new LoginResponse();
+    if (request != null && request.isUseOperationId()) {
+      response.setOperationIds(HighwayOperationDictionary
+          .getOrCreateProducerDictionary(SCBEngine.getInstance().getProducerMicroserviceMeta())
+          .getDefinitions());
+    }
+
     try (HighwayOutputStream os = new HighwayOutputStream(msgId)) {
       ResponseHeader responseHeader = new ResponseHeader();
       responseHeader.setStatusCode(Status.OK.getStatusCode());
 
-      LoginResponse response = new LoginResponse();
-
       os.write(ResponseHeader.getRootSerializer(),
           responseHeader,
           LoginResponse.getRootSerializer(),
@@ -140,8 +144,7 @@ public class HighwayServerConnection extends TcpServerConnection implements TcpB
 
   public CompletableFuture<Invocation> createInvocation(long msgId, RequestHeader header, Buffer bodyBuffer) {
     MicroserviceMeta microserviceMeta = SCBEngine.getInstance().getProducerMicroserviceMeta();
-    SchemaMeta schemaMeta = microserviceMeta.ensureFindSchemaMeta(header.getSchemaId());
-    OperationMeta operationMeta = schemaMeta.ensureFindOperation(header.getOperationName());
+    OperationMeta operationMeta = HighwayOperationDictionary.findProducerOperation(microserviceMeta, header);
 
     Invocation invocation = InvocationFactory.forProvider(endpoint,
         operationMeta,
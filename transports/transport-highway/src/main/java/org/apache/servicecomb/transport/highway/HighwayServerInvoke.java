@@ -32,7 +32,6 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
-import org.apache.servicecomb.core.definition.SchemaMeta;
 import org.apache.servicecomb.core.invocation.InvocationFactory;
 import org.apache.servicecomb.foundation.common.Holder;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpConnection;
@@ -43,6 +42,7 @@ import org.apache.servicecomb.transport.highway.message.ResponseHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.buffer.Buffer;
 
 public class HighwayServerInvoke {
@@ -95,8 +95,7 @@ public class HighwayServerInvoke {
     this.header = header;
 
     MicroserviceMeta microserviceMeta = SCBEngine.getInstance().getProducerMicroserviceMeta();
-    SchemaMeta schemaMeta = microserviceMeta.ensureFindSchemaMeta(header.getSchemaId());
-    this.operationMeta = schemaMeta.ensureFindOperation(header.getOperationName());
+    this.operationMeta = HighwayOperationDictionary.findProducerOperation(microserviceMeta, header);
     this.bodyBuffer = bodyBuffer;
   }
 
@@ -148,9 +147,9 @@ public class HighwayServerInvoke {
     }
 
     try {
-      Buffer respBuffer = HighwayCodec.encodeResponse(msgId, header, bodySchema, body);
+      ByteBuf respBuffer = HighwayCodec.encodeResponse(msgId, header, bodySchema, body);
       invocation.getInvocationStageTrace().finishServerFiltersResponse();
-      connection.write(respBuffer.getByteBuf());
+      connection.write(respBuffer);
     } catch (Exception e) {
       // keep highway performance and simple, this encoding/decoding error not need handle by client
       String msg = String.format("encode response failed, %s, msgId=%d",
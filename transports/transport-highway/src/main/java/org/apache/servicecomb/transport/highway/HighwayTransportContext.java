@@ -21,6 +21,7 @@ import org.apache.servicecomb.foundation.vertx.tcp.TcpConnection;
 import org.apache.servicecomb.swagger.invocation.context.VertxTransportContext;
 import org.apache.servicecomb.transport.highway.message.RequestHeader;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -38,7 +39,7 @@ public class HighwayTransportContext implements VertxTransportContext {
 
   private OperationProtobuf operationProtobuf;
 
-  private Buffer responseBuffer;
+  private ByteBuf responseBuffer;
 
   public HighwayTransportContext() {
     this.vertxContext = Vertx.currentContext();
@@ -95,11 +96,11 @@ public class HighwayTransportContext implements VertxTransportContext {
     return this;
   }
 
-  public Buffer getResponseBuffer() {
+  public ByteBuf getResponseBuffer() {
     return responseBuffer;
   }
 
-  public HighwayTransportContext setResponseBuffer(Buffer responseBuffer) {
+  public HighwayTransportContext setResponseBuffer(ByteBuf responseBuffer) {
     this.responseBuffer = responseBuffer;
     return this;
   }
@@ -45,6 +45,9 @@ public class LoginRequest {
   // 压缩算法名字
   private String zipName;
 
+  // ask server to return operation id dictionary
+  private boolean useOperationId;
+
   public String getProtocol() {
     return protocol;
   }
@@ -60,4 +63,12 @@ public class LoginRequest {
   public void setZipName(String zipName) {
     this.zipName = zipName;
   }
+
+  public boolean isUseOperationId() {
+    return useOperationId;
+  }
+
+  public void setUseOperationId(boolean useOperationId) {
+    this.useOperationId = useOperationId;
+  }
 }
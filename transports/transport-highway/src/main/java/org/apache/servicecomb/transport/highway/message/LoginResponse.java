@@ -16,6 +16,8 @@
  */
 package org.apache.servicecomb.transport.highway.message;
 
+import java.util.List;
+
 import org.apache.servicecomb.foundation.protobuf.ProtoMapperFactory;
 import org.apache.servicecomb.foundation.protobuf.RootDeserializer;
 import org.apache.servicecomb.foundation.protobuf.RootSerializer;
@@ -45,6 +47,9 @@ public class LoginResponse {
   // 压缩算法名字
   private String zipName;
 
+  // only return when client ask for it
+  private List<OperationId> operationIds;
+
   public String getProtocol() {
     return protocol;
   }
@@ -60,4 +65,12 @@ public class LoginResponse {
   public void setZipName(String zipName) {
     this.zipName = zipName;
   }
+
+  public List<OperationId> getOperationIds() {
+    return operationIds;
+  }
+
+  public void setOperationIds(List<OperationId> operationIds) {
+    this.operationIds = operationIds;
+  }
 }
@@ -57,6 +57,9 @@ public class RequestHeader {
 
   private Map<String, String> context;
 
+  // negotiated in login, when not 0, schemaId and operationName will not be sent
+  private int operationId;
+
   public int getMsgType() {
     return msgType;
   }
@@ -104,4 +107,12 @@ public class RequestHeader {
   public void setContext(Map<String, String> context) {
     this.context = context;
   }
+
+  public int getOperationId() {
+    return operationId;
+  }
+
+  public void setOperationId(int operationId) {
+    this.operationId = operationId;
+  }
 }
@@ -43,6 +43,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
@@ -166,7 +167,7 @@ public class HighwayServerCodecFilterTest {
 
     new Verifications() {
       {
-        Buffer captureBuffer;
+        ByteBuf captureBuffer;
         transportContext.setResponseBuffer(captureBuffer = withCapture());
         assertThat(captureBuffer).isNotNull();
       }
@@ -18,6 +18,7 @@
 package org.apache.servicecomb.transport.highway;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,9 +31,13 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.definition.SchemaMeta;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.foundation.vertx.server.TcpParser;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
+import org.apache.servicecomb.transport.highway.message.LoginResponse;
+import org.apache.servicecomb.transport.highway.message.OperationId;
 import org.apache.servicecomb.transport.highway.message.RequestHeader;
+import org.apache.servicecomb.transport.highway.message.ResponseHeader;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -41,6 +46,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.vertx.core.buffer.Buffer;
 import mockit.Mocked;
 
@@ -112,6 +118,8 @@ public class TestHighwayCodec {
     nioBuffer = null;
 
     invocation = null;
+
+    ArchaiusUtils.resetConfig();
   }
 
 
@@ -153,6 +161,31 @@ public class TestHighwayCodec {
     Assert.assertTrue(status);
   }
 
+  @Test
+  public void encodeResponse_pooledSameToUnpooled() throws Exception {
+    ResponseHeader header = new ResponseHeader();
+    header.setStatusCode(200);
+    header.setReasonPhrase("OK");
+    Map<String, String> context = new HashMap<>();
+    context.put("k", "值");
+    header.setContext(context);
+    LoginResponse body = new LoginResponse();
+    body.setProtocol("highway");
+    body.setOperationIds(Arrays.asList(new OperationId("schema", "add", 1), new OperationId("schema", "minus", 2)));
+    ResponseRootSerializer bodySchema = new ResponseRootSerializer(LoginResponse.getRootSerializer(), false, true);
+
+    ByteBuf pooled = HighwayCodec.encodeResponse(1, header, bodySchema, body);
+    ArchaiusUtils.setProperty("servicecomb.highway.pooled-buffer.enabled", false);
+    ByteBuf unpooled = HighwayCodec.encodeResponse(1, header, bodySchema, body);
+
+    Assert.assertTrue(pooled.isDirect());
+    Assert.assertEquals(pooled.readableBytes(), pooled.capacity());
+    Assert.assertArrayEquals(ByteBufUtil.getBytes(unpooled), ByteBufUtil.getBytes(pooled));
+
+    Assert.assertTrue(pooled.release());
+    unpooled.release();
+  }
+
   @Test
   public void testEncodeRequest() {
     boolean status = true;
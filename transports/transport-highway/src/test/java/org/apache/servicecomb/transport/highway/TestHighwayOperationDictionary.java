@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.transport.highway;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.servicecomb.core.definition.MicroserviceMeta;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.definition.SchemaMeta;
+import org.apache.servicecomb.transport.highway.message.LoginResponse;
+import org.apache.servicecomb.transport.highway.message.OperationId;
+import org.apache.servicecomb.transport.highway.message.RequestHeader;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.vertx.core.buffer.Buffer;
+
+public class TestHighwayOperationDictionary {
+  static MicroserviceMeta microserviceMeta = Mockito.mock(MicroserviceMeta.class);
+
+  static Map<String, OperationMeta> echoOperations = new HashMap<>();
+
+  @BeforeClass
+  public static void setup() {
+    Map<String, Object> extData = new HashMap<>();
+    Mockito.when(microserviceMeta.getExtData(Mockito.anyString()))
+        .thenAnswer(invocation -> extData.get(invocation.<String>getArgument(0)));
+    Mockito.doAnswer(invocation -> extData.put(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(microserviceMeta).putExtData(Mockito.anyString(), Mockito.any());
+
+    // register in reverse order, ids must not depend on it
+    Map<String, SchemaMeta> schemaMetas = new LinkedHashMap<>();
+    schemaMetas.put("schemaB", mockSchemaMeta("schemaB"));
+    schemaMetas.put("schemaA", mockSchemaMeta("schemaA"));
+    Mockito.when(microserviceMeta.getSchemaMetas()).thenReturn(schemaMetas);
+    Mockito.when(microserviceMeta.ensureFindSchemaMeta("schemaB")).thenReturn(schemaMetas.get("schemaB"));
+  }
+
+  private static SchemaMeta mockSchemaMeta(String schemaId) {
+    SchemaMeta schemaMeta = Mockito.mock(SchemaMeta.class);
+    Mockito.when(schemaMeta.getSchemaId()).thenReturn(schemaId);
+
+    Map<String, OperationMeta> operations = new LinkedHashMap<>();
+    operations.put("echo", Mockito.mock(OperationMeta.class));
+    operations.put("add", Mockito.mock(OperationMeta.class));
+    Mockito.when(schemaMeta.getOperations()).thenReturn(operations);
+    Mockito.when(schemaMeta.ensureFindOperation("echo")).thenReturn(operations.get("echo"));
+    echoOperations.put(schemaId, operations.get("echo"));
+    return schemaMeta;
+  }
+
+  @Test
+  public void producerIdsAreStable() {
+    HighwayOperationDictionary dictionary = HighwayOperationDictionary
+        .getOrCreateProducerDictionary(microserviceMeta);
+
+    Assert.assertSame(dictionary, HighwayOperationDictionary.getOrCreateProducerDictionary(microserviceMeta));
+    Assert.assertEquals(1, dictionary.findOperationId("schemaA", "add"));
+    Assert.assertEquals(2, dictionary.findOperationId("schemaA", "echo"));
+    Assert.assertEquals(3, dictionary.findOperationId("schemaB", "add"));
+    Assert.assertEquals(4, dictionary.findOperationId("schemaB", "echo"));
+    Assert.assertEquals(0, dictionary.findOperationId("schemaC", "echo"));
+    Assert.assertEquals(0, dictionary.findOperationId("schemaA", "notExist"));
+  }
+
+  @Test
+  public void findProducerOperation() {
+    RequestHeader header = new RequestHeader();
+    header.setSchemaId("schemaB");
+    header.setOperationName("echo");
+    OperationMeta byName = HighwayOperationDictionary.findProducerOperation(microserviceMeta, header);
+    Assert.assertSame(echoOperations.get("schemaB"), byName);
+
+    header = new RequestHeader();
+    header.setOperationId(4);
+    Assert.assertSame(byName, HighwayOperationDictionary.findProducerOperation(microserviceMeta, header));
+
+    header.setOperationId(5);
+    try {
+      HighwayOperationDictionary.findProducerOperation(microserviceMeta, header);
+      Assert.fail("must throw exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("Can not find OperationMeta, operation id=5.", e.getMessage());
+    }
+  }
+
+  @Test
+  public void negotiateByLoginResponse() throws Exception {
+    LoginResponse response = new LoginResponse();
+    response.setOperationIds(HighwayOperationDictionary.getOrCreateProducerDictionary(microserviceMeta)
+        .getDefinitions());
+    byte[] bytes = LoginResponse.getRootSerializer().serialize(response);
+
+    LoginResponse received = LoginResponse.readObject(Buffer.buffer(bytes));
+    HighwayOperationDictionary dictionary = HighwayOperationDictionary
+        .createConsumerDictionary(received.getOperationIds());
+
+    Assert.assertEquals(3, dictionary.findOperationId("schemaB", "add"));
+  }
+
+  @Test
+  public void oldServerNotReturnDictionary() throws Exception {
+    byte[] bytes = LoginResponse.getRootSerializer().serialize(new LoginResponse());
+
+    LoginResponse received = LoginResponse.readObject(Buffer.buffer(bytes));
+    Assert.assertNull(HighwayOperationDictionary.createConsumerDictionary(received.getOperationIds()));
+  }
+
+  @Test
+  public void requestHeaderWithOperationId() throws Exception {
+    RequestHeader header = new RequestHeader();
+    header.setMsgType(MsgType.REQUEST);
+    header.setOperationId(300);
+    byte[] bytes = RequestHeader.getRootSerializer().serialize(header);
+
+    RequestHeader received = RequestHeader.readObject(Buffer.buffer(bytes));
+    Assert.assertEquals(300, received.getOperationId());
+    Assert.assertNull(received.getSchemaId());
+    Assert.assertNull(received.getOperationName());
+  }
+
+  @Test
+  public void consumerDictionary() {
+    HighwayOperationDictionary dictionary = HighwayOperationDictionary.createConsumerDictionary(
+        Arrays.asList(new OperationId("s", "o", 1)));
+
+    Assert.assertEquals(1, dictionary.findOperationId("s", "o"));
+    try {
+      dictionary.ensureFindOperation(1);
+      Assert.fail("must throw exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("Can not find OperationMeta, operation id=1.", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.transport.highway;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.servicecomb.codec.protobuf.definition.ResponseRootSerializer;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.foundation.vertx.tcp.TcpConnection;
+import org.apache.servicecomb.transport.highway.message.LoginResponse;
+import org.apache.servicecomb.transport.highway.message.OperationId;
+import org.apache.servicecomb.transport.highway.message.ResponseHeader;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Vertx;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.impl.NetSocketImpl;
+
+/**
+ * pooled response frames are written through a real socket, and must be released after written
+ */
+public class TestHighwayResponseRelease {
+  Vertx vertx;
+
+  @Before
+  public void setup() {
+    // not coalesce, the frames are written to netty as is
+    ArchaiusUtils.setProperty("servicecomb.tcp.write.coalesce-threshold", 16);
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown() {
+    vertx.close();
+    ArchaiusUtils.resetConfig();
+  }
+
+  private ByteBuf encodeResponse(long msgId) throws Exception {
+    ResponseHeader header = new ResponseHeader();
+    header.setStatusCode(200);
+    header.setReasonPhrase("OK");
+    LoginResponse body = new LoginResponse();
+    body.setProtocol("highway");
+    body.setOperationIds(Arrays.asList(new OperationId("schema", "add", 1), new OperationId("schema", "minus", 2)));
+    ResponseRootSerializer bodySchema = new ResponseRootSerializer(LoginResponse.getRootSerializer(), false, true);
+    return HighwayCodec.encodeResponse(msgId, header, bodySchema, body);
+  }
+
+  private int listen(int expectedBytes, CompletableFuture<Void> receivedAll) throws Exception {
+    AtomicInteger received = new AtomicInteger();
+    CompletableFuture<NetServer> future = new CompletableFuture<>();
+    vertx.createNetServer()
+        .connectHandler(socket -> socket.handler(buffer -> {
+          if (received.addAndGet(buffer.length()) == expectedBytes) {
+            receivedAll.complete(null);
+          }
+        }))
+        .listen(0, "127.0.0.1", ar -> {
+          if (ar.failed()) {
+            future.completeExceptionally(ar.cause());
+            return;
+          }
+          future.complete(ar.result());
+        });
+    return future.get(10, TimeUnit.SECONDS).actualPort();
+  }
+
+  @Test
+  public void pooledResponseReleasedAfterWritten() throws Exception {
+    ByteBuf first = encodeResponse(1);
+    ByteBuf second = encodeResponse(2);
+    Assert.assertTrue(first.isDirect());
+
+    CompletableFuture<Void> receivedAll = new CompletableFuture<>();
+    int port = listen(first.readableBytes() + second.readableBytes(), receivedAll);
+
+    TcpConnection connection = new TcpConnection();
+    vertx.createNetClient().connect(port, "127.0.0.1", ar -> {
+      connection.initNetSocket((NetSocketImpl) ar.result());
+      connection.write(first);
+      connection.write(second);
+    });
+    receivedAll.get(10, TimeUnit.SECONDS);
+
+    Assert.assertEquals(0, first.refCnt());
+    Assert.assertEquals(0, second.refCnt());
+  }
+}
@@ -21,6 +21,7 @@ import static org.apache.servicecomb.transport.rest.client.RestClientExceptionCo
 
 import javax.ws.rs.core.HttpHeaders;
 
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessorManager;
 import org.apache.servicecomb.core.Invocation;
@@ -42,6 +43,12 @@ public class RestClientDecoder {
 
   public Response decode(Invocation invocation, Response response) {
     if (response.getResult() instanceof Buffer) {
+      String contentType = response.getHeader(HttpHeaders.CONTENT_TYPE);
+      if (PassThroughBody.isResponsePassThrough(invocation, response.getStatusCode(), contentType)) {
+        response.entity(new PassThroughBody(contentType, response.getResult()));
+        return response;
+      }
+
       Object result = extractBody(invocation, response);
       response.entity(result);
 
@@ -22,6 +22,7 @@ import java.util.Collection;
 import javax.ws.rs.core.HttpHeaders;
 
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.PassThroughBody;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessorManager;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
@@ -82,6 +83,11 @@ public class DefaultHttpClientFilter implements HttpClientFilter {
       return Response.create(responseEx.getStatusType(), result);
     }
 
+    String contentType = responseEx.getHeader(HttpHeaders.CONTENT_TYPE);
+    if (PassThroughBody.isResponsePassThrough(invocation, responseEx.getStatus(), contentType)) {
+      return Response.create(responseEx.getStatusType(), new PassThroughBody(contentType, responseEx.getBodyBuffer()));
+    }
+
     OperationMeta operationMeta = invocation.getOperationMeta();
     JavaType responseType = invocation.findResponseType(responseEx.getStatus());
     RestOperationMeta swaggerRestOperation = operationMeta.getExtData(RestConst.SWAGGER_REST_OPERATION);